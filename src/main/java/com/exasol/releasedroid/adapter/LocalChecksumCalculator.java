@@ -0,0 +1,176 @@
+package com.exasol.releasedroid.adapter;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+
+import com.exasol.errorreporting.ExaError;
+import com.exasol.releasedroid.usecases.exception.RepositoryException;
+
+/**
+ * Calculates the checksums of the build outputs in an already built local checkout.
+ * <p>
+ * The result has the same format as the checksum artifact created on GitHub: file paths relative to the checkout
+ * mapped to SHA-256 hashes. The files are hashed in parallel using memory-mapped reads.
+ * </p>
+ */
+public class LocalChecksumCalculator {
+    private static final String JAR_EXTENSION = ".jar";
+    private static final long MAX_MAPPED_REGION_SIZE = Integer.MAX_VALUE;
+    private final Path checkoutPath;
+
+    /**
+     * Create a new instance of {@link LocalChecksumCalculator}.
+     *
+     * @param checkoutPath path to the built local checkout
+     */
+    public LocalChecksumCalculator(final Path checkoutPath) {
+        this.checkoutPath = checkoutPath;
+    }
+
+    /**
+     * Check that the checkout is a clean clone of the given repository at the given commit.
+     * <p>
+     * Only then the local build outputs can stand in for a fresh build of the released commit.
+     * </p>
+     *
+     * @param repositoryName fully qualified name of the released repository
+     * @param expectedHead   SHA-1 of the released commit
+     * @throws RepositoryException if the checkout does not match the released commit
+     */
+    public void validateCheckout(final String repositoryName, final String expectedHead) {
+        try (final Git git = Git.open(this.checkoutPath.toFile())) {
+            final Repository repository = git.getRepository();
+            validateRemote(repository, repositoryName);
+            validateHead(repository, expectedHead);
+            if (git.status().call().hasUncommittedChanges()) {
+                throw new RepositoryException(ExaError.messageBuilder("E-RD-REP-36")
+                        .message("The local checkout {{checkoutPath}} has uncommitted changes.", this.checkoutPath)
+                        .mitigation("Please commit or revert the changes and build the checkout again.").toString());
+            }
+        } catch (final IOException | GitAPIException exception) {
+            throw new RepositoryException(ExaError.messageBuilder("E-RD-REP-37")
+                    .message("Unable to read the git state of the local checkout {{checkoutPath}}.", this.checkoutPath)
+                    .mitigation("Please make sure the local build path is a git checkout.").toString(), exception);
+        }
+    }
+
+    private void validateRemote(final Repository repository, final String repositoryName) {
+        final boolean isClone = repository.getConfig().getSubsections("remote").stream()
+                .map(remote -> repository.getConfig().getString("remote", remote, "url")) //
+                .filter(Objects::nonNull) //
+                .anyMatch(url -> isUrlOf(url, repositoryName));
+        if (!isClone) {
+            throw new RepositoryException(ExaError.messageBuilder("E-RD-REP-34")
+                    .message("The local checkout {{checkoutPath}} is not a clone of the repository {{repositoryName}}.",
+                            this.checkoutPath, repositoryName)
+                    .mitigation("Please specify the local build path of the released repository.").toString());
+        }
+    }
+
+    private static boolean isUrlOf(final String url, final String repositoryName) {
+        final String path = url.toLowerCase(Locale.ROOT).replaceAll("(\\.git)?/?$", "");
+        final String name = repositoryName.toLowerCase(Locale.ROOT);
+        return path.endsWith("/" + name) || path.endsWith(":" + name);
+    }
+
+    private void validateHead(final Repository repository, final String expectedHead) throws IOException {
+        final ObjectId head = repository.resolve("HEAD");
+        if ((head == null) || !head.getName().equalsIgnoreCase(expectedHead)) {
+            throw new RepositoryException(ExaError.messageBuilder("E-RD-REP-35")
+                    .message("The local checkout {{checkoutPath}} is at commit {{head}}, but the release is made from"
+                            + " commit {{expectedHead}}.", this.checkoutPath, head == null ? null : head.getName(),
+                            expectedHead)
+                    .mitigation("Please check out and build the released commit.").toString());
+        }
+    }
+
+    /**
+     * Calculate the checksums of all jar files in the directories that contain the given files.
+     *
+     * @param originalFiles paths of the files in the original checksum, relative to the checkout
+     * @return map with file paths and checksums
+     */
+    public Map<String, String> calculateChecksums(final Set<String> originalFiles) {
+        final List<Path> jars = findJars(originalFiles);
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(jars.size(), Runtime.getRuntime().availableProcessors())));
+        try {
+            final Map<String, Future<String>> checksums = new HashMap<>();
+            for (final Path jar : jars) {
+                checksums.put(getRelativePath(jar), executor.submit(() -> calculateChecksum(jar)));
+            }
+            final Map<String, String> result = new HashMap<>();
+            for (final Map.Entry<String, Future<String>> checksum : checksums.entrySet()) {
+                result.put(checksum.getKey(), checksum.getValue().get());
+            }
+            return result;
+        } catch (final ExecutionException exception) {
+            throw createChecksumException(exception.getCause());
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Path> findJars(final Set<String> originalFiles) {
+        final Set<Path> directories = originalFiles.stream()
+                .map(file -> this.checkoutPath.resolve(file).getParent()).filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        final List<Path> jars = new ArrayList<>();
+        for (final Path directory : directories) {
+            if (Files.isDirectory(directory)) {
+                try (final Stream<Path> files = Files.list(directory)) {
+                    files.filter(file -> file.getFileName().toString().endsWith(JAR_EXTENSION))
+                            .filter(Files::isRegularFile).forEach(jars::add);
+                } catch (final IOException exception) {
+                    throw createChecksumException(exception);
+                }
+            }
+        }
+        return jars;
+    }
+
+    private RepositoryException createChecksumException(final Throwable cause) {
+        return new RepositoryException(ExaError.messageBuilder("E-RD-REP-29")
+                .message("Unable to calculate the checksums in {{checkoutPath}}.", this.checkoutPath).toString(),
+                cause);
+    }
+
+    private String getRelativePath(final Path file) {
+        return this.checkoutPath.relativize(file).toString().replace('\\', '/');
+    }
+
+    private static String calculateChecksum(final Path file) throws IOException, NoSuchAlgorithmException {
+        final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            for (long position = 0; position < size; position += MAX_MAPPED_REGION_SIZE) {
+                final long regionSize = Math.min(MAX_MAPPED_REGION_SIZE, size - position);
+                digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, regionSize));
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String toHex(final byte[] bytes) {
+        final var hex = new StringBuilder(bytes.length * 2);
+        for (final byte value : bytes) {
+            hex.append(Character.forDigit((value >> 4) & 0xF, 16)).append(Character.forDigit(value & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
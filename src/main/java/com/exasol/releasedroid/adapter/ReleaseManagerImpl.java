@@ -2,10 +2,12 @@ package com.exasol.releasedroid.adapter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import com.exasol.releasedroid.adapter.github.AsyncGitHubGateway;
 import com.exasol.releasedroid.adapter.github.GitHubException;
-import com.exasol.releasedroid.adapter.github.GitHubGateway;
 import com.exasol.releasedroid.usecases.release.ReleaseManager;
 import com.exasol.releasedroid.usecases.repository.Repository;
 import com.exasol.releasedroid.usecases.repository.RepositoryModifier;
@@ -13,11 +15,31 @@ import com.exasol.releasedroid.usecases.repository.RepositoryModifier;
 public class ReleaseManagerImpl implements ReleaseManager {
     private static final Logger LOGGER = Logger.getLogger(ReleaseManagerImpl.class.getName());
     private final RepositoryModifier repositoryModifier;
-    private final GitHubGateway githubGateway;
+    private final AsyncGitHubGateway githubGateway;
+    private final Optional<LocalChecksumCalculator> localChecksumCalculator;
 
-    public ReleaseManagerImpl(final RepositoryModifier repositoryModifier, final GitHubGateway githubGateway) {
+    public ReleaseManagerImpl(final RepositoryModifier repositoryModifier, final AsyncGitHubGateway githubGateway) {
+        this(repositoryModifier, githubGateway, Optional.empty());
+    }
+
+    /**
+     * Create a new instance of {@link ReleaseManagerImpl} that compares the original checksum with checksums
+     * calculated locally instead of running the quick checksum workflow.
+     *
+     * @param repositoryModifier      repository modifier
+     * @param githubGateway           GitHub gateway
+     * @param localChecksumCalculator calculator for the checksums of an already built local checkout
+     */
+    public ReleaseManagerImpl(final RepositoryModifier repositoryModifier, final AsyncGitHubGateway githubGateway,
+            final LocalChecksumCalculator localChecksumCalculator) {
+        this(repositoryModifier, githubGateway, Optional.of(localChecksumCalculator));
+    }
+
+    private ReleaseManagerImpl(final RepositoryModifier repositoryModifier, final AsyncGitHubGateway githubGateway,
+            final Optional<LocalChecksumCalculator> localChecksumCalculator) {
         this.repositoryModifier = repositoryModifier;
         this.githubGateway = githubGateway;
+        this.localChecksumCalculator = localChecksumCalculator;
     }
 
     @Override
@@ -45,7 +67,7 @@ public class ReleaseManagerImpl implements ReleaseManager {
     private void validateOriginalChecksumAgainstQuickChecksum(final Repository repository, final long artifactId)
             throws GitHubException {
         LOGGER.info("Found an artifact on '" + repository.getName() + "' repository.");
-        if (!validateChecksum(artifactId, repository.getName())) {
+        if (!validateChecksum(artifactId, repository)) {
             LOGGER.info("Checksum validation for '" + repository.getName() + "' repository failed.");
             updateRepository(repository);
         }
@@ -62,10 +84,23 @@ public class ReleaseManagerImpl implements ReleaseManager {
     }
 
     // [impl->dsn~compare-checksum~1]
-    private boolean validateChecksum(final long artifactId, final String repositoryName) throws GitHubException {
-        final Map<String, String> originalChecksum = this.githubGateway.downloadChecksumFromArtifactory(repositoryName,
-                artifactId);
-        final Map<String, String> quickChecksum = this.githubGateway.createQuickCheckSum(repositoryName);
+    private boolean validateChecksum(final long artifactId, final Repository repository) throws GitHubException {
+        final String repositoryName = repository.getName();
+        // Download the original checksum while the quick checksum workflow runs
+        final CompletableFuture<Map<String, String>> originalChecksumFuture = this.githubGateway
+                .downloadChecksumFromArtifactoryAsync(repositoryName, artifactId);
+        final Map<String, String> originalChecksum;
+        final Map<String, String> quickChecksum;
+        if (this.localChecksumCalculator.isPresent()) {
+            final LocalChecksumCalculator calculator = this.localChecksumCalculator.get();
+            calculator.validateCheckout(repositoryName,
+                    this.githubGateway.getBranchHead(repositoryName, repository.getBranchName()));
+            originalChecksum = AsyncGitHubGateway.await(originalChecksumFuture);
+            quickChecksum = calculator.calculateChecksums(originalChecksum.keySet());
+        } else {
+            quickChecksum = this.githubGateway.createQuickCheckSum(repositoryName);
+            originalChecksum = AsyncGitHubGateway.await(originalChecksumFuture);
+        }
         if (originalChecksum.size() != quickChecksum.size()) {
             return false;
         }
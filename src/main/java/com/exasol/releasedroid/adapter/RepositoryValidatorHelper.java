@@ -1,13 +1,10 @@
 package com.exasol.releasedroid.adapter;
 
-import java.util.List;
-
 import com.exasol.errorreporting.ExaError;
 import com.exasol.releasedroid.usecases.exception.RepositoryException;
 import com.exasol.releasedroid.usecases.report.Report;
 import com.exasol.releasedroid.usecases.report.ValidationReport;
 import com.exasol.releasedroid.usecases.repository.Repository;
-import com.exasol.releasedroid.usecases.validate.RepositoryValidator;
 
 /**
  * Contains a common logic for repository validators.
@@ -38,18 +35,4 @@ public class RepositoryValidatorHelper {
         }
         return report;
     }
-
-    /**
-     * Validate a repository and return a report.
-     *
-     * @param repositoryValidators repository validators
-     * @return report
-     */
-    public static Report validateRepositories(final List<RepositoryValidator> repositoryValidators) {
-        final var report = ValidationReport.create();
-        for (final RepositoryValidator repositoryValidator : repositoryValidators) {
-            report.merge(repositoryValidator.validate());
-        }
-        return report;
-    }
-}
\ No newline at end of file
+}
@@ -38,8 +38,8 @@ public class CommunityPlatformValidator implements ReleasePlatformValidator {
     private Report validateCommunityPortalTemplate() {
         final var report = ValidationReport.create();
         try {
-            final String communityConfig = this.repository.getSingleFileContentAsString(COMMUNITY_CONFIG_PATH);
-            report.merge(validateConfigurations(CommunityConfigParser.parse(communityConfig)));
+            report.merge(validateConfigurations(this.repository.getParsedFileContent(COMMUNITY_CONFIG_PATH,
+                    CommunityConfig.class, CommunityConfigParser::parse)));
         } catch (final RepositoryException exception) {
             report.addFailedResult(ExaError.messageBuilder("E-RD-CP-3") //
                     .message("Cannot find a required config file {{fileName}}.", RELEASE_CONFIG_PATH) //
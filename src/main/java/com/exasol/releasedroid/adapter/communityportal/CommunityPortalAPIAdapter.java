@@ -10,6 +10,9 @@ import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 
 import org.json.JSONObject;
 
@@ -18,9 +21,19 @@ import com.exasol.releasedroid.usecases.PropertyReader;
 
 /**
  * Implements an adapter to interact with Exasol Community Portal via API.
+ * <p>
+ * The adapter keeps one HTTP client and one session for all posts. The session is renewed when it expires or when the
+ * portal rejects it.
+ * </p>
  */
 public class CommunityPortalAPIAdapter implements CommunityPortalGateway {
+    private static final Duration SESSION_LIFETIME = Duration.ofMinutes(20);
+    private static final int STATUS_UNAUTHORIZED = 401;
     private final PropertyReader propertyReader;
+    private final HttpClient httpClient;
+    private final Clock clock;
+    private String sessionKey;
+    private Instant sessionExpiration = Instant.MIN;
 
     /**
      * Create a new instance of {@link CommunityPortalAPIAdapter}.
@@ -28,14 +41,41 @@ public class CommunityPortalAPIAdapter implements CommunityPortalGateway {
      * @param propertyReader property reader
      */
     public CommunityPortalAPIAdapter(final PropertyReader propertyReader) {
+        this(propertyReader, HttpClient.newBuilder().version(HttpClient.Version.HTTP_2)
+                .proxy(ProxySelector.getDefault()).build(), Clock.systemUTC());
+    }
+
+    CommunityPortalAPIAdapter(final PropertyReader propertyReader, final HttpClient httpClient, final Clock clock) {
         this.propertyReader = propertyReader;
+        this.httpClient = httpClient;
+        this.clock = clock;
     }
 
     @Override
     // [impl->dsn~create-new-release-announcement-on-exasol-community-portal~1]
     public String sendDraftPost(final CommunityPost communityPost) throws CommunityPortalException {
-        final String token = getAuthenticationToken();
-        return createPost(CommunityPostConverter.toJson(communityPost), token);
+        final String post = CommunityPostConverter.toJson(communityPost);
+        final HttpResponse<String> response = send(createPostRequest(post, getSessionKey()));
+        if (response.statusCode() == STATUS_UNAUTHORIZED) {
+            invalidateSession();
+            return extractPostUrl(sendRequest(createPostRequest(post, getSessionKey())).body());
+        } else {
+            validateResponse(response);
+            return extractPostUrl(response.body());
+        }
+    }
+
+    private synchronized String getSessionKey() throws CommunityPortalException {
+        final Instant now = this.clock.instant();
+        if ((this.sessionKey == null) || !now.isBefore(this.sessionExpiration)) {
+            this.sessionKey = getAuthenticationToken();
+            this.sessionExpiration = now.plus(SESSION_LIFETIME);
+        }
+        return this.sessionKey;
+    }
+
+    private synchronized void invalidateSession() {
+        this.sessionKey = null;
     }
 
     private String getAuthenticationToken() throws CommunityPortalException {
@@ -70,25 +110,28 @@ public class CommunityPortalAPIAdapter implements CommunityPortalGateway {
     }
 
     private HttpResponse<String> sendRequest(final HttpRequest request) throws CommunityPortalException {
-        final HttpClient build = HttpClient.newBuilder().proxy(ProxySelector.getDefault()).build();
+        final HttpResponse<String> response = send(request);
+        validateResponse(response);
+        return response;
+    }
+
+    private HttpResponse<String> send(final HttpRequest request) throws CommunityPortalException {
         try {
-            final HttpResponse<String> response = build.send(request, HttpResponse.BodyHandlers.ofString());
-            validateResponse(response);
-            return response;
-        } catch (final IOException | InterruptedException exception) {
+            return this.httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (final IOException exception) {
+            throw new CommunityPortalException(exception);
+        } catch (final InterruptedException exception) {
             Thread.currentThread().interrupt();
             throw new CommunityPortalException(exception);
         }
     }
 
-    private String createPost(final String post, final String token) throws CommunityPortalException {
-        final HttpRequest request = HttpRequest.newBuilder() //
+    private HttpRequest createPostRequest(final String post, final String token) {
+        return HttpRequest.newBuilder() //
                 .header("li-api-session-key", token) //
                 .uri(URI.create(EXASOL_COMMUNITY_PORTAL_URL + "api/2.0/messages")) //
                 .POST(HttpRequest.BodyPublishers.ofString(post)) //
                 .build();
-        final HttpResponse<String> response = sendRequest(request);
-        return extractPostUrl(response.body());
     }
 
     private String extractPostUrl(final String body) {
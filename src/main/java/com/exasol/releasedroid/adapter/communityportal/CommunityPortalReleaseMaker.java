@@ -60,7 +60,8 @@ public class CommunityPortalReleaseMaker implements ReleaseMaker {
 
     // [impl->dsn~extract-project-description-from-file~1]
     private CommunityConfig getConfig(final Repository repository) {
-        return CommunityConfigParser.parse(repository.getSingleFileContentAsString(COMMUNITY_CONFIG_PATH));
+        return repository.getParsedFileContent(COMMUNITY_CONFIG_PATH, CommunityConfig.class,
+                CommunityConfigParser::parse);
     }
 
     private String renderBody(final String header, final String projectDescription, final String changesDescription,
@@ -0,0 +1,211 @@
+package com.exasol.releasedroid.adapter.github;
+
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.exasol.releasedroid.usecases.ExecutionContext;
+import com.exasol.releasedroid.usecases.release.ReleaseCheckpoints;
+
+/**
+ * Runs the calls of a blocking {@link GitHubGateway} asynchronously on a bounded thread pool.
+ * <p>
+ * The blocking methods delegate directly to the wrapped gateway.
+ * </p>
+ */
+public class AsyncGitHubAPIAdapter implements AsyncGitHubGateway, AutoCloseable {
+    private final GitHubGateway githubGateway;
+    private final ClosedTicketCache closedTicketCache;
+    private final ExecutorService executor;
+
+    /**
+     * Create a new instance of {@link AsyncGitHubAPIAdapter}.
+     *
+     * @param githubGateway     blocking GitHub gateway
+     * @param closedTicketCache cache of tickets known to be closed
+     * @param maxParallelCalls  maximum number of calls running at the same time
+     */
+    public AsyncGitHubAPIAdapter(final GitHubGateway githubGateway, final ClosedTicketCache closedTicketCache,
+            final int maxParallelCalls) {
+        this.githubGateway = githubGateway;
+        this.closedTicketCache = closedTicketCache;
+        this.executor = Executors.newFixedThreadPool(maxParallelCalls, runnable -> {
+            final var thread = new Thread(runnable, "github-gateway");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Set<Integer>> getClosedTicketsAsync(final String repositoryName,
+            final Collection<Integer> ticketNumbers) {
+        final Set<Integer> knownClosedTickets = new HashSet<>(ticketNumbers);
+        knownClosedTickets.retainAll(this.closedTicketCache.getClosedTickets(repositoryName));
+        final Map<Integer, CompletableFuture<Boolean>> lookups = new HashMap<>();
+        for (final Integer ticketNumber : ticketNumbers) {
+            if (!knownClosedTickets.contains(ticketNumber) && !lookups.containsKey(ticketNumber)) {
+                lookups.put(ticketNumber,
+                        runAsync(() -> this.githubGateway.isClosedTicket(repositoryName, ticketNumber)));
+            }
+        }
+        return CompletableFuture.allOf(lookups.values().toArray(CompletableFuture<?>[]::new)).thenApply(ignored -> {
+            final Set<Integer> closedTickets = new HashSet<>();
+            lookups.forEach((ticketNumber, lookup) -> {
+                if (lookup.join()) {
+                    closedTickets.add(ticketNumber);
+                }
+            });
+            this.closedTicketCache.addClosedTickets(repositoryName, closedTickets);
+            closedTickets.addAll(knownClosedTickets);
+            return closedTickets;
+        });
+    }
+
+    @Override
+    public CompletableFuture<String> getLatestTagAsync(final String repositoryName) {
+        return runAsync(() -> this.githubGateway.getLatestTag(repositoryName));
+    }
+
+    @Override
+    public CompletableFuture<InputStream> getBlobContentAsync(final String repositoryName, final String blobHash) {
+        return runAsync(() -> this.githubGateway.getBlobContent(repositoryName, blobHash));
+    }
+
+    @Override
+    public CompletableFuture<List<Long>> getRepositoryArtifactsIdsAsync(final String repositoryName) {
+        return runAsync(() -> this.githubGateway.getRepositoryArtifactsIds(repositoryName));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> downloadChecksumFromArtifactoryAsync(final String repositoryName,
+            final long artifactId) {
+        return runAsync(() -> this.githubGateway.downloadChecksumFromArtifactory(repositoryName, artifactId));
+    }
+
+    @Override
+    public CompletableFuture<Void> executeWorkflowAsync(final String repositoryName, final String workflowName,
+            final Map<String, Object> dispatches) {
+        return runAsync(() -> {
+            this.githubGateway.executeWorkflow(repositoryName, workflowName, dispatches);
+            return null;
+        });
+    }
+
+    // The pool threads run the call in the context of the submitting thread, so it keeps its traffic class.
+    private <T> CompletableFuture<T> runAsync(final GitHubCall<T> call) {
+        final ExecutionContext context = ExecutionContext.current();
+        return CompletableFuture.supplyAsync(() -> context.call(() -> {
+            try {
+                return call.call();
+            } catch (final GitHubException exception) {
+                throw new CompletionException(exception);
+            }
+        }), this.executor);
+    }
+
+    @Override
+    public void executeWorkflow(final String repositoryName, final String workflowName,
+            final Map<String, Object> dispatches) throws GitHubException {
+        this.githubGateway.executeWorkflow(repositoryName, workflowName, dispatches);
+    }
+
+    @Override
+    public void executeWorkflow(final String repositoryName, final String workflowName) throws GitHubException {
+        this.githubGateway.executeWorkflow(repositoryName, workflowName);
+    }
+
+    @Override
+    public void executeWorkflow(final String repositoryName, final String workflowName,
+            final ReleaseCheckpoints checkpoints) throws GitHubException {
+        this.githubGateway.executeWorkflow(repositoryName, workflowName, checkpoints);
+    }
+
+    @Override
+    public void createGithubRelease(final GitHubRelease gitHubRelease, final ReleaseCheckpoints checkpoints)
+            throws GitHubException {
+        this.githubGateway.createGithubRelease(gitHubRelease, checkpoints);
+    }
+
+    @Override
+    public boolean isClosedTicket(final String repositoryName, final int ticketNumber) throws GitHubException {
+        return this.githubGateway.isClosedTicket(repositoryName, ticketNumber);
+    }
+
+    @Override
+    public String getLatestTag(final String repositoryName) throws GitHubException {
+        return this.githubGateway.getLatestTag(repositoryName);
+    }
+
+    @Override
+    public List<String> getTags(final String repositoryName) throws GitHubException {
+        return this.githubGateway.getTags(repositoryName);
+    }
+
+    @Override
+    public GitHubRepositoryMetadata getRepositoryMetadata(final String repositoryName) throws GitHubException {
+        return this.githubGateway.getRepositoryMetadata(repositoryName);
+    }
+
+    @Override
+    public String getDefaultBranch(final String repositoryName) throws GitHubException {
+        return this.githubGateway.getDefaultBranch(repositoryName);
+    }
+
+    @Override
+    public String getBranchHead(final String repositoryName, final String branchName) throws GitHubException {
+        return this.githubGateway.getBranchHead(repositoryName, branchName);
+    }
+
+    @Override
+    public Map<String, String> getFileHashes(final String repositoryName, final String branchName)
+            throws GitHubException {
+        return this.githubGateway.getFileHashes(repositoryName, branchName);
+    }
+
+    @Override
+    public InputStream getBlobContent(final String repositoryName, final String blobHash) throws GitHubException {
+        return this.githubGateway.getBlobContent(repositoryName, blobHash);
+    }
+
+    @Override
+    public void updateFileContent(final String repositoryName, final String branchName, final String filePath,
+            final String newContent, final String commitMessage) throws GitHubException {
+        this.githubGateway.updateFileContent(repositoryName, branchName, filePath, newContent, commitMessage);
+    }
+
+    @Override
+    public String getRepositoryPrimaryLanguage(final String repositoryName) throws GitHubException {
+        return this.githubGateway.getRepositoryPrimaryLanguage(repositoryName);
+    }
+
+    @Override
+    public List<Long> getRepositoryArtifactsIds(final String repositoryName) throws GitHubException {
+        return this.githubGateway.getRepositoryArtifactsIds(repositoryName);
+    }
+
+    @Override
+    public void createChecksumArtifact(final String repositoryName) throws GitHubException {
+        this.githubGateway.createChecksumArtifact(repositoryName);
+    }
+
+    @Override
+    public Map<String, String> downloadChecksumFromArtifactory(final String repositoryName, final long artifactId)
+            throws GitHubException {
+        return this.githubGateway.downloadChecksumFromArtifactory(repositoryName, artifactId);
+    }
+
+    @Override
+    public Map<String, String> createQuickCheckSum(final String repositoryName) throws GitHubException {
+        return this.githubGateway.createQuickCheckSum(repositoryName);
+    }
+
+    @Override
+    public void deleteAllArtifacts(final String repositoryName) throws GitHubException {
+        this.githubGateway.deleteAllArtifacts(repositoryName);
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+    }
+}
@@ -0,0 +1,94 @@
+package com.exasol.releasedroid.adapter.github;
+
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * GitHub gateway that can also run calls asynchronously, so that independent calls overlap.
+ * <p>
+ * The futures complete exceptionally with a {@link CompletionException} wrapping a {@link GitHubException}. Use
+ * {@link #await(CompletableFuture)} to get the result or the original exception.
+ * </p>
+ */
+public interface AsyncGitHubGateway extends GitHubGateway {
+    /**
+     * Find out asynchronously which of the given tickets are closed issues.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @param ticketNumbers  numbers of the tickets to check
+     * @return future set of the given tickets' numbers that are closed issues
+     */
+    public CompletableFuture<Set<Integer>> getClosedTicketsAsync(String repositoryName,
+            Collection<Integer> ticketNumbers);
+
+    /**
+     * Get the latest tag asynchronously.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @return future latest tag
+     */
+    public CompletableFuture<String> getLatestTagAsync(String repositoryName);
+
+    /**
+     * Get the content of a git blob asynchronously.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @param blobHash       hash of the blob
+     * @return future blob content
+     */
+    public CompletableFuture<InputStream> getBlobContentAsync(String repositoryName, String blobHash);
+
+    /**
+     * Get a list of the repository artifacts' ids asynchronously.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @return future list of artifacts' ids
+     */
+    public CompletableFuture<List<Long>> getRepositoryArtifactsIdsAsync(String repositoryName);
+
+    /**
+     * Download a checksum from an artifact asynchronously.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @param artifactId     id of the artifact
+     * @return future map with jar names and checksums
+     */
+    public CompletableFuture<Map<String, String>> downloadChecksumFromArtifactoryAsync(String repositoryName,
+            long artifactId);
+
+    /**
+     * Execute a GitHub workflow and wait until it finishes, asynchronously.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @param workflowName   name of the workflow
+     * @param dispatches     map with the workflow dispatches
+     * @return future completing when the workflow finishes
+     */
+    public CompletableFuture<Void> executeWorkflowAsync(String repositoryName, String workflowName,
+            Map<String, Object> dispatches);
+
+    /**
+     * Wait for the result of an asynchronous call.
+     *
+     * @param future future result of the call
+     * @param <T>    type of the result
+     * @return result of the call
+     * @throws GitHubException if the call failed
+     */
+    public static <T> T await(final CompletableFuture<T> future) throws GitHubException {
+        try {
+            return future.join();
+        } catch (final CompletionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof GitHubException) {
+                throw (GitHubException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw exception;
+            }
+        }
+    }
+}
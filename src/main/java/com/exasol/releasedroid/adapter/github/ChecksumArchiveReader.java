@@ -0,0 +1,115 @@
+package com.exasol.releasedroid.adapter.github;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads checksums from zip archives downloaded from GitHub.
+ * <p>
+ * The archives are read line by line, so the memory usage does not depend on the size of the archive.
+ * </p>
+ */
+public final class ChecksumArchiveReader {
+    private static final String CHECKSUM_START = "checksum_start==";
+    private static final String CHECKSUM_END = "==checksum_end";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern LOG_TIMESTAMP = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\S+Z");
+
+    private ChecksumArchiveReader() {
+        // prevent instantiation
+    }
+
+    /**
+     * Read checksums from an artifact archive. The entries contain pairs of checksum and file name.
+     *
+     * @param input zipped artifact
+     * @return map with file names and checksums
+     * @throws IOException if the archive cannot be read
+     */
+    public static Map<String, String> readArtifactChecksums(final InputStream input) throws IOException {
+        final var checksums = new ChecksumCollector();
+        try (final var zipInputStream = new ZipInputStream(input)) {
+            while (zipInputStream.getNextEntry() != null) {
+                final BufferedReader reader = readEntry(zipInputStream);
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    checksums.addLine(line);
+                }
+            }
+        }
+        return checksums.getChecksums();
+    }
+
+    /**
+     * Read checksums from a workflow logs archive. Only the last section between the {@value #CHECKSUM_START} and
+     * {@value #CHECKSUM_END} lines is used.
+     *
+     * @param input zipped workflow logs
+     * @return map with file names and checksums
+     * @throws IOException if the archive cannot be read
+     */
+    public static Map<String, String> readLogChecksums(final InputStream input) throws IOException {
+        Map<String, String> lastChecksums = Map.of();
+        ChecksumCollector checksums = null;
+        try (final var zipInputStream = new ZipInputStream(input)) {
+            while (zipInputStream.getNextEntry() != null) {
+                final BufferedReader reader = readEntry(zipInputStream);
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final String trimmedLine = line.trim();
+                    if (trimmedLine.endsWith(CHECKSUM_START)) {
+                        checksums = new ChecksumCollector();
+                    } else if (trimmedLine.endsWith(CHECKSUM_END) && (checksums != null)) {
+                        lastChecksums = checksums.getChecksums();
+                        checksums = null;
+                    } else if (checksums != null) {
+                        checksums.addLine(removeTimestamp(trimmedLine));
+                    }
+                }
+                checksums = null;
+            }
+        }
+        return lastChecksums;
+    }
+
+    // The stream must stay open for the next entries, so the reader is not closed.
+    private static BufferedReader readEntry(final ZipInputStream zipInputStream) {
+        return new BufferedReader(new InputStreamReader(zipInputStream, StandardCharsets.UTF_8));
+    }
+
+    private static String removeTimestamp(final String logLine) {
+        final int separator = logLine.indexOf(' ');
+        if ((separator > 0) && LOG_TIMESTAMP.matcher(logLine.substring(0, separator)).matches()) {
+            return logLine.substring(separator + 1);
+        } else {
+            return logLine;
+        }
+    }
+
+    private static final class ChecksumCollector {
+        private final Map<String, String> checksums = new HashMap<>();
+        private String pendingChecksum;
+
+        private void addLine(final String line) {
+            for (final String token : WHITESPACE.split(line)) {
+                if (token.isEmpty()) {
+                    continue;
+                }
+                if (this.pendingChecksum == null) {
+                    this.pendingChecksum = token;
+                } else {
+                    this.checksums.put(token, this.pendingChecksum);
+                    this.pendingChecksum = null;
+                }
+            }
+        }
+
+        private Map<String, String> getChecksums() {
+            return this.checksums;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.exasol.releasedroid.adapter.github;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.logging.Logger;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+
+/**
+ * Persistent cache of GitHub issues known to be closed.
+ * <p>
+ * The cache keeps one file per repository with the numbers of the closed issues. Open and missing tickets are not
+ * cached, so they are checked again on the next lookup.
+ * </p>
+ */
+public class ClosedTicketCache {
+    private static final Logger LOGGER = Logger.getLogger(ClosedTicketCache.class.getName());
+    private final String directory;
+
+    /**
+     * Create a new instance of {@link ClosedTicketCache}.
+     *
+     * @param directory directory containing the cache files
+     */
+    public ClosedTicketCache(final String directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Get the numbers of the issues known to be closed.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @return set of closed issues' numbers
+     */
+    public synchronized Set<Integer> getClosedTickets(final String repositoryName) {
+        final Path cacheFile = getCacheFile(repositoryName);
+        final Set<Integer> closedTickets = new HashSet<>();
+        if (Files.exists(cacheFile)) {
+            try {
+                final var numbers = new JSONArray(Files.readString(cacheFile));
+                for (int index = 0; index < numbers.length(); index++) {
+                    closedTickets.add(numbers.getInt(index));
+                }
+            } catch (final IOException | JSONException exception) {
+                LOGGER.warning(() -> "Ignoring the unreadable closed tickets cache file " + cacheFile + ".");
+                return Set.of();
+            }
+        }
+        return closedTickets;
+    }
+
+    /**
+     * Add closed issues to the cache.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @param closedTickets  numbers of the closed issues
+     */
+    public synchronized void addClosedTickets(final String repositoryName, final Set<Integer> closedTickets) {
+        if (closedTickets.isEmpty()) {
+            return;
+        }
+        final Set<Integer> allClosedTickets = new TreeSet<>(getClosedTickets(repositoryName));
+        allClosedTickets.addAll(closedTickets);
+        final Path cacheFile = getCacheFile(repositoryName);
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Files.writeString(cacheFile, new JSONArray(allClosedTickets).toString());
+        } catch (final IOException exception) {
+            LOGGER.warning(() -> "Unable to update the closed tickets cache: " + exception.getMessage());
+        }
+    }
+
+    private Path getCacheFile(final String repositoryName) {
+        return Path.of(this.directory, URLEncoder.encode(repositoryName, StandardCharsets.UTF_8) + ".json");
+    }
+}
@@ -0,0 +1,40 @@
+package com.exasol.releasedroid.adapter.github;
+
+import java.time.Duration;
+
+/**
+ * Calculates delays growing exponentially up to a maximum.
+ */
+class ExponentialBackoff {
+    private final double multiplier;
+    private final Duration maxDelay;
+    private Duration nextDelay;
+
+    /**
+     * Create a new instance of {@link ExponentialBackoff}.
+     *
+     * @param initialDelay first delay
+     * @param multiplier   factor to multiply each delay with
+     * @param maxDelay     upper limit for a delay
+     */
+    ExponentialBackoff(final Duration initialDelay, final double multiplier, final Duration maxDelay) {
+        this.multiplier = multiplier;
+        this.maxDelay = maxDelay;
+        this.nextDelay = min(initialDelay, maxDelay);
+    }
+
+    /**
+     * Get the next delay.
+     *
+     * @return next delay
+     */
+    Duration nextDelay() {
+        final Duration delay = this.nextDelay;
+        this.nextDelay = min(Duration.ofMillis((long) (delay.toMillis() * this.multiplier)), this.maxDelay);
+        return delay;
+    }
+
+    private static Duration min(final Duration first, final Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+}
@@ -2,27 +2,47 @@ package com.exasol.releasedroid.adapter.github;
 
 import static com.exasol.releasedroid.adapter.github.GitHubConstants.*;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Instant;
 import java.util.*;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.zip.ZipInputStream;
 
 import org.kohsuke.github.*;
 
 import com.exasol.errorreporting.ExaError;
-import com.exasol.releasedroid.formatting.ChecksumFormatter;
 import com.exasol.releasedroid.usecases.exception.RepositoryException;
+import com.exasol.releasedroid.usecases.release.ReleaseCheckpoints;
 
 /**
  * Implements an adapter to interact with Github.
  */
 public class GitHubAPIAdapter implements GitHubGateway {
     private static final Logger LOGGER = Logger.getLogger(GitHubAPIAdapter.class.getName());
+    private static final String UPLOAD_URL_CHECKPOINT = "github-release/upload-url";
+    private static final String BRANCH_CHECKPOINT = "branch";
+    private static final String DISPATCHED_AT_CHECKPOINT = "dispatched-at";
+    private static final String RUN_ID_CHECKPOINT = "run-id";
+    // Workflows that are not part of a release on a platform, like the checksum workflows, are simply started again.
+    private static final ReleaseCheckpoints NO_CHECKPOINTS = new ReleaseCheckpoints() {
+        @Override
+        public Optional<String> get(final String name) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void save(final String name, final String value) {
+            // nothing to record
+        }
+
+        @Override
+        public void remove(final String name) {
+            // nothing to record
+        }
+    };
     private final Map<String, GHRepository> repositories = new HashMap<>();
     private final GitHubConnector gitHubConnector;
+    private final WorkflowWatcher workflowWatcher;
 
     /**
      * Create a new instance of {@link GitHubAPIAdapter}.
@@ -30,10 +50,21 @@ public class GitHubAPIAdapter implements GitHubGateway {
      * @param gitHubConnector GitHub connector
      */
     public GitHubAPIAdapter(final GitHubConnector gitHubConnector) {
+        this(gitHubConnector, new PollingWorkflowWatcher());
+    }
+
+    /**
+     * Create a new instance of {@link GitHubAPIAdapter}.
+     *
+     * @param gitHubConnector GitHub connector
+     * @param workflowWatcher watcher waiting for dispatched workflows to complete
+     */
+    public GitHubAPIAdapter(final GitHubConnector gitHubConnector, final WorkflowWatcher workflowWatcher) {
         this.gitHubConnector = gitHubConnector;
+        this.workflowWatcher = workflowWatcher;
     }
 
-    private GHRepository getRepository(final String repositoryName) throws GitHubException {
+    private synchronized GHRepository getRepository(final String repositoryName) throws GitHubException {
         if (!this.repositories.containsKey(repositoryName)) {
             this.repositories.put(repositoryName, this.createGHRepository(repositoryName));
         }
@@ -61,6 +92,12 @@ public class GitHubAPIAdapter implements GitHubGateway {
             return new GitHubException(ExaError.messageBuilder("E-RD-GH-13") //
                     .message("A GitHub account with specified username and password doesn't exist.").toString(),
                     exception);
+        } else if (originalMessage.contains("API rate limit exceeded")) {
+            return new GitHubException(ExaError.messageBuilder("E-RD-GH-38") //
+                    .message("The GitHub API rate limit is exceeded while accessing repository {{repositoryName}}.",
+                            repositoryName)
+                    .mitigation("Please wait for the limit reset or validate fewer repositories in one run.")
+                    .toString(), exception);
         } else {
             return new GitHubException(ExaError.messageBuilder("E-RD-GH-14") //
                     .message("{{originalMessage}}", originalMessage).toString(), exception);
@@ -70,7 +107,21 @@ public class GitHubAPIAdapter implements GitHubGateway {
     @Override
     // [impl->dsn~retrieve-github-release-header-from-release-letter~1]
     // [impl->dsn~retrieve-github-release-body-from-release-letter~1]
-    public void createGithubRelease(final GitHubRelease gitHubRelease) throws GitHubException {
+    public void createGithubRelease(final GitHubRelease gitHubRelease, final ReleaseCheckpoints checkpoints)
+            throws GitHubException {
+        final Optional<String> recordedUploadUrl = checkpoints.get(UPLOAD_URL_CHECKPOINT);
+        if (recordedUploadUrl.isPresent()) {
+            LOGGER.info(() -> "Continuing with the draft release " + gitHubRelease.getVersion()
+                    + " created by an earlier run.");
+            executeWorkflowToUploadAssets(gitHubRelease.getRepositoryName(), recordedUploadUrl.get(), checkpoints);
+        } else {
+            final String uploadUrl = createDraftRelease(gitHubRelease);
+            checkpoints.save(UPLOAD_URL_CHECKPOINT, uploadUrl);
+            executeWorkflowToUploadAssets(gitHubRelease.getRepositoryName(), uploadUrl, checkpoints);
+        }
+    }
+
+    private String createDraftRelease(final GitHubRelease gitHubRelease) throws GitHubException {
         try {
             final GHRelease ghRelease = this.getRepository(gitHubRelease.getRepositoryName())//
                     .createRelease(gitHubRelease.getVersion()) //
@@ -78,8 +129,7 @@ public class GitHubAPIAdapter implements GitHubGateway {
                     .body(gitHubRelease.getReleaseLetter()) //
                     .name(gitHubRelease.getHeader()) //
                     .create();
-            final String uploadUrl = ghRelease.getUploadUrl();
-            executeWorkflowToUploadAssets(gitHubRelease.getRepositoryName(), uploadUrl);
+            return ghRelease.getUploadUrl();
         } catch (final IOException exception) {
             throw new GitHubException(
                     ExaError.messageBuilder("F-RD-GH-11")
@@ -90,21 +140,21 @@ public class GitHubAPIAdapter implements GitHubGateway {
 
     // [impl->dsn~upload-github-release-assets~1]
     // [impl->dsn~users-add-upload-definition-files-for-their-deliverables~1]
-    private void executeWorkflowToUploadAssets(final String repositoryName, final String uploadUrl)
-            throws GitHubException {
-        executeWorkflow(repositoryName, GITHUB_RELEASE_WORKFLOW, Map.of("upload_url", uploadUrl));
+    private void executeWorkflowToUploadAssets(final String repositoryName, final String uploadUrl,
+            final ReleaseCheckpoints checkpoints) throws GitHubException {
+        runWorkflow(repositoryName, GITHUB_RELEASE_WORKFLOW, Map.of("upload_url", uploadUrl), checkpoints);
     }
 
     @Override
-    public Set<Integer> getClosedTickets(final String repositoryName) throws GitHubException {
+    public boolean isClosedTicket(final String repositoryName, final int ticketNumber) throws GitHubException {
         try {
-            final List<GHIssue> closedIssues = this.getRepository(repositoryName).getIssues(GHIssueState.CLOSED);
-            return closedIssues.stream().filter(ghIssue -> !ghIssue.isPullRequest()).map(GHIssue::getNumber)
-                    .collect(Collectors.toSet());
+            final GHIssue issue = this.getRepository(repositoryName).getIssue(ticketNumber);
+            return (issue.getState() == GHIssueState.CLOSED) && !issue.isPullRequest();
+        } catch (final GHFileNotFoundException exception) {
+            return false;
         } catch (final IOException exception) {
-            throw new GitHubException(
-                    ExaError.messageBuilder("F-RD-GH-12")
-                            .message("Unable to retrieve a list of closed tickets on the GitHub.").toString(),
+            throw new GitHubException(ExaError.messageBuilder("F-RD-GH-12")
+                    .message("Unable to retrieve the ticket {{ticketNumber}} on the GitHub.", ticketNumber).toString(),
                     exception);
         }
     }
@@ -121,112 +171,124 @@ public class GitHubAPIAdapter implements GitHubGateway {
         }
     }
 
+    @Override
+    public List<String> getTags(final String repositoryName) throws GitHubException {
+        try {
+            final List<String> tags = new ArrayList<>();
+            for (final GHTag tag : this.getRepository(repositoryName).listTags().toList()) {
+                tags.add(tag.getName());
+            }
+            return tags;
+        } catch (final IOException exception) {
+            throw new GitHubException(ExaError.messageBuilder("F-RD-GH-39")
+                    .message("Unable to retrieve the tags of the repository {{repositoryName}} on the GitHub.",
+                            repositoryName)
+                    .toString(), exception);
+        }
+    }
+
     @Override
     public void executeWorkflow(final String repositoryName, final String workflowName,
             final Map<String, Object> dispatches) throws GitHubException {
+        runWorkflow(repositoryName, workflowName, dispatches, NO_CHECKPOINTS);
+    }
+
+    private long runWorkflow(final String repositoryName, final String workflowName,
+            final Map<String, Object> dispatches, final ReleaseCheckpoints checkpoints) throws GitHubException {
         try {
             final GHRepository repository = getRepository(repositoryName);
             final GHWorkflow workflow = repository.getWorkflow(workflowName);
-            workflow.dispatch(getDefaultBranch(repositoryName), dispatches);
-            logMessage(workflowName);
-            validateWorkflowConclusion(getWorkflowConclusion(repository, workflow.getId()));
+            final Optional<WorkflowDispatch> recordedDispatch = getRecordedDispatch(repositoryName, workflowName,
+                    workflow, checkpoints);
+            final WorkflowDispatch dispatch;
+            if (recordedDispatch.isPresent()) {
+                dispatch = recordedDispatch.get();
+                LOGGER.info(() -> "Re-attaching to the GitHub workflow '" + workflowName + "' dispatched at "
+                        + dispatch.getDispatchedAt() + " by an earlier run.");
+            } else {
+                dispatch = dispatchWorkflow(repositoryName, workflow, dispatches);
+                checkpoints.save(getCheckpointName(workflowName, BRANCH_CHECKPOINT), dispatch.getBranch());
+                checkpoints.save(getCheckpointName(workflowName, DISPATCHED_AT_CHECKPOINT),
+                        dispatch.getDispatchedAt().toString());
+                logMessage(workflowName);
+            }
+            return waitForWorkflowRun(repository, workflowName, dispatch, checkpoints);
         } catch (final IOException exception) {
             throw new GitHubException(exception);
         }
     }
 
-    @Override
-    public void executeWorkflow(final String repositoryName, final String workflowName) throws GitHubException {
-        executeWorkflow(repositoryName, workflowName, Collections.emptyMap());
+    private Optional<WorkflowDispatch> getRecordedDispatch(final String repositoryName, final String workflowName,
+            final GHWorkflow workflow, final ReleaseCheckpoints checkpoints) {
+        final Optional<String> branch = checkpoints.get(getCheckpointName(workflowName, BRANCH_CHECKPOINT));
+        final Optional<String> dispatchedAt = checkpoints
+                .get(getCheckpointName(workflowName, DISPATCHED_AT_CHECKPOINT));
+        if (branch.isPresent() && dispatchedAt.isPresent()) {
+            return Optional.of(new WorkflowDispatch(repositoryName, branch.get(), workflow.getId(),
+                    Instant.parse(dispatchedAt.get())));
+        } else {
+            return Optional.empty();
+        }
     }
 
-    private void logMessage(final String workflowName) {
-        LOGGER.info(() -> "A GitHub workflow '" + workflowName
-                + "' has started. The Release Droid is monitoring its progress. "
-                + "This can take from a few minutes to a couple of hours depending on the build.");
+    private WorkflowDispatch dispatchWorkflow(final String repositoryName, final GHWorkflow workflow,
+            final Map<String, Object> dispatches) throws GitHubException, IOException {
+        final String branch = getDefaultBranch(repositoryName);
+        final var dispatch = new WorkflowDispatch(repositoryName, branch, workflow.getId(), Instant.now());
+        workflow.dispatch(branch, dispatches);
+        return dispatch;
     }
 
-    private String getWorkflowConclusion(final GHRepository repository, final long workflowId)
-            throws GitHubException, IOException {
-        final var workflowMonitoringTimeout = 150;
-        int minutesPassed = 0;
-        long lastWorkflowRunId = -1;
-        while (minutesPassed < workflowMonitoringTimeout) {
-            final int minutes = getNextResultCheckDelayInMinutes(minutesPassed);
-            minutesPassed += minutes;
-            waitMinutes(minutes);
-            LOGGER.info(getMessage(minutesPassed));
-            if (lastWorkflowRunId == -1) {
-                lastWorkflowRunId = findLastWorkflowRunId(repository, workflowId);
-            }
-            final var ghWorkflowRun = getWorkflowRunById(repository, lastWorkflowRunId);
-            final boolean actionCompleted = ghWorkflowRun.getConclusion() != null;
-            if (actionCompleted) {
-                return ghWorkflowRun.getConclusion().toString();
+    private long waitForWorkflowRun(final GHRepository repository, final String workflowName,
+            final WorkflowDispatch dispatch, final ReleaseCheckpoints checkpoints) throws GitHubException {
+        final String runIdCheckpoint = getCheckpointName(workflowName, RUN_ID_CHECKPOINT);
+        final long recordedRunId = checkpoints.get(runIdCheckpoint).map(Long::parseLong).orElse(-1L);
+        final var runTracker = new WorkflowRunTracker(repository, dispatch, recordedRunId,
+                runId -> checkpoints.save(runIdCheckpoint, String.valueOf(runId)));
+        final String conclusion;
+        try {
+            conclusion = this.workflowWatcher.waitForConclusion(dispatch, runTracker);
+        } catch (final GitHubException exception) {
+            // Only a dispatch that never started a run or whose run exceeded the monitoring timeout must be dispatched
+            // again. After any other failure the run may still be going, so the next attempt re-attaches to it.
+            if (runTracker.isRunMissing() || dispatch.isOlderThan(PollingWorkflowWatcher.MONITORING_TIMEOUT)) {
+                removeWorkflowCheckpoints(workflowName, checkpoints);
             }
+            throw exception;
         }
-        throw new GitHubException(getTimeoutExceptionMessage(minutesPassed));
-    }
-
-    private String getMessage(final int minutesPassed) {
-        return "Workflow is running for about " + minutesPassed + " minutes.";
-    }
-
-    private String getTimeoutExceptionMessage(final int minutesPassed) {
-        return ExaError.messageBuilder("E-RD-GH-3")
-                .message("GitHub workflow runs too long. The timeout for monitoring is {{timeout}} minutes.")
-                .parameter("timeout", minutesPassed) //
-                .toString();
+        // A completed run is never re-attached, a failed one must be dispatched again
+        removeWorkflowCheckpoints(workflowName, checkpoints);
+        validateWorkflowConclusion(conclusion);
+        return runTracker.getRunId();
     }
 
-    private long findLastWorkflowRunId(final GHRepository repository, final long workflowId)
-            throws IOException, GitHubException {
-        GHWorkflowRun lastRun = null;
-        for (final GHWorkflowRun ghWorkflowRun : repository.queryWorkflowRuns().list()) {
-            if (ghWorkflowRun.getWorkflowId() == workflowId
-                    && (lastRun == null || ghWorkflowRun.getCreatedAt().after(lastRun.getCreatedAt()))) {
-                lastRun = ghWorkflowRun;
+    private void removeWorkflowCheckpoints(final String workflowName, final ReleaseCheckpoints checkpoints) {
+        for (final String checkpoint : List.of(BRANCH_CHECKPOINT, DISPATCHED_AT_CHECKPOINT, RUN_ID_CHECKPOINT)) {
+            if (checkpoints.get(getCheckpointName(workflowName, checkpoint)).isPresent()) {
+                checkpoints.remove(getCheckpointName(workflowName, checkpoint));
             }
         }
-        validateLastRun(workflowId, lastRun);
-        return lastRun.getId();
     }
 
-    private void validateLastRun(final long workflowId, final GHWorkflowRun lastRun) throws GitHubException {
-        if (lastRun == null) {
-            throw new GitHubException(ExaError.messageBuilder("E-RD-GH-4") //
-                    .message("Cannot find runs of GitHub workflow with id {{workflowId}}.") //
-                    .parameter("workflowId", workflowId) //
-                    .toString());
-        }
+    private static String getCheckpointName(final String workflowName, final String checkpoint) {
+        return "workflow/" + workflowName + "/" + checkpoint;
     }
 
-    private GHWorkflowRun getWorkflowRunById(final GHRepository repository, final long lastWorkflowRunId)
-            throws GitHubException {
-        for (final GHWorkflowRun ghWorkflowRun : repository.queryWorkflowRuns().list()) {
-            if (ghWorkflowRun.getId() == lastWorkflowRunId) {
-                return ghWorkflowRun;
-            }
-        }
-        throw new GitHubException(ExaError.messageBuilder("E-RD-GH-5") //
-                .message("GitHub workflow run with id {{id}} not found") //
-                .parameter("id", lastWorkflowRunId) //
-                .toString());
+    @Override
+    public void executeWorkflow(final String repositoryName, final String workflowName) throws GitHubException {
+        executeWorkflow(repositoryName, workflowName, Collections.emptyMap());
     }
 
-    // The fastest release takes 1-2 minutes, the slowest 1 hour and more.
-    // We send 1 request per minute first 10 minutes and then 1 request per 5 minutes not to exceed the GitHub request
-    // limits.
-    private int getNextResultCheckDelayInMinutes(final int minutesPassed) {
-        return minutesPassed < 10 ? 1 : 5;
+    @Override
+    public void executeWorkflow(final String repositoryName, final String workflowName,
+            final ReleaseCheckpoints checkpoints) throws GitHubException {
+        runWorkflow(repositoryName, workflowName, Collections.emptyMap(), checkpoints);
     }
 
-    private void waitMinutes(final int minutes) {
-        try {
-            Thread.sleep(60000L * minutes);
-        } catch (final InterruptedException exception) {
-            Thread.currentThread().interrupt();
-        }
+    private void logMessage(final String workflowName) {
+        LOGGER.info(() -> "A GitHub workflow '" + workflowName
+                + "' has started. The Release Droid is monitoring its progress. "
+                + "This can take from a few minutes to a couple of hours depending on the build.");
     }
 
     private void validateWorkflowConclusion(final String workflowConclusion) throws GitHubException {
@@ -238,24 +300,84 @@ public class GitHubAPIAdapter implements GitHubGateway {
         }
     }
 
+    @Override
+    public GitHubRepositoryMetadata getRepositoryMetadata(final String repositoryName) throws GitHubException {
+        final GHRepository repository = getRepository(repositoryName);
+        return GitHubRepositoryMetadata.builder() //
+                .defaultBranch(repository.getDefaultBranch()) //
+                .primaryLanguage(repository.getLanguage()) //
+                .latestTag(getLatestTag(repositoryName)) //
+                .build();
+    }
+
     @Override
     public String getDefaultBranch(final String repositoryName) throws GitHubException {
         return getRepository(repositoryName).getDefaultBranch();
     }
 
     @Override
-    public InputStream getFileContent(final String repositoryName, final String branchName, final String filePath)
+    public String getBranchHead(final String repositoryName, final String branchName) throws GitHubException {
+        try {
+            return getRepository(repositoryName).getBranch(branchName).getSHA1();
+        } catch (final IOException exception) {
+            throw new GitHubException(ExaError.messageBuilder("F-RD-GH-42")
+                    .message("Cannot get the head of the branch {{branchName}} in the repository {{repositoryName}}.")
+                    .parameter("branchName", branchName) //
+                    .parameter("repositoryName", repositoryName).toString(), exception);
+        }
+    }
+
+    @Override
+    public Map<String, String> getFileHashes(final String repositoryName, final String branchName)
             throws GitHubException {
         try {
-            final GHRepository repository = getRepository(repositoryName);
-            final GHContent content = repository.getFileContent(filePath, branchName);
-            return content.read();
+            final Map<String, String> fileHashes = new HashMap<>();
+            collectFileHashes(getRepository(repositoryName), branchName, "", fileHashes);
+            return fileHashes;
         } catch (final IOException exception) {
-            throw new GitHubException(ExaError.messageBuilder("F-RD-GH-7")
-                    .message("Cannot find or read the file {{filePath}} in the repository {{repositoryName}}.")
-                    .parameter("filePath", filePath) //
-                    .parameter("repositoryName", repositoryName) //
-                    .mitigation("Please add this file according to the user guide.").toString(), exception);
+            throw new GitHubException(ExaError.messageBuilder("F-RD-GH-34")
+                    .message("Cannot list the files of the branch {{branchName}} in the repository {{repositoryName}}.")
+                    .parameter("branchName", branchName) //
+                    .parameter("repositoryName", repositoryName).toString(), exception);
+        }
+    }
+
+    // GitHub truncates large recursive trees. Then we list the tree level by level and try a recursive listing again
+    // for each subtree, so only the truncated parts cost additional requests.
+    private void collectFileHashes(final GHRepository repository, final String treeish, final String pathPrefix,
+            final Map<String, String> fileHashes) throws IOException {
+        final GHTree recursiveTree = repository.getTreeRecursive(treeish, 1);
+        if (!recursiveTree.isTruncated()) {
+            addBlobHashes(recursiveTree, pathPrefix, fileHashes);
+            return;
+        }
+        final GHTree tree = repository.getTree(treeish);
+        addBlobHashes(tree, pathPrefix, fileHashes);
+        for (final GHTreeEntry entry : tree.getTree()) {
+            if (entry.getType().equals("tree")) {
+                collectFileHashes(repository, entry.getSha(), pathPrefix + entry.getPath() + "/", fileHashes);
+            }
+        }
+    }
+
+    private static void addBlobHashes(final GHTree tree, final String pathPrefix,
+            final Map<String, String> fileHashes) {
+        for (final GHTreeEntry entry : tree.getTree()) {
+            if (entry.getType().equals("blob")) {
+                fileHashes.put(pathPrefix + entry.getPath(), entry.getSha());
+            }
+        }
+    }
+
+    @Override
+    public InputStream getBlobContent(final String repositoryName, final String blobHash) throws GitHubException {
+        try {
+            return getRepository(repositoryName).readBlob(blobHash);
+        } catch (final IOException exception) {
+            throw new GitHubException(ExaError.messageBuilder("F-RD-GH-35")
+                    .message("Cannot read the blob {{blobHash}} in the repository {{repositoryName}}.")
+                    .parameter("blobHash", blobHash) //
+                    .parameter("repositoryName", repositoryName).toString(), exception);
         }
     }
 
@@ -306,45 +428,24 @@ public class GitHubAPIAdapter implements GitHubGateway {
             throws GitHubException {
         try {
             final GHArtifact artifact = getRepository(repositoryName).getArtifact(artifactId);
-            final var checksumAsString = artifact.download(this::getStringFromInputStream);
-            return ChecksumFormatter.createChecksumMap(checksumAsString);
+            return artifact.download(ChecksumArchiveReader::readArtifactChecksums);
         } catch (final IOException exception) {
             throw new GitHubException(exception);
         }
     }
 
-    private String getStringFromInputStream(final InputStream input) throws IOException {
-        try (final var byteArrayOutputStream = new ByteArrayOutputStream();
-                final var zipInputStream = new ZipInputStream(input)) {
-            while (zipInputStream.getNextEntry() != null) {
-                byteArrayOutputStream.write(zipInputStream.readAllBytes());
-            }
-            return byteArrayOutputStream.toString();
-        }
-    }
-
     @Override
     public Map<String, String> createQuickCheckSum(final String repositoryName) throws GitHubException {
-        executeWorkflow(repositoryName, PRINT_QUICK_CHECKSUM_WORKFLOW);
-        final GHRepository repository = getRepository(repositoryName);
+        final long workflowRunId = runWorkflow(repositoryName, PRINT_QUICK_CHECKSUM_WORKFLOW, Collections.emptyMap(),
+                NO_CHECKPOINTS);
         try {
-            final long workflowId = repository.getWorkflow(PRINT_QUICK_CHECKSUM_WORKFLOW).getId();
-            final long workflowRunId = findLastWorkflowRunId(repository, workflowId);
-            final String logs = repository.getWorkflowRun(workflowRunId).downloadLogs(this::getStringFromInputStream);
-            return formatChecksumLogs(logs);
+            return getRepository(repositoryName).getWorkflowRun(workflowRunId)
+                    .downloadLogs(ChecksumArchiveReader::readLogChecksums);
         } catch (final IOException exception) {
             throw new GitHubException(exception);
         }
     }
 
-    private Map<String, String> formatChecksumLogs(final String logs) {
-        final String[] splittedLogs = logs
-                .substring(logs.lastIndexOf("checksum_start=="), logs.lastIndexOf("==checksum_end")).replace("\n", " ")
-                .split(" ");
-        return ChecksumFormatter
-                .createChecksumMap(String.join(" ", Arrays.asList(splittedLogs).subList(2, splittedLogs.length - 1)));
-    }
-
     @Override
     public void deleteAllArtifacts(final String repositoryName) throws GitHubException {
         final PagedIterable<GHArtifact> artifacts = getRepository(repositoryName).listArtifacts();
@@ -0,0 +1,17 @@
+package com.exasol.releasedroid.adapter.github;
+
+/**
+ * A call to GitHub that returns a result.
+ *
+ * @param <T> result type
+ */
+@FunctionalInterface
+interface GitHubCall<T> {
+    /**
+     * Run the call.
+     *
+     * @return result of the call
+     * @throws GitHubException if the call failed
+     */
+    T call() throws GitHubException;
+}
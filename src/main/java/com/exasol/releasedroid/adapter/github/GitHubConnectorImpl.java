@@ -1,34 +1,70 @@
 package com.exasol.releasedroid.adapter.github;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
-import org.kohsuke.github.GitHub;
+import org.kohsuke.github.*;
+import org.kohsuke.github.extras.okhttp3.OkHttpConnector;
 
 import com.exasol.releasedroid.usecases.PropertyReader;
 
+import okhttp3.Cache;
+import okhttp3.OkHttpClient;
+
 /**
  * GitHub Connector.
+ * <p>
+ * GitHub responses are stored in an on-disk cache. Every read is sent as conditional request with the ETag of the
+ * cached response, so unchanged resources come back as {@code 304 Not Modified}. These responses are fast and don't
+ * count against the GitHub API rate limit. The cache evicts the least recently used responses when it is full.
+ * </p>
  */
 public class GitHubConnectorImpl implements GitHubConnector {
+    private static final long MAX_CACHE_SIZE = 50L * 1024 * 1024;
     private GitHub gitHub;
     private final PropertyReader propertyReader;
+    private final GitHubRateLimitGovernor governor;
+    private final Path cacheDirectory;
 
     /**
      * Create a new instance of {@link GitHubConnectorImpl}.
      *
      * @param propertyReader property reader
+     * @param governor       governor of the requests against the GitHub API rate limits
+     * @param cacheDirectory directory of the response cache
      */
-    public GitHubConnectorImpl(final PropertyReader propertyReader) {
+    public GitHubConnectorImpl(final PropertyReader propertyReader, final GitHubRateLimitGovernor governor,
+            final Path cacheDirectory) {
         this.propertyReader = propertyReader;
+        this.governor = governor;
+        this.cacheDirectory = cacheDirectory;
     }
 
     @Override
-    public GitHub connectToGitHub() throws IOException {
+    public synchronized GitHub connectToGitHub() throws IOException {
         if (this.gitHub == null) {
             final String username = this.propertyReader.readProperty(GitHubConstants.GITHUB_USERNAME_KEY);
             final String token = this.propertyReader.readProperty(GitHubConstants.GITHUB_TOKEN_KEY);
-            this.gitHub = GitHub.connect(username, token);
+            this.gitHub = new GitHubBuilder().withOAuthToken(token, username) //
+                    .withConnector(createCachingConnector(this.cacheDirectory, MAX_CACHE_SIZE)) //
+                    .withRateLimitChecker(this.governor.getRateLimitChecker()) //
+                    .withRateLimitHandler(this.governor.getRateLimitHandler()) //
+                    .withAbuseLimitHandler(this.governor.getSecondaryLimitHandler()) //
+                    .build();
         }
         return this.gitHub;
     }
-}
\ No newline at end of file
+
+    /**
+     * Create an HTTP connector that revalidates each request against a response cache.
+     *
+     * @param cacheDirectory directory of the response cache
+     * @param maxCacheSize   maximum size of the cache in bytes
+     * @return new HTTP connector
+     */
+    // The connector sends each request with "Cache-Control: max-age=0", so cached responses are always revalidated.
+    static HttpConnector createCachingConnector(final Path cacheDirectory, final long maxCacheSize) {
+        final var cache = new Cache(cacheDirectory.toFile(), maxCacheSize);
+        return new OkHttpConnector(new OkHttpClient.Builder().cache(cache).build());
+    }
+}
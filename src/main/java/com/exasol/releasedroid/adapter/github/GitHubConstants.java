@@ -14,6 +14,7 @@ public class GitHubConstants {
     public static final String PRINT_QUICK_CHECKSUM_WORKFLOW_PATH = WORKFLOW_DIRECTORY + PRINT_QUICK_CHECKSUM_WORKFLOW;
     public static final String GITHUB_USERNAME_KEY = "github_username";
     public static final String GITHUB_TOKEN_KEY = "github_oauth_access_token";
+    public static final String GITHUB_WEBHOOK_SECRET_KEY = "github_webhook_secret";
 
     private GitHubConstants() {
     }
@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import com.exasol.releasedroid.usecases.release.ReleaseCheckpoints;
+
 /**
  * Gateway for interacting with Github.
  */
@@ -29,22 +31,42 @@ public interface GitHubGateway {
      */
     public void executeWorkflow(String repositoryName, String workflowName) throws GitHubException;
 
+    /**
+     * Executes a GitHub workflow by a workflow name on the default branch and records the started run in the
+     * checkpoints. If the checkpoints already contain a run of the workflow, waits for this run instead of starting a
+     * new one.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @param workflowName   name of a workflow
+     * @param checkpoints    checkpoints of the release
+     * @throws GitHubException when some problems occur
+     */
+    public void executeWorkflow(String repositoryName, String workflowName, ReleaseCheckpoints checkpoints)
+            throws GitHubException;
+
     /**
      * Make a GitHub release on the head of default branch.
-     * 
+     * <p>
+     * The draft release and the workflow uploading the assets are recorded in the checkpoints, so a restarted release
+     * continues with them.
+     * </p>
+     *
      * @param gitHubRelease instance of {@link GitHubRelease} with release information
+     * @param checkpoints   checkpoints of the release
      * @throws GitHubException when some problems occur
      */
-    public void createGithubRelease(GitHubRelease gitHubRelease) throws GitHubException;
+    public void createGithubRelease(GitHubRelease gitHubRelease, ReleaseCheckpoints checkpoints)
+            throws GitHubException;
 
     /**
-     * Get a {@link Set} of closed tickets' numbers.
+     * Check if a ticket is a closed issue. Pull requests and tickets that do not exist are not closed issues.
      *
      * @param repositoryName fully qualified name of the repository
-     * @return set of closed tickets' numbers*
+     * @param ticketNumber   number of the ticket
+     * @return true if the ticket is a closed issue
      * @throws GitHubException when some problems occur
      */
-    public Set<Integer> getClosedTickets(String repositoryName) throws GitHubException;
+    public boolean isClosedTicket(String repositoryName, int ticketNumber) throws GitHubException;
 
     /**
      * Get latest tag.
@@ -55,6 +77,24 @@ public interface GitHubGateway {
      */
     public String getLatestTag(String repositoryName) throws GitHubException;
 
+    /**
+     * Get the names of all tags.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @return names of the tags
+     * @throws GitHubException when some problems occur
+     */
+    public List<String> getTags(String repositoryName) throws GitHubException;
+
+    /**
+     * Get the metadata of a repository: default branch, primary language and latest release.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @return metadata of the repository
+     * @throws GitHubException when some problems occur
+     */
+    public GitHubRepositoryMetadata getRepositoryMetadata(String repositoryName) throws GitHubException;
+
     /**
      * Get a default branch of the repository.
      * 
@@ -65,15 +105,34 @@ public interface GitHubGateway {
     public String getDefaultBranch(String repositoryName) throws GitHubException;
 
     /**
-     * Get a content of a file by path.
+     * Get the commit the branch currently points to.
      *
      * @param repositoryName fully qualified name of the repository
-     * @param branchName     branch to retrieve the content from
-     * @param filePath       path to a file
-     * @return file content
+     * @param branchName     name of the branch
+     * @return SHA-1 of the head commit
+     * @throws GitHubException when some problems occur
+     */
+    public String getBranchHead(String repositoryName, String branchName) throws GitHubException;
+
+    /**
+     * Get the git blob hashes of all files on a branch.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @param branchName     branch to retrieve the hashes from
+     * @return map with file paths as keys and blob hashes as values
+     * @throws GitHubException when some problems occur
+     */
+    public Map<String, String> getFileHashes(String repositoryName, String branchName) throws GitHubException;
+
+    /**
+     * Get the content of a git blob.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @param blobHash       hash of the blob
+     * @return blob content
      * @throws GitHubException when some problems occur
      */
-    public InputStream getFileContent(String repositoryName, String branchName, String filePath) throws GitHubException;
+    public InputStream getBlobContent(String repositoryName, String blobHash) throws GitHubException;
 
     /**
      * Update a single file content.
@@ -1,10 +1,10 @@
 package com.exasol.releasedroid.adapter.github;
 
 import static com.exasol.releasedroid.adapter.RepositoryValidatorHelper.validateFileExists;
-import static com.exasol.releasedroid.adapter.RepositoryValidatorHelper.validateRepositories;
 import static com.exasol.releasedroid.adapter.github.GitHubConstants.GITHUB_RELEASE_WORKFLOW_PATH;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import com.exasol.errorreporting.ExaError;
@@ -19,16 +19,16 @@ import com.exasol.releasedroid.usecases.validate.ReleasePlatformValidator;
  */
 public class GitHubPlatformValidator implements ReleasePlatformValidator {
     private static final Logger LOGGER = Logger.getLogger(GitHubPlatformValidator.class.getName());
-    private final GitHubGateway githubGateway;
+    private final AsyncGitHubGateway githubGateway;
     private final Repository repository;
 
     /**
      * Create a new instance of {@link GitHubPlatformValidator}.
      *
      * @param repository    repository to validate
-     * @param githubGateway instance of {@link GitHubGateway}
+     * @param githubGateway instance of {@link AsyncGitHubGateway}
      */
-    public GitHubPlatformValidator(final Repository repository, final GitHubGateway githubGateway) {
+    public GitHubPlatformValidator(final Repository repository, final AsyncGitHubGateway githubGateway) {
         this.repository = repository;
         this.githubGateway = githubGateway;
     }
@@ -37,21 +37,34 @@ public class GitHubPlatformValidator implements ReleasePlatformValidator {
     // [impl->dsn~validate-github-workflow-exists~1]
     public Report validate() {
         final var report = ValidationReport.create();
-        report.merge(validateRepositories(this.repository.getRepositoryValidators()));
         LOGGER.fine("Validating GitHub-specific requirements.");
         final String version = this.repository.getVersion();
         final var releaseLetter = this.repository.getReleaseLetter(version);
-        report.merge(validateChangesFile(releaseLetter));
+        final CompletableFuture<Set<Integer>> closedTickets = this.githubGateway
+                .getClosedTicketsAsync(this.repository.getName(), releaseLetter.getTicketNumbers());
+        report.merge(validateChangesFile(releaseLetter, closedTickets));
         report.merge(
                 validateFileExists(this.repository, GITHUB_RELEASE_WORKFLOW_PATH, "Workflow for a GitHub release."));
         return report;
     }
 
+    @Override
+    public boolean requiresRepositoryValidation() {
+        return true;
+    }
+
+    // Tickets can be closed or re-opened at any time.
+    @Override
+    public boolean readsExternalState() {
+        return true;
+    }
+
     // [impl->dsn~validate-release-letter~1]
-    private Report validateChangesFile(final ReleaseLetter releaseLetter) {
+    private Report validateChangesFile(final ReleaseLetter releaseLetter,
+            final CompletableFuture<Set<Integer>> closedTickets) {
         final var report = ValidationReport.create();
         report.merge(validateContainsHeader(releaseLetter));
-        report.merge(validateGitHubTickets(releaseLetter));
+        report.merge(validateGitHubTickets(releaseLetter, closedTickets));
         return report;
     }
 
@@ -72,10 +85,12 @@ public class GitHubPlatformValidator implements ReleasePlatformValidator {
 
     // [impl->dsn~validate-github-issues-exists~1]
     // [impl->dsn~validate-github-issues-are-closed~1]
-    private Report validateGitHubTickets(final ReleaseLetter releaseLetter) {
+    private Report validateGitHubTickets(final ReleaseLetter releaseLetter,
+            final CompletableFuture<Set<Integer>> closedTickets) {
         final var report = ValidationReport.create();
         try {
-            final List<String> wrongTickets = collectWrongTickets(this.repository.getName(), releaseLetter);
+            final List<String> wrongTickets = collectWrongTickets(AsyncGitHubGateway.await(closedTickets),
+                    releaseLetter);
             if (!wrongTickets.isEmpty()) {
                 report.merge(reportWrongTickets(this.repository.isOnDefaultBranch(), releaseLetter.getFileName(),
                         wrongTickets));
@@ -112,9 +127,7 @@ public class GitHubPlatformValidator implements ReleasePlatformValidator {
         return report;
     }
 
-    private List<String> collectWrongTickets(final String repositoryFullName, final ReleaseLetter releaseLetter)
-            throws GitHubException {
-        final Set<Integer> closedTickets = this.githubGateway.getClosedTickets(repositoryFullName);
+    private List<String> collectWrongTickets(final Set<Integer> closedTickets, final ReleaseLetter releaseLetter) {
         final List<Integer> mentionedTickets = releaseLetter.getTicketNumbers();
         final List<String> wrongTickets = new ArrayList<>();
         for (final Integer ticket : mentionedTickets) {
@@ -0,0 +1,309 @@
+package com.exasol.releasedroid.adapter.github;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.time.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.kohsuke.github.*;
+
+import com.exasol.errorreporting.ExaError;
+import com.exasol.releasedroid.usecases.ExecutionContext;
+import com.exasol.releasedroid.usecases.request.Goal;
+
+/**
+ * Governs the requests of all GitHub calls against the GitHub API rate limits.
+ * <p>
+ * GitHub sends the remaining request budget with every response. The governor checks it before each request and lets
+ * validation traffic wait for the limit reset earlier than release traffic, so a long validation run does not use up
+ * the budget a running release still needs. When GitHub rejects requests because of its secondary rate limits, the
+ * governor waits as GitHub asks or with a growing delay and retries. The current budget is available as metrics.
+ * </p>
+ */
+public class GitHubRateLimitGovernor {
+    private static final Logger LOGGER = Logger.getLogger(GitHubRateLimitGovernor.class.getName());
+    // Number of requests left for release traffic only.
+    private static final int RELEASE_RESERVE = 10;
+    // Share of the limit validation traffic leaves for release traffic.
+    private static final double VALIDATION_RESERVE_SHARE = 0.2;
+    // Delay if GitHub does not tell when the rate limit is reset.
+    private static final Duration DEFAULT_RESET_DELAY = Duration.ofMinutes(1);
+    private static final int MAX_SECONDARY_LIMIT_RETRIES = 5;
+    private static final Duration SECONDARY_LIMIT_INITIAL_DELAY = Duration.ofMinutes(1);
+    private static final Duration SECONDARY_LIMIT_MAX_DELAY = Duration.ofMinutes(15);
+    private final ThreadLocal<Traffic> traffic = new ThreadLocal<>();
+    private final ThreadLocal<SecondaryLimitRetries> secondaryLimitRetries = ThreadLocal
+            .withInitial(SecondaryLimitRetries::new);
+    private final Clock clock;
+    private final Sleeper sleeper;
+    private int remaining = -1;
+    private int limit = -1;
+    private Instant reset;
+    private long throttledRequests = 0;
+    private long secondaryLimitHits = 0;
+
+    /**
+     * Create a new instance of {@link GitHubRateLimitGovernor}.
+     */
+    public GitHubRateLimitGovernor() {
+        this(Clock.systemUTC(), delay -> Thread.sleep(delay.toMillis()));
+    }
+
+    /**
+     * Create a new instance of {@link GitHubRateLimitGovernor}.
+     *
+     * @param clock   clock
+     * @param sleeper waits for a delay
+     */
+    GitHubRateLimitGovernor(final Clock clock, final Sleeper sleeper) {
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Run a call under the governor.
+     * <p>
+     * The given traffic class is the default for the requests of the call. It applies only if the traffic class is
+     * not set for the current thread already.
+     * </p>
+     *
+     * @param <T>          result type
+     * @param trafficClass default traffic class of the call
+     * @param call         call to run
+     * @return result of the call
+     * @throws GitHubException if the call failed
+     */
+    public <T> T call(final Traffic trafficClass, final GitHubCall<T> call) throws GitHubException {
+        final Traffic previousTraffic = this.traffic.get();
+        if (previousTraffic == null) {
+            this.traffic.set(trafficClass);
+        }
+        this.secondaryLimitRetries.remove();
+        try {
+            return call.call();
+        } finally {
+            this.secondaryLimitRetries.remove();
+            if (previousTraffic == null) {
+                this.traffic.remove();
+            }
+        }
+    }
+
+    /**
+     * Get the rate limit checker to register with the GitHub client.
+     *
+     * @return rate limit checker
+     */
+    public RateLimitChecker getRateLimitChecker() {
+        return new RateLimitChecker() {
+            @Override
+            protected boolean checkRateLimit(final GHRateLimit.Record rateLimitRecord, final long count)
+                    throws InterruptedException {
+                return checkBudget(rateLimitRecord.getRemaining(), rateLimitRecord.getLimit(),
+                        Instant.ofEpochSecond(rateLimitRecord.getResetEpochSeconds()));
+            }
+        };
+    }
+
+    /**
+     * Get the handler for requests rejected because the rate limit is exceeded.
+     *
+     * @return rate limit handler
+     */
+    public RateLimitHandler getRateLimitHandler() {
+        return new RateLimitHandler() {
+            @Override
+            public void onError(final IOException exception, final HttpURLConnection connection) throws IOException {
+                onRateLimitExceeded(exception, connection.getHeaderField("X-RateLimit-Reset"));
+            }
+        };
+    }
+
+    /**
+     * Get the handler for requests rejected because of the secondary rate limits.
+     *
+     * @return secondary rate limit handler
+     */
+    public AbuseLimitHandler getSecondaryLimitHandler() {
+        return new AbuseLimitHandler() {
+            @Override
+            public void onError(final IOException exception, final HttpURLConnection connection) throws IOException {
+                onSecondaryLimitExceeded(exception, connection.getHeaderField("Retry-After"));
+            }
+        };
+    }
+
+    /**
+     * Get the current rate limit metrics.
+     *
+     * @return metrics by name
+     */
+    public synchronized Map<String, Object> getMetrics() {
+        final Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("github_rate_limit_remaining", this.remaining);
+        metrics.put("github_rate_limit_limit", this.limit);
+        metrics.put("github_rate_limit_reset", this.reset == null ? "" : this.reset.toString());
+        metrics.put("github_throttled_requests", this.throttledRequests);
+        metrics.put("github_secondary_rate_limit_hits", this.secondaryLimitHits);
+        return metrics;
+    }
+
+    /**
+     * Check the budget before a request and wait for the limit reset if the traffic class of the request has used up
+     * its share.
+     *
+     * @param remainingRequests remaining requests reported by GitHub
+     * @param requestLimit      request limit reported by GitHub
+     * @param resetTime         time of the next limit reset
+     * @return {@code true} if the request waited and the budget must be checked again
+     * @throws InterruptedException if the waiting thread was interrupted
+     */
+    boolean checkBudget(final int remainingRequests, final int requestLimit, final Instant resetTime)
+            throws InterruptedException {
+        updateBudget(remainingRequests, requestLimit, resetTime);
+        final Duration untilReset = Duration.between(this.clock.instant(), resetTime);
+        if ((remainingRequests > getReserve(requestLimit)) || untilReset.isNegative() || untilReset.isZero()) {
+            return false;
+        }
+        countThrottledRequest();
+        LOGGER.warning(() -> "GitHub API budget for " + getTraffic().name().toLowerCase() + " traffic is used up ("
+                + remainingRequests + " of " + requestLimit + " requests left). Waiting " + untilReset.toSeconds()
+                + " seconds for the limit reset.");
+        this.sleeper.sleep(untilReset);
+        return true;
+    }
+
+    private int getReserve(final int requestLimit) {
+        if (getTraffic() == Traffic.RELEASE) {
+            return RELEASE_RESERVE;
+        } else {
+            return Math.max(RELEASE_RESERVE, (int) (requestLimit * VALIDATION_RESERVE_SHARE));
+        }
+    }
+
+    // Requests outside a governed call come from watching running releases.
+    Traffic getTraffic() {
+        final Optional<Goal> goal = ExecutionContext.current().getGoal();
+        if (goal.isPresent()) {
+            return goal.get() == Goal.RELEASE ? Traffic.RELEASE : Traffic.VALIDATION;
+        }
+        final Traffic currentTraffic = this.traffic.get();
+        return currentTraffic == null ? Traffic.RELEASE : currentTraffic;
+    }
+
+    private synchronized void updateBudget(final int remainingRequests, final int requestLimit,
+            final Instant resetTime) {
+        this.remaining = remainingRequests;
+        this.limit = requestLimit;
+        this.reset = resetTime;
+    }
+
+    private synchronized void countThrottledRequest() {
+        ++this.throttledRequests;
+    }
+
+    private synchronized void countSecondaryLimitHit() {
+        ++this.secondaryLimitHits;
+    }
+
+    /**
+     * Wait for the limit reset after GitHub rejected a request because the rate limit is exceeded.
+     *
+     * @param exception  exception of the rejected request
+     * @param resetEpoch value of the {@code X-RateLimit-Reset} header
+     * @throws IOException if the waiting thread was interrupted
+     */
+    void onRateLimitExceeded(final IOException exception, final String resetEpoch) throws IOException {
+        countThrottledRequest();
+        final Duration untilReset = parseResetTime(resetEpoch)
+                .map(resetTime -> Duration.between(this.clock.instant(), resetTime))
+                .filter(delay -> !delay.isNegative()).orElse(DEFAULT_RESET_DELAY);
+        LOGGER.warning(() -> "GitHub API rate limit exceeded. Waiting " + untilReset.toSeconds()
+                + " seconds for the limit reset.");
+        pause(untilReset, exception);
+    }
+
+    private Optional<Instant> parseResetTime(final String resetEpoch) {
+        try {
+            return Optional.of(Instant.ofEpochSecond(Long.parseLong(resetEpoch)));
+        } catch (final NumberFormatException exception) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Back off after GitHub rejected a request because of its secondary rate limits.
+     *
+     * @param exception  exception of the rejected request
+     * @param retryAfter value of the {@code Retry-After} header
+     * @throws IOException if the request was rejected too often or the waiting thread was interrupted
+     */
+    void onSecondaryLimitExceeded(final IOException exception, final String retryAfter) throws IOException {
+        countSecondaryLimitHit();
+        final SecondaryLimitRetries retries = this.secondaryLimitRetries.get();
+        if (++retries.count > MAX_SECONDARY_LIMIT_RETRIES) {
+            throw new IOException(ExaError.messageBuilder("E-RD-GH-37")
+                    .message("GitHub still rejects requests because of its secondary rate limits after {{retries}} "
+                            + "retries.", MAX_SECONDARY_LIMIT_RETRIES)
+                    .mitigation("Please run fewer jobs in parallel or try again later.").toString(), exception);
+        }
+        final Duration backoffDelay = retries.backoff.nextDelay();
+        final Duration delay = parseRetryAfter(retryAfter).orElse(backoffDelay);
+        LOGGER.warning(() -> "GitHub secondary rate limit exceeded. Waiting " + delay.toSeconds()
+                + " seconds before retry " + retries.count + " of " + MAX_SECONDARY_LIMIT_RETRIES + ".");
+        pause(delay, exception);
+    }
+
+    private Optional<Duration> parseRetryAfter(final String retryAfter) {
+        try {
+            return Optional.of(Duration.ofSeconds(Long.parseLong(retryAfter)));
+        } catch (final NumberFormatException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private void pause(final Duration delay, final IOException cause) throws IOException {
+        try {
+            this.sleeper.sleep(delay);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            final var interruptedException = new InterruptedIOException(exception.getMessage());
+            interruptedException.addSuppressed(cause);
+            throw interruptedException;
+        }
+    }
+
+    /**
+     * Traffic class of a GitHub call.
+     */
+    public enum Traffic {
+        /** Calls making a release */
+        RELEASE,
+        /** Calls validating a repository */
+        VALIDATION
+    }
+
+    /**
+     * Waits for a delay.
+     */
+    @FunctionalInterface
+    interface Sleeper {
+        /**
+         * Wait for a delay.
+         *
+         * @param delay delay
+         * @throws InterruptedException if the waiting thread was interrupted
+         */
+        void sleep(Duration delay) throws InterruptedException;
+    }
+
+    private static final class SecondaryLimitRetries {
+        private final ExponentialBackoff backoff = new ExponentialBackoff(SECONDARY_LIMIT_INITIAL_DELAY, 2,
+                SECONDARY_LIMIT_MAX_DELAY);
+        private int count = 0;
+    }
+}
@@ -4,8 +4,10 @@ import java.util.logging.Logger;
 
 import com.exasol.releasedroid.usecases.exception.ReleaseException;
 import com.exasol.releasedroid.usecases.release.ReleaseMaker;
+import com.exasol.releasedroid.usecases.release.ReleaseState;
 import com.exasol.releasedroid.usecases.repository.ReleaseLetter;
 import com.exasol.releasedroid.usecases.repository.Repository;
+import com.exasol.releasedroid.usecases.request.PlatformName;
 
 /**
  * This class is responsible for releases on GitHub.
@@ -13,14 +15,17 @@ import com.exasol.releasedroid.usecases.repository.Repository;
 public class GitHubReleaseMaker implements ReleaseMaker {
     private static final Logger LOGGER = Logger.getLogger(GitHubReleaseMaker.class.getName());
     private final GitHubGateway githubGateway;
+    private final ReleaseState releaseState;
 
     /**
      * Create a new {@link GitHubReleaseMaker}.
      *
      * @param githubGateway instance of {@link GitHubGateway}
+     * @param releaseState  release state recording the draft release and the started upload workflow
      */
-    public GitHubReleaseMaker(final GitHubGateway githubGateway) {
+    public GitHubReleaseMaker(final GitHubGateway githubGateway, final ReleaseState releaseState) {
         this.githubGateway = githubGateway;
+        this.releaseState = releaseState;
     }
 
     @Override
@@ -34,7 +39,8 @@ public class GitHubReleaseMaker implements ReleaseMaker {
         final GitHubRelease release = GitHubRelease.builder().repositoryName(repository.getName()).version(version)
                 .header(header).releaseLetter(body).build();
         try {
-            this.githubGateway.createGithubRelease(release);
+            this.githubGateway.createGithubRelease(release,
+                    this.releaseState.getCheckpoints(repository.getName(), version, PlatformName.GITHUB));
             return "";
         } catch (final GitHubException exception) {
             throw new ReleaseException(exception);
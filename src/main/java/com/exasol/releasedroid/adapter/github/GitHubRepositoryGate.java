@@ -3,21 +3,42 @@ package com.exasol.releasedroid.adapter.github;
 import static com.exasol.releasedroid.usecases.ReleaseDroidConstants.LINE_SEPARATOR;
 
 import java.io.*;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import com.exasol.errorreporting.ExaError;
 import com.exasol.releasedroid.usecases.exception.RepositoryException;
 import com.exasol.releasedroid.usecases.repository.BaseRepository;
 import com.exasol.releasedroid.usecases.repository.RepositoryGate;
+import com.exasol.releasedroid.usecases.repository.TagIndex;
 
 /**
  * This class represents a GitHub-based repository.
+ * <p>
+ * All files are read from a snapshot of the branch: the file tree is listed once, and each file is read by the hash of
+ * its blob in this tree. This way all reads see the same commit, and each file is downloaded only once. The default
+ * branch and the latest release are fetched once with the repository metadata when they are first needed.
+ * </p>
+ * <p>
+ * The version tags are kept in a persistent {@link TagIndexCache}. The tags are only listed on GitHub if the cached
+ * index does not contain the latest release yet, and then the cached tags are replaced with the listed ones, so deleted
+ * tags do not stay in the index. The latest tag is the highest version in the index, even if the latest GitHub release
+ * was made for a lower version.
+ * </p>
  */
 // [impl->dsn~github-repository~1]
 public class GitHubRepositoryGate implements RepositoryGate {
     private final GitHubGateway githubGateway;
+    // null for the default branch
     private final String branchName;
     private final String fullName;
+    private final Supplier<GitHubRepositoryMetadata> metadata;
+    private final TagIndexCache tagIndexCache;
+    private final Map<String, String> blobContents = new ConcurrentHashMap<>();
+    private Map<String, String> fileHashes;
+    private TagIndex tagIndex;
 
     /**
      * Create a new instance of {@link BaseRepository}.
@@ -25,17 +46,61 @@ public class GitHubRepositoryGate implements RepositoryGate {
      * @param githubGateway an instance of {@link GitHubGateway}
      * @param branchName    name of a branch to get content from
      * @param fullName      fully qualified name of the repository
+     * @param tagIndexCache cache of the version tags
      */
-    public GitHubRepositoryGate(final GitHubGateway githubGateway, final String branchName, final String fullName) {
+    public GitHubRepositoryGate(final GitHubGateway githubGateway, final String branchName, final String fullName,
+            final TagIndexCache tagIndexCache) {
+        this(githubGateway, branchName, fullName, new LazyGitHubRepositoryMetadata(githubGateway, fullName),
+                tagIndexCache);
+    }
+
+    /**
+     * Create a new instance of {@link GitHubRepositoryGate}.
+     *
+     * @param githubGateway an instance of {@link GitHubGateway}
+     * @param branchName    name of a branch to get content from or {@code null} for the default branch
+     * @param fullName      fully qualified name of the repository
+     * @param metadata      metadata of the repository
+     * @param tagIndexCache cache of the version tags
+     */
+    public GitHubRepositoryGate(final GitHubGateway githubGateway, final String branchName, final String fullName,
+            final Supplier<GitHubRepositoryMetadata> metadata, final TagIndexCache tagIndexCache) {
         this.githubGateway = githubGateway;
         this.branchName = branchName;
         this.fullName = fullName;
+        this.metadata = metadata;
+        this.tagIndexCache = tagIndexCache;
     }
 
     @Override
     public String getSingleFileContentAsString(final String filePath) {
+        final String blobHash = getSnapshot().get(filePath);
+        if (blobHash == null) {
+            throw new RepositoryException(ExaError.messageBuilder("E-RD-GH-36")
+                    .message("Cannot find the file {{filePath}} on the branch {{branchName}} of the repository "
+                            + "{{repositoryName}}.")
+                    .parameter("filePath", filePath) //
+                    .parameter("branchName", getBranchName()) //
+                    .parameter("repositoryName", getName()) //
+                    .mitigation("Please add this file according to the user guide.").toString());
+        }
+        return this.blobContents.computeIfAbsent(blobHash, hash -> readBlob(filePath, hash));
+    }
+
+    private synchronized Map<String, String> getSnapshot() {
+        if (this.fileHashes == null) {
+            try {
+                this.fileHashes = this.githubGateway.getFileHashes(getName(), getBranchName());
+            } catch (final GitHubException exception) {
+                throw new RepositoryException(exception);
+            }
+        }
+        return this.fileHashes;
+    }
+
+    private String readBlob(final String filePath, final String blobHash) {
         try {
-            return getContent(this.githubGateway.getFileContent(getName(), this.branchName, filePath));
+            return getContent(this.githubGateway.getBlobContent(getName(), blobHash));
         } catch (final IOException exception) {
             throw new RepositoryException(ExaError.messageBuilder("F-RD-GH-25")
                     .message("Cannot convert the file {{filePath}} in the repository {{repositoryName}} to a string.")
@@ -60,9 +125,18 @@ public class GitHubRepositoryGate implements RepositoryGate {
     }
 
     @Override
-    public void updateFileContent(final String filePath, final String newContent, final String commitMessage) {
+    public Map<String, String> getFileHashes(final Set<String> filePaths) {
+        final Map<String, String> snapshot = getSnapshot();
+        return filePaths.stream().filter(snapshot::containsKey)
+                .collect(Collectors.toMap(filePath -> filePath, snapshot::get));
+    }
+
+    @Override
+    public synchronized void updateFileContent(final String filePath, final String newContent,
+            final String commitMessage) {
         try {
-            this.githubGateway.updateFileContent(getName(), this.branchName, filePath, newContent, commitMessage);
+            this.fileHashes = null;
+            this.githubGateway.updateFileContent(getName(), getBranchName(), filePath, newContent, commitMessage);
         } catch (final GitHubException exception) {
             throw new RepositoryException(
                     ExaError.messageBuilder("E-RD-GH-27")
@@ -73,22 +147,36 @@ public class GitHubRepositoryGate implements RepositoryGate {
 
     @Override
     public boolean isOnDefaultBranch() {
-        try {
-            return this.githubGateway.getDefaultBranch(this.getName()).equals(this.branchName);
-        } catch (final GitHubException exception) {
-            throw new RepositoryException(exception);
-        }
+        return (this.branchName == null) || this.metadata.get().getDefaultBranch().equals(this.branchName);
     }
 
     @Override
     public String getBranchName() {
-        return this.branchName;
+        return this.branchName == null ? this.metadata.get().getDefaultBranch() : this.branchName;
     }
 
     @Override
     public Optional<String> getLatestTag() {
+        return getTagIndex().getLatest();
+    }
+
+    @Override
+    public synchronized TagIndex getTagIndex() {
+        if (this.tagIndex == null) {
+            final TagIndex cachedTagIndex = this.tagIndexCache.getTagIndex(getName());
+            final Optional<String> latestRelease = this.metadata.get().getLatestTag();
+            if (latestRelease.isEmpty() || !cachedTagIndex.contains(latestRelease.get())) {
+                this.tagIndex = this.tagIndexCache.replaceTags(getName(), listTags());
+            } else {
+                this.tagIndex = cachedTagIndex;
+            }
+        }
+        return this.tagIndex;
+    }
+
+    private List<String> listTags() {
         try {
-            return Optional.ofNullable(this.githubGateway.getLatestTag(getName()));
+            return this.githubGateway.getTags(getName());
         } catch (final GitHubException exception) {
             throw new RepositoryException(exception);
         }
@@ -0,0 +1,105 @@
+package com.exasol.releasedroid.adapter.github;
+
+import java.util.Optional;
+
+/**
+ * Metadata of a GitHub repository.
+ */
+public class GitHubRepositoryMetadata {
+    private final String defaultBranch;
+    private final String primaryLanguage;
+    private final String latestTag;
+
+    private GitHubRepositoryMetadata(final Builder builder) {
+        this.defaultBranch = builder.defaultBranch;
+        this.primaryLanguage = builder.primaryLanguage;
+        this.latestTag = builder.latestTag;
+    }
+
+    /**
+     * Create a new {@link Builder}.
+     *
+     * @return new {@link Builder} instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the default branch.
+     *
+     * @return name of the default branch
+     */
+    public String getDefaultBranch() {
+        return this.defaultBranch;
+    }
+
+    /**
+     * Get the primary language.
+     *
+     * @return primary language as detected by GitHub or {@code null} if GitHub could not detect it
+     */
+    public String getPrimaryLanguage() {
+        return this.primaryLanguage;
+    }
+
+    /**
+     * Get the tag of the latest release.
+     *
+     * @return tag of the latest release or empty optional if the repository has no releases
+     */
+    public Optional<String> getLatestTag() {
+        return Optional.ofNullable(this.latestTag);
+    }
+
+    /**
+     * A builder for {@link GitHubRepositoryMetadata}.
+     */
+    public static class Builder {
+        private String defaultBranch;
+        private String primaryLanguage;
+        private String latestTag;
+
+        /**
+         * Set the default branch.
+         *
+         * @param defaultBranch name of the default branch
+         * @return builder instance for fluent programming
+         */
+        public Builder defaultBranch(final String defaultBranch) {
+            this.defaultBranch = defaultBranch;
+            return this;
+        }
+
+        /**
+         * Set the primary language.
+         *
+         * @param primaryLanguage primary language
+         * @return builder instance for fluent programming
+         */
+        public Builder primaryLanguage(final String primaryLanguage) {
+            this.primaryLanguage = primaryLanguage;
+            return this;
+        }
+
+        /**
+         * Set the tag of the latest release.
+         *
+         * @param latestTag tag of the latest release
+         * @return builder instance for fluent programming
+         */
+        public Builder latestTag(final String latestTag) {
+            this.latestTag = latestTag;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link GitHubRepositoryMetadata}.
+         *
+         * @return instance of {@link GitHubRepositoryMetadata}
+         */
+        public GitHubRepositoryMetadata build() {
+            return new GitHubRepositoryMetadata(this);
+        }
+    }
+}
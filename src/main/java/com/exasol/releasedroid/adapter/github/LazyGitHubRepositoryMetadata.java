@@ -0,0 +1,43 @@
+package com.exasol.releasedroid.adapter.github;
+
+import java.util.function.Supplier;
+
+import com.exasol.releasedroid.usecases.exception.RepositoryException;
+
+/**
+ * Metadata of a GitHub repository that is fetched with the first access and then reused.
+ */
+public class LazyGitHubRepositoryMetadata implements Supplier<GitHubRepositoryMetadata> {
+    private final GitHubGateway githubGateway;
+    private final String repositoryName;
+    private GitHubRepositoryMetadata metadata;
+
+    /**
+     * Create a new instance of {@link LazyGitHubRepositoryMetadata}.
+     *
+     * @param githubGateway  GitHub gateway
+     * @param repositoryName fully qualified name of the repository
+     */
+    public LazyGitHubRepositoryMetadata(final GitHubGateway githubGateway, final String repositoryName) {
+        this.githubGateway = githubGateway;
+        this.repositoryName = repositoryName;
+    }
+
+    /**
+     * Get the metadata.
+     *
+     * @return metadata of the repository
+     * @throws RepositoryException if the metadata cannot be fetched
+     */
+    @Override
+    public synchronized GitHubRepositoryMetadata get() {
+        if (this.metadata == null) {
+            try {
+                this.metadata = this.githubGateway.getRepositoryMetadata(this.repositoryName);
+            } catch (final GitHubException exception) {
+                throw new RepositoryException(exception);
+            }
+        }
+        return this.metadata;
+    }
+}
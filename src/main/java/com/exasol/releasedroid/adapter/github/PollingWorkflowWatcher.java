@@ -0,0 +1,108 @@
+package com.exasol.releasedroid.adapter.github;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * Watches a workflow run by polling GitHub with a growing delay.
+ * <p>
+ * The polling requests are throttled against the GitHub API rate limits by the {@link GitHubRateLimitGovernor} of the
+ * GitHub connection like all other requests.
+ * </p>
+ */
+public class PollingWorkflowWatcher implements WorkflowWatcher {
+    private static final Logger LOGGER = Logger.getLogger(PollingWorkflowWatcher.class.getName());
+    static final Duration MONITORING_TIMEOUT = Duration.ofMinutes(150);
+    private static final double BACKOFF_MULTIPLIER = 1.5;
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+
+    /**
+     * Create a new instance of {@link PollingWorkflowWatcher}.
+     * <p>
+     * The fastest release takes 1-2 minutes, the slowest 1 hour and more. So we start checking every few seconds and
+     * slow down to one request per 5 minutes not to exceed the GitHub request limits.
+     * </p>
+     */
+    public PollingWorkflowWatcher() {
+        this(Duration.ofSeconds(5), Duration.ofMinutes(5));
+    }
+
+    /**
+     * Create a new instance of {@link PollingWorkflowWatcher}.
+     *
+     * @param initialDelay delay before the first check
+     * @param maxDelay     maximum delay between two checks
+     */
+    protected PollingWorkflowWatcher(final Duration initialDelay, final Duration maxDelay) {
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+    }
+
+    @Override
+    public String waitForConclusion(final WorkflowDispatch dispatch, final WorkflowRunProbe probe)
+            throws GitHubException {
+        final var backoff = new ExponentialBackoff(this.initialDelay, BACKOFF_MULTIPLIER, this.maxDelay);
+        // A re-attached run may be older than the timeout, so the timeout starts with this watch and the run is
+        // always checked at least once.
+        final Instant deadline = Instant.now().plus(MONITORING_TIMEOUT);
+        long loggedMinutes = 0;
+        do {
+            pause(dispatch, backoff.nextDelay());
+            final Optional<String> conclusion = probe.getConclusion();
+            if (conclusion.isPresent()) {
+                return conclusion.get();
+            }
+            loggedMinutes = logProgress(dispatch, loggedMinutes);
+        } while (Instant.now().isBefore(deadline));
+        throw new GitHubException(ExaError.messageBuilder("E-RD-GH-3")
+                .message("GitHub workflow runs too long. The timeout for monitoring is {{timeout}} minutes.")
+                .parameter("timeout", MONITORING_TIMEOUT.toMinutes()) //
+                .toString());
+    }
+
+    private long logProgress(final WorkflowDispatch dispatch, final long loggedMinutes) {
+        final long minutesPassed = Duration.between(dispatch.getDispatchedAt(), Instant.now()).toMinutes();
+        if (minutesPassed > loggedMinutes) {
+            LOGGER.info(() -> "Workflow is running for about " + minutesPassed + " minutes.");
+            return minutesPassed;
+        }
+        return loggedMinutes;
+    }
+
+    /**
+     * Wait before the next check of the workflow run.
+     *
+     * @param dispatch dispatched workflow
+     * @param delay    delay before the next check
+     * @throws GitHubException when the waiting thread was interrupted
+     */
+    protected void pause(final WorkflowDispatch dispatch, final Duration delay) throws GitHubException {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw createInterruptedException(dispatch, exception);
+        }
+    }
+
+    /**
+     * Create an exception for an interrupted monitoring.
+     *
+     * @param dispatch  dispatched workflow
+     * @param exception cause
+     * @return new exception
+     */
+    protected GitHubException createInterruptedException(final WorkflowDispatch dispatch,
+            final InterruptedException exception) {
+        return new GitHubException(ExaError.messageBuilder("E-RD-GH-29")
+                .message("Monitoring of the workflow with id {{workflowId}} was interrupted.")
+                .parameter("workflowId", dispatch.getWorkflowId()) //
+                .mitigation("Please check the workflow run on the GitHub before re-starting the Release Droid.")
+                .toString(), exception);
+    }
+}
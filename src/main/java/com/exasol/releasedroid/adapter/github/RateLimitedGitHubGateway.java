@@ -0,0 +1,156 @@
+package com.exasol.releasedroid.adapter.github;
+
+import static com.exasol.releasedroid.adapter.github.GitHubRateLimitGovernor.Traffic.RELEASE;
+import static com.exasol.releasedroid.adapter.github.GitHubRateLimitGovernor.Traffic.VALIDATION;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import com.exasol.releasedroid.usecases.release.ReleaseCheckpoints;
+
+/**
+ * Runs the calls of a {@link GitHubGateway} under a {@link GitHubRateLimitGovernor}.
+ * <p>
+ * Calls changing a repository or running its release workflows are release traffic, read-only calls are validation
+ * traffic.
+ * </p>
+ */
+public class RateLimitedGitHubGateway implements GitHubGateway {
+    private final GitHubGateway githubGateway;
+    private final GitHubRateLimitGovernor governor;
+
+    /**
+     * Create a new instance of {@link RateLimitedGitHubGateway}.
+     *
+     * @param githubGateway GitHub gateway
+     * @param governor      governor of the GitHub requests
+     */
+    public RateLimitedGitHubGateway(final GitHubGateway githubGateway, final GitHubRateLimitGovernor governor) {
+        this.githubGateway = githubGateway;
+        this.governor = governor;
+    }
+
+    @Override
+    public void executeWorkflow(final String repositoryName, final String workflowName,
+            final Map<String, Object> dispatches) throws GitHubException {
+        this.governor.call(RELEASE, () -> {
+            this.githubGateway.executeWorkflow(repositoryName, workflowName, dispatches);
+            return null;
+        });
+    }
+
+    @Override
+    public void executeWorkflow(final String repositoryName, final String workflowName) throws GitHubException {
+        this.governor.call(RELEASE, () -> {
+            this.githubGateway.executeWorkflow(repositoryName, workflowName);
+            return null;
+        });
+    }
+
+    @Override
+    public void executeWorkflow(final String repositoryName, final String workflowName,
+            final ReleaseCheckpoints checkpoints) throws GitHubException {
+        this.governor.call(RELEASE, () -> {
+            this.githubGateway.executeWorkflow(repositoryName, workflowName, checkpoints);
+            return null;
+        });
+    }
+
+    @Override
+    public void createGithubRelease(final GitHubRelease gitHubRelease, final ReleaseCheckpoints checkpoints)
+            throws GitHubException {
+        this.governor.call(RELEASE, () -> {
+            this.githubGateway.createGithubRelease(gitHubRelease, checkpoints);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean isClosedTicket(final String repositoryName, final int ticketNumber) throws GitHubException {
+        return this.governor.call(VALIDATION, () -> this.githubGateway.isClosedTicket(repositoryName, ticketNumber));
+    }
+
+    @Override
+    public String getLatestTag(final String repositoryName) throws GitHubException {
+        return this.governor.call(VALIDATION, () -> this.githubGateway.getLatestTag(repositoryName));
+    }
+
+    @Override
+    public List<String> getTags(final String repositoryName) throws GitHubException {
+        return this.governor.call(VALIDATION, () -> this.githubGateway.getTags(repositoryName));
+    }
+
+    @Override
+    public GitHubRepositoryMetadata getRepositoryMetadata(final String repositoryName) throws GitHubException {
+        return this.governor.call(VALIDATION, () -> this.githubGateway.getRepositoryMetadata(repositoryName));
+    }
+
+    @Override
+    public String getDefaultBranch(final String repositoryName) throws GitHubException {
+        return this.governor.call(VALIDATION, () -> this.githubGateway.getDefaultBranch(repositoryName));
+    }
+
+    @Override
+    public String getBranchHead(final String repositoryName, final String branchName) throws GitHubException {
+        return this.governor.call(RELEASE, () -> this.githubGateway.getBranchHead(repositoryName, branchName));
+    }
+
+    @Override
+    public Map<String, String> getFileHashes(final String repositoryName, final String branchName)
+            throws GitHubException {
+        return this.governor.call(VALIDATION, () -> this.githubGateway.getFileHashes(repositoryName, branchName));
+    }
+
+    @Override
+    public InputStream getBlobContent(final String repositoryName, final String blobHash) throws GitHubException {
+        return this.governor.call(VALIDATION, () -> this.githubGateway.getBlobContent(repositoryName, blobHash));
+    }
+
+    @Override
+    public void updateFileContent(final String repositoryName, final String branchName, final String filePath,
+            final String newContent, final String commitMessage) throws GitHubException {
+        this.governor.call(RELEASE, () -> {
+            this.githubGateway.updateFileContent(repositoryName, branchName, filePath, newContent, commitMessage);
+            return null;
+        });
+    }
+
+    @Override
+    public String getRepositoryPrimaryLanguage(final String repositoryName) throws GitHubException {
+        return this.governor.call(VALIDATION, () -> this.githubGateway.getRepositoryPrimaryLanguage(repositoryName));
+    }
+
+    @Override
+    public List<Long> getRepositoryArtifactsIds(final String repositoryName) throws GitHubException {
+        return this.governor.call(RELEASE, () -> this.githubGateway.getRepositoryArtifactsIds(repositoryName));
+    }
+
+    @Override
+    public void createChecksumArtifact(final String repositoryName) throws GitHubException {
+        this.governor.call(RELEASE, () -> {
+            this.githubGateway.createChecksumArtifact(repositoryName);
+            return null;
+        });
+    }
+
+    @Override
+    public Map<String, String> downloadChecksumFromArtifactory(final String repositoryName, final long artifactId)
+            throws GitHubException {
+        return this.governor.call(RELEASE,
+                () -> this.githubGateway.downloadChecksumFromArtifactory(repositoryName, artifactId));
+    }
+
+    @Override
+    public Map<String, String> createQuickCheckSum(final String repositoryName) throws GitHubException {
+        return this.governor.call(RELEASE, () -> this.githubGateway.createQuickCheckSum(repositoryName));
+    }
+
+    @Override
+    public void deleteAllArtifacts(final String repositoryName) throws GitHubException {
+        this.governor.call(RELEASE, () -> {
+            this.githubGateway.deleteAllArtifacts(repositoryName);
+            return null;
+        });
+    }
+}
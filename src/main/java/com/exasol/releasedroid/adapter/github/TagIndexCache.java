@@ -0,0 +1,85 @@
+package com.exasol.releasedroid.adapter.github;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.logging.Logger;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+
+import com.exasol.releasedroid.usecases.repository.TagIndex;
+
+/**
+ * Persistent cache of the version tags of GitHub repositories.
+ * <p>
+ * The cache keeps one file per repository with the names of the version tags. Whenever the tags of a repository are
+ * listed, the cached tags are replaced with the full list, so deleted tags are removed from the index as well.
+ * </p>
+ */
+public class TagIndexCache {
+    private static final Logger LOGGER = Logger.getLogger(TagIndexCache.class.getName());
+    private final String directory;
+
+    /**
+     * Create a new instance of {@link TagIndexCache}.
+     *
+     * @param directory directory containing the cache files
+     */
+    public TagIndexCache(final String directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Get the cached tag index of a repository.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @return tag index; empty if the repository is not cached yet
+     */
+    public synchronized TagIndex getTagIndex(final String repositoryName) {
+        return new TagIndex(getTags(repositoryName));
+    }
+
+    private List<String> getTags(final String repositoryName) {
+        final Path cacheFile = getCacheFile(repositoryName);
+        final List<String> tags = new ArrayList<>();
+        if (Files.exists(cacheFile)) {
+            try {
+                final var names = new JSONArray(Files.readString(cacheFile));
+                for (int index = 0; index < names.length(); index++) {
+                    tags.add(names.getString(index));
+                }
+            } catch (final IOException | JSONException exception) {
+                LOGGER.warning(() -> "Ignoring the unreadable tag index cache file " + cacheFile + ".");
+                return List.of();
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Replace the cached tag index of a repository.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @param tags           names of all tags of the repository
+     * @return new tag index
+     */
+    public synchronized TagIndex replaceTags(final String repositoryName, final Collection<String> tags) {
+        final var tagIndex = new TagIndex(tags);
+        final Path cacheFile = getCacheFile(repositoryName);
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Files.writeString(cacheFile, new JSONArray(tagIndex.getTags()).toString());
+        } catch (final IOException exception) {
+            LOGGER.warning(() -> "Unable to update the tag index cache: " + exception.getMessage());
+        }
+        return tagIndex;
+    }
+
+    private Path getCacheFile(final String repositoryName) {
+        return Path.of(this.directory, URLEncoder.encode(repositoryName, StandardCharsets.UTF_8) + ".json");
+    }
+}
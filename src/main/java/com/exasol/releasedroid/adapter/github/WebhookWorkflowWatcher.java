@@ -0,0 +1,262 @@
+package com.exasol.releasedroid.adapter.github;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.logging.Logger;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import com.exasol.errorreporting.ExaError;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Watches a workflow run by listening to GitHub {@code workflow_run} webhook events.
+ * <p>
+ * A webhook event only wakes the watcher up: the conclusion is always confirmed by a request to the GitHub API. Events
+ * must be signed with the webhook secret, unsigned events are rejected. Until the run of a dispatch is known,
+ * completion events of all runs started after the dispatch are kept and wake the watcher up to look the run up. After
+ * that only the completion event of the tracked run wakes the watcher up. If an event gets lost, the watcher falls back
+ * to slow polling.
+ * </p>
+ */
+public class WebhookWorkflowWatcher extends PollingWorkflowWatcher {
+    private static final Logger LOGGER = Logger.getLogger(WebhookWorkflowWatcher.class.getName());
+    private static final String EVENT_HEADER = "X-GitHub-Event";
+    private static final String SIGNATURE_HEADER = "X-Hub-Signature-256";
+    private static final String SIGNATURE_PREFIX = "sha256=";
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+    private static final String WORKFLOW_RUN_EVENT = "workflow_run";
+    // GitHub API can lag behind the event a little, so we re-check quickly after we received it.
+    private static final Duration CONFIRMATION_DELAY = Duration.ofSeconds(5);
+    private final Map<WorkflowDispatch, PendingRun> pendingRuns = new ConcurrentHashMap<>();
+    private final SecretKeySpec secret;
+    private final HttpServer server;
+
+    /**
+     * Create a new instance of {@link WebhookWorkflowWatcher} and start listening for events.
+     *
+     * @param port   local port to listen on
+     * @param secret secret of the GitHub webhook
+     */
+    public WebhookWorkflowWatcher(final int port, final String secret) {
+        super(Duration.ofMinutes(1), Duration.ofMinutes(10));
+        if ((secret == null) || secret.isEmpty()) {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-RD-GH-40")
+                    .message("The secret of the GitHub webhook is missing.")
+                    .mitigation("Please set a secret for the webhook on GitHub and add it to the credentials.")
+                    .toString());
+        }
+        this.secret = new SecretKeySpec(secret.getBytes(UTF_8), SIGNATURE_ALGORITHM);
+        this.server = startServer(port);
+    }
+
+    private HttpServer startServer(final int port) {
+        try {
+            final HttpServer httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+            httpServer.createContext("/", this::handleExchange);
+            httpServer.start();
+            LOGGER.info(() -> "Listening for GitHub workflow events on port " + httpServer.getAddress().getPort()
+                    + ".");
+            return httpServer;
+        } catch (final IOException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("E-RD-GH-30")
+                    .message("Unable to start a listener for GitHub webhook events on port {{port}}.", port)
+                    .mitigation("Please make sure the port is free or use a different one.").toString(), exception);
+        }
+    }
+
+    /**
+     * Get the port this watcher listens on.
+     *
+     * @return port
+     */
+    public int getPort() {
+        return this.server.getAddress().getPort();
+    }
+
+    @Override
+    public String waitForConclusion(final WorkflowDispatch dispatch, final WorkflowRunProbe probe)
+            throws GitHubException {
+        this.pendingRuns.put(dispatch, new PendingRun(probe));
+        try {
+            return super.waitForConclusion(dispatch, probe);
+        } finally {
+            this.pendingRuns.remove(dispatch);
+        }
+    }
+
+    // After the completion event of the tracked run we only wait until the GitHub API reports the conclusion too.
+    @Override
+    protected void pause(final WorkflowDispatch dispatch, final Duration delay) throws GitHubException {
+        final PendingRun pendingRun = this.pendingRuns.get(dispatch);
+        if (pendingRun == null) {
+            super.pause(dispatch, delay);
+            return;
+        }
+        // Reset before the check, so that an event arriving in between still wakes us up.
+        final CompletableFuture<Void> wakeUp = pendingRun.resetWakeUp();
+        if (pendingRun.isCompleted()) {
+            super.pause(dispatch, delay.compareTo(CONFIRMATION_DELAY) < 0 ? delay : CONFIRMATION_DELAY);
+        } else {
+            awaitEvent(dispatch, wakeUp, delay);
+        }
+    }
+
+    private void awaitEvent(final WorkflowDispatch dispatch, final CompletableFuture<Void> wakeUp,
+            final Duration delay) throws GitHubException {
+        try {
+            wakeUp.get(delay.toMillis(), TimeUnit.MILLISECONDS);
+            LOGGER.fine(() -> "Received a completion event for " + dispatch + ". Checking the run state.");
+        } catch (final TimeoutException exception) {
+            LOGGER.fine(() -> "No completion event received yet for " + dispatch + ". Checking the run state.");
+        } catch (final ExecutionException exception) {
+            LOGGER.fine(() -> "Completion event could not be processed: " + exception.getMessage());
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw createInterruptedException(dispatch, exception);
+        }
+    }
+
+    private void handleExchange(final HttpExchange exchange) throws IOException {
+        try {
+            final byte[] body = readBody(exchange.getRequestBody());
+            if (!hasValidSignature(body, exchange.getRequestHeaders().getFirst(SIGNATURE_HEADER))) {
+                LOGGER.warning(() -> "Rejecting a GitHub webhook event without a valid signature from "
+                        + exchange.getRemoteAddress() + ".");
+                exchange.sendResponseHeaders(401, -1);
+                return;
+            }
+            if ("POST".equals(exchange.getRequestMethod())
+                    && WORKFLOW_RUN_EVENT.equals(exchange.getRequestHeaders().getFirst(EVENT_HEADER))) {
+                onWorkflowRunEvent(new String(body, UTF_8));
+            }
+            exchange.sendResponseHeaders(204, -1);
+        } catch (final JSONException | DateTimeException exception) {
+            LOGGER.warning(() -> "Ignoring a malformed GitHub webhook event: " + exception.getMessage());
+            exchange.sendResponseHeaders(400, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private byte[] readBody(final InputStream body) throws IOException {
+        try (body) {
+            return body.readAllBytes();
+        }
+    }
+
+    /**
+     * Check the signature GitHub computed for an event with the webhook secret.
+     *
+     * @param body      event body
+     * @param signature value of the {@code X-Hub-Signature-256} header
+     * @return true if the event is signed with the webhook secret
+     */
+    boolean hasValidSignature(final byte[] body, final String signature) {
+        if ((signature == null) || !signature.startsWith(SIGNATURE_PREFIX)) {
+            return false;
+        }
+        final byte[] expectedSignature = (SIGNATURE_PREFIX + toHex(sign(body))).getBytes(UTF_8);
+        return MessageDigest.isEqual(expectedSignature, signature.getBytes(UTF_8));
+    }
+
+    private byte[] sign(final byte[] body) {
+        try {
+            final Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(this.secret);
+            return mac.doFinal(body);
+        } catch (final GeneralSecurityException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("F-RD-GH-41")
+                    .message("Unable to compute the signature of a GitHub webhook event.").ticketMitigation()
+                    .toString(), exception);
+        }
+    }
+
+    private static String toHex(final byte[] bytes) {
+        final var hex = new StringBuilder(bytes.length * 2);
+        for (final byte value : bytes) {
+            hex.append(Character.forDigit((value >> 4) & 0xF, 16)).append(Character.forDigit(value & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Process a {@code workflow_run} event payload.
+     *
+     * @param payload event payload as JSON string
+     */
+    void onWorkflowRunEvent(final String payload) {
+        final var event = new JSONObject(payload);
+        if (!"completed".equals(event.optString("action"))) {
+            return;
+        }
+        final JSONObject workflowRun = event.getJSONObject("workflow_run");
+        final String repositoryName = event.getJSONObject("repository").getString("full_name");
+        final long runId = workflowRun.getLong("id");
+        final long workflowId = workflowRun.getLong("workflow_id");
+        final Instant createdAt = Instant.parse(workflowRun.getString("created_at"));
+        final String conclusion = workflowRun.optString("conclusion");
+        for (final Map.Entry<WorkflowDispatch, PendingRun> pending : this.pendingRuns.entrySet()) {
+            if (pending.getKey().isStartedBy(repositoryName, workflowId, createdAt)) {
+                pending.getValue().onCompletionEvent(runId, conclusion);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+    }
+
+    private static final class PendingRun {
+        private final WorkflowRunProbe probe;
+        private final CompletableFuture<String> completion = new CompletableFuture<>();
+        // Until the run is found, the run of an event can belong to another dispatch of the same workflow, so we keep
+        // the conclusions of all candidate runs and pick the right one as soon as the run id is known.
+        private final Map<Long, String> candidateConclusions = new ConcurrentHashMap<>();
+        private volatile CompletableFuture<Void> wakeUp = new CompletableFuture<>();
+
+        private PendingRun(final WorkflowRunProbe probe) {
+            this.probe = probe;
+        }
+
+        private void onCompletionEvent(final long runId, final String conclusion) {
+            final Optional<Long> knownRunId = this.probe.getKnownRunId();
+            if (knownRunId.isEmpty()) {
+                this.candidateConclusions.put(runId, conclusion);
+                this.wakeUp.complete(null);
+            } else if (knownRunId.get() == runId) {
+                this.completion.complete(conclusion);
+                this.wakeUp.complete(null);
+            }
+        }
+
+        private boolean isCompleted() {
+            if (!this.completion.isDone()) {
+                this.probe.getKnownRunId().map(this.candidateConclusions::get).ifPresent(this.completion::complete);
+            }
+            return this.completion.isDone();
+        }
+
+        private CompletableFuture<Void> resetWakeUp() {
+            this.wakeUp = new CompletableFuture<>();
+            return this.wakeUp;
+        }
+    }
+}
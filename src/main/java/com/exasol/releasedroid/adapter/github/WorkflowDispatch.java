@@ -0,0 +1,107 @@
+package com.exasol.releasedroid.adapter.github;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Represents a single dispatch of a GitHub workflow.
+ */
+public class WorkflowDispatch {
+    // Runs are created by GitHub, so we tolerate a small difference between the local and the GitHub clock.
+    private static final Duration CLOCK_SKEW_TOLERANCE = Duration.ofSeconds(10);
+    private final String repositoryName;
+    private final String branch;
+    private final long workflowId;
+    private final Instant dispatchedAt;
+
+    /**
+     * Create a new instance of {@link WorkflowDispatch}.
+     *
+     * @param repositoryName fully qualified name of the repository
+     * @param branch         branch the workflow was dispatched on
+     * @param workflowId     id of the workflow
+     * @param dispatchedAt   time of the dispatch
+     */
+    public WorkflowDispatch(final String repositoryName, final String branch, final long workflowId,
+            final Instant dispatchedAt) {
+        this.repositoryName = repositoryName;
+        this.branch = branch;
+        this.workflowId = workflowId;
+        this.dispatchedAt = dispatchedAt;
+    }
+
+    /**
+     * Get the repository name.
+     *
+     * @return fully qualified name of the repository
+     */
+    public String getRepositoryName() {
+        return this.repositoryName;
+    }
+
+    /**
+     * Get the branch.
+     *
+     * @return branch the workflow was dispatched on
+     */
+    public String getBranch() {
+        return this.branch;
+    }
+
+    /**
+     * Get the workflow id.
+     *
+     * @return id of the workflow
+     */
+    public long getWorkflowId() {
+        return this.workflowId;
+    }
+
+    /**
+     * Get the dispatch time.
+     *
+     * @return time of the dispatch
+     */
+    public Instant getDispatchedAt() {
+        return this.dispatchedAt;
+    }
+
+    /**
+     * Check if a workflow run could have been started by this dispatch.
+     *
+     * @param runRepositoryName fully qualified name of the run's repository
+     * @param runWorkflowId     workflow id of the run
+     * @param runCreatedAt      creation time of the run
+     * @return true if the run belongs to this dispatch
+     */
+    public boolean isStartedBy(final String runRepositoryName, final long runWorkflowId, final Instant runCreatedAt) {
+        return this.repositoryName.equalsIgnoreCase(runRepositoryName) && (this.workflowId == runWorkflowId)
+                && isCreatedAfterDispatch(runCreatedAt);
+    }
+
+    /**
+     * Check if a workflow run was created after this dispatch.
+     *
+     * @param runCreatedAt creation time of the run
+     * @return true if the run was created after this dispatch
+     */
+    public boolean isCreatedAfterDispatch(final Instant runCreatedAt) {
+        return !runCreatedAt.isBefore(this.dispatchedAt.minus(CLOCK_SKEW_TOLERANCE));
+    }
+
+    /**
+     * Check if this dispatch happened longer ago than the given duration.
+     *
+     * @param duration maximum age
+     * @return true if the dispatch is older than the duration
+     */
+    public boolean isOlderThan(final Duration duration) {
+        return this.dispatchedAt.plus(duration).isBefore(Instant.now());
+    }
+
+    @Override
+    public String toString() {
+        return "WorkflowDispatch{" + "repositoryName='" + this.repositoryName + '\'' + ", branch='" + this.branch
+                + '\'' + ", workflowId=" + this.workflowId + ", dispatchedAt=" + this.dispatchedAt + '}';
+    }
+}
@@ -0,0 +1,26 @@
+package com.exasol.releasedroid.adapter.github;
+
+import java.util.Optional;
+
+/**
+ * Checks the state of a single workflow run on GitHub.
+ */
+@FunctionalInterface
+public interface WorkflowRunProbe {
+    /**
+     * Get the conclusion of the workflow run.
+     *
+     * @return conclusion of the workflow run or empty optional if the run is not completed yet
+     * @throws GitHubException when some problems occur
+     */
+    public Optional<String> getConclusion() throws GitHubException;
+
+    /**
+     * Get the id of the workflow run if it was found already.
+     *
+     * @return id of the workflow run or empty optional if the run is not known yet
+     */
+    public default Optional<Long> getKnownRunId() {
+        return Optional.empty();
+    }
+}
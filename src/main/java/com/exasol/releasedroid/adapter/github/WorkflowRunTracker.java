@@ -0,0 +1,151 @@
+package com.exasol.releasedroid.adapter.github;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+
+import org.kohsuke.github.*;
+
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * Tracks the workflow run started by a single dispatch.
+ * <p>
+ * The run is looked up once among the runs created after the dispatch. After that it is fetched directly by its id.
+ * </p>
+ */
+class WorkflowRunTracker implements WorkflowRunProbe {
+    // GitHub usually creates a run within a few seconds after the dispatch.
+    private static final Duration RUN_APPEARANCE_TIMEOUT = Duration.ofMinutes(5);
+    private static final int RUNS_PAGE_SIZE = 10;
+    private final GHRepository repository;
+    private final WorkflowDispatch dispatch;
+    private final LongConsumer runListener;
+    // Read by webhook listener threads as well.
+    private volatile long runId;
+    private boolean runMissing = false;
+
+    /**
+     * Create a new instance of {@link WorkflowRunTracker}.
+     *
+     * @param repository repository the workflow was dispatched on
+     * @param dispatch   dispatched workflow
+     */
+    WorkflowRunTracker(final GHRepository repository, final WorkflowDispatch dispatch) {
+        this(repository, dispatch, -1, runId -> {
+        });
+    }
+
+    /**
+     * Create a new instance of {@link WorkflowRunTracker}.
+     *
+     * @param repository  repository the workflow was dispatched on
+     * @param dispatch    dispatched workflow
+     * @param runId       id of the run if it is already known or -1
+     * @param runListener listener notified with the run id when the run is found
+     */
+    WorkflowRunTracker(final GHRepository repository, final WorkflowDispatch dispatch, final long runId,
+            final LongConsumer runListener) {
+        this.repository = repository;
+        this.dispatch = dispatch;
+        this.runId = runId;
+        this.runListener = runListener;
+    }
+
+    @Override
+    public Optional<String> getConclusion() throws GitHubException {
+        if (this.runId == -1) {
+            final Optional<GHWorkflowRun> dispatchedRun = findDispatchedRun();
+            if (dispatchedRun.isEmpty()) {
+                validateRunAppearedInTime();
+                return Optional.empty();
+            }
+            this.runId = dispatchedRun.get().getId();
+            this.runListener.accept(this.runId);
+        }
+        final GHWorkflowRun workflowRun = getWorkflowRunById(this.runId);
+        return Optional.ofNullable(workflowRun.getConclusion()).map(Object::toString);
+    }
+
+    // Runs are listed newest first, so we can stop at the first run created before the dispatch instead of paging
+    // through the whole run history of the repository.
+    private Optional<GHWorkflowRun> findDispatchedRun() throws GitHubException {
+        final PagedIterable<GHWorkflowRun> runs = this.repository.queryWorkflowRuns() //
+                .branch(this.dispatch.getBranch()) //
+                .event(GHEvent.WORKFLOW_DISPATCH) //
+                .list().withPageSize(RUNS_PAGE_SIZE);
+        GHWorkflowRun dispatchedRun = null;
+        for (final GHWorkflowRun run : runs) {
+            if (!this.dispatch.isCreatedAfterDispatch(getCreatedAt(run))) {
+                break;
+            }
+            if (run.getWorkflowId() == this.dispatch.getWorkflowId()) {
+                dispatchedRun = run;
+            }
+        }
+        return Optional.ofNullable(dispatchedRun);
+    }
+
+    private Instant getCreatedAt(final GHWorkflowRun run) throws GitHubException {
+        try {
+            return run.getCreatedAt().toInstant();
+        } catch (final IOException exception) {
+            throw new GitHubException(exception);
+        }
+    }
+
+    private void validateRunAppearedInTime() throws GitHubException {
+        if (Instant.now().isAfter(this.dispatch.getDispatchedAt().plus(RUN_APPEARANCE_TIMEOUT))) {
+            this.runMissing = true;
+            throw new GitHubException(ExaError.messageBuilder("E-RD-GH-31") //
+                    .message("GitHub did not start a run of the workflow with id {{workflowId}} "
+                            + "within {{timeout}} minutes after the dispatch.") //
+                    .parameter("workflowId", this.dispatch.getWorkflowId()) //
+                    .parameter("timeout", RUN_APPEARANCE_TIMEOUT.toMinutes()) //
+                    .mitigation("Please check the workflow on the GitHub.").toString());
+        }
+    }
+
+    private GHWorkflowRun getWorkflowRunById(final long workflowRunId) throws GitHubException {
+        try {
+            return this.repository.getWorkflowRun(workflowRunId);
+        } catch (final IOException exception) {
+            throw new GitHubException(ExaError.messageBuilder("E-RD-GH-5") //
+                    .message("GitHub workflow run with id {{id}} not found") //
+                    .parameter("id", workflowRunId) //
+                    .toString(), exception);
+        }
+    }
+
+    /**
+     * Check if GitHub did not start a run for the dispatch in time.
+     *
+     * @return true if the dispatch did not start a run
+     */
+    boolean isRunMissing() {
+        return this.runMissing;
+    }
+
+    @Override
+    public Optional<Long> getKnownRunId() {
+        final long knownRunId = this.runId;
+        return knownRunId == -1 ? Optional.empty() : Optional.of(knownRunId);
+    }
+
+    /**
+     * Get the id of the workflow run started by the dispatch.
+     *
+     * @return id of the workflow run
+     */
+    long getRunId() {
+        if (this.runId == -1) {
+            throw new IllegalStateException(ExaError.messageBuilder("F-RD-GH-32")
+                    .message("The run of the workflow with id {{workflowId}} was not found yet.")
+                    .parameter("workflowId", this.dispatch.getWorkflowId()) //
+                    .ticketMitigation().toString());
+        }
+        return this.runId;
+    }
+}
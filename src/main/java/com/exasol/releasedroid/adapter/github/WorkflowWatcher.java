@@ -0,0 +1,21 @@
+package com.exasol.releasedroid.adapter.github;
+
+/**
+ * Waits for a dispatched GitHub workflow to complete.
+ */
+public interface WorkflowWatcher extends AutoCloseable {
+    /**
+     * Wait until the run started by the given dispatch is completed.
+     *
+     * @param dispatch dispatched workflow
+     * @param probe    probe checking the state of the workflow run
+     * @return conclusion of the workflow run
+     * @throws GitHubException when the run does not complete in time or some problems occur
+     */
+    public String waitForConclusion(WorkflowDispatch dispatch, WorkflowRunProbe probe) throws GitHubException;
+
+    @Override
+    default void close() {
+        // nothing to release by default
+    }
+}
@@ -3,12 +3,16 @@ package com.exasol.releasedroid.adapter.jira;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
 
 import com.atlassian.jira.rest.client.api.JiraRestClient;
 import com.atlassian.jira.rest.client.api.JiraRestClientFactory;
-import com.atlassian.jira.rest.client.api.domain.BasicIssue;
-import com.atlassian.jira.rest.client.api.domain.IssueType;
-import com.atlassian.jira.rest.client.api.domain.Project;
+import com.atlassian.jira.rest.client.api.domain.*;
 import com.atlassian.jira.rest.client.api.domain.input.IssueInput;
 import com.atlassian.jira.rest.client.api.domain.input.IssueInputBuilder;
 import com.atlassian.jira.rest.client.internal.async.AsynchronousJiraRestClientFactory;
@@ -17,47 +21,166 @@ import com.exasol.releasedroid.usecases.PropertyReader;
 
 /**
  * An adapter to communicate with Jira via API.
+ * <p>
+ * The adapter keeps one Jira client and the issue type ids of the projects for its lifetime. With a batch window,
+ * tickets requested by parallel releases within the window are created with one bulk request.
+ * </p>
  */
-public class JiraAPIAdapter implements JiraGateway {
+public class JiraAPIAdapter implements JiraGateway, AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(JiraAPIAdapter.class.getName());
     private static final String JIRA_URL = "https://www.exasol.com/support";
     private static final String JIRA_USERNAME_KEY = "jira_username";
     private static final String JIRA_PASSWORD_KEY = "jira_password";
-    private final PropertyReader propertyReader;
+    private final Map<String, Map<String, Long>> issueTypeIds = new ConcurrentHashMap<>();
+    private final List<TicketRequest> pendingRequests = new ArrayList<>();
+    private final JiraClientFactory clientFactory;
+    private final Duration batchWindow;
+    private JiraRestClient client;
 
     /**
-     * Create a new instance of {@link JiraAPIAdapter}.
+     * Create a new instance of {@link JiraAPIAdapter} that creates each ticket with a separate request.
      *
      * @param propertyReader property reader
      */
     public JiraAPIAdapter(final PropertyReader propertyReader) {
-        this.propertyReader = propertyReader;
+        this(propertyReader, Duration.ZERO);
+    }
+
+    /**
+     * Create a new instance of {@link JiraAPIAdapter} that collects tickets for bulk creation.
+     *
+     * @param propertyReader property reader
+     * @param batchWindow    time to wait for further tickets before sending a bulk request
+     */
+    public JiraAPIAdapter(final PropertyReader propertyReader, final Duration batchWindow) {
+        this(() -> createJiraClient(propertyReader), batchWindow);
+    }
+
+    JiraAPIAdapter(final JiraClientFactory clientFactory, final Duration batchWindow) {
+        this.clientFactory = clientFactory;
+        this.batchWindow = batchWindow;
     }
 
     @Override
     public String createTicket(final String projectName, final String issueTypeName, final String summary,
             final String description) throws JiraException {
-        try (final JiraRestClient client = createJiraClient()) {
-            final Project project = getProject(projectName, client);
-            final IssueType issueType = getIssueType(project, issueTypeName);
-            final IssueInput issueInput = new IssueInputBuilder() //
-                    .setProject(project) //
-                    .setIssueType(issueType) //
-                    .setSummary(summary) //
-                    .setDescription(description) //
-                    .build();
-            final BasicIssue issue = createIssue(client, issueInput);
-            return JIRA_URL + "/browse/" + issue.getKey();
-        } catch (final IOException exception) {
-            throw new JiraException(
+        final var request = new TicketRequest(projectName, issueTypeName, summary, description);
+        final boolean sendsBatch;
+        synchronized (this.pendingRequests) {
+            this.pendingRequests.add(request);
+            sendsBatch = this.pendingRequests.size() == 1;
+        }
+        if (sendsBatch) {
+            waitForBatchWindow();
+            sendBatch(takePendingRequests());
+        }
+        return awaitTicket(request);
+    }
+
+    private void waitForBatchWindow() {
+        if (!this.batchWindow.isZero()) {
+            try {
+                Thread.sleep(this.batchWindow.toMillis());
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private List<TicketRequest> takePendingRequests() {
+        synchronized (this.pendingRequests) {
+            final List<TicketRequest> requests = new ArrayList<>(this.pendingRequests);
+            this.pendingRequests.clear();
+            return requests;
+        }
+    }
+
+    private String awaitTicket(final TicketRequest request) throws JiraException {
+        try {
+            return request.link.join();
+        } catch (final CompletionException exception) {
+            if (exception.getCause() instanceof JiraException) {
+                throw (JiraException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private void sendBatch(final List<TicketRequest> requests) {
+        try {
+            final JiraRestClient jiraClient = getClient();
+            final List<IssueInput> issueInputs = new ArrayList<>();
+            for (final TicketRequest request : requests) {
+                issueInputs.add(createIssueInput(jiraClient, request));
+            }
+            if (requests.size() == 1) {
+                requests.get(0).complete(jiraClient.getIssueClient().createIssue(issueInputs.get(0)).claim());
+            } else {
+                LOGGER.fine(() -> "Creating " + requests.size() + " Jira tickets with one request.");
+                completeBulkRequests(requests, jiraClient.getIssueClient().createIssues(issueInputs).claim());
+            }
+        } catch (final JiraException exception) {
+            requests.forEach(request -> request.link.completeExceptionally(exception));
+        } catch (final RuntimeException exception) {
+            final var jiraException = new JiraException(
                     ExaError.messageBuilder("E-RD-JIRA-4").message("Cannot create a Jira ticket.")
                             .mitigation("Please make sure you provided valid credentials.").toString(),
                     exception);
+            requests.forEach(request -> request.link.completeExceptionally(jiraException));
+        }
+    }
+
+    private void completeBulkRequests(final List<TicketRequest> requests,
+            final BulkOperationResult<BasicIssue> result) {
+        final Map<Integer, BulkOperationErrorResult> errors = new HashMap<>();
+        for (final BulkOperationErrorResult error : result.getErrors()) {
+            errors.put(error.getFailedElementNumber(), error);
+        }
+        final Iterator<BasicIssue> createdIssues = result.getIssues().iterator();
+        for (int index = 0; index < requests.size(); index++) {
+            final TicketRequest request = requests.get(index);
+            if (errors.containsKey(index)) {
+                request.link.completeExceptionally(new JiraException(ExaError.messageBuilder("E-RD-JIRA-5")
+                        .message("Cannot create the Jira ticket {{summary}}: {{errors|uq}}.", request.summary,
+                                errors.get(index).getElementErrors().getErrorMessages())
+                        .toString()));
+            } else {
+                request.complete(createdIssues.next());
+            }
         }
     }
 
-    private JiraRestClient createJiraClient() throws JiraException {
-        final String username = this.propertyReader.readProperty(JIRA_USERNAME_KEY);
-        final String password = this.propertyReader.readProperty(JIRA_PASSWORD_KEY);
+    private IssueInput createIssueInput(final JiraRestClient jiraClient, final TicketRequest request) {
+        final Long issueTypeId = getIssueTypeIds(jiraClient, request.projectName).get(request.issueTypeName);
+        return new IssueInputBuilder() //
+                .setProjectKey(request.projectName) //
+                .setIssueTypeId(issueTypeId) //
+                .setSummary(request.summary) //
+                .setDescription(request.description) //
+                .build();
+    }
+
+    private Map<String, Long> getIssueTypeIds(final JiraRestClient jiraClient, final String projectName) {
+        return this.issueTypeIds.computeIfAbsent(projectName, name -> {
+            final Project project = jiraClient.getProjectClient().getProject(name).claim();
+            final Map<String, Long> ids = new HashMap<>();
+            for (final IssueType issueType : project.getIssueTypes()) {
+                ids.put(issueType.getName(), issueType.getId());
+            }
+            return ids;
+        });
+    }
+
+    private synchronized JiraRestClient getClient() throws JiraException {
+        if (this.client == null) {
+            this.client = this.clientFactory.createClient();
+        }
+        return this.client;
+    }
+
+    private static JiraRestClient createJiraClient(final PropertyReader propertyReader) throws JiraException {
+        final String username = propertyReader.readProperty(JIRA_USERNAME_KEY);
+        final String password = propertyReader.readProperty(JIRA_PASSWORD_KEY);
         final JiraRestClientFactory factory = new AsynchronousJiraRestClientFactory();
         try {
             return factory.createWithBasicHttpAuthentication(new URI(JIRA_URL), username, password);
@@ -68,20 +191,39 @@ public class JiraAPIAdapter implements JiraGateway {
         }
     }
 
-    private Project getProject(final String projectName, final JiraRestClient client) {
-        return client.getProjectClient().getProject(projectName).claim();
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.client != null) {
+            this.client.close();
+            this.client = null;
+        }
     }
 
-    private IssueType getIssueType(final Project project, final String issueTypeName) {
-        for (final IssueType issueType : project.getIssueTypes()) {
-            if (issueType.getName().equals(issueTypeName)) {
-                return issueType;
-            }
-        }
-        return null;
+    /**
+     * Creates Jira clients.
+     */
+    @FunctionalInterface
+    interface JiraClientFactory {
+        JiraRestClient createClient() throws JiraException;
     }
 
-    private BasicIssue createIssue(final JiraRestClient client, final IssueInput issueInput) {
-        return client.getIssueClient().createIssue(issueInput).claim();
+    private static final class TicketRequest {
+        private final String projectName;
+        private final String issueTypeName;
+        private final String summary;
+        private final String description;
+        private final CompletableFuture<String> link = new CompletableFuture<>();
+
+        private TicketRequest(final String projectName, final String issueTypeName, final String summary,
+                final String description) {
+            this.projectName = projectName;
+            this.issueTypeName = issueTypeName;
+            this.summary = summary;
+            this.description = description;
+        }
+
+        private void complete(final BasicIssue issue) {
+            this.link.complete(JIRA_URL + "/browse/" + issue.getKey());
+        }
     }
-}
\ No newline at end of file
+}
@@ -15,4 +15,13 @@ public class JiraException extends Exception {
     public JiraException(final String message, final Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Create a new instance of {@link JiraException}.
+     *
+     * @param message message
+     */
+    public JiraException(final String message) {
+        super(message);
+    }
 }
\ No newline at end of file
@@ -1,7 +1,5 @@
 package com.exasol.releasedroid.adapter.jira;
 
-import static com.exasol.releasedroid.usecases.ReleaseDroidConstants.RELEASE_DROID_STATE_DIRECTORY;
-
 import java.util.Map;
 
 import com.exasol.errorreporting.ExaError;
@@ -16,16 +14,18 @@ import com.exasol.releasedroid.usecases.validate.ReleasePlatformValidator;
  * A validator for Jira platform.
  */
 public class JiraPlatformValidator implements ReleasePlatformValidator {
-    private final ReleaseState releaseState = new ReleaseState(RELEASE_DROID_STATE_DIRECTORY);
+    private final ReleaseState releaseState;
     private final Repository repository;
 
     /**
      * Create a new instance of {@link JiraPlatformValidator}.
      *
-     * @param repository repository
+     * @param repository   repository
+     * @param releaseState release state
      */
-    public JiraPlatformValidator(final Repository repository) {
+    public JiraPlatformValidator(final Repository repository, final ReleaseState releaseState) {
         this.repository = repository;
+        this.releaseState = releaseState;
     }
 
     @Override
@@ -37,6 +37,12 @@ public class JiraPlatformValidator implements ReleasePlatformValidator {
         return report;
     }
 
+    // The community release is made on the platform and recorded in the release state.
+    @Override
+    public boolean readsExternalState() {
+        return true;
+    }
+
     protected Report validateCommunityRelease(final Map<PlatformName, String> progress) {
         final var report = ValidationReport.create();
         final Report communityReleaseReport = validateCommunityReleaseExists(progress);
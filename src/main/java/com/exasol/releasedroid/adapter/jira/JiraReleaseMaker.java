@@ -1,7 +1,6 @@
 package com.exasol.releasedroid.adapter.jira;
 
 import static com.exasol.releasedroid.usecases.ReleaseDroidConstants.LINE_SEPARATOR;
-import static com.exasol.releasedroid.usecases.ReleaseDroidConstants.RELEASE_DROID_STATE_DIRECTORY;
 
 import java.util.Map;
 import java.util.logging.Logger;
@@ -17,16 +16,18 @@ import com.exasol.releasedroid.usecases.request.PlatformName;
  */
 public class JiraReleaseMaker implements ReleaseMaker {
     private static final Logger LOGGER = Logger.getLogger(JiraReleaseMaker.class.getName());
-    private final ReleaseState releaseState = new ReleaseState(RELEASE_DROID_STATE_DIRECTORY);
+    private final ReleaseState releaseState;
     private final JiraGateway jiraGateway;
 
     /**
      * Create a new instance of {@link JiraReleaseMaker}.
      *
-     * @param jiraGateway jira gateway
+     * @param jiraGateway  jira gateway
+     * @param releaseState release state
      */
-    public JiraReleaseMaker(final JiraGateway jiraGateway) {
+    public JiraReleaseMaker(final JiraGateway jiraGateway, final ReleaseState releaseState) {
         this.jiraGateway = jiraGateway;
+        this.releaseState = releaseState;
     }
 
     @Override
@@ -1,7 +1,6 @@
 package com.exasol.releasedroid.adapter.maven;
 
 import static com.exasol.releasedroid.adapter.RepositoryValidatorHelper.validateFileExists;
-import static com.exasol.releasedroid.adapter.RepositoryValidatorHelper.validateRepositories;
 
 import com.exasol.errorreporting.ExaError;
 import com.exasol.releasedroid.usecases.report.Report;
@@ -28,12 +27,16 @@ public class MavenPlatformValidator implements ReleasePlatformValidator {
     // [impl->dsn~validate-maven-release-workflow-exists~1]
     public Report validate() {
         final var report = ValidationReport.create();
-        report.merge(validateRepositories(this.repository.getRepositoryValidators()));
         report.merge(validateFileExists(this.repository, MAVEN_WORKFLOW_PATH, "Workflow for a Maven release."));
         report.merge(validatePom(this.repository.getMavenPom()));
         return report;
     }
 
+    @Override
+    public boolean requiresRepositoryValidation() {
+        return true;
+    }
+
     private Report validatePom(final MavenPom mavenPom) {
         final var report = ValidationReport.create();
         report.merge(validateMavenPomPart(mavenPom.hasProjectDescription(), "Project description"));
@@ -5,8 +5,9 @@ import java.util.logging.Logger;
 import com.exasol.releasedroid.adapter.github.GitHubException;
 import com.exasol.releasedroid.adapter.github.GitHubGateway;
 import com.exasol.releasedroid.usecases.exception.ReleaseException;
-import com.exasol.releasedroid.usecases.release.ReleaseMaker;
+import com.exasol.releasedroid.usecases.release.*;
 import com.exasol.releasedroid.usecases.repository.Repository;
+import com.exasol.releasedroid.usecases.request.PlatformName;
 
 /**
  * This class is responsible for releases on Maven Central.
@@ -15,14 +16,17 @@ public class MavenReleaseMaker implements ReleaseMaker {
     private static final Logger LOGGER = Logger.getLogger(MavenReleaseMaker.class.getName());
     private static final String RELEASE_ON_MAVEN_CENTRAL_WORKFLOW = "release_droid_release_on_maven_central.yml";
     private final GitHubGateway githubGateway;
+    private final ReleaseState releaseState;
 
     /**
      * Create a new instance of {@link MavenReleaseMaker}.
      *
      * @param githubGateway instance of {@link GitHubGateway}
+     * @param releaseState  release state recording the started release workflow
      */
-    public MavenReleaseMaker(final GitHubGateway githubGateway) {
+    public MavenReleaseMaker(final GitHubGateway githubGateway, final ReleaseState releaseState) {
         this.githubGateway = githubGateway;
+        this.releaseState = releaseState;
     }
 
     @Override
@@ -30,7 +34,9 @@ public class MavenReleaseMaker implements ReleaseMaker {
     public String makeRelease(final Repository repository) throws ReleaseException {
         LOGGER.fine("Releasing on Maven.");
         try {
-            this.githubGateway.executeWorkflow(repository.getName(), RELEASE_ON_MAVEN_CENTRAL_WORKFLOW);
+            final ReleaseCheckpoints checkpoints = this.releaseState.getCheckpoints(repository.getName(),
+                    repository.getVersion(), PlatformName.MAVEN);
+            this.githubGateway.executeWorkflow(repository.getName(), RELEASE_ON_MAVEN_CENTRAL_WORKFLOW, checkpoints);
             return "";
         } catch (final GitHubException exception) {
             throw new ReleaseException(exception);
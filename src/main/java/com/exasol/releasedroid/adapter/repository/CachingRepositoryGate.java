@@ -0,0 +1,73 @@
+package com.exasol.releasedroid.adapter.repository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.exasol.releasedroid.usecases.repository.RepositoryGate;
+import com.exasol.releasedroid.usecases.repository.TagIndex;
+
+/**
+ * Repository gate that keeps the file contents and the branch name of another gate for the rest of the run.
+ * <p>
+ * It is meant for gates without a cache of their own, like the {@link LocalRepositoryGate}. Updating a file through
+ * this gate drops the cached content of the file.
+ * </p>
+ */
+public class CachingRepositoryGate implements RepositoryGate {
+    private final Map<String, String> fileContents = new ConcurrentHashMap<>();
+    private final RepositoryGate repositoryGate;
+    private String branchName;
+
+    /**
+     * Create a new instance of {@link CachingRepositoryGate}.
+     *
+     * @param repositoryGate repository gate to read from
+     */
+    public CachingRepositoryGate(final RepositoryGate repositoryGate) {
+        this.repositoryGate = repositoryGate;
+    }
+
+    @Override
+    public String getSingleFileContentAsString(final String filePath) {
+        return this.fileContents.computeIfAbsent(filePath, this.repositoryGate::getSingleFileContentAsString);
+    }
+
+    @Override
+    public Map<String, String> getFileHashes(final Set<String> filePaths) {
+        return this.repositoryGate.getFileHashes(filePaths);
+    }
+
+    @Override
+    public void updateFileContent(final String filePath, final String newContent, final String commitMessage) {
+        this.repositoryGate.updateFileContent(filePath, newContent, commitMessage);
+        this.fileContents.remove(filePath);
+    }
+
+    @Override
+    public boolean isOnDefaultBranch() {
+        return this.repositoryGate.isOnDefaultBranch();
+    }
+
+    @Override
+    public synchronized String getBranchName() {
+        if (this.branchName == null) {
+            this.branchName = this.repositoryGate.getBranchName();
+        }
+        return this.branchName;
+    }
+
+    @Override
+    public Optional<String> getLatestTag() {
+        return this.repositoryGate.getLatestTag();
+    }
+
+    @Override
+    public TagIndex getTagIndex() {
+        return this.repositoryGate.getTagIndex();
+    }
+
+    @Override
+    public String getName() {
+        return this.repositoryGate.getName();
+    }
+}
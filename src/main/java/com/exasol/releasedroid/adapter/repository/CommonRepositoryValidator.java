@@ -6,7 +6,6 @@ import static com.exasol.releasedroid.adapter.github.GitHubConstants.PRINT_QUICK
 import static com.exasol.releasedroid.usecases.ReleaseDroidConstants.VERSION_REGEX;
 
 import java.time.LocalDate;
-import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -16,6 +15,7 @@ import com.exasol.releasedroid.usecases.report.Report;
 import com.exasol.releasedroid.usecases.report.ValidationReport;
 import com.exasol.releasedroid.usecases.repository.ReleaseLetter;
 import com.exasol.releasedroid.usecases.repository.Repository;
+import com.exasol.releasedroid.usecases.repository.TagIndex;
 import com.exasol.releasedroid.usecases.validate.RepositoryValidator;
 
 /**
@@ -84,9 +84,9 @@ public class CommonRepositoryValidator implements RepositoryValidator {
 
     private Report validateIfNewReleaseTagValid(final String newVersion) {
         final var report = ValidationReport.create();
-        final Optional<String> latestReleaseTag = this.repository.getLatestTag();
-        if (latestReleaseTag.isPresent()) {
-            report.merge(validateNewVersionWithPreviousTag(newVersion, latestReleaseTag.get()));
+        final TagIndex tagIndex = this.repository.getTagIndex();
+        if (tagIndex.getLatest().isPresent()) {
+            report.merge(validateNewVersionWithPreviousTag(newVersion, tagIndex));
         } else {
             report.addSuccessfulResult("A new tag. This is the first release.");
         }
@@ -95,12 +95,12 @@ public class CommonRepositoryValidator implements RepositoryValidator {
 
     // [impl->dsn~validate-release-version-format~1]
     // [impl->dsn~validate-release-version-increased-correctly~1]
-    private Report validateNewVersionWithPreviousTag(final String newTag, final String latestTag) {
+    private Report validateNewVersionWithPreviousTag(final String newTag, final TagIndex tagIndex) {
         final var report = ValidationReport.create();
-        final Set<String> possibleVersions = getPossibleVersions(latestTag);
-        if (possibleVersions.contains(newTag)) {
+        if (tagIndex.isValidSuccessor(newTag)) {
             report.addSuccessfulResult("A new tag.");
         } else {
+            final Set<String> possibleVersions = tagIndex.getPossibleSuccessors();
             report.addFailedResult(ExaError.messageBuilder("E-RD-REP-23")
                     .message(
                             "The new version {{newTag}} does not fit the versioning rules. "
@@ -111,18 +111,6 @@ public class CommonRepositoryValidator implements RepositoryValidator {
         return report;
     }
 
-    private Set<String> getPossibleVersions(final String previousVersion) {
-        final Set<String> versions = new HashSet<>();
-        final String[] versionParts = previousVersion.split("\\.");
-        final int major = Integer.parseInt(versionParts[0]);
-        final int minor = Integer.parseInt(versionParts[1]);
-        final int fix = Integer.parseInt(versionParts[2]);
-        versions.add((major + 1) + ".0.0");
-        versions.add(major + "." + (minor + 1) + ".0");
-        versions.add(major + "." + minor + "." + (fix + 1));
-        return versions;
-    }
-
     // [impl->dsn~validate-changelog~1]
     private Report validateChangelog(final String changelog, final String version) {
         LOGGER.fine("Validating 'changelog.md' file.");
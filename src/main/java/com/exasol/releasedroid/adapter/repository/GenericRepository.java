@@ -5,10 +5,11 @@ import java.util.Map;
 
 import com.exasol.errorreporting.ExaError;
 import com.exasol.releasedroid.adapter.communityportal.CommunityPlatformValidator;
-import com.exasol.releasedroid.adapter.github.GitHubGateway;
+import com.exasol.releasedroid.adapter.github.AsyncGitHubGateway;
 import com.exasol.releasedroid.adapter.github.GitHubPlatformValidator;
 import com.exasol.releasedroid.adapter.jira.JiraPlatformValidator;
 import com.exasol.releasedroid.usecases.exception.RepositoryException;
+import com.exasol.releasedroid.usecases.release.ReleaseState;
 import com.exasol.releasedroid.usecases.repository.BaseRepository;
 import com.exasol.releasedroid.usecases.repository.RepositoryGate;
 import com.exasol.releasedroid.usecases.request.PlatformName;
@@ -28,18 +29,20 @@ public class GenericRepository extends BaseRepository {
      *
      * @param repositoryGate repository gate
      * @param githubGateway  github gateway
+     * @param releaseState   release state
      */
-    public GenericRepository(final RepositoryGate repositoryGate, final GitHubGateway githubGateway) {
+    public GenericRepository(final RepositoryGate repositoryGate, final AsyncGitHubGateway githubGateway,
+            final ReleaseState releaseState) {
         super(repositoryGate);
         this.platformValidators = Map.of( //
                 PlatformName.GITHUB, new GitHubPlatformValidator(this, githubGateway), //
                 PlatformName.COMMUNITY, new CommunityPlatformValidator(this), //
-                PlatformName.JIRA, new JiraPlatformValidator(this) //
+                PlatformName.JIRA, new JiraPlatformValidator(this, releaseState) //
         );
     }
 
     @Override
-    public String getVersion() {
+    protected String readVersion() {
         final String changelogFile = super.getChangelogFile();
         final int from = changelogFile.indexOf('[');
         final int to = changelogFile.indexOf(']');
@@ -6,11 +6,12 @@ import java.util.Map;
 
 import com.exasol.errorreporting.ExaError;
 import com.exasol.releasedroid.adapter.communityportal.CommunityPlatformValidator;
-import com.exasol.releasedroid.adapter.github.GitHubGateway;
+import com.exasol.releasedroid.adapter.github.AsyncGitHubGateway;
 import com.exasol.releasedroid.adapter.github.GitHubPlatformValidator;
 import com.exasol.releasedroid.adapter.jira.JiraPlatformValidator;
 import com.exasol.releasedroid.adapter.maven.*;
 import com.exasol.releasedroid.usecases.exception.RepositoryException;
+import com.exasol.releasedroid.usecases.release.ReleaseState;
 import com.exasol.releasedroid.usecases.repository.BaseRepository;
 import com.exasol.releasedroid.usecases.repository.RepositoryGate;
 import com.exasol.releasedroid.usecases.request.PlatformName;
@@ -27,13 +28,14 @@ public class JavaRepository extends BaseRepository implements MavenRepository {
     private final Map<PlatformName, ReleasePlatformValidator> platformValidators;
     private MavenPom pom;
 
-    public JavaRepository(final RepositoryGate repositoryGate, final GitHubGateway githubGateway) {
+    public JavaRepository(final RepositoryGate repositoryGate, final AsyncGitHubGateway githubGateway,
+            final ReleaseState releaseState) {
         super(repositoryGate);
         this.platformValidators = Map.of( //
                 PlatformName.GITHUB, new GitHubPlatformValidator(this, githubGateway), //
                 PlatformName.MAVEN, new MavenPlatformValidator(this), //
                 PlatformName.COMMUNITY, new CommunityPlatformValidator(this), //
-                PlatformName.JIRA, new JiraPlatformValidator(this) //
+                PlatformName.JIRA, new JiraPlatformValidator(this, releaseState) //
         );
     }
 
@@ -43,7 +45,7 @@ public class JavaRepository extends BaseRepository implements MavenRepository {
      * @return instance of {@link MavenPom}
      */
     @Override
-    public MavenPom getMavenPom() {
+    public synchronized MavenPom getMavenPom() {
         if (this.pom == null) {
             this.pom = parsePom();
         }
@@ -73,7 +75,7 @@ public class JavaRepository extends BaseRepository implements MavenRepository {
     }
 
     @Override
-    public String getVersion() {
+    protected String readVersion() {
         if (getMavenPom().hasVersion()) {
             return getMavenPom().getVersion();
         } else {
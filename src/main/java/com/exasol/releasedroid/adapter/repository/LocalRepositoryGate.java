@@ -1,5 +1,7 @@
 package com.exasol.releasedroid.adapter.repository;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.jgit.lib.Constants.OBJ_BLOB;
 import static org.eclipse.jgit.lib.Constants.R_TAGS;
 
 import java.io.File;
@@ -7,37 +9,70 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.*;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
 
 import com.exasol.errorreporting.ExaError;
 import com.exasol.releasedroid.usecases.exception.RepositoryException;
 import com.exasol.releasedroid.usecases.repository.RepositoryGate;
+import com.exasol.releasedroid.usecases.repository.TagIndex;
 
 /**
  * This class represents a local repository.
+ * <p>
+ * Without a revision the files are read from the working tree. With a revision (a branch, a tag or a commit) they are
+ * read directly from the git object database, so any revision can be validated without a checkout. The git repository
+ * is opened for each access and closed right after it, so the gate keeps no files open. Only the resolved tree of the
+ * revision is kept.
+ * </p>
  */
 // [impl->dsn~local-repository~1]
 public class LocalRepositoryGate implements RepositoryGate {
     private final String localPath;
+    // null for the working tree
+    private final String revision;
     private final String fullName;
+    private ObjectId treeId;
+    private TagIndex tagIndex;
 
     /**
-     * Create a new instance of {@link LocalRepositoryGate}.
+     * Create a new instance of {@link LocalRepositoryGate} reading from the working tree.
      *
      * @param localPath path to a root of a local repository
      * @param fullName  name of a repository
      */
     public LocalRepositoryGate(final String localPath, final String fullName) {
+        this(localPath, null, fullName);
+    }
+
+    /**
+     * Create a new instance of {@link LocalRepositoryGate}.
+     *
+     * @param localPath path to a root of a local repository
+     * @param revision  branch, tag or commit to read the files from or {@code null} for the working tree
+     * @param fullName  name of a repository
+     */
+    public LocalRepositoryGate(final String localPath, final String revision, final String fullName) {
         this.localPath = localPath;
+        this.revision = revision;
         this.fullName = fullName;
     }
 
     @Override
     public String getSingleFileContentAsString(final String filePath) {
+        if (this.revision == null) {
+            return readFromWorkingTree(filePath);
+        } else {
+            return readFromRevision(filePath);
+        }
+    }
+
+    private String readFromWorkingTree(final String filePath) {
         final Path path = Paths.get(this.localPath, filePath);
         try {
             return Files.readString(path);
@@ -49,6 +84,103 @@ public class LocalRepositoryGate implements RepositoryGate {
         }
     }
 
+    private synchronized String readFromRevision(final String filePath) {
+        try (final Git git = openGit();
+                final TreeWalk treeWalk = TreeWalk.forPath(git.getRepository(), filePath,
+                        getTreeId(git.getRepository()))) {
+            if (treeWalk == null) {
+                throw new RepositoryException(ExaError.messageBuilder("E-RD-REP-30")
+                        .message("Cannot find the file {{filePath}} in the revision {{revision}} of the local "
+                                + "repository {{path}}.", filePath, this.revision, this.localPath)
+                        .mitigation("Please add this file according to the user guide.").toString());
+            }
+            return new String(git.getRepository().open(treeWalk.getObjectId(0), OBJ_BLOB).getBytes(), UTF_8);
+        } catch (final IOException exception) {
+            throw createRevisionReadException(exception);
+        }
+    }
+
+    @Override
+    public Map<String, String> getFileHashes(final Set<String> filePaths) {
+        if (this.revision == null) {
+            return hashWorkingTreeFiles(filePaths);
+        } else {
+            return getRevisionFileHashes(filePaths);
+        }
+    }
+
+    private Map<String, String> hashWorkingTreeFiles(final Set<String> filePaths) {
+        final Map<String, String> fileHashes = new HashMap<>();
+        try (final ObjectInserter.Formatter formatter = new ObjectInserter.Formatter()) {
+            for (final String filePath : filePaths) {
+                final Path path = Paths.get(this.localPath, filePath);
+                if (Files.isRegularFile(path)) {
+                    fileHashes.put(filePath, formatter.idFor(OBJ_BLOB, Files.readAllBytes(path)).getName());
+                }
+            }
+            return fileHashes;
+        } catch (final IOException exception) {
+            throw new RepositoryException(ExaError.messageBuilder("E-RD-REP-28")
+                    .message("Cannot calculate the file hashes of the local repository: {{path}}.", this.localPath)
+                    .toString(), exception);
+        }
+    }
+
+    // The tree of a commit already contains the blob hashes, so the files don't need to be read.
+    private synchronized Map<String, String> getRevisionFileHashes(final Set<String> filePaths) {
+        final Map<String, String> fileHashes = new HashMap<>();
+        if (filePaths.isEmpty()) {
+            return fileHashes;
+        }
+        try (final Git git = openGit(); final TreeWalk treeWalk = new TreeWalk(git.getRepository())) {
+            treeWalk.addTree(getTreeId(git.getRepository()));
+            treeWalk.setRecursive(true);
+            treeWalk.setFilter(PathFilterGroup.createFromStrings(filePaths));
+            while (treeWalk.next()) {
+                if (filePaths.contains(treeWalk.getPathString())) {
+                    fileHashes.put(treeWalk.getPathString(), treeWalk.getObjectId(0).getName());
+                }
+            }
+            return fileHashes;
+        } catch (final IOException exception) {
+            throw createRevisionReadException(exception);
+        }
+    }
+
+    private RepositoryException createRevisionReadException(final IOException exception) {
+        return new RepositoryException(ExaError.messageBuilder("E-RD-REP-31")
+                .message("Cannot read the revision {{revision}} of the local repository {{path}}.", this.revision,
+                        this.localPath)
+                .toString(), exception);
+    }
+
+    private ObjectId getTreeId(final Repository gitRepository) throws IOException {
+        if (this.treeId == null) {
+            final ObjectId commitId = gitRepository.resolve(this.revision + "^{commit}");
+            if (commitId == null) {
+                throw new RepositoryException(ExaError.messageBuilder("E-RD-REP-32")
+                        .message("Cannot find the revision {{revision}} in the local repository {{path}}.",
+                                this.revision, this.localPath)
+                        .mitigation("Please check the branch name.").toString());
+            }
+            try (final RevWalk revWalk = new RevWalk(gitRepository)) {
+                this.treeId = revWalk.parseCommit(commitId).getTree().getId();
+            }
+        }
+        return this.treeId;
+    }
+
+    private Git openGit() {
+        try {
+            return Git.open(new File(this.localPath));
+        } catch (final IOException exception) {
+            throw new RepositoryException(ExaError.messageBuilder("E-RD-REP-33")
+                    .message("Cannot open the local git repository {{path}}.", this.localPath)
+                    .mitigation("Please check that the local path is the root of a git repository.").toString(),
+                    exception);
+        }
+    }
+
     @Override
     public void updateFileContent(final String filePath, final String newContent, final String commitMessage) {
         throw new UnsupportedOperationException(ExaError.messageBuilder("E-RD-REP-8")
@@ -64,8 +196,10 @@ public class LocalRepositoryGate implements RepositoryGate {
 
     @Override
     public String getBranchName() {
-        final File rootDirectory = new File(this.localPath);
-        try (final Git git = Git.open(rootDirectory)) {
+        if (this.revision != null) {
+            return this.revision;
+        }
+        try (final Git git = openGit()) {
             return git.getRepository().getBranch();
         } catch (final IOException exception) {
             throw new RepositoryException(ExaError.messageBuilder("E-RD-REP-6")
@@ -75,25 +209,30 @@ public class LocalRepositoryGate implements RepositoryGate {
 
     @Override
     public Optional<String> getLatestTag() {
-        final File rootDirectory = new File(this.localPath);
-        try (final Git git = Git.open(rootDirectory)) {
-            final List<Ref> tags = git.getRepository().getRefDatabase().getRefsByPrefix(R_TAGS);
-            if (tags.isEmpty()) {
-                return Optional.empty();
-            } else {
-                final Ref ref = tags.get(tags.size() - 1);
-                return Optional.of(ref.getName().replace("refs/tags/", ""));
+        return getTagIndex().getLatest();
+    }
+
+    @Override
+    public synchronized TagIndex getTagIndex() {
+        if (this.tagIndex == null) {
+            try (final Git git = openGit()) {
+                final List<String> tagNames = new ArrayList<>();
+                for (final Ref tag : git.getRepository().getRefDatabase().getRefsByPrefix(R_TAGS)) {
+                    tagNames.add(tag.getName().substring(R_TAGS.length()));
+                }
+                this.tagIndex = new TagIndex(tagNames);
+            } catch (final IOException exception) {
+                throw new RepositoryException(
+                        ExaError.messageBuilder("E-RD-REP-7")
+                                .message("Failed to retrieve latest tag from the local git repository.").toString(),
+                        exception);
             }
-        } catch (final IOException exception) {
-            throw new RepositoryException(
-                    ExaError.messageBuilder("E-RD-REP-7")
-                            .message("Failed to retrieve latest tag from the local git repository.").toString(),
-                    exception);
         }
+        return this.tagIndex;
     }
 
     @Override
     public String getName() {
         return this.fullName;
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,12 @@
 package com.exasol.releasedroid.adapter.repository;
 
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import com.exasol.errorreporting.ExaError;
-import com.exasol.releasedroid.adapter.github.GitHubException;
-import com.exasol.releasedroid.adapter.github.GitHubGateway;
-import com.exasol.releasedroid.adapter.github.GitHubRepositoryGate;
+import com.exasol.releasedroid.adapter.github.*;
 import com.exasol.releasedroid.usecases.exception.RepositoryException;
+import com.exasol.releasedroid.usecases.release.ReleaseState;
 import com.exasol.releasedroid.usecases.repository.Repository;
 import com.exasol.releasedroid.usecases.repository.RepositoryGate;
 import com.exasol.releasedroid.usecases.repository.RepositoryGateway;
@@ -15,73 +15,71 @@ import com.exasol.releasedroid.usecases.request.UserInput;
 
 /**
  * Creates a repository.
+ * <p>
+ * The repository metadata (default branch, language and latest release) is fetched from GitHub at most once per
+ * repository and only when it is needed. A repository with the language given in the user input does not access GitHub
+ * until the validation or release reads from it.
+ * </p>
  */
 public class RepositoryFactory implements RepositoryGateway {
     private static final Logger LOGGER = Logger.getLogger(RepositoryFactory.class.getName());
-    private final GitHubGateway githubGateway;
+    private final AsyncGitHubGateway githubGateway;
+    private final ReleaseState releaseState;
+    private final TagIndexCache tagIndexCache;
 
-    public RepositoryFactory(final GitHubGateway githubGateway) {
+    public RepositoryFactory(final AsyncGitHubGateway githubGateway, final ReleaseState releaseState,
+            final TagIndexCache tagIndexCache) {
         this.githubGateway = githubGateway;
+        this.releaseState = releaseState;
+        this.tagIndexCache = tagIndexCache;
     }
 
     @Override
     public Repository getRepository(final UserInput userInput) {
-        final var repositoryGate = getRepositoryGate(userInput);
-        final var language = getLanguage(userInput);
+        final var metadata = new LazyGitHubRepositoryMetadata(this.githubGateway, userInput.getFullRepositoryName());
+        final var repositoryGate = createRepositoryGate(userInput, metadata);
+        final var language = getLanguage(userInput, metadata);
         switch (language) {
         case JAVA:
-            return new JavaRepository(repositoryGate, this.githubGateway);
+            return new JavaRepository(repositoryGate, this.githubGateway, this.releaseState);
         case SCALA:
-            return new ScalaRepository(repositoryGate, this.githubGateway);
+            return new ScalaRepository(repositoryGate, this.githubGateway, this.releaseState);
         case GENERIC:
-            return new GenericRepository(repositoryGate, this.githubGateway);
+            return new GenericRepository(repositoryGate, this.githubGateway, this.releaseState);
         default:
             throw new UnsupportedOperationException(ExaError.messageBuilder("E-RD-REP-10") //
                     .message("Unsupported programming language: {{language}}.", language).toString());
         }
     }
 
-    private RepositoryGate getRepositoryGate(final UserInput userInput) {
+    private RepositoryGate createRepositoryGate(final UserInput userInput,
+            final Supplier<GitHubRepositoryMetadata> metadata) {
+        final String branch = userInput.hasBranch() ? userInput.getBranch() : null;
         if (userInput.hasLocalPath()) {
-            return new LocalRepositoryGate(userInput.getLocalPath(), userInput.getFullRepositoryName());
+            // The GitHub gate keeps the files of its snapshot itself, only local files are cached here
+            return new CachingRepositoryGate(
+                    new LocalRepositoryGate(userInput.getLocalPath(), branch, userInput.getFullRepositoryName()));
         } else {
-            final String branch = getBranch(userInput);
-            return new GitHubRepositoryGate(this.githubGateway, branch, userInput.getFullRepositoryName());
+            return new GitHubRepositoryGate(this.githubGateway, branch, userInput.getFullRepositoryName(), metadata,
+                    this.tagIndexCache);
         }
     }
 
-    private String getBranch(final UserInput userInput) {
-        if (userInput.hasBranch()) {
-            return userInput.getBranch();
-        } else {
-            try {
-                return this.githubGateway.getDefaultBranch(userInput.getFullRepositoryName());
-            } catch (final GitHubException exception) {
-                throw new RepositoryException(exception);
-            }
-        }
-    }
-
-    private Language getLanguage(final UserInput userInput) {
+    private Language getLanguage(final UserInput userInput, final Supplier<GitHubRepositoryMetadata> metadata) {
         if (userInput.hasLanguage()) {
             return userInput.getLanguage();
         } else {
-            return detectLanguageAutomatically(userInput);
+            return detectLanguageAutomatically(metadata.get());
         }
     }
 
-    private Language detectLanguageAutomatically(final UserInput userInput) {
-        try {
-            final String repositoryPrimaryLanguage = this.githubGateway
-                    .getRepositoryPrimaryLanguage(userInput.getFullRepositoryName());
-            validateLanguage(repositoryPrimaryLanguage);
-            final var language = Language.getLanguage(repositoryPrimaryLanguage);
-            LOGGER.warning(() -> "The repository language was detected automatically: " + language
-                    + ". If it was detected incorrectly, please specify it manually using -lg <language> argument.");
-            return language;
-        } catch (final GitHubException exception) {
-            throw new RepositoryException(exception);
-        }
+    private Language detectLanguageAutomatically(final GitHubRepositoryMetadata metadata) {
+        final String repositoryPrimaryLanguage = metadata.getPrimaryLanguage();
+        validateLanguage(repositoryPrimaryLanguage);
+        final var language = Language.getLanguage(repositoryPrimaryLanguage);
+        LOGGER.warning(() -> "The repository language was detected automatically: " + language
+                + ". If it was detected incorrectly, please specify it manually using -lg <language> argument.");
+        return language;
     }
 
     private void validateLanguage(final String repositoryPrimaryLanguage) {
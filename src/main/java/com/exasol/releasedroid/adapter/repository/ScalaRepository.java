@@ -6,10 +6,11 @@ import java.util.Optional;
 
 import com.exasol.errorreporting.ExaError;
 import com.exasol.releasedroid.adapter.communityportal.CommunityPlatformValidator;
-import com.exasol.releasedroid.adapter.github.GitHubGateway;
+import com.exasol.releasedroid.adapter.github.AsyncGitHubGateway;
 import com.exasol.releasedroid.adapter.github.GitHubPlatformValidator;
 import com.exasol.releasedroid.adapter.jira.JiraPlatformValidator;
 import com.exasol.releasedroid.usecases.exception.RepositoryException;
+import com.exasol.releasedroid.usecases.release.ReleaseState;
 import com.exasol.releasedroid.usecases.repository.BaseRepository;
 import com.exasol.releasedroid.usecases.repository.RepositoryGate;
 import com.exasol.releasedroid.usecases.request.PlatformName;
@@ -26,17 +27,18 @@ public class ScalaRepository extends BaseRepository {
             new ScalaRepositoryValidator(this));
     private final Map<PlatformName, ReleasePlatformValidator> platformValidators;
 
-    public ScalaRepository(final RepositoryGate repositoryGate, final GitHubGateway githubGateway) {
+    public ScalaRepository(final RepositoryGate repositoryGate, final AsyncGitHubGateway githubGateway,
+            final ReleaseState releaseState) {
         super(repositoryGate);
         this.platformValidators = Map.of( //
                 PlatformName.GITHUB, new GitHubPlatformValidator(this, githubGateway), //
                 PlatformName.COMMUNITY, new CommunityPlatformValidator(this), //
-                PlatformName.JIRA, new JiraPlatformValidator(this) //
+                PlatformName.JIRA, new JiraPlatformValidator(this, releaseState) //
         );
     }
 
     @Override
-    public String getVersion() {
+    protected String readVersion() {
         final String buildFile = getSingleFileContentAsString(BUILD_SBT);
         final Optional<String> version = getValueFromBuildFile(buildFile, VERSION_PATTERN);
         return version.orElseThrow(() -> new RepositoryException(ExaError.messageBuilder("E-RD-REP-9")
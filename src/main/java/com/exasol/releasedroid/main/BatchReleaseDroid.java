@@ -0,0 +1,174 @@
+package com.exasol.releasedroid.main;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+import com.exasol.errorreporting.ExaError;
+import com.exasol.releasedroid.usecases.report.*;
+import com.exasol.releasedroid.usecases.request.*;
+import com.exasol.releasedroid.usecases.response.ReleaseDroidResponse;
+
+/**
+ * Runs the Release Droid for all repositories of a release manifest and creates one aggregated response.
+ * <p>
+ * Repositories are processed in parallel in a {@link JobQueue} up to the limit from the manifest. A repository which
+ * must be processed after other repositories waits until they succeed and is skipped if one of them fails.
+ * </p>
+ */
+public class BatchReleaseDroid {
+    private static final Logger LOGGER = Logger.getLogger(BatchReleaseDroid.class.getName());
+    private final ReleaseDroid releaseDroid;
+    private final List<ReleaseDroidResponseConsumer> releaseDroidResponseConsumers;
+
+    /**
+     * Create a new instance of {@link BatchReleaseDroid}.
+     *
+     * @param releaseDroid                  Release Droid processing a single repository
+     * @param releaseDroidResponseConsumers consumers of the aggregated response
+     */
+    public BatchReleaseDroid(final ReleaseDroid releaseDroid,
+            final List<ReleaseDroidResponseConsumer> releaseDroidResponseConsumers) {
+        this.releaseDroid = releaseDroid;
+        this.releaseDroidResponseConsumers = releaseDroidResponseConsumers;
+    }
+
+    /**
+     * Process all repositories of a release manifest.
+     *
+     * @param manifest   release manifest
+     * @param batchInput user input with the goal and options shared by all repositories
+     */
+    public void run(final ReleaseManifest manifest, final UserInput batchInput) {
+        validateBatchInput(batchInput);
+        final Goal goal = batchInput.hasGoal() ? batchInput.getGoal() : Goal.VALIDATE;
+        final List<ReleaseManifestEntry> entries = manifest.getEntries();
+        final Map<String, UserInput> userInputs = new LinkedHashMap<>();
+        for (final ReleaseManifestEntry entry : entries) {
+            userInputs.put(entry.getFullRepositoryName(), createUserInput(entry, batchInput, goal));
+        }
+        try (final JobQueue jobQueue = new JobQueue(Math.min(manifest.getMaxParallelReleases(), entries.size()))) {
+            final Map<String, CompletableFuture<ReleaseDroidResponse>> responses = new HashMap<>();
+            for (final ReleaseManifestEntry entry : entries) {
+                schedule(entry, manifest, userInputs, responses, jobQueue);
+            }
+            final List<ReleaseDroidResponse> repositoryResponses = new ArrayList<>();
+            for (final ReleaseManifestEntry entry : entries) {
+                repositoryResponses.add(responses.get(entry.getFullRepositoryName()).join());
+            }
+            processResponse(createResponse(repositoryResponses, goal));
+        }
+    }
+
+    private void validateBatchInput(final UserInput batchInput) {
+        if (batchInput.hasRepositoryName() || batchInput.hasLocalPath() || batchInput.hasBranch()
+                || batchInput.hasLanguage() || batchInput.hasLocalBuildPath()) {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-RD-24")
+                    .message("The 'name', 'local', 'branch', 'language' and 'localbuild' arguments can't be used "
+                            + "together with a release manifest.")
+                    .mitigation("Please specify the repositories in the release manifest.").toString());
+        }
+    }
+
+    private UserInput createUserInput(final ReleaseManifestEntry entry, final UserInput batchInput,
+            final Goal goal) {
+        final List<PlatformName> platforms = entry.getPlatforms().isEmpty() && batchInput.hasPlatforms()
+                ? batchInput.getPlatformNames()
+                : entry.getPlatforms();
+        return UserInput.builder() //
+                .owner(entry.getOwner()) //
+                .repositoryName(entry.getRepositoryName()) //
+                .goal(goal.name()) //
+                .platforms(platforms.stream().map(Enum::name).toArray(String[]::new)) //
+                .skipValidation(batchInput.skipValidation()) //
+                .build();
+    }
+
+    private CompletableFuture<ReleaseDroidResponse> schedule(final ReleaseManifestEntry entry,
+            final ReleaseManifest manifest, final Map<String, UserInput> userInputs,
+            final Map<String, CompletableFuture<ReleaseDroidResponse>> responses, final JobQueue jobQueue) {
+        final String name = entry.getFullRepositoryName();
+        if (!responses.containsKey(name)) {
+            final Map<String, CompletableFuture<ReleaseDroidResponse>> predecessorResponses = new LinkedHashMap<>();
+            for (final String predecessor : entry.getPredecessors()) {
+                predecessorResponses.put(predecessor,
+                        schedule(findEntry(manifest, predecessor), manifest, userInputs, responses, jobQueue));
+            }
+            final UserInput userInput = userInputs.get(name);
+            responses.put(name,
+                    CompletableFuture.allOf(predecessorResponses.values().toArray(CompletableFuture[]::new))
+                            .thenCompose(ignored -> jobQueue.submit(name, JobQueue.Priority.of(userInput.getGoal()),
+                                    () -> process(userInput, predecessorResponses))));
+        }
+        return responses.get(name);
+    }
+
+    private ReleaseManifestEntry findEntry(final ReleaseManifest manifest, final String fullRepositoryName) {
+        return manifest.getEntries().stream() //
+                .filter(entry -> entry.getFullRepositoryName().equals(fullRepositoryName)) //
+                .findFirst().orElseThrow();
+    }
+
+    private ReleaseDroidResponse process(final UserInput userInput,
+            final Map<String, CompletableFuture<ReleaseDroidResponse>> predecessorResponses) {
+        for (final Map.Entry<String, CompletableFuture<ReleaseDroidResponse>> predecessor : predecessorResponses
+                .entrySet()) {
+            if (hasFailures(predecessor.getValue().join())) {
+                LOGGER.warning(() -> "Skipping " + userInput.getFullRepositoryName() + ", because "
+                        + predecessor.getKey() + " failed.");
+                return createFailedResponse(userInput,
+                        "Skipped, because the preceding repository " + predecessor.getKey() + " failed.");
+            }
+        }
+        try {
+            LOGGER.info(() -> "Processing " + userInput.getFullRepositoryName() + ".");
+            return this.releaseDroid.execute(userInput);
+        } catch (final RuntimeException exception) {
+            return createFailedResponse(userInput, ExceptionUtils.getStackTrace(exception));
+        }
+    }
+
+    private boolean hasFailures(final ReleaseDroidResponse response) {
+        return response.getReports().stream().anyMatch(Report::hasFailures);
+    }
+
+    private ReleaseDroidResponse createFailedResponse(final UserInput userInput, final String message) {
+        final Report report = userInput.getGoal() == Goal.RELEASE ? ReleaseReport.create()
+                : ValidationReport.create();
+        report.addFailedResult(message);
+        return ReleaseDroidResponse.builder() //
+                .fullRepositoryName(userInput.getFullRepositoryName()) //
+                .goal(userInput.getGoal()) //
+                .platformNames(userInput.hasPlatforms() ? userInput.getPlatformNames() : List.of()) //
+                .reports(List.of(report)) //
+                .build();
+    }
+
+    private ReleaseDroidResponse createResponse(final List<ReleaseDroidResponse> repositoryResponses,
+            final Goal goal) {
+        final Set<PlatformName> platformNames = EnumSet.noneOf(PlatformName.class);
+        final List<Report> reports = new ArrayList<>();
+        for (final ReleaseDroidResponse response : repositoryResponses) {
+            platformNames.addAll(response.getPlatformNames());
+            for (final Report report : response.getReports()) {
+                reports.add(RepositoryReport.create(response.getFullRepositoryName(), report));
+            }
+        }
+        return ReleaseDroidResponse.builder() //
+                .fullRepositoryName(repositoryResponses.stream().map(ReleaseDroidResponse::getFullRepositoryName)
+                        .collect(Collectors.joining(", "))) //
+                .goal(goal) //
+                .platformNames(new ArrayList<>(platformNames)) //
+                .reports(reports) //
+                .build();
+    }
+
+    private void processResponse(final ReleaseDroidResponse response) {
+        for (final ReleaseDroidResponseConsumer releaseDroidResponseConsumer : this.releaseDroidResponseConsumers) {
+            releaseDroidResponseConsumer.consumeResponse(response);
+        }
+    }
+}
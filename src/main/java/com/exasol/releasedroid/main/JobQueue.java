@@ -0,0 +1,148 @@
+package com.exasol.releasedroid.main;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import com.exasol.releasedroid.usecases.request.Goal;
+
+/**
+ * Queue running validation and release jobs in parallel.
+ * <p>
+ * The queue runs at most a fixed number of jobs at the same time and never two jobs of the same repository at once.
+ * Releases start before validations. Jobs with the same priority are started round-robin over the repositories, so a
+ * repository with many queued jobs does not take all the slots and the GitHub API budget from the others.
+ * </p>
+ */
+public class JobQueue implements AutoCloseable {
+    private final int maxParallelJobs;
+    private final ExecutorService executor;
+    private final NavigableSet<QueuedJob<?>> pendingJobs = new TreeSet<>(Comparator
+            .comparing((final QueuedJob<?> job) -> job.priority).thenComparingLong(job -> job.round)
+            .thenComparingLong(job -> job.sequence));
+    private final Map<String, Integer> pendingJobsPerRepository = new HashMap<>();
+    private final Set<String> runningRepositories = new HashSet<>();
+    private long sequence = 0;
+
+    /**
+     * Create a new instance of {@link JobQueue}.
+     *
+     * @param maxParallelJobs maximum number of jobs running at the same time
+     */
+    public JobQueue(final int maxParallelJobs) {
+        this.maxParallelJobs = maxParallelJobs;
+        this.executor = Executors.newFixedThreadPool(maxParallelJobs, runnable -> new Thread(runnable, "release-job"));
+    }
+
+    /**
+     * Queue a job.
+     *
+     * @param <T>            result type
+     * @param repositoryName fully qualified name of the repository the job works on
+     * @param priority       priority of the job
+     * @param job            job to run
+     * @return future completed with the result of the job
+     */
+    public synchronized <T> CompletableFuture<T> submit(final String repositoryName, final Priority priority,
+            final Supplier<T> job) {
+        final int round = this.pendingJobsPerRepository.merge(repositoryName, 1, Integer::sum);
+        final var queuedJob = new QueuedJob<>(repositoryName, priority, round, this.sequence++, job);
+        this.pendingJobs.add(queuedJob);
+        startJobs();
+        return queuedJob.result;
+    }
+
+    private synchronized void startJobs() {
+        final Iterator<QueuedJob<?>> iterator = this.pendingJobs.iterator();
+        while ((this.runningRepositories.size() < this.maxParallelJobs) && iterator.hasNext()) {
+            final QueuedJob<?> job = iterator.next();
+            if (!this.runningRepositories.contains(job.repositoryName)) {
+                iterator.remove();
+                this.pendingJobsPerRepository.computeIfPresent(job.repositoryName,
+                        (repository, count) -> count == 1 ? null : count - 1);
+                this.runningRepositories.add(job.repositoryName);
+                this.executor.execute(() -> run(job));
+            }
+        }
+    }
+
+    private void run(final QueuedJob<?> job) {
+        try {
+            job.run();
+        } finally {
+            finish(job);
+        }
+    }
+
+    private synchronized void finish(final QueuedJob<?> job) {
+        this.runningRepositories.remove(job.repositoryName);
+        startJobs();
+        notifyAll();
+    }
+
+    /**
+     * Wait until all queued jobs are finished and stop the queue.
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            while (!this.pendingJobs.isEmpty() || !this.runningRepositories.isEmpty()) {
+                wait();
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.executor.shutdown();
+        }
+    }
+
+    /**
+     * Priority of a job. Jobs with a higher priority start first.
+     */
+    public enum Priority {
+        /** Releases */
+        RELEASE,
+        /** Validations */
+        VALIDATION;
+
+        /**
+         * Get the priority of a job with a goal.
+         *
+         * @param goal goal of the job
+         * @return priority
+         */
+        public static Priority of(final Goal goal) {
+            return goal == Goal.RELEASE ? RELEASE : VALIDATION;
+        }
+    }
+
+    private static final class QueuedJob<T> {
+        private final String repositoryName;
+        private final Priority priority;
+        private final long round;
+        private final long sequence;
+        private final Supplier<T> job;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private QueuedJob(final String repositoryName, final Priority priority, final long round, final long sequence,
+                final Supplier<T> job) {
+            this.repositoryName = repositoryName;
+            this.priority = priority;
+            this.round = round;
+            this.sequence = sequence;
+            this.job = job;
+        }
+
+        private void run() {
+            try {
+                this.result.complete(this.job.get());
+            } catch (final RuntimeException exception) {
+                this.result.completeExceptionally(exception);
+            } catch (final Throwable throwable) {
+                // Errors are not swallowed, but the callers waiting for the job must not wait forever
+                this.result.completeExceptionally(throwable);
+                throw throwable;
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.exasol.releasedroid.main;
 
+import static com.exasol.releasedroid.usecases.ReleaseDroidConstants.EXASOL_REPOSITORY_OWNER;
+
 import java.util.*;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -21,7 +23,6 @@ import com.exasol.releasedroid.usecases.validate.ValidateUseCase;
  */
 public class ReleaseDroid {
     private static final Logger LOGGER = Logger.getLogger(ReleaseDroid.class.getName());
-    private static final String EXASOL_REPOSITORY_OWNER = "exasol";
 
     private final RepositoryGateway repositoryGateway;
     private final ReleaseUseCase releaseUseCase;
@@ -51,6 +52,16 @@ public class ReleaseDroid {
     // [impl->dsn~rd-creates-validation-report~1]
     // [impl->dsn~rd-creates-release-report~1]
     public void run(final UserInput userInput) {
+        processResponse(execute(userInput));
+    }
+
+    /**
+     * Execute a request without passing the response to the consumers.
+     *
+     * @param userInput user input
+     * @return response
+     */
+    ReleaseDroidResponse execute(final UserInput userInput) {
         validateUserInput(userInput);
         final Repository repository = this.repositoryGateway.getRepository(userInput);
         final List<PlatformName> platformNames = getPlatformNames(userInput, repository);
@@ -64,7 +75,7 @@ public class ReleaseDroid {
         } else {
             reports.add(this.validateUseCase.validate(repository, platformNames, Set.of(PlatformName.JIRA)));
         }
-        processResponse(createResponse(reports, userInput, platformNames));
+        return createResponse(reports, userInput, platformNames);
     }
 
     private Set<PlatformName> getPlatformsToSkipValidationOn(final UserInput userInput) {
@@ -117,6 +128,7 @@ public class ReleaseDroid {
         validateGoalAndBranch(userInput);
         validateLocalPath(userInput);
         validateSkipValidationParameter(userInput);
+        validateLocalBuildParameter(userInput);
     }
 
     private void checkOwner(final UserInput userInput) {
@@ -145,9 +157,9 @@ public class ReleaseDroid {
     }
 
     private void validateLocalPath(final UserInput userInput) {
-        if ((userInput.hasLocalPath()) && ((userInput.getGoal() == Goal.RELEASE) || (userInput.hasBranch()))) {
+        if ((userInput.hasLocalPath()) && (userInput.getGoal() == Goal.RELEASE)) {
             throw new IllegalArgumentException(ExaError.messageBuilder("E-RD-6")
-                    .message("The 'local' argument can't be used together with 'branch' or RELEASE 'goal'.")
+                    .message("The 'local' argument can't be used together with RELEASE 'goal'.")
                     .toString());
         }
     }
@@ -159,6 +171,13 @@ public class ReleaseDroid {
         }
     }
 
+    private void validateLocalBuildParameter(final UserInput userInput) {
+        if (userInput.hasLocalBuildPath() && userInput.getGoal() != Goal.RELEASE) {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-RD-25")
+                    .message("The 'localbuild' argument can be only used with RELEASE goal.").toString());
+        }
+    }
+
     private void throwExceptionForMissingParameter(final String parameter) {
         throw new IllegalArgumentException(ExaError.messageBuilder("E-RD-2")
                 .message("Please specify a mandatory parameter {{parameter}} and re-run the Release Droid.", parameter)
@@ -0,0 +1,363 @@
+package com.exasol.releasedroid.main;
+
+import static com.exasol.releasedroid.usecases.ReleaseDroidConstants.EXASOL_REPOSITORY_OWNER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.*;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.json.*;
+
+import com.exasol.errorreporting.ExaError;
+import com.exasol.releasedroid.formatting.ReportSummaryFormatter;
+import com.exasol.releasedroid.usecases.ExecutionContext;
+import com.exasol.releasedroid.usecases.report.Report;
+import com.exasol.releasedroid.usecases.request.UserInput;
+import com.exasol.releasedroid.usecases.response.ReleaseDroidResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Runs the Release Droid as a long-running process accepting jobs over a local HTTP/JSON API.
+ * <p>
+ * The connections, caches and the release state of the Release Droid stay open between the jobs, so a job does not pay
+ * the start-up costs of a new process. Jobs run in parallel in a {@link JobQueue}. The server only listens on the
+ * loopback interface. Endpoints:
+ * </p>
+ * <ul>
+ * <li>{@code POST /jobs} with a JSON body {@code {"name", "goal", "platforms", "branch", "language",
+ * "skipvalidation"}} queues a job and returns its id</li>
+ * <li>{@code GET /jobs/<id>} returns the status and the report of a job</li>
+ * <li>{@code GET /jobs/<id>/log} streams the log of a job until the job is finished</li>
+ * <li>{@code GET /metrics} returns metrics like the remaining GitHub API budget</li>
+ * <li>{@code POST /shutdown} stops the server after the queued jobs</li>
+ * </ul>
+ */
+public class ReleaseDroidServer implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(ReleaseDroidServer.class.getName());
+    private static final int MAX_RETAINED_JOBS = 1000;
+    private static final String JOBS_PATH = "/jobs";
+    private final ReleaseDroid releaseDroid;
+    private final List<ReleaseDroidResponseConsumer> releaseDroidResponseConsumers;
+    private final Supplier<Map<String, Object>> metrics;
+    private final AtomicLong jobIds = new AtomicLong();
+    private final Map<Long, ServerJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, ServerJob> eldest) {
+            return size() > MAX_RETAINED_JOBS;
+        }
+    });
+    private final CountDownLatch shutdown = new CountDownLatch(1);
+    private final JobQueue jobQueue;
+    private final Handler jobLogHandler = new JobLogHandler();
+    private HttpServer server;
+
+    /**
+     * Create a new instance of {@link ReleaseDroidServer}.
+     *
+     * @param releaseDroid                  Release Droid processing the jobs
+     * @param releaseDroidResponseConsumers consumers of the job responses
+     * @param maxParallelJobs               maximum number of jobs running at the same time
+     */
+    public ReleaseDroidServer(final ReleaseDroid releaseDroid,
+            final List<ReleaseDroidResponseConsumer> releaseDroidResponseConsumers, final int maxParallelJobs) {
+        this(releaseDroid, releaseDroidResponseConsumers, maxParallelJobs, Map::of);
+    }
+
+    /**
+     * Create a new instance of {@link ReleaseDroidServer}.
+     *
+     * @param releaseDroid                  Release Droid processing the jobs
+     * @param releaseDroidResponseConsumers consumers of the job responses
+     * @param maxParallelJobs               maximum number of jobs running at the same time
+     * @param metrics                       supplier of the current metrics
+     */
+    public ReleaseDroidServer(final ReleaseDroid releaseDroid,
+            final List<ReleaseDroidResponseConsumer> releaseDroidResponseConsumers, final int maxParallelJobs,
+            final Supplier<Map<String, Object>> metrics) {
+        this.releaseDroid = releaseDroid;
+        this.releaseDroidResponseConsumers = releaseDroidResponseConsumers;
+        this.metrics = metrics;
+        this.jobQueue = new JobQueue(maxParallelJobs);
+    }
+
+    /**
+     * Start the server and process jobs until the server receives a shutdown request.
+     *
+     * @param serverInput user input with the server port
+     * @throws InterruptedException if the waiting thread was interrupted
+     */
+    public void run(final UserInput serverInput) throws InterruptedException {
+        validateServerInput(serverInput);
+        try {
+            start(serverInput.getServerPort());
+            this.shutdown.await();
+        } finally {
+            close();
+        }
+    }
+
+    private void validateServerInput(final UserInput serverInput) {
+        if (serverInput.hasRepositoryName() || serverInput.hasManifestPath() || serverInput.hasLocalPath()
+                || serverInput.hasBranch() || serverInput.hasLanguage() || serverInput.hasLocalBuildPath()) {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-RD-27")
+                    .message("The 'name', 'manifest', 'local', 'branch', 'language' and 'localbuild' arguments "
+                            + "can't be used together with the 'server' argument.")
+                    .mitigation("Please specify the repository in the job request.").toString());
+        }
+    }
+
+    /**
+     * Start listening for requests.
+     *
+     * @param port local port to listen on, 0 for a free port
+     */
+    void start(final int port) {
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("E-RD-28")
+                    .message("Unable to start the Release Droid server on port {{port}}.", port)
+                    .mitigation("Please make sure the port is free or use a different one.").toString(), exception);
+        }
+        this.server.createContext(JOBS_PATH, this::handleJobsExchange);
+        this.server.createContext("/metrics", this::handleMetricsExchange);
+        this.server.createContext("/shutdown", this::handleShutdownExchange);
+        // Log streaming requests wait for new lines, so they must not block the other requests
+        this.server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            final var thread = new Thread(runnable, "release-droid-server");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        Logger.getLogger("").addHandler(this.jobLogHandler);
+        this.server.start();
+        LOGGER.info(() -> "Release Droid server is listening on port " + getPort() + ".");
+    }
+
+    /**
+     * Get the port the server listens on.
+     *
+     * @return port
+     */
+    int getPort() {
+        return this.server.getAddress().getPort();
+    }
+
+    private void handleJobsExchange(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final String[] path = exchange.getRequestURI().getPath().substring(JOBS_PATH.length()).split("/");
+            if ((path.length == 0) || !path[0].isEmpty()) {
+                sendJson(exchange, 404, new JSONObject().put("error", "Unknown endpoint."));
+            } else if ((path.length == 1) && "POST".equals(exchange.getRequestMethod())) {
+                submitJob(exchange);
+            } else if ((path.length == 2) && "GET".equals(exchange.getRequestMethod())) {
+                sendJobStatus(exchange, path[1]);
+            } else if ((path.length == 3) && "log".equals(path[2]) && "GET".equals(exchange.getRequestMethod())) {
+                streamJobLog(exchange, path[1]);
+            } else {
+                sendJson(exchange, 404, new JSONObject().put("error", "Unknown endpoint."));
+            }
+        }
+    }
+
+    private void submitJob(final HttpExchange exchange) throws IOException {
+        final UserInput userInput;
+        try (final InputStream body = exchange.getRequestBody()) {
+            userInput = parseJobRequest(new String(body.readAllBytes(), UTF_8));
+        } catch (final JSONException | IllegalArgumentException exception) {
+            sendJson(exchange, 400, new JSONObject().put("error", ExaError.messageBuilder("E-RD-29")
+                    .message("Invalid job request: {{cause|uq}}", exception.getMessage()).toString()));
+            return;
+        }
+        final var job = new ServerJob(this.jobIds.incrementAndGet(), userInput);
+        this.jobs.put(job.getId(), job);
+        this.jobQueue.submit(getFullRepositoryName(userInput), JobQueue.Priority.of(userInput.getGoal()), () -> {
+            runJob(job);
+            return null;
+        });
+        LOGGER.info(() -> "Queued job " + job.getId() + " for " + userInput.getRepositoryName() + ".");
+        sendJson(exchange, 202, toJson(job));
+    }
+
+    private String getFullRepositoryName(final UserInput userInput) {
+        return (userInput.hasOwner() ? userInput.getOwner() : EXASOL_REPOSITORY_OWNER) + "/"
+                + userInput.getRepositoryName();
+    }
+
+    private UserInput parseJobRequest(final String body) {
+        final JSONObject request = new JSONObject(body);
+        final String name = request.getString("name");
+        final int ownerSeparator = name.indexOf('/');
+        final var builder = UserInput.builder() //
+                .owner(ownerSeparator >= 0 ? name.substring(0, ownerSeparator) : null) //
+                .repositoryName(name.substring(ownerSeparator + 1)) //
+                .goal(request.optString("goal", null)) //
+                .branch(request.optString("branch", null)) //
+                .language(request.optString("language", null)) //
+                .skipValidation(request.optBoolean("skipvalidation"));
+        final JSONArray platforms = request.optJSONArray("platforms");
+        if (platforms != null) {
+            builder.platforms(platforms.toList().stream().map(Object::toString).toArray(String[]::new));
+        }
+        return builder.build();
+    }
+
+    // The job id is propagated to all threads working for the job, so their log records go to the job log
+    private void runJob(final ServerJob job) {
+        ExecutionContext.current().withJobId(job.getId()).call(() -> {
+            runJobInContext(job);
+            return null;
+        });
+    }
+
+    private void runJobInContext(final ServerJob job) {
+        try {
+            job.start();
+            LOGGER.info(() -> "Starting job " + job.getId() + ".");
+            final ReleaseDroidResponse response = this.releaseDroid.execute(job.getUserInput());
+            for (final ReleaseDroidResponseConsumer consumer : this.releaseDroidResponseConsumers) {
+                consumer.consumeResponse(response);
+            }
+            job.finish(response);
+        } catch (final RuntimeException exception) {
+            LOGGER.severe(() -> "Job " + job.getId() + " failed: " + exception.getMessage());
+            job.fail(ExceptionUtils.getStackTrace(exception));
+        }
+    }
+
+    private void sendJobStatus(final HttpExchange exchange, final String jobId) throws IOException {
+        final Optional<ServerJob> job = findJob(jobId);
+        if (job.isPresent()) {
+            sendJson(exchange, 200, toJson(job.get()));
+        } else {
+            sendJson(exchange, 404, new JSONObject().put("error", "Unknown job " + jobId + "."));
+        }
+    }
+
+    private void streamJobLog(final HttpExchange exchange, final String jobId) throws IOException {
+        final Optional<ServerJob> job = findJob(jobId);
+        if (job.isEmpty()) {
+            sendJson(exchange, 404, new JSONObject().put("error", "Unknown job " + jobId + "."));
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(200, 0);
+        try (final Writer writer = new OutputStreamWriter(exchange.getResponseBody(), UTF_8)) {
+            int sentLines = 0;
+            List<String> lines = job.get().awaitLogLines(sentLines);
+            while (!lines.isEmpty()) {
+                for (final String line : lines) {
+                    writer.write(line);
+                }
+                writer.flush();
+                sentLines += lines.size();
+                lines = job.get().awaitLogLines(sentLines);
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Optional<ServerJob> findJob(final String jobId) {
+        try {
+            return Optional.ofNullable(this.jobs.get(Long.parseLong(jobId)));
+        } catch (final NumberFormatException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private JSONObject toJson(final ServerJob job) {
+        final JSONObject json = new JSONObject() //
+                .put("id", job.getId()) //
+                .put("repository", job.getUserInput().getRepositoryName()) //
+                .put("status", job.getStatus().name());
+        job.getResponse().ifPresent(response -> json.put("report", formatReports(response)));
+        job.getError().ifPresent(error -> json.put("error", error));
+        return json;
+    }
+
+    private String formatReports(final ReleaseDroidResponse response) {
+        final var formatter = new ReportSummaryFormatter();
+        final var builder = new StringBuilder();
+        for (final Report report : response.getReports()) {
+            builder.append(formatter.formatReport(report));
+        }
+        return builder.toString();
+    }
+
+    private void handleMetricsExchange(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if ("GET".equals(exchange.getRequestMethod())) {
+                sendJson(exchange, 200, new JSONObject(this.metrics.get()));
+            } else {
+                sendJson(exchange, 404, new JSONObject().put("error", "Unknown endpoint."));
+            }
+        }
+    }
+
+    private void handleShutdownExchange(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if ("POST".equals(exchange.getRequestMethod())) {
+                sendJson(exchange, 202, new JSONObject().put("status", "SHUTTING_DOWN"));
+                this.shutdown.countDown();
+            } else {
+                sendJson(exchange, 404, new JSONObject().put("error", "Unknown endpoint."));
+            }
+        }
+    }
+
+    private void sendJson(final HttpExchange exchange, final int status, final JSONObject json) throws IOException {
+        final byte[] body = json.toString().getBytes(UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (final OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.jobQueue.close();
+        if (this.server != null) {
+            this.server.stop(0);
+            Logger.getLogger("").removeHandler(this.jobLogHandler);
+        }
+    }
+
+    // Collects the log records of the threads working for a job into the log of the job
+    private final class JobLogHandler extends Handler {
+        private static final String ANSI_ESCAPE_PATTERN = "\u001B\\[[0-9;]*m";
+
+        private JobLogHandler() {
+            setFormatter(new SimpleFormatter());
+        }
+
+        @Override
+        public void publish(final LogRecord logRecord) {
+            final Optional<ServerJob> job = ExecutionContext.current().getJobId()
+                    .map(ReleaseDroidServer.this.jobs::get);
+            if (job.isPresent() && isLoggable(logRecord)) {
+                job.get().log(getFormatter().format(logRecord).replaceAll(ANSI_ESCAPE_PATTERN, ""));
+            }
+        }
+
+        @Override
+        public void flush() {
+            // lines are added to the job log directly
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+    }
+}
@@ -4,13 +4,17 @@ import static com.exasol.releasedroid.usecases.ReleaseDroidConstants.*;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.LogManager;
 
+import com.exasol.errorreporting.ExaError;
+import com.exasol.releasedroid.adapter.LocalChecksumCalculator;
 import com.exasol.releasedroid.adapter.ReleaseManagerImpl;
 import com.exasol.releasedroid.adapter.communityportal.CommunityPortalAPIAdapter;
 import com.exasol.releasedroid.adapter.communityportal.CommunityPortalGateway;
@@ -26,9 +30,8 @@ import com.exasol.releasedroid.output.ResponseLogger;
 import com.exasol.releasedroid.usecases.PropertyReaderImpl;
 import com.exasol.releasedroid.usecases.release.*;
 import com.exasol.releasedroid.usecases.repository.RepositoryGateway;
-import com.exasol.releasedroid.usecases.request.PlatformName;
-import com.exasol.releasedroid.usecases.validate.ValidateInteractor;
-import com.exasol.releasedroid.usecases.validate.ValidateUseCase;
+import com.exasol.releasedroid.usecases.request.*;
+import com.exasol.releasedroid.usecases.validate.*;
 
 /**
  * This class contains main method.
@@ -36,28 +39,107 @@ import com.exasol.releasedroid.usecases.validate.ValidateUseCase;
 public class Runner {
     private static final String RELEASE_DROID_CREDENTIALS = RELEASE_DROID_DIRECTORY + FILE_SEPARATOR + "credentials";
     private static final Path REPORT_PATH = Paths.get(HOME_DIRECTORY, ".release-droid", "last_report.txt");
+    private static final int MAX_PARALLEL_GITHUB_CALLS = 4;
+    private static final int MAX_PARALLEL_SERVER_JOBS = 4;
+    private static final Duration JIRA_BATCH_WINDOW = Duration.ofSeconds(5);
 
     /**
      * Run the Release Droid.
      *
      * @param args arguments
      */
-    public static void main(final String[] args) throws IOException {
+    public static void main(final String[] args) throws IOException, InterruptedException {
         setUpLogging();
-        createReleaseDroid().run(new UserInputParser().parseUserInput(args));
+        final UserInput userInput = new UserInputParser().parseUserInput(args);
+        final var gitHubRateLimitGovernor = new GitHubRateLimitGovernor();
+        final GitHubConnector gitHubConnector = new GitHubConnectorImpl(getPropertyReader(), gitHubRateLimitGovernor,
+                Path.of(RELEASE_DROID_HTTP_CACHE_DIRECTORY));
+        try (final WorkflowWatcher workflowWatcher = createWorkflowWatcher(userInput);
+                final var gitHubGateway = new AsyncGitHubAPIAdapter(
+                        new RateLimitedGitHubGateway(new GitHubAPIAdapter(gitHubConnector, workflowWatcher),
+                                gitHubRateLimitGovernor),
+                        new ClosedTicketCache(RELEASE_DROID_CLOSED_TICKETS_CACHE_DIRECTORY),
+                        MAX_PARALLEL_GITHUB_CALLS);
+                final var jiraGateway = createJiraAdapter(userInput)) {
+            final List<ReleaseDroidResponseConsumer> releaseDroidResponseConsumers = getReportConsumers();
+            final ReleaseManager releaseManager = createReleaseManager(gitHubGateway, userInput);
+            final ReleaseState releaseState = new ReleaseState(RELEASE_DROID_STATE_DIRECTORY);
+            final ReleaseDroid releaseDroid = createReleaseDroid(gitHubGateway, jiraGateway, releaseManager,
+                    releaseState, releaseDroidResponseConsumers);
+            if (userInput.hasServerPort()) {
+                new ReleaseDroidServer(releaseDroid, releaseDroidResponseConsumers, MAX_PARALLEL_SERVER_JOBS,
+                        gitHubRateLimitGovernor::getMetrics).run(userInput);
+            } else if (userInput.hasManifestPath()) {
+                new BatchReleaseDroid(releaseDroid, releaseDroidResponseConsumers)
+                        .run(readManifest(userInput.getManifestPath()), userInput);
+            } else {
+                releaseDroid.run(userInput);
+            }
+        }
     }
 
-    private static ReleaseDroid createReleaseDroid() {
-        final GitHubGateway githubGateway = new GitHubAPIAdapter(new GitHubConnectorImpl(getPropertyReader()));
-        final RepositoryGateway repositoryGateway = new RepositoryFactory(githubGateway);
-        final Map<PlatformName, ReleaseMaker> releaseMakers = createReleaseMakers(githubGateway);
-        final ReleaseManager releaseManager = new ReleaseManagerImpl(new GitHubRepositoryModifier(), githubGateway);
-        final ValidateUseCase validateUseCase = new ValidateInteractor();
-        final ReleaseUseCase releaseUseCase = new ReleaseInteractor(validateUseCase, releaseMakers, releaseManager);
-        final List<ReleaseDroidResponseConsumer> releaseDroidResponseConsumers = getReportConsumers();
+    private static ReleaseManifest readManifest(final String manifestPath) {
+        try {
+            return ReleaseManifestParser.parse(Files.readString(Path.of(manifestPath)));
+        } catch (final IOException exception) {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-RD-23")
+                    .message("Unable to read the release manifest {{manifestPath}}.", manifestPath)
+                    .mitigation("Please make sure the file exists and is readable.").toString(), exception);
+        }
+    }
+
+    private static WorkflowWatcher createWorkflowWatcher(final UserInput userInput) {
+        if (userInput.hasWebhookPort()) {
+            return new WebhookWorkflowWatcher(userInput.getWebhookPort(),
+                    getPropertyReader().readProperty(GitHubConstants.GITHUB_WEBHOOK_SECRET_KEY));
+        } else {
+            return new PollingWorkflowWatcher();
+        }
+    }
+
+    private static JiraAPIAdapter createJiraAdapter(final UserInput userInput) {
+        // Tickets of repositories released together are created with one bulk request
+        if (userInput.hasManifestPath() || userInput.hasServerPort()) {
+            return new JiraAPIAdapter(getPropertyReader(), JIRA_BATCH_WINDOW);
+        } else {
+            return new JiraAPIAdapter(getPropertyReader());
+        }
+    }
+
+    private static ReleaseManager createReleaseManager(final AsyncGitHubGateway githubGateway,
+            final UserInput userInput) {
+        if (userInput.hasLocalBuildPath()) {
+            return new ReleaseManagerImpl(new GitHubRepositoryModifier(), githubGateway,
+                    new LocalChecksumCalculator(Path.of(userInput.getLocalBuildPath())));
+        } else {
+            return new ReleaseManagerImpl(new GitHubRepositoryModifier(), githubGateway);
+        }
+    }
+
+    private static ReleaseDroid createReleaseDroid(final AsyncGitHubGateway githubGateway,
+            final JiraAPIAdapter jiraGateway, final ReleaseManager releaseManager, final ReleaseState releaseState,
+            final List<ReleaseDroidResponseConsumer> releaseDroidResponseConsumers) {
+        final RepositoryGateway repositoryGateway = new RepositoryFactory(githubGateway, releaseState,
+                new TagIndexCache(RELEASE_DROID_TAG_INDEX_DIRECTORY));
+        final Map<PlatformName, ReleaseMaker> releaseMakers = createReleaseMakers(githubGateway, jiraGateway,
+                releaseState);
+        final ValidateUseCase validateUseCase = createValidateUseCase();
+        // A release always validates the current state of the repository and the platforms
+        final ReleaseUseCase releaseUseCase = new ReleaseInteractor(new ValidateInteractor(), releaseMakers,
+                releaseManager, releaseState);
         return new ReleaseDroid(repositoryGateway, validateUseCase, releaseUseCase, releaseDroidResponseConsumers);
     }
 
+    // Without a version (for example when started from the IDE) validators can change at any time, so we don't cache.
+    private static ValidateUseCase createValidateUseCase() {
+        final String toolVersion = Runner.class.getPackage().getImplementationVersion();
+        if (toolVersion == null) {
+            return new ValidateInteractor();
+        } else {
+            return new ValidateInteractor(new ValidationCache(RELEASE_DROID_VALIDATION_CACHE_DIRECTORY, toolVersion));
+        }
+    }
+
     private static List<ReleaseDroidResponseConsumer> getReportConsumers() {
         return List.of( //
                 new ResponseDiskWriter(new ReportSummaryFormatter(), new HeaderFormatter(), REPORT_PATH), //
@@ -74,13 +156,14 @@ public class Runner {
         LogManager.getLogManager().readConfiguration(loggingProperties);
     }
 
-    private static Map<PlatformName, ReleaseMaker> createReleaseMakers(final GitHubGateway githubGateway) {
+    private static Map<PlatformName, ReleaseMaker> createReleaseMakers(final GitHubGateway githubGateway,
+            final JiraAPIAdapter jiraGateway, final ReleaseState releaseState) {
         final Map<PlatformName, ReleaseMaker> releaseMakers = new HashMap<>();
-        releaseMakers.put(PlatformName.GITHUB, new GitHubReleaseMaker(githubGateway));
-        releaseMakers.put(PlatformName.MAVEN, new MavenReleaseMaker(githubGateway));
+        releaseMakers.put(PlatformName.GITHUB, new GitHubReleaseMaker(githubGateway, releaseState));
+        releaseMakers.put(PlatformName.MAVEN, new MavenReleaseMaker(githubGateway, releaseState));
         final CommunityPortalGateway communityPortalGateway = new CommunityPortalAPIAdapter(getPropertyReader());
         releaseMakers.put(PlatformName.COMMUNITY, new CommunityPortalReleaseMaker(communityPortalGateway));
-        releaseMakers.put(PlatformName.JIRA, new JiraReleaseMaker(new JiraAPIAdapter(getPropertyReader())));
+        releaseMakers.put(PlatformName.JIRA, new JiraReleaseMaker(jiraGateway, releaseState));
         return releaseMakers;
     }
 }
\ No newline at end of file
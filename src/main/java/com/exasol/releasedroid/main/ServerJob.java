@@ -0,0 +1,142 @@
+package com.exasol.releasedroid.main;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.exasol.releasedroid.usecases.report.Report;
+import com.exasol.releasedroid.usecases.request.UserInput;
+import com.exasol.releasedroid.usecases.response.ReleaseDroidResponse;
+
+/**
+ * A validation or release job submitted to the {@link ReleaseDroidServer}.
+ */
+class ServerJob {
+    private final long id;
+    private final UserInput userInput;
+    private final List<String> logLines = new ArrayList<>();
+    private Status status = Status.QUEUED;
+    private ReleaseDroidResponse response;
+    private String error;
+
+    /**
+     * Create a new instance of {@link ServerJob}.
+     *
+     * @param id        id of the job
+     * @param userInput user input describing the job
+     */
+    ServerJob(final long id, final UserInput userInput) {
+        this.id = id;
+        this.userInput = userInput;
+    }
+
+    /**
+     * Get the job id.
+     *
+     * @return id of the job
+     */
+    long getId() {
+        return this.id;
+    }
+
+    /**
+     * Get the user input.
+     *
+     * @return user input describing the job
+     */
+    UserInput getUserInput() {
+        return this.userInput;
+    }
+
+    /**
+     * Get the status.
+     *
+     * @return status of the job
+     */
+    synchronized Status getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Get the response.
+     *
+     * @return response of a finished job or empty optional
+     */
+    synchronized Optional<ReleaseDroidResponse> getResponse() {
+        return Optional.ofNullable(this.response);
+    }
+
+    /**
+     * Get the error.
+     *
+     * @return error that stopped the job or empty optional
+     */
+    synchronized Optional<String> getError() {
+        return Optional.ofNullable(this.error);
+    }
+
+    /**
+     * Mark the job as running.
+     */
+    synchronized void start() {
+        this.status = Status.RUNNING;
+    }
+
+    /**
+     * Finish the job with a response.
+     *
+     * @param response response of the job
+     */
+    synchronized void finish(final ReleaseDroidResponse response) {
+        this.response = response;
+        this.status = response.getReports().stream().anyMatch(Report::hasFailures) ? Status.FAILED
+                : Status.SUCCEEDED;
+        notifyAll();
+    }
+
+    /**
+     * Finish the job with an error.
+     *
+     * @param error error that stopped the job
+     */
+    synchronized void fail(final String error) {
+        this.error = error;
+        this.status = Status.FAILED;
+        notifyAll();
+    }
+
+    /**
+     * Add a line to the job log.
+     *
+     * @param line log line
+     */
+    synchronized void log(final String line) {
+        this.logLines.add(line);
+        notifyAll();
+    }
+
+    /**
+     * Wait for log lines.
+     *
+     * @param from index of the first line to return
+     * @return log lines starting at the given index; empty if the job is finished and there are no more lines
+     * @throws InterruptedException if the waiting thread was interrupted
+     */
+    synchronized List<String> awaitLogLines(final int from) throws InterruptedException {
+        while ((this.logLines.size() <= from) && !isFinished()) {
+            wait();
+        }
+        return new ArrayList<>(this.logLines.subList(Math.min(from, this.logLines.size()), this.logLines.size()));
+    }
+
+    private boolean isFinished() {
+        return (this.status == Status.SUCCEEDED) || (this.status == Status.FAILED);
+    }
+
+    /**
+     * Status of a job.
+     */
+    enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+}
@@ -17,6 +17,10 @@ public class UserInputParser {
     private static final String LANGUAGE_SHORT_OPTION = "lg";
     private static final String HELP_SHORT_OPTION = "h";
     private static final String SKIP_VALIDATION_OPTION = "skipvalidation";
+    private static final String WEBHOOK_OPTION = "webhook";
+    private static final String MANIFEST_OPTION = "manifest";
+    private static final String LOCAL_BUILD_OPTION = "localbuild";
+    private static final String SERVER_OPTION = "server";
 
     /**
      * Parse user input.
@@ -35,7 +39,11 @@ public class UserInputParser {
                 .branch(cmd.getOptionValue(BRANCH_SHORT_OPTION)) //
                 .localPath(cmd.getOptionValue(LOCAL_SHORT_OPTION)) //
                 .language(cmd.getOptionValue(LANGUAGE_SHORT_OPTION)) //
-                .skipValidation(cmd.hasOption(SKIP_VALIDATION_OPTION)).build();
+                .skipValidation(cmd.hasOption(SKIP_VALIDATION_OPTION)) //
+                .webhookPort(cmd.getOptionValue(WEBHOOK_OPTION)) //
+                .manifestPath(cmd.getOptionValue(MANIFEST_OPTION)) //
+                .localBuildPath(cmd.getOptionValue(LOCAL_BUILD_OPTION)) //
+                .serverPort(cmd.getOptionValue(SERVER_OPTION)).build();
     }
 
     private void printHelpIfNeeded(final Options options, final CommandLine cmd) {
@@ -59,8 +67,17 @@ public class UserInputParser {
         final Option help = new Option(HELP_SHORT_OPTION, "help", false, "Help command");
         final Option skipValidation = new Option(SKIP_VALIDATION_OPTION, SKIP_VALIDATION_OPTION, false,
                 "Release without validation.");
+        final Option webhook = new Option(WEBHOOK_OPTION, WEBHOOK_OPTION, true,
+                "local port to listen on for GitHub workflow_run webhook events");
+        final Option manifest = new Option(MANIFEST_OPTION, MANIFEST_OPTION, true,
+                "path to a release manifest listing several repositories");
+        final Option localBuild = new Option(LOCAL_BUILD_OPTION, LOCAL_BUILD_OPTION, true,
+                "path to an already built local checkout used to calculate the release checksum");
+        final Option server = new Option(SERVER_OPTION, SERVER_OPTION, true,
+                "local port to accept validation and release jobs on");
         return new Options().addOption(name).addOption(goal).addOption(platforms).addOption(branch).addOption(local)
-                .addOption(language).addOption(help).addOption(skipValidation);
+                .addOption(language).addOption(help).addOption(skipValidation).addOption(webhook)
+                .addOption(manifest).addOption(localBuild).addOption(server);
     }
 
     private static CommandLine getCommandLine(final String[] args, final Options options) {
@@ -0,0 +1,89 @@
+package com.exasol.releasedroid.usecases;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.exasol.releasedroid.usecases.request.Goal;
+
+/**
+ * Context of the work done for a single Release Droid run.
+ * <p>
+ * The context is bound to the thread doing the work. Executors running parts of the work on other threads capture the
+ * context when the work is submitted and bind it to the worker thread with {@link #call(Supplier)}.
+ * </p>
+ */
+public final class ExecutionContext {
+    private static final ExecutionContext EMPTY = new ExecutionContext(null, null);
+    private static final ThreadLocal<ExecutionContext> CURRENT = ThreadLocal.withInitial(() -> EMPTY);
+    private final Goal goal;
+    private final Long jobId;
+
+    private ExecutionContext(final Goal goal, final Long jobId) {
+        this.goal = goal;
+        this.jobId = jobId;
+    }
+
+    /**
+     * Get the context bound to the current thread.
+     *
+     * @return current context; an empty context if none is bound
+     */
+    public static ExecutionContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Get the goal of the run.
+     *
+     * @return goal or empty optional if the goal is not known
+     */
+    public Optional<Goal> getGoal() {
+        return Optional.ofNullable(this.goal);
+    }
+
+    /**
+     * Create a copy of this context with a goal.
+     *
+     * @param newGoal goal of the run
+     * @return new context
+     */
+    public ExecutionContext withGoal(final Goal newGoal) {
+        return new ExecutionContext(newGoal, this.jobId);
+    }
+
+    /**
+     * Get the id of the server job the run belongs to.
+     *
+     * @return job id or empty optional if the run is not a server job
+     */
+    public Optional<Long> getJobId() {
+        return Optional.ofNullable(this.jobId);
+    }
+
+    /**
+     * Create a copy of this context for a server job.
+     *
+     * @param newJobId id of the server job
+     * @return new context
+     */
+    public ExecutionContext withJobId(final long newJobId) {
+        return new ExecutionContext(this.goal, newJobId);
+    }
+
+    /**
+     * Run a task with this context bound to the current thread.
+     *
+     * @param <T>  result type
+     * @param task task to run
+     * @return result of the task
+     */
+    public <T> T call(final Supplier<T> task) {
+        final ExecutionContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return task.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -12,6 +12,13 @@ public final class ReleaseDroidConstants {
     public static final String RELEASE_CONFIG_PATH = "release_config.yml";
     public static final String ANSI_RESET = "\u001B[0m";
     public static final String RELEASE_DROID_STATE_DIRECTORY = RELEASE_DROID_DIRECTORY + FILE_SEPARATOR + "state";
+    public static final String RELEASE_DROID_VALIDATION_CACHE_DIRECTORY = RELEASE_DROID_DIRECTORY + FILE_SEPARATOR
+            + "validation_cache";
+    public static final String RELEASE_DROID_CLOSED_TICKETS_CACHE_DIRECTORY = RELEASE_DROID_DIRECTORY + FILE_SEPARATOR
+            + "closed_tickets";
+    public static final String RELEASE_DROID_HTTP_CACHE_DIRECTORY = RELEASE_DROID_DIRECTORY + FILE_SEPARATOR + "cache";
+    public static final String RELEASE_DROID_TAG_INDEX_DIRECTORY = RELEASE_DROID_DIRECTORY + FILE_SEPARATOR + "tags";
+    public static final String EXASOL_REPOSITORY_OWNER = "exasol";
 
     private ReleaseDroidConstants() {
         // prevent instantiation
@@ -0,0 +1,91 @@
+package com.exasol.releasedroid.usecases.release;
+
+import java.util.Optional;
+
+import com.exasol.releasedroid.usecases.report.ReleaseReport;
+import com.exasol.releasedroid.usecases.report.Report;
+import com.exasol.releasedroid.usecases.report.ValidationReport;
+import com.exasol.releasedroid.usecases.request.PlatformName;
+
+/**
+ * Result of validating and releasing on a single platform.
+ */
+class PlatformReleaseResult {
+    private final Report validationReport;
+    private final Report releaseReport;
+
+    private PlatformReleaseResult(final Report validationReport, final Report releaseReport) {
+        this.validationReport = validationReport;
+        this.releaseReport = releaseReport;
+    }
+
+    /**
+     * Create a result for a platform where the release was not started.
+     *
+     * @param validationReport validation report
+     * @return new instance of {@link PlatformReleaseResult}
+     */
+    static PlatformReleaseResult of(final Report validationReport) {
+        return new PlatformReleaseResult(validationReport, null);
+    }
+
+    /**
+     * Create a result for a platform where the release was started.
+     *
+     * @param validationReport validation report
+     * @param releaseReport    release report
+     * @return new instance of {@link PlatformReleaseResult}
+     */
+    static PlatformReleaseResult of(final Report validationReport, final Report releaseReport) {
+        return new PlatformReleaseResult(validationReport, releaseReport);
+    }
+
+    /**
+     * Create a result for a platform which was skipped.
+     *
+     * @param platformName platform name
+     * @param reason       reason why the release was skipped
+     * @return new instance of {@link PlatformReleaseResult}
+     */
+    static PlatformReleaseResult skipped(final PlatformName platformName, final String reason) {
+        final var releaseReport = ReleaseReport.create(platformName);
+        releaseReport.addFailedResult(reason);
+        return new PlatformReleaseResult(ValidationReport.create(platformName), releaseReport);
+    }
+
+    /**
+     * Get the validation report.
+     *
+     * @return validation report
+     */
+    Report getValidationReport() {
+        return this.validationReport;
+    }
+
+    /**
+     * Get the release report.
+     *
+     * @return release report or empty optional if the release was not started
+     */
+    Optional<Report> getReleaseReport() {
+        return Optional.ofNullable(this.releaseReport);
+    }
+
+    /**
+     * Check if the release on the platform succeeded.
+     *
+     * @return true if the release succeeded
+     */
+    boolean isReleased() {
+        return (this.releaseReport != null) && !this.releaseReport.hasFailures();
+    }
+
+    /**
+     * Check if the release on the platform was started and failed.
+     *
+     * @return true if the release failed
+     */
+    boolean isReleaseFailed() {
+        return (this.releaseReport != null) && this.releaseReport.hasFailures();
+    }
+}
@@ -0,0 +1,35 @@
+package com.exasol.releasedroid.usecases.release;
+
+import java.util.Optional;
+
+/**
+ * Intermediate steps of a release on one platform.
+ * <p>
+ * Long releases record what they have already done (for example the id of a started workflow run), so a restarted
+ * release can continue from there instead of repeating the steps.
+ * </p>
+ */
+public interface ReleaseCheckpoints {
+    /**
+     * Get a checkpoint.
+     *
+     * @param name name of the checkpoint
+     * @return value of the checkpoint or empty optional if the checkpoint is not reached yet
+     */
+    public Optional<String> get(String name);
+
+    /**
+     * Save a checkpoint.
+     *
+     * @param name  name of the checkpoint
+     * @param value value of the checkpoint
+     */
+    public void save(String name, String value);
+
+    /**
+     * Remove a checkpoint.
+     *
+     * @param name name of the checkpoint
+     */
+    public void remove(String name);
+}
@@ -1,17 +1,17 @@
 package com.exasol.releasedroid.usecases.release;
 
-import static com.exasol.releasedroid.usecases.ReleaseDroidConstants.RELEASE_DROID_STATE_DIRECTORY;
-
 import java.util.*;
 import java.util.logging.Logger;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
+import com.exasol.releasedroid.usecases.ExecutionContext;
 import com.exasol.releasedroid.usecases.exception.ReleaseException;
 import com.exasol.releasedroid.usecases.report.ReleaseReport;
 import com.exasol.releasedroid.usecases.report.Report;
 import com.exasol.releasedroid.usecases.report.ValidationReport;
 import com.exasol.releasedroid.usecases.repository.Repository;
+import com.exasol.releasedroid.usecases.request.Goal;
 import com.exasol.releasedroid.usecases.request.PlatformName;
 import com.exasol.releasedroid.usecases.validate.ValidateUseCase;
 
@@ -22,7 +22,7 @@ public class ReleaseInteractor implements ReleaseUseCase {
     private static final Logger LOGGER = Logger.getLogger(ReleaseInteractor.class.getName());
     private final ValidateUseCase validateUseCase;
     private final Map<PlatformName, ReleaseMaker> releaseMakers;
-    private final ReleaseState releaseState = new ReleaseState(RELEASE_DROID_STATE_DIRECTORY);
+    private final ReleaseState releaseState;
     private final ReleaseManager releaseManager;
 
     /**
@@ -31,12 +31,14 @@ public class ReleaseInteractor implements ReleaseUseCase {
      * @param validateUseCase validate use case for validating the platforms
      * @param releaseMakers   map with platform names and release makers
      * @param releaseManager  instance of {@link ReleaseManager}
+     * @param releaseState    release state
      */
     public ReleaseInteractor(final ValidateUseCase validateUseCase, final Map<PlatformName, ReleaseMaker> releaseMakers,
-            final ReleaseManager releaseManager) {
+            final ReleaseManager releaseManager, final ReleaseState releaseState) {
         this.validateUseCase = validateUseCase;
         this.releaseMakers = releaseMakers;
         this.releaseManager = releaseManager;
+        this.releaseState = releaseState;
     }
 
     @Override
@@ -45,7 +47,8 @@ public class ReleaseInteractor implements ReleaseUseCase {
     public List<Report> release(final Repository repository, final List<PlatformName> platforms,
             final Set<PlatformName> skipValidationOn) {
         try {
-            return makeRelease(repository, platforms, skipValidationOn);
+            return ExecutionContext.current().withGoal(Goal.RELEASE)
+                    .call(() -> makeRelease(repository, platforms, skipValidationOn));
         } catch (final Exception exception) {
             throw new ReleaseException(exception);
         }
@@ -64,22 +67,18 @@ public class ReleaseInteractor implements ReleaseUseCase {
         }
     }
 
+    // [impl->dsn~rd-releases-independent-platforms-in-parallel~1]
     private List<Report> releaseOnPlatforms(final Repository repository, final List<PlatformName> platforms,
             final Set<PlatformName> skipValidationOn) {
         prepareRepositoryForRelease(repository);
         final var validationReport = ValidationReport.create();
         final var releaseReport = ReleaseReport.create();
-        for (final PlatformName platform : platforms) {
-            final var platformValidationReport = this.validateUseCase.validate(repository, List.of(platform),
-                    skipValidationOn);
-            validationReport.merge(platformValidationReport);
-            if (!platformValidationReport.hasFailures()) {
-                final var releaseReportForPlatform = releaseOnPlatform(repository, platform);
-                releaseReport.merge(releaseReportForPlatform);
-                if (releaseReportForPlatform.hasFailures()) {
-                    break;
-                }
-            }
+        final Map<PlatformName, PlatformReleaseResult> results = new ReleaseScheduler(
+                ReleaseScheduler.PLATFORM_DEPENDENCIES, platforms,
+                platform -> validateAndRelease(repository, platform, skipValidationOn)).release();
+        for (final PlatformReleaseResult result : results.values()) {
+            validationReport.merge(result.getValidationReport());
+            result.getReleaseReport().ifPresent(releaseReport::merge);
         }
         if (!releaseReport.hasFailures()) {
             cleanRepositoryAfterRelease(repository);
@@ -87,6 +86,17 @@ public class ReleaseInteractor implements ReleaseUseCase {
         return List.of(validationReport, releaseReport);
     }
 
+    private PlatformReleaseResult validateAndRelease(final Repository repository, final PlatformName platform,
+            final Set<PlatformName> skipValidationOn) {
+        final Report platformValidationReport = this.validateUseCase.validate(repository, List.of(platform),
+                skipValidationOn);
+        if (platformValidationReport.hasFailures()) {
+            return PlatformReleaseResult.of(platformValidationReport);
+        } else {
+            return PlatformReleaseResult.of(platformValidationReport, releaseOnPlatform(repository, platform));
+        }
+    }
+
     private List<PlatformName> getUnreleasedPlatforms(final List<PlatformName> platforms,
             final Set<PlatformName> releasedPlatforms) {
         final List<PlatformName> unreleasedPlatforms = new ArrayList<>();
@@ -0,0 +1,128 @@
+package com.exasol.releasedroid.usecases.release;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.exasol.releasedroid.usecases.ExecutionContext;
+import com.exasol.releasedroid.usecases.request.PlatformName;
+
+/**
+ * Schedules releases on several platforms.
+ * <p>
+ * A platform is released as soon as all platforms it depends on are released, so independent platforms are released
+ * in parallel. If a release fails, all releases which have not started yet are cancelled. Releases which are already
+ * running are not interrupted, they finish so that their state is recorded.
+ * </p>
+ */
+class ReleaseScheduler {
+    private static final Logger LOGGER = Logger.getLogger(ReleaseScheduler.class.getName());
+    static final Map<PlatformName, Set<PlatformName>> PLATFORM_DEPENDENCIES = Map.of( //
+            // The community post links the GitHub release.
+            PlatformName.COMMUNITY, Set.of(PlatformName.GITHUB), //
+            // The Jira ticket links the community post.
+            PlatformName.JIRA, Set.of(PlatformName.COMMUNITY));
+    private final Map<PlatformName, Set<PlatformName>> dependencies;
+    private final List<PlatformName> platforms;
+    private final Function<PlatformName, PlatformReleaseResult> platformRelease;
+    private final Map<PlatformName, CompletableFuture<PlatformReleaseResult>> releases = new ConcurrentHashMap<>();
+    private final AtomicReference<PlatformName> failedPlatform = new AtomicReference<>();
+    private final ExecutorService executor;
+
+    /**
+     * Create a new instance of {@link ReleaseScheduler}.
+     *
+     * @param dependencies    platforms each platform depends on
+     * @param platforms       platforms to release on
+     * @param platformRelease function validating and releasing on a single platform
+     */
+    ReleaseScheduler(final Map<PlatformName, Set<PlatformName>> dependencies, final List<PlatformName> platforms,
+            final Function<PlatformName, PlatformReleaseResult> platformRelease) {
+        this.dependencies = dependencies;
+        this.platforms = platforms;
+        this.platformRelease = platformRelease;
+        this.executor = Executors.newFixedThreadPool(Math.max(platforms.size(), 1));
+    }
+
+    /**
+     * Release on all platforms.
+     *
+     * @return results of all platforms in the order of the platforms
+     */
+    Map<PlatformName, PlatformReleaseResult> release() {
+        try {
+            for (final PlatformName platform : this.platforms) {
+                schedule(platform);
+            }
+            final Map<PlatformName, PlatformReleaseResult> results = new LinkedHashMap<>();
+            for (final PlatformName platform : this.platforms) {
+                results.put(platform, this.releases.get(platform).join());
+            }
+            return results;
+        } finally {
+            this.executor.shutdown();
+        }
+    }
+
+    private CompletableFuture<PlatformReleaseResult> schedule(final PlatformName platform) {
+        if (!this.releases.containsKey(platform)) {
+            final List<PlatformName> platformDependencies = getDependencies(platform);
+            final CompletableFuture<?>[] dependencyReleases = platformDependencies.stream() //
+                    .map(this::schedule) //
+                    .toArray(CompletableFuture[]::new);
+            final ExecutionContext context = ExecutionContext.current();
+            this.releases.put(platform, CompletableFuture.allOf(dependencyReleases).thenApplyAsync(
+                    ignored -> context.call(() -> releaseOnPlatform(platform, platformDependencies)),
+                    this.executor));
+        }
+        return this.releases.get(platform);
+    }
+
+    private List<PlatformName> getDependencies(final PlatformName platform) {
+        return this.dependencies.getOrDefault(platform, Set.of()).stream() //
+                .filter(this.platforms::contains) //
+                .sorted() //
+                .collect(Collectors.toList());
+    }
+
+    private PlatformReleaseResult releaseOnPlatform(final PlatformName platform,
+            final List<PlatformName> platformDependencies) {
+        if (this.failedPlatform.get() != null) {
+            return createCancelledResult(platform);
+        }
+        for (final PlatformName dependency : platformDependencies) {
+            if (!this.releases.get(dependency).join().isReleased()) {
+                LOGGER.info(() -> "Skipping " + platform + " platform, the release on " + dependency
+                        + " platform was not performed.");
+                return PlatformReleaseResult.skipped(platform,
+                        "Release was skipped because the release on " + dependency + " platform was not performed.");
+            }
+        }
+        try {
+            final PlatformReleaseResult result = this.platformRelease.apply(platform);
+            if (result.isReleaseFailed()) {
+                cancelOtherReleases(platform);
+            }
+            return result;
+        } catch (final RuntimeException exception) {
+            cancelOtherReleases(platform);
+            throw exception;
+        }
+    }
+
+    // Releases check for a failure before they start, so only the releases which have not started yet are cancelled.
+    private void cancelOtherReleases(final PlatformName platform) {
+        if (this.failedPlatform.compareAndSet(null, platform)) {
+            LOGGER.warning(() -> "Release on " + platform
+                    + " platform failed. Cancelling releases on other platforms which have not started yet.");
+        }
+    }
+
+    private PlatformReleaseResult createCancelledResult(final PlatformName platform) {
+        return PlatformReleaseResult.skipped(platform,
+                "Release was cancelled because the release on " + this.failedPlatform.get() + " platform failed.");
+    }
+}
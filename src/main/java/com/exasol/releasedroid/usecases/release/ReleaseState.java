@@ -1,13 +1,22 @@
 package com.exasol.releasedroid.usecases.release;
 
-import static com.exasol.releasedroid.usecases.ReleaseDroidConstants.LINE_SEPARATOR;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.json.JSONException;
+import org.json.JSONObject;
 
 import com.exasol.errorreporting.ExaError;
 import com.exasol.releasedroid.usecases.exception.ReleaseException;
@@ -15,9 +24,47 @@ import com.exasol.releasedroid.usecases.request.PlatformName;
 
 /**
  * This class is responsible for the release state.
+ * <p>
+ * The state is stored in a single append-only log file with one record per released platform. Each record carries a
+ * CRC32 checksum and is flushed to the disk before {@link #saveProgress(String, String, PlatformName, String)} returns.
+ * Writers take an exclusive lock on a separate lock file, so parallel Release Droid processes never interleave their
+ * records. An in-memory index of the log answers the queries. Before each query the index reads the records appended
+ * since the last query, so records written by parallel releases are visible too. Records with a wrong checksum (torn
+ * writes) and an incomplete last record left by a crash are ignored.
+ * </p>
+ * <p>
+ * Long releases can also record checkpoints: intermediate steps of a release on one platform. The checkpoints of a
+ * platform are dropped as soon as the release on it succeeded.
+ * </p>
+ * <p>
+ * When the log contains many obsolete records, it is compacted: the current state is written to a temporary file that
+ * atomically replaces the log.
+ * </p>
  */
 public class ReleaseState {
+    private static final Logger LOGGER = Logger.getLogger(ReleaseState.class.getName());
+    private static final Map<Path, Object> PROCESS_LOCKS = new ConcurrentHashMap<>();
+    private static final String STATE_FILE_NAME = "release_state.log";
+    private static final String LOCK_FILE_NAME = "release_state.lock";
+    private static final String COMPACTION_FILE_NAME = "release_state.compact";
+    private static final String REPOSITORY_KEY = "repository";
+    private static final String VERSION_KEY = "version";
+    private static final String PLATFORM_KEY = "platform";
+    private static final String OUTPUT_KEY = "output";
+    private static final String CHECKPOINT_KEY = "checkpoint";
+    private static final String VALUE_KEY = "value";
+    private static final byte RECORD_SEPARATOR = '\n';
+    private static final int CHECKSUM_LENGTH = 8;
+    private static final int COMPACTION_THRESHOLD = 100;
+    private final Map<String, Map<String, Map<PlatformName, String>>> index = new HashMap<>();
+    private final Map<List<String>, Map<String, String>> checkpoints = new HashMap<>();
     private final String directory;
+    private final Path stateFile;
+    private final Path lockFile;
+    private final Object processLock;
+    private Object indexedFileKey = null;
+    private long indexedLength = 0;
+    private int obsoleteRecords = 0;
 
     /**
      * Create a new instance of {@link ReleaseState}.
@@ -26,6 +73,11 @@ public class ReleaseState {
      */
     public ReleaseState(final String directory) {
         this.directory = directory;
+        this.stateFile = Path.of(directory, STATE_FILE_NAME);
+        this.lockFile = Path.of(directory, LOCK_FILE_NAME);
+        // File locks are held by the whole JVM, so the threads of one process must exclude each other separately
+        this.processLock = PROCESS_LOCKS.computeIfAbsent(this.lockFile.toAbsolutePath().normalize(),
+                path -> new Object());
     }
 
     /**
@@ -36,22 +88,40 @@ public class ReleaseState {
      * @param platformName   platform name
      * @param releaseOutput  output to save
      */
-    public void saveProgress(final String repositoryName, final String releaseVersion, final PlatformName platformName,
-            final String releaseOutput) {
+    public synchronized void saveProgress(final String repositoryName, final String releaseVersion,
+            final PlatformName platformName, final String releaseOutput) {
+        final JSONObject record = createRecord(repositoryName, releaseVersion, platformName);
+        record.put(OUTPUT_KEY, releaseOutput == null ? "" : releaseOutput);
+        writeRecord(record);
+    }
+
+    private JSONObject createRecord(final String repositoryName, final String releaseVersion,
+            final PlatformName platformName) {
+        return new JSONObject().put(REPOSITORY_KEY, repositoryName).put(VERSION_KEY, releaseVersion)
+                .put(PLATFORM_KEY, platformName.name());
+    }
+
+    private synchronized void writeRecord(final JSONObject record) {
         final Path pathToDirectory = Path.of(this.directory);
         if (!Files.exists(pathToDirectory)) {
             createDirectory(pathToDirectory);
         }
-        final Path pathToProgressFile = getPathToProgressFile(repositoryName, releaseVersion);
-        if (!Files.exists(pathToProgressFile)) {
-            createProgressFile(pathToProgressFile);
+        synchronized (this.processLock) {
+            try (final FileChannel lockChannel = openLockChannel(); final FileLock lock = lockChannel.lock()) {
+                appendRecords(List.of(record));
+                refreshIndex();
+                if (this.obsoleteRecords >= COMPACTION_THRESHOLD) {
+                    compact();
+                }
+            } catch (final IOException exception) {
+                throw new ReleaseException(getWriteErrorMessage(), exception);
+            }
         }
-        writeProgress(pathToProgressFile, platformName.toString(), releaseOutput);
     }
 
     private void createDirectory(final Path directory) {
         try {
-            Files.createDirectory(directory);
+            Files.createDirectories(directory);
         } catch (final IOException exception) {
             throw new ReleaseException(ExaError.messageBuilder("E-RD-13")
                     .message("Unable to create the release progress directory: {{directory}}", this.directory)
@@ -59,34 +129,78 @@ public class ReleaseState {
         }
     }
 
-    private void createProgressFile(final Path pathToProgressFile) {
-        try {
-            Files.createFile(pathToProgressFile);
-        } catch (final IOException exception) {
-            throw new ReleaseException(ExaError.messageBuilder("E-RD-11")
-                    .message("Unable to create the release progress file.")
-                    .mitigation(
-                            "Please make sure that your use has writing access to the following directory: {{directory}}",
-                            this.directory)
-                    .toString(), exception);
+    private FileChannel openLockChannel() throws IOException {
+        return FileChannel.open(this.lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    }
+
+    // Must be called while holding the exclusive lock
+    private void appendRecords(final List<JSONObject> records) throws IOException {
+        try (final FileChannel channel = FileChannel.open(this.stateFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.truncate(getEndOfLastCompleteRecord(channel));
+            channel.position(channel.size());
+            writeRecords(channel, records);
         }
     }
 
-    private void writeProgress(final Path pathToProgressFile, final String platformName, final String releaseOutput) {
-        try {
-            Files.write(pathToProgressFile, renderWriteString(platformName, releaseOutput).getBytes(),
-                    StandardOpenOption.APPEND);
-        } catch (final IOException exception) {
-            throw new ReleaseException(ExaError.messageBuilder("E-RD-14")
-                    .message("Unable to save the release progress to the file {{pathToProgressFile}}",
-                            pathToProgressFile)
-                    .mitigation("Please make sure that your use has writing access to the mentioned file.").toString(),
-                    exception);
+    // Nobody else is writing, so an incomplete last record is a torn write of a crashed process
+    private long getEndOfLastCompleteRecord(final FileChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(1);
+        for (long position = channel.size() - 1; position >= 0; position--) {
+            buffer.clear();
+            channel.read(buffer, position);
+            if (buffer.get(0) == RECORD_SEPARATOR) {
+                return position + 1;
+            }
+        }
+        return 0;
+    }
+
+    private void writeRecords(final FileChannel channel, final List<JSONObject> records) throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        for (final JSONObject record : records) {
+            final String json = record.toString();
+            builder.append(String.format("%08x", checksum(json))).append(' ').append(json)
+                    .append((char) RECORD_SEPARATOR);
         }
+        final ByteBuffer buffer = ByteBuffer.wrap(builder.toString().getBytes(UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(true);
+    }
+
+    private static long checksum(final String json) {
+        final CRC32 crc = new CRC32();
+        crc.update(json.getBytes(UTF_8));
+        return crc.getValue();
+    }
+
+    private String getWriteErrorMessage() {
+        return ExaError.messageBuilder("E-RD-14")
+                .message("Unable to save the release progress to the file {{pathToProgressFile}}", this.stateFile)
+                .mitigation("Please make sure that your use has writing access to the mentioned file.").toString();
     }
 
-    private String renderWriteString(final String platformName, final String releaseOutput) {
-        return platformName + "::" + releaseOutput + LINE_SEPARATOR;
+    // Must be called while holding the exclusive lock
+    private void compact() throws IOException {
+        final List<JSONObject> records = new ArrayList<>();
+        this.index.forEach((repository, releases) -> releases.forEach((version, progress) -> progress
+                .forEach((platform, output) -> records.add(new JSONObject().put(REPOSITORY_KEY, repository)
+                        .put(VERSION_KEY, version).put(PLATFORM_KEY, platform.name()).put(OUTPUT_KEY, output)))));
+        this.checkpoints.forEach((key, values) -> values.forEach((name, value) -> records.add(new JSONObject()
+                .put(REPOSITORY_KEY, key.get(0)).put(VERSION_KEY, key.get(1)).put(PLATFORM_KEY, key.get(2))
+                .put(CHECKPOINT_KEY, name).put(VALUE_KEY, value))));
+        final Path compactionFile = Path.of(this.directory, COMPACTION_FILE_NAME);
+        try (final FileChannel channel = FileChannel.open(compactionFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeRecords(channel, records);
+        }
+        Files.move(compactionFile, this.stateFile, StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        LOGGER.fine(() -> "Compacted the release state file " + this.stateFile + ".");
+        resetIndex();
+        refreshIndex();
     }
 
     /**
@@ -96,21 +210,212 @@ public class ReleaseState {
      * @param releaseVersion release version
      * @return map of platforms where release succeeded with platform output
      */
-    public Map<PlatformName, String> getProgress(final String repositoryName, final String releaseVersion) {
-        final Path pathToProgressFile = getPathToProgressFile(repositoryName, releaseVersion);
-        if (Files.exists(pathToProgressFile)) {
-            return extractProgress(pathToProgressFile);
-        } else {
-            return Collections.emptyMap();
+    public synchronized Map<PlatformName, String> getProgress(final String repositoryName,
+            final String releaseVersion) {
+        refreshIndexWithLock();
+        final Map<PlatformName, String> progress = new EnumMap<>(PlatformName.class);
+        progress.putAll(readLegacyProgress(repositoryName, releaseVersion));
+        progress.putAll(this.index.getOrDefault(repositoryName, Map.of()).getOrDefault(releaseVersion, Map.of()));
+        return progress;
+    }
+
+    /**
+     * Get the progress of all releases of a repository recorded in the state log.
+     *
+     * @param repositoryName repository name
+     * @return map of release versions and the platforms where the release succeeded with the platform output
+     */
+    public synchronized Map<String, Map<PlatformName, String>> getReleases(final String repositoryName) {
+        refreshIndexWithLock();
+        final Map<String, Map<PlatformName, String>> releases = new TreeMap<>();
+        this.index.getOrDefault(repositoryName, Map.of())
+                .forEach((version, progress) -> releases.put(version, new EnumMap<>(progress)));
+        return releases;
+    }
+
+    /**
+     * Get the platforms on which a release has not succeeded yet.
+     *
+     * @param repositoryName repository name
+     * @param releaseVersion release version
+     * @param platforms      platforms of the release
+     * @return platforms without a successful release in the order of the given platforms
+     */
+    public List<PlatformName> getPendingPlatforms(final String repositoryName, final String releaseVersion,
+            final List<PlatformName> platforms) {
+        final Set<PlatformName> releasedPlatforms = getProgress(repositoryName, releaseVersion).keySet();
+        return platforms.stream().filter(platform -> !releasedPlatforms.contains(platform))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the checkpoints of a release on a platform.
+     * <p>
+     * The returned checkpoints read and write this release state.
+     * </p>
+     *
+     * @param repositoryName repository name
+     * @param releaseVersion release version
+     * @param platformName   platform name
+     * @return checkpoints of the release on the platform
+     */
+    public ReleaseCheckpoints getCheckpoints(final String repositoryName, final String releaseVersion,
+            final PlatformName platformName) {
+        return new ReleaseCheckpoints() {
+            @Override
+            public Optional<String> get(final String name) {
+                return getCheckpoint(repositoryName, releaseVersion, platformName, name);
+            }
+
+            @Override
+            public void save(final String name, final String value) {
+                writeRecord(createRecord(repositoryName, releaseVersion, platformName).put(CHECKPOINT_KEY, name)
+                        .put(VALUE_KEY, value));
+            }
+
+            @Override
+            public void remove(final String name) {
+                // A checkpoint record without a value removes the checkpoint
+                writeRecord(createRecord(repositoryName, releaseVersion, platformName).put(CHECKPOINT_KEY, name));
+            }
+        };
+    }
+
+    private synchronized Optional<String> getCheckpoint(final String repositoryName, final String releaseVersion,
+            final PlatformName platformName, final String name) {
+        refreshIndexWithLock();
+        return Optional.ofNullable(this.checkpoints
+                .getOrDefault(List.of(repositoryName, releaseVersion, platformName.name()), Map.of()).get(name));
+    }
+
+    private void refreshIndexWithLock() {
+        if (!Files.exists(this.stateFile)) {
+            return;
+        }
+        synchronized (this.processLock) {
+            try (final FileChannel lockChannel = openLockChannel(); final FileLock lock = lockChannel.lock()) {
+                refreshIndex();
+            } catch (final IOException exception) {
+                throw new ReleaseException(getReadErrorMessage(), exception);
+            }
         }
     }
 
-    private Path getPathToProgressFile(final String repositoryName, final String releaseVersion) {
-        final String fileName = repositoryName.replace("/", "_") + "_" + releaseVersion;
-        return Path.of(this.directory, fileName);
+    private String getReadErrorMessage() {
+        return ExaError.messageBuilder("E-RD-26")
+                .message("Unable to read the release state file {{stateFile}}.", this.stateFile).toString();
     }
 
-    private Map<PlatformName, String> extractProgress(final Path path) {
+    private void refreshIndex() throws IOException {
+        try (final FileChannel channel = FileChannel.open(this.stateFile, StandardOpenOption.READ)) {
+            final Object fileKey = Files.readAttributes(this.stateFile, BasicFileAttributes.class).fileKey();
+            final long size = channel.size();
+            // The log was replaced by a compaction in another process
+            if (size < this.indexedLength || !Objects.equals(fileKey, this.indexedFileKey)) {
+                resetIndex();
+                this.indexedFileKey = fileKey;
+            }
+            if (size > this.indexedLength) {
+                final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size - this.indexedLength));
+                while (buffer.hasRemaining() && (channel.read(buffer, this.indexedLength + buffer.position()) >= 0)) {
+                    // read until the buffer is full
+                }
+                indexRecords(buffer.array(), buffer.position());
+            }
+        }
+    }
+
+    private void resetIndex() {
+        this.index.clear();
+        this.checkpoints.clear();
+        this.indexedLength = 0;
+        this.obsoleteRecords = 0;
+    }
+
+    private void indexRecords(final byte[] bytes, final int length) {
+        int recordStart = 0;
+        for (int position = 0; position < length; position++) {
+            if (bytes[position] == RECORD_SEPARATOR) {
+                indexRecord(new String(bytes, recordStart, position - recordStart, UTF_8));
+                recordStart = position + 1;
+            }
+        }
+        // An incomplete record at the end is read again with the next refresh
+        this.indexedLength += recordStart;
+    }
+
+    private void indexRecord(final String line) {
+        if (line.isBlank()) {
+            return;
+        }
+        try {
+            final JSONObject record = new JSONObject(verifyChecksum(line));
+            if (record.has(CHECKPOINT_KEY)) {
+                indexCheckpoint(record);
+            } else {
+                indexProgress(record);
+            }
+        } catch (final JSONException | IllegalArgumentException exception) {
+            this.obsoleteRecords++;
+            LOGGER.warning(() -> "Ignoring an invalid record in the release state file " + this.stateFile + ": "
+                    + exception.getMessage());
+        }
+    }
+
+    private void indexProgress(final JSONObject record) {
+        final String repository = record.getString(REPOSITORY_KEY);
+        final String version = record.getString(VERSION_KEY);
+        final PlatformName platform = PlatformName.valueOf(record.getString(PLATFORM_KEY));
+        final String previousOutput = this.index.computeIfAbsent(repository, key -> new HashMap<>())
+                .computeIfAbsent(version, key -> new EnumMap<>(PlatformName.class))
+                .put(platform, record.getString(OUTPUT_KEY));
+        if (previousOutput != null) {
+            this.obsoleteRecords++;
+        }
+        final Map<String, String> platformCheckpoints = this.checkpoints
+                .remove(List.of(repository, version, platform.name()));
+        if (platformCheckpoints != null) {
+            this.obsoleteRecords += platformCheckpoints.size();
+        }
+    }
+
+    private void indexCheckpoint(final JSONObject record) {
+        final List<String> key = List.of(record.getString(REPOSITORY_KEY), record.getString(VERSION_KEY),
+                PlatformName.valueOf(record.getString(PLATFORM_KEY)).name());
+        final Map<String, String> platformCheckpoints = this.checkpoints.computeIfAbsent(key,
+                ignored -> new HashMap<>());
+        final String name = record.getString(CHECKPOINT_KEY);
+        final String previousValue = record.has(VALUE_KEY) ? platformCheckpoints.put(name, record.getString(VALUE_KEY))
+                : platformCheckpoints.remove(name);
+        if (previousValue != null) {
+            this.obsoleteRecords++;
+        }
+        if (!record.has(VALUE_KEY)) {
+            this.obsoleteRecords++;
+        }
+        if (platformCheckpoints.isEmpty()) {
+            this.checkpoints.remove(key);
+        }
+    }
+
+    private String verifyChecksum(final String line) {
+        if ((line.length() <= CHECKSUM_LENGTH) || (line.charAt(CHECKSUM_LENGTH) != ' ')) {
+            throw new IllegalArgumentException("The record has no checksum.");
+        }
+        final String json = line.substring(CHECKSUM_LENGTH + 1);
+        if (Long.parseLong(line.substring(0, CHECKSUM_LENGTH), 16) != checksum(json)) {
+            throw new IllegalArgumentException("The record checksum does not match.");
+        }
+        return json;
+    }
+
+    // Release progress written by earlier versions to one file per release
+    private Map<PlatformName, String> readLegacyProgress(final String repositoryName, final String releaseVersion) {
+        final String fileName = repositoryName.replace("/", "_") + "_" + releaseVersion;
+        final Path path = Path.of(this.directory, fileName);
+        if (!Files.exists(path)) {
+            return Map.of();
+        }
         try (final Stream<String> lines = Files.lines(path)) {
             final Map<PlatformName, String> map = new HashMap<>();
             lines.forEach(platform -> {
@@ -130,4 +435,4 @@ public class ReleaseState {
     private PlatformName getPlatformName(final String[] releaseStateSplitLine) {
         return PlatformName.valueOf(releaseStateSplitLine[0].toUpperCase(Locale.ROOT));
     }
-}
\ No newline at end of file
+}
@@ -31,7 +31,9 @@ public abstract class AbstractReport implements Report {
     @Override
     public void merge(final Report report) {
         for (final Result result : report.getResults()) {
-            addResult(result);
+            final var copy = new Result(!result.isFailed(), result.getActionDescription(), result.getMessage());
+            copy.addPlatforms(result.getPlatformNames());
+            addResult(copy);
         }
     }
 
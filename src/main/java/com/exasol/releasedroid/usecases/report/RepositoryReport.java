@@ -0,0 +1,23 @@
+package com.exasol.releasedroid.usecases.report;
+
+/**
+ * Report for a single repository of a batch run.
+ */
+public class RepositoryReport extends AbstractReport {
+    private RepositoryReport(final String reportName) {
+        super(reportName, null);
+    }
+
+    /**
+     * Create a new instance of {@link RepositoryReport}.
+     *
+     * @param fullRepositoryName full name of the repository
+     * @param report             report of the repository
+     * @return new instance of {@link RepositoryReport}
+     */
+    public static RepositoryReport create(final String fullRepositoryName, final Report report) {
+        final var repositoryReport = new RepositoryReport(fullRepositoryName + " " + report.getReportName());
+        repositoryReport.merge(report);
+        return repositoryReport;
+    }
+}
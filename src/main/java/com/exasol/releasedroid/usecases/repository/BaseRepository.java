@@ -2,9 +2,9 @@ package com.exasol.releasedroid.usecases.repository;
 
 import static com.exasol.releasedroid.usecases.ReleaseDroidConstants.RELEASE_CONFIG_PATH;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import com.exasol.releasedroid.usecases.exception.RepositoryException;
 
@@ -15,7 +15,10 @@ public abstract class BaseRepository implements Repository {
     public static final String CHANGELOG_FILE_PATH = "doc/changes/changelog.md";
 
     private final Map<String, ReleaseLetter> releaseLetters = new HashMap<>();
+    private final Map<String, Object> parsedFiles = new ConcurrentHashMap<>();
+    private final Set<String> readFilePaths = ConcurrentHashMap.newKeySet();
     private final RepositoryGate repositoryGate;
+    private String version;
 
     /**
      * Create a new instance of {@link BaseRepository}.
@@ -29,19 +32,46 @@ public abstract class BaseRepository implements Repository {
     @Override
     public Optional<ReleaseConfig> getReleaseConfig() {
         try {
-            return Optional.of(ReleaseConfigParser.parse(getSingleFileContentAsString(RELEASE_CONFIG_PATH)));
+            return Optional
+                    .of(getParsedFileContent(RELEASE_CONFIG_PATH, ReleaseConfig.class, ReleaseConfigParser::parse));
         } catch (final RepositoryException exception) {
             return Optional.empty();
         }
     }
 
+    @Override
+    public <T> T getParsedFileContent(final String filePath, final Class<T> type, final Function<String, T> parser) {
+        return type.cast(this.parsedFiles.computeIfAbsent(filePath + ":" + type.getName(),
+                key -> parser.apply(getSingleFileContentAsString(filePath))));
+    }
+
+    @Override
+    public synchronized String getVersion() {
+        if (this.version == null) {
+            this.version = readVersion();
+        }
+        return this.version;
+    }
+
+    /**
+     * Read the current project version from the repository files.
+     *
+     * @return version as a string
+     */
+    protected abstract String readVersion();
+
     @Override
     public String getChangelogFile() {
         return getSingleFileContentAsString(CHANGELOG_FILE_PATH);
     }
 
     @Override
-    public ReleaseLetter getReleaseLetter(final String version) {
+    public Set<String> getReadFilePaths() {
+        return Set.copyOf(this.readFilePaths);
+    }
+
+    @Override
+    public synchronized ReleaseLetter getReleaseLetter(final String version) {
         if (!this.releaseLetters.containsKey(version)) {
             final String fileName = "changes_" + version + ".md";
             final String filePath = "doc/changes/" + fileName;
@@ -61,14 +91,29 @@ public abstract class BaseRepository implements Repository {
         return this.repositoryGate.getLatestTag();
     }
 
+    @Override
+    public TagIndex getTagIndex() {
+        return this.repositoryGate.getTagIndex();
+    }
+
     @Override
     public String getSingleFileContentAsString(final String filePath) {
+        this.readFilePaths.add(filePath);
         return this.repositoryGate.getSingleFileContentAsString(filePath);
     }
 
     @Override
-    public void updateFileContent(final String filePath, final String newContent, final String commitMessage) {
+    public Map<String, String> getFileHashes(final Set<String> filePaths) {
+        return this.repositoryGate.getFileHashes(filePaths);
+    }
+
+    @Override
+    public synchronized void updateFileContent(final String filePath, final String newContent,
+            final String commitMessage) {
         this.repositoryGate.updateFileContent(filePath, newContent, commitMessage);
+        this.parsedFiles.clear();
+        this.releaseLetters.clear();
+        this.version = null;
     }
 
     @Override
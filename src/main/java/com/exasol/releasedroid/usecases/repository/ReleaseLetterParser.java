@@ -5,16 +5,26 @@ import static com.exasol.releasedroid.usecases.ReleaseDroidConstants.VERSION_REG
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.exasol.releasedroid.usecases.repository.ReleaseLetter.Builder;
 
+/**
+ * Parser for release letters.
+ * <p>
+ * The parser scans the content once by index. The patterns are compiled once, the first line is matched as a region of
+ * the content and the ticket numbers are read directly from the content, so only the parts that end up in the
+ * {@link ReleaseLetter} are copied.
+ * </p>
+ */
 public final class ReleaseLetterParser {
-    private static final String DATE_REGEX = "\\d{4}-\\d{2}-\\d{2}";
-    private static final String TICKET_NUMBER_REGEX = "\\* #[1-9]\\d*\\b";
+    private static final Pattern VERSION_PATTERN = Pattern.compile(VERSION_REGEX);
+    private static final Pattern DATE_PATTERN = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+    private static final String BODY_START = "##";
+    private static final String CODE_NAME_TAG = "code name:";
+    private static final String TICKET_PREFIX = "* #";
 
     private final Builder builder;
     private final String content;
@@ -41,81 +51,99 @@ public final class ReleaseLetterParser {
     }
 
     private void parseContent() {
-        final List<String> contentParts = divideContent();
-        if (contentParts.size() == 2) {
-            parseHeaders(contentParts.get(0));
-            parseBody(contentParts.get(1));
+        final int bodyStart = this.content.indexOf(BODY_START);
+        if (bodyStart != -1) {
+            parseHeaders(bodyStart);
+            parseBody(bodyStart);
         }
     }
 
-    private List<String> divideContent() {
-        final int divideIndex = this.content.indexOf("##");
-        if (divideIndex != -1) {
-            final String headersPart = this.content.substring(0, divideIndex);
-            final String bodyPart = this.content.substring(divideIndex);
-            return List.of(headersPart, bodyPart);
-        } else {
-            return Collections.emptyList();
-        }
-    }
-
-    private void parseHeaders(final String headerPart) {
-        final String versionNumber = parseVersionNumber(headerPart);
-        final LocalDate releaseDate = parseReleaseDate(headerPart);
-        final String header = parseHeader(headerPart);
-        this.builder.versionNumber(versionNumber).releaseDate(releaseDate).header(header);
+    private void parseHeaders(final int headersEnd) {
+        final int firstLineEnd = getFirstLineEnd(headersEnd);
+        this.builder.versionNumber(findFirst(VERSION_PATTERN, firstLineEnd)) //
+                .releaseDate(parseReleaseDate(firstLineEnd)) //
+                .header(parseHeader(headersEnd));
     }
 
-    private void parseBody(final String bodyPart) {
-        final List<Integer> ticketNumbers = parseTicketNumbers(bodyPart);
-        this.builder.body(bodyPart).ticketNumbers(ticketNumbers);
+    private void parseBody(final int bodyStart) {
+        this.builder.body(this.content.substring(bodyStart)).ticketNumbers(parseTicketNumbers(bodyStart));
     }
 
-    private String parseVersionNumber(final String headerPart) {
-        final String firstLine = getFirstLine(headerPart);
-        final List<String> versionNumberList = getExpressionsByRegex(firstLine, VERSION_REGEX);
-        return (!versionNumberList.isEmpty()) ? versionNumberList.get(0) : null;
+    private int getFirstLineEnd(final int headersEnd) {
+        final int firstLineEnd = this.content.indexOf(LINE_SEPARATOR);
+        return ((firstLineEnd == -1) || (firstLineEnd > headersEnd)) ? headersEnd : firstLineEnd;
     }
 
-    private LocalDate parseReleaseDate(final String headerPart) {
-        final String firstLine = getFirstLine(headerPart);
-        final List<String> releaseDateList = getExpressionsByRegex(firstLine, DATE_REGEX);
-        return (!releaseDateList.isEmpty()) ? LocalDate.parse(releaseDateList.get(0)) : null;
+    // A region with the default opaque bounds matches like a substring of the content.
+    private String findFirst(final Pattern pattern, final int end) {
+        final Matcher matcher = pattern.matcher(this.content).region(0, end);
+        return matcher.find() ? matcher.group() : null;
     }
 
-    private String getFirstLine(final String headerPart) {
-        final int firstLineEnd = headerPart.indexOf(LINE_SEPARATOR);
-        return firstLineEnd == -1 ? headerPart : headerPart.substring(0, firstLineEnd);
+    private LocalDate parseReleaseDate(final int firstLineEnd) {
+        final String releaseDate = findFirst(DATE_PATTERN, firstLineEnd);
+        return releaseDate == null ? null : LocalDate.parse(releaseDate);
     }
 
-    private String parseHeader(final String headerPart) {
-        final String targetTag = "code name:";
-        final int startIndex = headerPart.toLowerCase().indexOf(targetTag);
-        if (startIndex != -1) {
-            final String header = headerPart.substring(startIndex + targetTag.length()).strip();
-            return header.isEmpty() ? null : header;
-        } else {
+    private String parseHeader(final int headersEnd) {
+        final int tagStart = indexOfIgnoreCase(CODE_NAME_TAG, headersEnd);
+        if (tagStart == -1) {
             return null;
         }
+        int start = tagStart + CODE_NAME_TAG.length();
+        int end = headersEnd;
+        while ((start < end) && Character.isWhitespace(this.content.charAt(start))) {
+            ++start;
+        }
+        while ((end > start) && Character.isWhitespace(this.content.charAt(end - 1))) {
+            --end;
+        }
+        return start == end ? null : this.content.substring(start, end);
     }
 
-    private List<String> getExpressionsByRegex(final String content, final String regex) {
-        final Pattern versionPattern = Pattern.compile(regex);
-        final Matcher matcher = versionPattern.matcher(content);
-        final List<String> found = new ArrayList<>();
-        while (matcher.find()) {
-            found.add(matcher.group());
+    private int indexOfIgnoreCase(final String text, final int end) {
+        for (int index = 0; index <= (end - text.length()); ++index) {
+            if (this.content.regionMatches(true, index, text, 0, text.length())) {
+                return index;
+            }
         }
-        return found;
+        return -1;
     }
 
-    private List<Integer> parseTicketNumbers(final String body) {
-        final List<String> hashtags = getExpressionsByRegex(body, TICKET_NUMBER_REGEX);
+    // Ticket references look like "* #<number>" with a number without leading zeros that is not followed by a word
+    // character.
+    private List<Integer> parseTicketNumbers(final int bodyStart) {
         final List<Integer> numbers = new ArrayList<>();
-        for (final String hashtag : hashtags) {
-            final int ticketNumber = Integer.parseInt(hashtag.substring(3));
-            numbers.add(ticketNumber);
+        int prefixStart = this.content.indexOf(TICKET_PREFIX, bodyStart);
+        while (prefixStart != -1) {
+            final int numberStart = prefixStart + TICKET_PREFIX.length();
+            final int numberEnd = skipDigits(numberStart);
+            if ((numberEnd > numberStart) && (this.content.charAt(numberStart) != '0') && isWordEnd(numberEnd)) {
+                numbers.add(Integer.parseInt(this.content, numberStart, numberEnd, 10));
+            }
+            prefixStart = this.content.indexOf(TICKET_PREFIX, numberEnd);
         }
         return numbers;
     }
-}
\ No newline at end of file
+
+    private int skipDigits(final int start) {
+        int index = start;
+        while ((index < this.content.length()) && isAsciiDigit(this.content.charAt(index))) {
+            ++index;
+        }
+        return index;
+    }
+
+    private static boolean isAsciiDigit(final char character) {
+        return (character >= '0') && (character <= '9');
+    }
+
+    private boolean isWordEnd(final int index) {
+        if (index == this.content.length()) {
+            return true;
+        }
+        final int codePoint = this.content.codePointAt(index);
+        return !(Character.isLetterOrDigit(codePoint) || (codePoint == '_')
+                || (Character.getType(codePoint) == Character.NON_SPACING_MARK));
+    }
+}
@@ -1,8 +1,7 @@
 package com.exasol.releasedroid.usecases.repository;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
 
 import com.exasol.releasedroid.usecases.request.PlatformName;
 import com.exasol.releasedroid.usecases.validate.ReleasePlatformValidator;
@@ -19,6 +18,17 @@ public interface Repository extends RepositoryGate {
      */
     public Optional<ReleaseConfig> getReleaseConfig();
 
+    /**
+     * Get the parsed content of a file. The parsed content is kept until the file is updated.
+     *
+     * @param filePath path of the file
+     * @param type     type of the parsed content
+     * @param parser   parser for the file content
+     * @param <T>      type of the parsed content
+     * @return parsed content
+     */
+    public <T> T getParsedFileContent(final String filePath, final Class<T> type, final Function<String, T> parser);
+
     /**
      * Get a changelog file as a string.
      *
@@ -26,6 +36,13 @@ public interface Repository extends RepositoryGate {
      */
     public String getChangelogFile();
 
+    /**
+     * Get the paths of all files which were read from this repository so far.
+     *
+     * @return paths of the read files
+     */
+    public Set<String> getReadFilePaths();
+
     /**
      * Get a changes file as an instance of {@link ReleaseLetter}.
      *
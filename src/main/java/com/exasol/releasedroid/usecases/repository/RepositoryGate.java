@@ -1,6 +1,6 @@
 package com.exasol.releasedroid.usecases.repository;
 
-import java.util.Optional;
+import java.util.*;
 
 /**
  * Gate to access a repository content.
@@ -14,6 +14,14 @@ public interface RepositoryGate {
      */
     public String getSingleFileContentAsString(final String filePath);
 
+    /**
+     * Get the git blob hashes of files in this repository.
+     *
+     * @param filePaths paths of the files
+     * @return map with file paths as keys and blob hashes as values; files that don't exist are not contained
+     */
+    public Map<String, String> getFileHashes(final Set<String> filePaths);
+
     /**
      * Update a single file with a single commit.
      *
@@ -44,6 +52,13 @@ public interface RepositoryGate {
      */
     public Optional<String> getLatestTag();
 
+    /**
+     * Get the index of the version tags.
+     *
+     * @return tag index
+     */
+    public TagIndex getTagIndex();
+
     /**
      * Fet repository's full name.
      *
@@ -0,0 +1,156 @@
+package com.exasol.releasedroid.usecases.repository;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A semantic version {@code <major>.<minor>.<fix>} with optional pre-release and build metadata, e.g.
+ * {@code 1.2.0-rc.1+20210601}.
+ * <p>
+ * Versions are ordered as defined by the semantic versioning specification: a pre-release comes before the release
+ * with the same version numbers, and build metadata does not change the precedence.
+ * </p>
+ */
+public final class SemanticVersion implements Comparable<SemanticVersion> {
+    private static final Pattern VERSION_PATTERN = Pattern
+            .compile("(\\d+)\\.(\\d+)\\.(\\d+)(?:-([0-9A-Za-z-]+(?:\\.[0-9A-Za-z-]+)*))?(?:\\+([0-9A-Za-z.-]+))?");
+    private final String tag;
+    private final int major;
+    private final int minor;
+    private final int fix;
+    private final String[] preRelease;
+    private final String build;
+
+    private SemanticVersion(final String tag, final int major, final int minor, final int fix,
+            final String[] preRelease, final String build) {
+        this.tag = tag;
+        this.major = major;
+        this.minor = minor;
+        this.fix = fix;
+        this.preRelease = preRelease;
+        this.build = build;
+    }
+
+    /**
+     * Parse a version.
+     *
+     * @param tag version or tag name
+     * @return parsed version or empty optional if the tag is not a semantic version
+     */
+    public static Optional<SemanticVersion> parse(final String tag) {
+        if (tag == null) {
+            return Optional.empty();
+        }
+        final Matcher matcher = VERSION_PATTERN.matcher(tag);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        try {
+            final String preRelease = matcher.group(4);
+            return Optional.of(new SemanticVersion(tag, Integer.parseInt(matcher.group(1)),
+                    Integer.parseInt(matcher.group(2)), Integer.parseInt(matcher.group(3)),
+                    preRelease == null ? new String[0] : preRelease.split("\\."),
+                    matcher.group(5) == null ? "" : matcher.group(5)));
+        } catch (final NumberFormatException exception) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Check if this version is a pre-release.
+     *
+     * @return true if the version has a pre-release part
+     */
+    public boolean isPreRelease() {
+        return this.preRelease.length > 0;
+    }
+
+    /**
+     * Get the versions that may follow this version: the next major, minor and fix release.
+     *
+     * @return possible next versions
+     */
+    public Set<String> getSuccessors() {
+        final Set<String> successors = new LinkedHashSet<>();
+        successors.add((this.major + 1) + ".0.0");
+        successors.add(this.major + "." + (this.minor + 1) + ".0");
+        successors.add(this.major + "." + this.minor + "." + (this.fix + 1));
+        return successors;
+    }
+
+    /**
+     * Check if this version may follow another version.
+     *
+     * @param previous previous version
+     * @return true if this version is the next major, minor or fix release of the previous version
+     */
+    public boolean isSuccessorOf(final SemanticVersion previous) {
+        return previous.getSuccessors().contains(this.major + "." + this.minor + "." + this.fix) && !isPreRelease();
+    }
+
+    @Override
+    public int compareTo(final SemanticVersion other) {
+        int result = Integer.compare(this.major, other.major);
+        if (result == 0) {
+            result = Integer.compare(this.minor, other.minor);
+        }
+        if (result == 0) {
+            result = Integer.compare(this.fix, other.fix);
+        }
+        if (result == 0) {
+            result = comparePreRelease(other);
+        }
+        // Build metadata has no precedence, it only keeps different tags apart.
+        return result == 0 ? this.build.compareTo(other.build) : result;
+    }
+
+    private int comparePreRelease(final SemanticVersion other) {
+        if ((this.preRelease.length == 0) || (other.preRelease.length == 0)) {
+            // A release comes after its pre-releases.
+            return Boolean.compare(this.preRelease.length == 0, other.preRelease.length == 0);
+        }
+        for (int index = 0; index < Math.min(this.preRelease.length, other.preRelease.length); ++index) {
+            final int result = compareIdentifiers(this.preRelease[index], other.preRelease[index]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(this.preRelease.length, other.preRelease.length);
+    }
+
+    // Numeric identifiers are compared numerically and come before alphanumeric identifiers.
+    private static int compareIdentifiers(final String first, final String second) {
+        final boolean firstIsNumeric = first.chars().allMatch(Character::isDigit);
+        final boolean secondIsNumeric = second.chars().allMatch(Character::isDigit);
+        if (firstIsNumeric && secondIsNumeric) {
+            return first.length() != second.length() ? Integer.compare(first.length(), second.length())
+                    : first.compareTo(second);
+        } else if (firstIsNumeric || secondIsNumeric) {
+            return firstIsNumeric ? -1 : 1;
+        } else {
+            return first.compareTo(second);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof SemanticVersion)) {
+            return false;
+        }
+        return compareTo((SemanticVersion) other) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.major, this.minor, this.fix, Arrays.hashCode(this.preRelease), this.build);
+    }
+
+    @Override
+    public String toString() {
+        return this.tag;
+    }
+}
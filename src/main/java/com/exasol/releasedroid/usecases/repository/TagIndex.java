@@ -0,0 +1,106 @@
+package com.exasol.releasedroid.usecases.repository;
+
+import java.util.*;
+
+/**
+ * Index of the version tags of a repository.
+ * <p>
+ * The tags are parsed once into {@link SemanticVersion}s and kept sorted, so the latest and the previous version are
+ * found in logarithmic time. Tags that are not semantic versions are ignored. New tags can be added to an existing
+ * index.
+ * </p>
+ */
+public class TagIndex {
+    private final NavigableMap<SemanticVersion, String> versions = new TreeMap<>();
+    private final NavigableSet<SemanticVersion> releases = new TreeSet<>();
+
+    /**
+     * Create a new instance of {@link TagIndex}.
+     *
+     * @param tags names of the tags
+     */
+    public TagIndex(final Collection<String> tags) {
+        addTags(tags);
+    }
+
+    /**
+     * Add tags to the index.
+     *
+     * @param tags names of the tags
+     * @return names of the version tags that were not in the index before
+     */
+    public synchronized List<String> addTags(final Collection<String> tags) {
+        final List<String> addedTags = new ArrayList<>();
+        for (final String tag : tags) {
+            final Optional<SemanticVersion> version = SemanticVersion.parse(tag);
+            if (version.isPresent() && (this.versions.putIfAbsent(version.get(), tag) == null)) {
+                addedTags.add(tag);
+                if (!version.get().isPreRelease()) {
+                    this.releases.add(version.get());
+                }
+            }
+        }
+        return addedTags;
+    }
+
+    /**
+     * Check if the index contains a tag.
+     *
+     * @param tag name of the tag
+     * @return true if the index contains the tag
+     */
+    public synchronized boolean contains(final String tag) {
+        return SemanticVersion.parse(tag).map(this.versions::containsKey).orElse(false);
+    }
+
+    /**
+     * Get the tag of the latest release. Pre-releases are not considered.
+     *
+     * @return tag with the highest release version or empty optional if there is no release
+     */
+    public synchronized Optional<String> getLatest() {
+        return this.releases.isEmpty() ? Optional.empty() : Optional.of(this.versions.get(this.releases.last()));
+    }
+
+    /**
+     * Get the tag of the version before a version.
+     *
+     * @param version version
+     * @return tag with the highest version lower than the given version or empty optional if there is none
+     */
+    public synchronized Optional<String> getPrevious(final String version) {
+        return SemanticVersion.parse(version).map(this.versions::lowerEntry).map(Map.Entry::getValue);
+    }
+
+    /**
+     * Check if a new version may follow the latest release.
+     *
+     * @param version new version
+     * @return true if the version is not tagged yet and is the next major, minor or fix release of the latest release
+     */
+    public synchronized boolean isValidSuccessor(final String version) {
+        final Optional<SemanticVersion> newVersion = SemanticVersion.parse(version);
+        if (newVersion.isEmpty() || this.versions.containsKey(newVersion.get())) {
+            return false;
+        }
+        return this.releases.isEmpty() || newVersion.get().isSuccessorOf(this.releases.last());
+    }
+
+    /**
+     * Get the versions that may follow the latest release.
+     *
+     * @return possible next versions; empty if there is no release yet
+     */
+    public synchronized Set<String> getPossibleSuccessors() {
+        return this.releases.isEmpty() ? Set.of() : this.releases.last().getSuccessors();
+    }
+
+    /**
+     * Get all version tags.
+     *
+     * @return names of the version tags in ascending version order
+     */
+    public synchronized List<String> getTags() {
+        return new ArrayList<>(this.versions.values());
+    }
+}
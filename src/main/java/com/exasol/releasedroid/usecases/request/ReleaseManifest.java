@@ -0,0 +1,106 @@
+package com.exasol.releasedroid.usecases.request;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class represents a release manifest listing several repositories to process in one run.
+ */
+public class ReleaseManifest {
+    private final List<ReleaseManifestEntry> entries;
+    private final int maxParallelReleases;
+
+    private ReleaseManifest(final Builder builder) {
+        this.entries = builder.entries;
+        this.maxParallelReleases = builder.maxParallelReleases;
+    }
+
+    /**
+     * Get the entries.
+     *
+     * @return entries in the order of the manifest
+     */
+    public List<ReleaseManifestEntry> getEntries() {
+        return this.entries;
+    }
+
+    /**
+     * Get the maximum number of repositories processed at the same time.
+     *
+     * @return maximum number of parallel releases
+     */
+    public int getMaxParallelReleases() {
+        return this.maxParallelReleases;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ReleaseManifest that = (ReleaseManifest) o;
+        return this.maxParallelReleases == that.maxParallelReleases && Objects.equals(this.entries, that.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.entries, this.maxParallelReleases);
+    }
+
+    @Override
+    public String toString() {
+        return "ReleaseManifest{" + "entries=" + this.entries + ", maxParallelReleases=" + this.maxParallelReleases
+                + '}';
+    }
+
+    /**
+     * Create a {@link ReleaseManifest} builder.
+     *
+     * @return builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The builder for {@link ReleaseManifest}.
+     */
+    public static class Builder {
+        private List<ReleaseManifestEntry> entries = List.of();
+        private int maxParallelReleases = 4;
+
+        /**
+         * Add entries.
+         *
+         * @param entries entries
+         * @return builder
+         */
+        public Builder entries(final List<ReleaseManifestEntry> entries) {
+            this.entries = entries;
+            return this;
+        }
+
+        /**
+         * Add the maximum number of repositories processed at the same time.
+         *
+         * @param maxParallelReleases maximum number of parallel releases
+         * @return builder
+         */
+        public Builder maxParallelReleases(final int maxParallelReleases) {
+            this.maxParallelReleases = maxParallelReleases;
+            return this;
+        }
+
+        /**
+         * Build a {@link ReleaseManifest}.
+         *
+         * @return release manifest
+         */
+        public ReleaseManifest build() {
+            return new ReleaseManifest(this);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.exasol.releasedroid.usecases.request;
+
+import java.util.*;
+
+/**
+ * This class represents a single repository in a release manifest.
+ */
+public class ReleaseManifestEntry {
+    private final String owner;
+    private final String repositoryName;
+    private final List<PlatformName> platforms;
+    private final Set<String> predecessors;
+
+    private ReleaseManifestEntry(final Builder builder) {
+        this.owner = builder.owner;
+        this.repositoryName = builder.repositoryName;
+        this.platforms = builder.platforms;
+        this.predecessors = builder.predecessors;
+    }
+
+    /**
+     * Get the owner of the repository.
+     *
+     * @return owner
+     */
+    public String getOwner() {
+        return this.owner;
+    }
+
+    /**
+     * Get the repository name.
+     *
+     * @return repository name
+     */
+    public String getRepositoryName() {
+        return this.repositoryName;
+    }
+
+    /**
+     * Get a full repository name in format owner/repository.
+     *
+     * @return full repository name
+     */
+    public String getFullRepositoryName() {
+        return this.owner + "/" + this.repositoryName;
+    }
+
+    /**
+     * Get the platforms.
+     *
+     * @return platforms or an empty list if the platforms from the repository's release config should be used
+     */
+    public List<PlatformName> getPlatforms() {
+        return this.platforms;
+    }
+
+    /**
+     * Get the repositories which must be processed before this repository.
+     *
+     * @return full names of the preceding repositories
+     */
+    public Set<String> getPredecessors() {
+        return this.predecessors;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ReleaseManifestEntry that = (ReleaseManifestEntry) o;
+        return Objects.equals(this.owner, that.owner) && Objects.equals(this.repositoryName, that.repositoryName)
+                && Objects.equals(this.platforms, that.platforms)
+                && Objects.equals(this.predecessors, that.predecessors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.owner, this.repositoryName, this.platforms, this.predecessors);
+    }
+
+    @Override
+    public String toString() {
+        return "ReleaseManifestEntry{" + "owner='" + this.owner + '\'' + ", repositoryName='" + this.repositoryName
+                + '\'' + ", platforms=" + this.platforms + ", predecessors=" + this.predecessors + '}';
+    }
+
+    /**
+     * Create a {@link ReleaseManifestEntry} builder.
+     *
+     * @return builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The builder for {@link ReleaseManifestEntry}.
+     */
+    public static class Builder {
+        private String owner;
+        private String repositoryName;
+        private List<PlatformName> platforms = List.of();
+        private Set<String> predecessors = Set.of();
+
+        /**
+         * Add an owner of the repository.
+         *
+         * @param owner owner of the repository
+         * @return builder
+         */
+        public Builder owner(final String owner) {
+            this.owner = owner;
+            return this;
+        }
+
+        /**
+         * Add a repository name.
+         *
+         * @param repositoryName repository name without owner
+         * @return builder
+         */
+        public Builder repositoryName(final String repositoryName) {
+            this.repositoryName = repositoryName;
+            return this;
+        }
+
+        /**
+         * Add platforms.
+         *
+         * @param platforms platforms
+         * @return builder
+         */
+        public Builder platforms(final List<String> platforms) {
+            this.platforms = PlatformName.toList(platforms.toArray(new String[0]));
+            return this;
+        }
+
+        /**
+         * Add repositories which must be processed before this repository.
+         *
+         * @param predecessors full names of the preceding repositories
+         * @return builder
+         */
+        public Builder predecessors(final Set<String> predecessors) {
+            this.predecessors = predecessors;
+            return this;
+        }
+
+        /**
+         * Build a {@link ReleaseManifestEntry}.
+         *
+         * @return release manifest entry
+         */
+        public ReleaseManifestEntry build() {
+            return new ReleaseManifestEntry(this);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.exasol.releasedroid.usecases.request;
+
+import static com.exasol.releasedroid.usecases.ReleaseDroidConstants.EXASOL_REPOSITORY_OWNER;
+
+import java.util.*;
+
+import org.yaml.snakeyaml.Yaml;
+
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * A parser for {@link ReleaseManifest}.
+ * <p>
+ * Example of a manifest:
+ * </p>
+ *
+ * <pre>
+ * max-parallel-releases: 4
+ * repositories:
+ *   - name: exasol/error-reporting-java
+ *     platforms: [github, maven]
+ *   - name: exasol/virtual-schema-common-jdbc
+ *     after: [exasol/error-reporting-java]
+ * </pre>
+ */
+public class ReleaseManifestParser {
+    private static final String MAX_PARALLEL_RELEASES_KEY = "max-parallel-releases";
+    private static final String REPOSITORIES_KEY = "repositories";
+    private static final String NAME_KEY = "name";
+    private static final String PLATFORMS_KEY = "platforms";
+    private static final String AFTER_KEY = "after";
+
+    private ReleaseManifestParser() {
+    }
+
+    /**
+     * Parse a release manifest.
+     *
+     * @param manifestString release manifest as a string
+     * @return release manifest
+     */
+    public static ReleaseManifest parse(final String manifestString) {
+        final var yaml = new Yaml();
+        final Object loadedManifest = yaml.load(manifestString);
+        final Map<?, ?> parsedManifest = loadedManifest instanceof Map ? (Map<?, ?>) loadedManifest : Map.of();
+        if (!(parsedManifest.get(REPOSITORIES_KEY) instanceof List)
+                || ((List<?>) parsedManifest.get(REPOSITORIES_KEY)).isEmpty()) {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-RD-17")
+                    .message("The release manifest does not contain any repositories.")
+                    .mitigation("Please add a list of repositories under the key {{key}}.", REPOSITORIES_KEY)
+                    .toString());
+        }
+        final List<ReleaseManifestEntry> entries = parseEntries((List<?>) parsedManifest.get(REPOSITORIES_KEY));
+        validateOrder(entries);
+        final var builder = ReleaseManifest.builder().entries(entries);
+        if (parsedManifest.containsKey(MAX_PARALLEL_RELEASES_KEY)) {
+            builder.maxParallelReleases(parseMaxParallelReleases(parsedManifest.get(MAX_PARALLEL_RELEASES_KEY)));
+        }
+        return builder.build();
+    }
+
+    private static List<ReleaseManifestEntry> parseEntries(final List<?> repositories) {
+        final Map<String, ReleaseManifestEntry> entries = new LinkedHashMap<>();
+        for (final Object repository : repositories) {
+            final ReleaseManifestEntry entry = parseEntry(repository);
+            if (entries.put(entry.getFullRepositoryName(), entry) != null) {
+                throw new IllegalArgumentException(ExaError.messageBuilder("E-RD-19")
+                        .message("The repository {{repository}} is listed more than once in the release manifest.",
+                                entry.getFullRepositoryName())
+                        .toString());
+            }
+        }
+        return new ArrayList<>(entries.values());
+    }
+
+    private static ReleaseManifestEntry parseEntry(final Object repository) {
+        if (repository instanceof String) {
+            return createEntryBuilder((String) repository).build();
+        } else if ((repository instanceof Map) && (((Map<?, ?>) repository).get(NAME_KEY) instanceof String)) {
+            final Map<?, ?> entry = (Map<?, ?>) repository;
+            return createEntryBuilder((String) entry.get(NAME_KEY)) //
+                    .platforms(extractListOfStrings(entry, PLATFORMS_KEY)) //
+                    .predecessors(toFullNames(extractListOfStrings(entry, AFTER_KEY))) //
+                    .build();
+        } else {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-RD-18")
+                    .message("Invalid repository entry in the release manifest: {{entry}}.", repository)
+                    .mitigation("Please specify at least a repository name under the key {{key}}.", NAME_KEY)
+                    .toString());
+        }
+    }
+
+    private static ReleaseManifestEntry.Builder createEntryBuilder(final String name) {
+        final String fullName = toFullName(name);
+        final int separator = fullName.indexOf('/');
+        return ReleaseManifestEntry.builder() //
+                .owner(fullName.substring(0, separator)) //
+                .repositoryName(fullName.substring(separator + 1));
+    }
+
+    private static Set<String> toFullNames(final List<String> names) {
+        final Set<String> fullNames = new LinkedHashSet<>();
+        for (final String name : names) {
+            fullNames.add(toFullName(name));
+        }
+        return fullNames;
+    }
+
+    private static String toFullName(final String name) {
+        final String trimmedName = name.trim();
+        return trimmedName.contains("/") ? trimmedName : EXASOL_REPOSITORY_OWNER + "/" + trimmedName;
+    }
+
+    private static List<String> extractListOfStrings(final Map<?, ?> entry, final String key) {
+        final List<String> values = new ArrayList<>();
+        if (entry.get(key) instanceof Collection) {
+            for (final Object value : (Collection<?>) entry.get(key)) {
+                values.add(String.valueOf(value));
+            }
+        }
+        return values;
+    }
+
+    private static void validateOrder(final List<ReleaseManifestEntry> entries) {
+        final Map<String, ReleaseManifestEntry> entriesByName = new HashMap<>();
+        for (final ReleaseManifestEntry entry : entries) {
+            entriesByName.put(entry.getFullRepositoryName(), entry);
+        }
+        for (final ReleaseManifestEntry entry : entries) {
+            for (final String predecessor : entry.getPredecessors()) {
+                if (!entriesByName.containsKey(predecessor)) {
+                    throw new IllegalArgumentException(ExaError.messageBuilder("E-RD-20")
+                            .message("The repository {{repository}} must be processed after {{predecessor}}, "
+                                    + "but {{predecessor}} is not listed in the release manifest.")
+                            .parameter("repository", entry.getFullRepositoryName())
+                            .parameter("predecessor", predecessor).toString());
+                }
+            }
+        }
+        final Set<String> checkedNames = new HashSet<>();
+        for (final ReleaseManifestEntry entry : entries) {
+            validateNoCycle(entry, entriesByName, new LinkedHashSet<>(), checkedNames);
+        }
+    }
+
+    private static void validateNoCycle(final ReleaseManifestEntry entry,
+            final Map<String, ReleaseManifestEntry> entriesByName, final Set<String> path,
+            final Set<String> checkedNames) {
+        final String name = entry.getFullRepositoryName();
+        if (checkedNames.contains(name)) {
+            return;
+        }
+        if (!path.add(name)) {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-RD-21")
+                    .message("The release manifest contains a cyclic order: {{cycle|uq}}.",
+                            String.join(" -> ", path) + " -> " + name)
+                    .mitigation("Please remove one of the 'after' constraints.").toString());
+        }
+        for (final String predecessor : entry.getPredecessors()) {
+            validateNoCycle(entriesByName.get(predecessor), entriesByName, path, checkedNames);
+        }
+        path.remove(name);
+        checkedNames.add(name);
+    }
+
+    private static int parseMaxParallelReleases(final Object value) {
+        if ((value instanceof Integer) && ((Integer) value > 0)) {
+            return (Integer) value;
+        }
+        throw new IllegalArgumentException(ExaError.messageBuilder("E-RD-22")
+                .message("Invalid value {{value}} for {{key|uq}} in the release manifest.", value,
+                        MAX_PARALLEL_RELEASES_KEY)
+                .mitigation("Please use a positive number.").toString());
+    }
+}
@@ -3,6 +3,8 @@ package com.exasol.releasedroid.usecases.request;
 import java.util.List;
 import java.util.Objects;
 
+import com.exasol.errorreporting.ExaError;
+
 /**
  * This class stores user input.
  */
@@ -15,6 +17,10 @@ public class UserInput {
     private final String localPath;
     private final Language language;
     private final boolean skipValidation;
+    private final Integer webhookPort;
+    private final String manifestPath;
+    private final String localBuildPath;
+    private final Integer serverPort;
 
     /**
      * Get a branch name.
@@ -169,6 +175,78 @@ public class UserInput {
         return this.language != null;
     }
 
+    /**
+     * Get a local port to listen on for GitHub webhook events.
+     *
+     * @return webhook port
+     */
+    public int getWebhookPort() {
+        return this.webhookPort;
+    }
+
+    /**
+     * Check if a local port to listen on for GitHub webhook events is provided.
+     *
+     * @return true if a webhook port is provided
+     */
+    public boolean hasWebhookPort() {
+        return this.webhookPort != null;
+    }
+
+    /**
+     * Get path to a release manifest.
+     *
+     * @return path to a release manifest
+     */
+    public String getManifestPath() {
+        return this.manifestPath;
+    }
+
+    /**
+     * Check if a path to a release manifest is provided.
+     *
+     * @return true if a path to a release manifest is provided
+     */
+    public boolean hasManifestPath() {
+        return this.manifestPath != null && !this.manifestPath.isEmpty();
+    }
+
+    /**
+     * Get path to an already built local checkout of the repository.
+     *
+     * @return path to a built local checkout
+     */
+    public String getLocalBuildPath() {
+        return this.localBuildPath;
+    }
+
+    /**
+     * Check if a path to an already built local checkout of the repository is provided.
+     *
+     * @return true if a path to a built local checkout is provided
+     */
+    public boolean hasLocalBuildPath() {
+        return this.localBuildPath != null && !this.localBuildPath.isEmpty();
+    }
+
+    /**
+     * Get a local port the Release Droid server listens on.
+     *
+     * @return server port
+     */
+    public int getServerPort() {
+        return this.serverPort;
+    }
+
+    /**
+     * Check if the Release Droid should run as a server.
+     *
+     * @return true if a server port is provided
+     */
+    public boolean hasServerPort() {
+        return this.serverPort != null;
+    }
+
     /**
      * Get a full repository name in format owner/repository.
      * 
@@ -187,6 +265,10 @@ public class UserInput {
         this.localPath = builder.localPath;
         this.language = builder.language;
         this.skipValidation = builder.skipValidation;
+        this.webhookPort = builder.webhookPort;
+        this.manifestPath = builder.manifestPath;
+        this.localBuildPath = builder.localBuildPath;
+        this.serverPort = builder.serverPort;
     }
 
     /**
@@ -211,13 +293,18 @@ public class UserInput {
                 && Objects.equals(this.branch, userInput.branch) && this.goal == userInput.goal
                 && Objects.equals(this.platformNames, userInput.platformNames)
                 && Objects.equals(this.repositoryName, userInput.repositoryName)
-                && Objects.equals(this.localPath, userInput.localPath) && this.language == userInput.language;
+                && Objects.equals(this.localPath, userInput.localPath) && this.language == userInput.language
+                && Objects.equals(this.webhookPort, userInput.webhookPort)
+                && Objects.equals(this.manifestPath, userInput.manifestPath)
+                && Objects.equals(this.localBuildPath, userInput.localBuildPath)
+                && Objects.equals(this.serverPort, userInput.serverPort);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(this.owner, this.branch, this.goal, this.platformNames, this.repositoryName, this.localPath,
-                this.language, this.skipValidation);
+                this.language, this.skipValidation, this.webhookPort, this.manifestPath, this.localBuildPath,
+                this.serverPort);
     }
 
     @Override
@@ -225,7 +312,8 @@ public class UserInput {
         return "UserInput{" + "owner='" + this.owner + '\'' + ", branch='" + this.branch + '\'' + ", goal=" + this.goal
                 + ", platformNames=" + this.platformNames + ", repositoryName='" + this.repositoryName + '\''
                 + ", localPath='" + this.localPath + '\'' + ", language=" + this.language + ", skipValidation="
-                + this.skipValidation + '}';
+                + this.skipValidation + ", webhookPort=" + this.webhookPort + ", manifestPath='" + this.manifestPath
+                + '\'' + ", localBuildPath='" + this.localBuildPath + '\'' + ", serverPort=" + this.serverPort + '}';
     }
 
     /**
@@ -240,6 +328,10 @@ public class UserInput {
         private Language language;
         private String owner;
         private boolean skipValidation;
+        private Integer webhookPort;
+        private String manifestPath;
+        private String localBuildPath;
+        private Integer serverPort;
 
         /**
          * Add a branch.
@@ -347,5 +439,67 @@ public class UserInput {
             this.skipValidation = skipValidation;
             return this;
         }
+
+        /**
+         * Add a local port to listen on for GitHub webhook events.
+         *
+         * @param webhookPort port as a string
+         * @return builder instance for fluent programming
+         */
+        public Builder webhookPort(final String webhookPort) {
+            if (webhookPort != null) {
+                this.webhookPort = parsePort(webhookPort);
+            }
+            return this;
+        }
+
+        /**
+         * Add a path to a release manifest.
+         *
+         * @param manifestPath path to a release manifest
+         * @return builder instance for fluent programming
+         */
+        public Builder manifestPath(final String manifestPath) {
+            this.manifestPath = manifestPath;
+            return this;
+        }
+
+        /**
+         * Add a path to an already built local checkout of the repository.
+         *
+         * @param localBuildPath path to a built local checkout
+         * @return builder instance for fluent programming
+         */
+        public Builder localBuildPath(final String localBuildPath) {
+            this.localBuildPath = localBuildPath;
+            return this;
+        }
+
+        /**
+         * Add a local port the Release Droid server listens on.
+         *
+         * @param serverPort port as a string
+         * @return builder instance for fluent programming
+         */
+        public Builder serverPort(final String serverPort) {
+            if (serverPort != null) {
+                this.serverPort = parsePort(serverPort);
+            }
+            return this;
+        }
+
+        private Integer parsePort(final String port) {
+            try {
+                final int parsedPort = Integer.parseInt(port.trim());
+                if ((parsedPort >= 0) && (parsedPort <= 65535)) {
+                    return parsedPort;
+                }
+            } catch (final NumberFormatException exception) {
+                // reported below
+            }
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-RD-16")
+                    .message("Cannot parse a port {{port}}.", port)
+                    .mitigation("Please, use a number between 0 and 65535.").toString());
+        }
     }
 }
\ No newline at end of file
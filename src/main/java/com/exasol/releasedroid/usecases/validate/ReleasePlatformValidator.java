@@ -12,4 +12,25 @@ public interface ReleasePlatformValidator {
      * @return validation report
      */
     public Report validate();
+
+    /**
+     * Check if the platform requires the repository validations in addition to its own validations.
+     *
+     * @return true if the repository validations are part of the platform validation
+     */
+    public default boolean requiresRepositoryValidation() {
+        return false;
+    }
+
+    /**
+     * Check if the validation depends on state outside the repository, like tickets or earlier releases.
+     * <p>
+     * Such validations can change without any change of the repository, so they are never cached.
+     * </p>
+     *
+     * @return true if the validation reads state outside the repository
+     */
+    public default boolean readsExternalState() {
+        return false;
+    }
 }
\ No newline at end of file
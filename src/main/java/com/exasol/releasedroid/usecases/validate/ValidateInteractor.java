@@ -1,14 +1,15 @@
 package com.exasol.releasedroid.usecases.validate;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import com.exasol.errorreporting.ExaError;
+import com.exasol.releasedroid.usecases.ExecutionContext;
 import com.exasol.releasedroid.usecases.report.Report;
 import com.exasol.releasedroid.usecases.report.ValidationReport;
 import com.exasol.releasedroid.usecases.repository.Repository;
+import com.exasol.releasedroid.usecases.request.Goal;
 import com.exasol.releasedroid.usecases.request.PlatformName;
 
 /**
@@ -16,26 +17,90 @@ import com.exasol.releasedroid.usecases.request.PlatformName;
  */
 public class ValidateInteractor implements ValidateUseCase {
     private static final Logger LOGGER = Logger.getLogger(ValidateInteractor.class.getName());
+    private final Map<Repository, Report> repositoryReports = Collections.synchronizedMap(new WeakHashMap<>());
+    private final ValidationCache validationCache;
+
+    /**
+     * Create a new instance of {@link ValidateInteractor} that always runs all validations.
+     */
+    public ValidateInteractor() {
+        this(null);
+    }
+
+    /**
+     * Create a new instance of {@link ValidateInteractor} that reuses cached validations of unchanged repositories.
+     *
+     * @param validationCache validation cache
+     */
+    public ValidateInteractor(final ValidationCache validationCache) {
+        this.validationCache = validationCache;
+    }
 
     @Override
     // [impl->dsn~rd-runs-validate-goal~1]
     public Report validate(final Repository repository, final List<PlatformName> platforms,
             final Set<PlatformName> skippedPlatforms) {
+        final ExecutionContext context = ExecutionContext.current();
+        // A release validates the platforms again before releasing on them and keeps its goal.
+        final ExecutionContext validationContext = context.getGoal().isPresent() ? context
+                : context.withGoal(Goal.VALIDATE);
+        return validationContext.call(() -> validatePlatforms(repository, platforms, skippedPlatforms));
+    }
+
+    private Report validatePlatforms(final Repository repository, final List<PlatformName> platforms,
+            final Set<PlatformName> skippedPlatforms) {
         LOGGER.info(() -> "Validation started.");
+        final List<PlatformName> platformsToValidate = platforms.stream()
+                .filter(platformName -> !skippedPlatforms.contains(platformName)).collect(Collectors.toList());
+        final Map<PlatformName, Report> cachedReports = getCachedReports(repository, platformsToValidate);
         final var report = ValidationReport.create();
-        for (final PlatformName platformName : platforms) {
-            if (!skippedPlatforms.contains(platformName)) {
-                report.merge(this.validateForPlatform(platformName, repository.getPlatformValidators()));
+        for (final PlatformName platformName : platformsToValidate) {
+            if (cachedReports.containsKey(platformName)) {
+                LOGGER.info(() -> "Repository content is unchanged, using the cached validation for the platform "
+                        + platformName + ".");
+                report.merge(cachedReports.get(platformName));
+            } else {
+                final Report platformReport = this.validateForPlatform(platformName, repository);
+                if (isCacheable(repository, platformName)) {
+                    updateCache(repository, platformName, platformReport);
+                }
+                report.merge(platformReport);
             }
         }
         return report;
     }
 
-    private Report validateForPlatform(final PlatformName platformName,
-            final Map<PlatformName, ReleasePlatformValidator> validators) {
+    // [impl->dsn~rd-caches-successful-validations~1]
+    private Map<PlatformName, Report> getCachedReports(final Repository repository,
+            final List<PlatformName> platforms) {
+        if (this.validationCache == null) {
+            return Map.of();
+        }
+        final List<PlatformName> cacheablePlatforms = platforms.stream()
+                .filter(platformName -> isCacheable(repository, platformName)).collect(Collectors.toList());
+        return this.validationCache.getValidReports(repository, cacheablePlatforms);
+    }
+
+    private boolean isCacheable(final Repository repository, final PlatformName platformName) {
+        final ReleasePlatformValidator validator = repository.getPlatformValidators().get(platformName);
+        return (validator != null) && !validator.readsExternalState();
+    }
+
+    private void updateCache(final Repository repository, final PlatformName platformName, final Report report) {
+        if (this.validationCache != null) {
+            this.validationCache.update(repository, platformName, report);
+        }
+    }
+
+    private Report validateForPlatform(final PlatformName platformName, final Repository repository) {
+        final Map<PlatformName, ReleasePlatformValidator> validators = repository.getPlatformValidators();
         final var report = ValidationReport.create(platformName);
         if (validators.containsKey(platformName)) {
-            report.merge(validators.get(platformName).validate());
+            final ReleasePlatformValidator validator = validators.get(platformName);
+            if (validator.requiresRepositoryValidation()) {
+                report.merge(getRepositoryReport(repository));
+            }
+            report.merge(validator.validate());
         } else {
             throw new UnsupportedOperationException(ExaError.messageBuilder("E-RD-VAL-15") //
                     .message("{{platform}} platform is not supported for this project.") //
@@ -43,4 +108,25 @@ public class ValidateInteractor implements ValidateUseCase {
         }
         return report;
     }
-}
\ No newline at end of file
+
+    // The repository validations are shared by several platforms, so they run only once per repository.
+    private Report getRepositoryReport(final Repository repository) {
+        synchronized (repository) {
+            Report report = this.repositoryReports.get(repository);
+            if (report == null) {
+                report = validateRepository(repository);
+                this.repositoryReports.put(repository, report);
+            }
+            return report;
+        }
+    }
+
+    private Report validateRepository(final Repository repository) {
+        LOGGER.fine("Validating repository requirements.");
+        final var report = ValidationReport.create();
+        for (final RepositoryValidator repositoryValidator : repository.getRepositoryValidators()) {
+            report.merge(repositoryValidator.validate());
+        }
+        return report;
+    }
+}
@@ -0,0 +1,163 @@
+package com.exasol.releasedroid.usecases.validate;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.logging.Logger;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import com.exasol.releasedroid.usecases.exception.RepositoryException;
+import com.exasol.releasedroid.usecases.report.*;
+import com.exasol.releasedroid.usecases.repository.Repository;
+import com.exasol.releasedroid.usecases.request.PlatformName;
+
+/**
+ * Persistent cache of successful validations.
+ * <p>
+ * The cache keeps one file per repository branch. For each platform it stores the messages of the last successful
+ * validation together with the version of the Release Droid, the latest tag and the hashes of all files read from the
+ * repository during the validation. A cached validation is only reused by the same version of the Release Droid while
+ * the latest tag and the hashes of these files are unchanged.
+ * </p>
+ */
+public class ValidationCache {
+    private static final Logger LOGGER = Logger.getLogger(ValidationCache.class.getName());
+    private static final String TOOL_VERSION_KEY = "toolVersion";
+    private static final String LATEST_TAG_KEY = "latestTag";
+    private static final String FILES_KEY = "files";
+    private static final String MESSAGES_KEY = "messages";
+    private static final String MISSING_FILE_HASH = "";
+    private final String directory;
+    private final String toolVersion;
+
+    /**
+     * Create a new instance of {@link ValidationCache}.
+     *
+     * @param directory   directory containing the cache files
+     * @param toolVersion version of the Release Droid running the validations
+     */
+    public ValidationCache(final String directory, final String toolVersion) {
+        this.directory = directory;
+        this.toolVersion = toolVersion;
+    }
+
+    /**
+     * Get the cached validation reports that are still valid for the current content of the repository.
+     *
+     * @param repository repository to validate
+     * @param platforms  platforms to validate
+     * @return map of platforms with a valid cached report
+     */
+    public synchronized Map<PlatformName, Report> getValidReports(final Repository repository,
+            final List<PlatformName> platforms) {
+        final JSONObject entries = readEntries(repository);
+        try {
+            final List<PlatformName> cachedPlatforms = new ArrayList<>();
+            final Set<String> filePaths = new HashSet<>();
+            for (final PlatformName platform : platforms) {
+                if (entries.has(platform.name())) {
+                    cachedPlatforms.add(platform);
+                    filePaths.addAll(entries.getJSONObject(platform.name()).getJSONObject(FILES_KEY).keySet());
+                }
+            }
+            if (cachedPlatforms.isEmpty()) {
+                return Map.of();
+            }
+            final JSONObject currentState = createState(repository, filePaths);
+            final Map<PlatformName, Report> reports = new EnumMap<>(PlatformName.class);
+            for (final PlatformName platform : cachedPlatforms) {
+                final JSONObject entry = entries.getJSONObject(platform.name());
+                if (isValid(entry, currentState)) {
+                    reports.put(platform, createReport(platform, entry));
+                }
+            }
+            return reports;
+        } catch (final RepositoryException | JSONException exception) {
+            LOGGER.warning(() -> "Unable to check the validation cache: " + exception.getMessage());
+            return Map.of();
+        }
+    }
+
+    private boolean isValid(final JSONObject entry, final JSONObject currentState) {
+        if (!this.toolVersion.equals(entry.optString(TOOL_VERSION_KEY))
+                || !entry.getString(LATEST_TAG_KEY).equals(currentState.getString(LATEST_TAG_KEY))) {
+            return false;
+        }
+        final JSONObject files = entry.getJSONObject(FILES_KEY);
+        final JSONObject currentFiles = currentState.getJSONObject(FILES_KEY);
+        for (final String filePath : files.keySet()) {
+            if (!files.getString(filePath).equals(currentFiles.getString(filePath))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Report createReport(final PlatformName platform, final JSONObject entry) {
+        final var report = ValidationReport.create(platform);
+        for (final Object message : entry.getJSONArray(MESSAGES_KEY)) {
+            report.addSuccessfulResult(message.toString());
+        }
+        return report;
+    }
+
+    /**
+     * Update the cache with a new validation report. Only successful validations are cached.
+     *
+     * @param repository validated repository
+     * @param platform   validated platform
+     * @param report     validation report of the platform
+     */
+    public synchronized void update(final Repository repository, final PlatformName platform, final Report report) {
+        final JSONObject entries = readEntries(repository);
+        try {
+            if (report.hasFailures()) {
+                entries.remove(platform.name());
+            } else {
+                final JSONObject entry = createState(repository, repository.getReadFilePaths());
+                entry.put(MESSAGES_KEY, report.getResults().stream().map(Result::getMessage).toArray());
+                entries.put(platform.name(), entry);
+            }
+            final Path cacheFile = getCacheFile(repository);
+            Files.createDirectories(cacheFile.getParent());
+            Files.writeString(cacheFile, entries.toString());
+        } catch (final IOException | RepositoryException exception) {
+            LOGGER.warning(() -> "Unable to update the validation cache: " + exception.getMessage());
+        }
+    }
+
+    private JSONObject createState(final Repository repository, final Set<String> filePaths) {
+        final Map<String, String> fileHashes = repository.getFileHashes(filePaths);
+        final JSONObject files = new JSONObject();
+        for (final String filePath : filePaths) {
+            files.put(filePath, fileHashes.getOrDefault(filePath, MISSING_FILE_HASH));
+        }
+        final JSONObject state = new JSONObject();
+        state.put(TOOL_VERSION_KEY, this.toolVersion);
+        state.put(LATEST_TAG_KEY, repository.getLatestTag().orElse(""));
+        state.put(FILES_KEY, files);
+        return state;
+    }
+
+    private JSONObject readEntries(final Repository repository) {
+        final Path cacheFile = getCacheFile(repository);
+        if (Files.exists(cacheFile)) {
+            try {
+                return new JSONObject(Files.readString(cacheFile));
+            } catch (final IOException | JSONException exception) {
+                LOGGER.warning(() -> "Ignoring the unreadable validation cache file " + cacheFile + ".");
+            }
+        }
+        return new JSONObject();
+    }
+
+    private Path getCacheFile(final Repository repository) {
+        final String key = repository.getName() + "@" + repository.getBranchName();
+        return Path.of(this.directory, URLEncoder.encode(key, StandardCharsets.UTF_8) + ".json");
+    }
+}
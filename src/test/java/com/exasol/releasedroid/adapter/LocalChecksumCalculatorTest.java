@@ -0,0 +1,104 @@
+package com.exasol.releasedroid.adapter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.exasol.releasedroid.usecases.exception.RepositoryException;
+
+class LocalChecksumCalculatorTest {
+    // sha256 of "first" and "second"
+    private static final String FIRST_CHECKSUM = "a7937b64b8caa58f03721bb6bacf5c78cb235febe0e70b1b84cd99541461a08e";
+    private static final String SECOND_CHECKSUM = "16367aacb67a4a017c8da8ab95682ccb390863780f7114dda0a0e0c55644c7c4";
+    @TempDir
+    Path checkoutPath;
+
+    @Test
+    void testCalculateChecksumsOfJarsInOriginalDirectories() throws IOException {
+        final Path target = Files.createDirectories(this.checkoutPath.resolve("target"));
+        Files.writeString(target.resolve("first.jar"), "first", StandardCharsets.UTF_8);
+        Files.writeString(target.resolve("second.jar"), "second", StandardCharsets.UTF_8);
+        Files.writeString(target.resolve("build.log"), "log", StandardCharsets.UTF_8);
+        Files.createDirectories(target.resolve("classes")).resolve("ignored.jar").toFile().createNewFile();
+        final var calculator = new LocalChecksumCalculator(this.checkoutPath);
+        assertThat(calculator.calculateChecksums(Set.of("target/first.jar")),
+                equalTo(Map.of("target/first.jar", FIRST_CHECKSUM, "target/second.jar", SECOND_CHECKSUM)));
+    }
+
+    @Test
+    void testCalculateChecksumsWithoutBuildOutput() {
+        final var calculator = new LocalChecksumCalculator(this.checkoutPath);
+        assertThat(calculator.calculateChecksums(Set.of("target/first.jar")), equalTo(Map.of()));
+    }
+
+    @Test
+    void testValidateCheckoutOfReleasedCommit() throws IOException, GitAPIException {
+        final String head = cloneRepository("git@github.com:exasol/my-repo.git");
+        final var calculator = new LocalChecksumCalculator(this.checkoutPath);
+        assertDoesNotThrow(() -> calculator.validateCheckout("exasol/my-repo", head));
+    }
+
+    @Test
+    void testValidateCheckoutWithDifferentHead() throws IOException, GitAPIException {
+        cloneRepository("https://github.com/exasol/my-repo.git");
+        final var calculator = new LocalChecksumCalculator(this.checkoutPath);
+        final RepositoryException exception = assertThrows(RepositoryException.class,
+                () -> calculator.validateCheckout("exasol/my-repo", "0123456789012345678901234567890123456789"));
+        assertThat(exception.getMessage(), containsString("E-RD-REP-35"));
+    }
+
+    @Test
+    void testValidateCheckoutWithUncommittedChanges() throws IOException, GitAPIException {
+        final String head = cloneRepository("https://github.com/exasol/my-repo.git");
+        Files.writeString(this.checkoutPath.resolve("pom.xml"), "changed", StandardCharsets.UTF_8);
+        final var calculator = new LocalChecksumCalculator(this.checkoutPath);
+        final RepositoryException exception = assertThrows(RepositoryException.class,
+                () -> calculator.validateCheckout("exasol/my-repo", head));
+        assertThat(exception.getMessage(), containsString("E-RD-REP-36"));
+    }
+
+    @Test
+    void testValidateCheckoutOfOtherRepository() throws IOException, GitAPIException {
+        final String head = cloneRepository("https://github.com/exasol/other-repo.git");
+        final var calculator = new LocalChecksumCalculator(this.checkoutPath);
+        final RepositoryException exception = assertThrows(RepositoryException.class,
+                () -> calculator.validateCheckout("exasol/my-repo", head));
+        assertThat(exception.getMessage(), containsString("E-RD-REP-34"));
+    }
+
+    @Test
+    void testValidateCheckoutWithoutGitRepository() {
+        final var calculator = new LocalChecksumCalculator(this.checkoutPath);
+        final RepositoryException exception = assertThrows(RepositoryException.class,
+                () -> calculator.validateCheckout("exasol/my-repo", "0123456789012345678901234567890123456789"));
+        assertThat(exception.getMessage(), containsString("E-RD-REP-37"));
+    }
+
+    private String cloneRepository(final String remoteUrl) throws IOException, GitAPIException {
+        try (final Git git = Git.init().setDirectory(this.checkoutPath.toFile()).setInitialBranch("main").call()) {
+            final StoredConfig config = git.getRepository().getConfig();
+            config.setString("remote", "origin", "url", remoteUrl);
+            config.save();
+            Files.writeString(this.checkoutPath.resolve("pom.xml"), "<version>1.0.0</version>", StandardCharsets.UTF_8);
+            git.add().addFilepattern("pom.xml").call();
+            final RevCommit commit = git.commit().setMessage("Prepare release").setSign(false).call();
+            return commit.getName();
+        }
+    }
+}
@@ -4,6 +4,8 @@ import static com.exasol.releasedroid.adapter.communityportal.CommunityPortalCon
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.Test;
@@ -28,7 +30,8 @@ class CommunityPlatformValidatorTest {
                 .body("## Summary \nHere is a short summary. \n## Feature").build();
         when(this.repositoryMock.getVersion()).thenReturn(version);
         when(this.repositoryMock.getReleaseLetter(version)).thenReturn(releaseLetter);
-        when(this.repositoryMock.getSingleFileContentAsString(COMMUNITY_CONFIG_PATH)).thenReturn(getReleaseConfig());
+        when(this.repositoryMock.getParsedFileContent(eq(COMMUNITY_CONFIG_PATH), eq(CommunityConfig.class), any()))
+                .thenReturn(CommunityConfigParser.parse(getReleaseConfig()));
         final CommunityPlatformValidator validator = new CommunityPlatformValidator(this.repositoryMock);
         assertFalse(validator.validate().hasFailures());
     }
@@ -51,7 +54,7 @@ class CommunityPlatformValidatorTest {
                 .body("## Feature").build();
         when(this.repositoryMock.getVersion()).thenReturn(version);
         when(this.repositoryMock.getReleaseLetter(version)).thenReturn(releaseLetter);
-        when(this.repositoryMock.getSingleFileContentAsString(COMMUNITY_CONFIG_PATH))
+        when(this.repositoryMock.getParsedFileContent(eq(COMMUNITY_CONFIG_PATH), eq(CommunityConfig.class), any()))
                 .thenThrow(RepositoryException.class);
         final CommunityPlatformValidator validator = new CommunityPlatformValidator(this.repositoryMock);
         final Report report = validator.validate();
@@ -68,7 +71,8 @@ class CommunityPlatformValidatorTest {
                 .body("## Summary \nHere is a short summary. \n## Feature").build();
         when(this.repositoryMock.getVersion()).thenReturn(version);
         when(this.repositoryMock.getReleaseLetter(version)).thenReturn(releaseLetter);
-        when(this.repositoryMock.getSingleFileContentAsString(COMMUNITY_CONFIG_PATH)).thenReturn("");
+        when(this.repositoryMock.getParsedFileContent(eq(COMMUNITY_CONFIG_PATH), eq(CommunityConfig.class), any()))
+                .thenReturn(CommunityConfigParser.parse(""));
         final CommunityPlatformValidator validator = new CommunityPlatformValidator(this.repositoryMock);
         final Report report = validator.validate();
         assertAll(() -> assertTrue(report.hasFailures()), //
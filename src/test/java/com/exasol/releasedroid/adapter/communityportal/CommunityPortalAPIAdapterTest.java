@@ -0,0 +1,96 @@
+package com.exasol.releasedroid.adapter.communityportal;
+
+import static com.exasol.releasedroid.adapter.communityportal.CommunityPortalConstants.COMMUNITY_PASSWORD_KEY;
+import static com.exasol.releasedroid.adapter.communityportal.CommunityPortalConstants.COMMUNITY_USERNAME_KEY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.exasol.releasedroid.usecases.PropertyReader;
+
+@ExtendWith(MockitoExtension.class)
+class CommunityPortalAPIAdapterTest {
+    private static final Instant START = Instant.parse("2021-05-03T10:00:00Z");
+    private static final String POST_URL = "https://community.exasol.com/t5/post/1";
+    @Mock
+    private PropertyReader propertyReaderMock;
+    @Mock
+    private HttpClient httpClientMock;
+    @Mock
+    private Clock clockMock;
+    private final List<String> sentSessionKeys = new ArrayList<>();
+    private final Deque<Integer> postStatusCodes = new ArrayDeque<>();
+    private int logins = 0;
+    private CommunityPortalAPIAdapter adapter;
+
+    @BeforeEach
+    void beforeEach() throws IOException, InterruptedException {
+        when(this.propertyReaderMock.readProperty(COMMUNITY_USERNAME_KEY)).thenReturn("user");
+        when(this.propertyReaderMock.readProperty(COMMUNITY_PASSWORD_KEY)).thenReturn("password");
+        when(this.clockMock.instant()).thenReturn(START);
+        when(this.httpClientMock.<String>send(any(), any())).thenAnswer(invocation -> {
+            final HttpRequest request = invocation.getArgument(0);
+            if (request.uri().getPath().endsWith("login")) {
+                this.logins++;
+                return createResponse(200, "<response status=\"success\"><value type=\"string\">session-"
+                        + this.logins + "</value></response>");
+            } else {
+                this.sentSessionKeys.add(request.headers().firstValue("li-api-session-key").orElseThrow());
+                final int statusCode = this.postStatusCodes.isEmpty() ? 200 : this.postStatusCodes.poll();
+                return createResponse(statusCode, "{\"data\":{\"view_href\":\"" + POST_URL + "\"}}");
+            }
+        });
+        this.adapter = new CommunityPortalAPIAdapter(this.propertyReaderMock, this.httpClientMock, this.clockMock);
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpResponse<String> createResponse(final int statusCode, final String body) {
+        final HttpResponse<String> response = mock(HttpResponse.class);
+        lenient().when(response.statusCode()).thenReturn(statusCode);
+        lenient().when(response.body()).thenReturn(body);
+        return response;
+    }
+
+    private CommunityPost createPost() {
+        return CommunityPost.builder().boardId("board").tags(List.of("Release")).header("header").body("body")
+                .build();
+    }
+
+    @Test
+    void testSendDraftPostReusesSession() throws CommunityPortalException {
+        this.adapter.sendDraftPost(createPost());
+        assertThat(this.adapter.sendDraftPost(createPost()), equalTo(POST_URL));
+        assertThat(this.sentSessionKeys, contains("session-1", "session-1"));
+    }
+
+    @Test
+    void testSendDraftPostRenewsExpiredSession() throws CommunityPortalException {
+        this.adapter.sendDraftPost(createPost());
+        when(this.clockMock.instant()).thenReturn(START.plusSeconds(3600));
+        this.adapter.sendDraftPost(createPost());
+        assertThat(this.sentSessionKeys, contains("session-1", "session-2"));
+    }
+
+    @Test
+    void testSendDraftPostLogsInAgainAfterUnauthorizedResponse() throws CommunityPortalException {
+        this.postStatusCodes.add(401);
+        assertThat(this.adapter.sendDraftPost(createPost()), equalTo(POST_URL));
+        assertThat(this.sentSessionKeys, contains("session-1", "session-2"));
+    }
+}
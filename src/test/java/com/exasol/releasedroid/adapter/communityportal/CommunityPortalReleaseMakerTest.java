@@ -24,7 +24,8 @@ class CommunityPortalReleaseMakerTest {
         final ReleaseLetter releaseLetter = getReleaseLetter();
         when(repositoryMock.getName()).thenReturn("exasol/elasticsearch-virtual-schema");
         when(repositoryMock.getVersion()).thenReturn("2.0.0");
-        when(repositoryMock.getSingleFileContentAsString(COMMUNITY_CONFIG_PATH)).thenReturn(getReleaseConfig());
+        when(repositoryMock.getParsedFileContent(eq(COMMUNITY_CONFIG_PATH), eq(CommunityConfig.class), any()))
+                .thenReturn(CommunityConfigParser.parse(getReleaseConfig()));
         when(repositoryMock.getReleaseLetter("2.0.0")).thenReturn(releaseLetter);
         final CommunityPortalReleaseMaker communityPortalReleaseMaker = new CommunityPortalReleaseMaker(gatewayMock);
         communityPortalReleaseMaker.makeRelease(repositoryMock);
@@ -72,7 +73,8 @@ class CommunityPortalReleaseMakerTest {
         final ReleaseLetter releaseLetter = getReleaseLetter();
         when(repositoryMock.getName()).thenReturn("exasol/elasticsearch-virtual-schema");
         when(repositoryMock.getVersion()).thenReturn("2.0.0");
-        when(repositoryMock.getSingleFileContentAsString(COMMUNITY_CONFIG_PATH)).thenReturn(getReleaseConfig());
+        when(repositoryMock.getParsedFileContent(eq(COMMUNITY_CONFIG_PATH), eq(CommunityConfig.class), any()))
+                .thenReturn(CommunityConfigParser.parse(getReleaseConfig()));
         when(repositoryMock.getReleaseLetter("2.0.0")).thenReturn(releaseLetter);
         final CommunityPortalReleaseMaker communityPortalReleaseMaker = new CommunityPortalReleaseMaker(gatewayMock);
         doThrow(CommunityPortalException.class).when(gatewayMock).sendDraftPost(any());
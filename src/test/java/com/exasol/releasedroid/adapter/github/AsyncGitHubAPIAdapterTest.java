@@ -0,0 +1,95 @@
+package com.exasol.releasedroid.adapter.github;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.exasol.releasedroid.usecases.ExecutionContext;
+import com.exasol.releasedroid.usecases.request.Goal;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncGitHubAPIAdapterTest {
+    private static final String REPOSITORY_NAME = "exasol/test-repository";
+    @TempDir
+    Path tempDirectory;
+    @Mock
+    private GitHubGateway githubGatewayMock;
+    private ClosedTicketCache closedTicketCache;
+    private AsyncGitHubAPIAdapter asyncAdapter;
+
+    @BeforeEach
+    void beforeEach() {
+        this.closedTicketCache = new ClosedTicketCache(this.tempDirectory.toString());
+        this.asyncAdapter = new AsyncGitHubAPIAdapter(this.githubGatewayMock, this.closedTicketCache, 2);
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.asyncAdapter.close();
+    }
+
+    @Test
+    void testGetClosedTicketsAsyncChecksOnlyMentionedTickets() throws GitHubException {
+        when(this.githubGatewayMock.isClosedTicket(REPOSITORY_NAME, 1)).thenReturn(true);
+        when(this.githubGatewayMock.isClosedTicket(REPOSITORY_NAME, 2)).thenReturn(false);
+        assertThat(AsyncGitHubGateway.await(this.asyncAdapter.getClosedTicketsAsync(REPOSITORY_NAME, List.of(1, 2))),
+                contains(1));
+        verify(this.githubGatewayMock, times(2)).isClosedTicket(eq(REPOSITORY_NAME), anyInt());
+    }
+
+    @Test
+    void testAsyncCallsRunInExecutionContextOfCaller() throws GitHubException {
+        when(this.githubGatewayMock.isClosedTicket(REPOSITORY_NAME, 1))
+                .thenAnswer(invocation -> ExecutionContext.current().getGoal().equals(Optional.of(Goal.VALIDATE)));
+        final CompletableFuture<Set<Integer>> closedTickets = ExecutionContext.current().withGoal(Goal.VALIDATE)
+                .call(() -> this.asyncAdapter.getClosedTicketsAsync(REPOSITORY_NAME, List.of(1)));
+        assertThat(AsyncGitHubGateway.await(closedTickets), contains(1));
+    }
+
+    @Test
+    void testGetClosedTicketsAsyncSkipsCachedTickets() throws GitHubException {
+        this.closedTicketCache.addClosedTickets(REPOSITORY_NAME, Set.of(1));
+        when(this.githubGatewayMock.isClosedTicket(REPOSITORY_NAME, 2)).thenReturn(true);
+        assertThat(AsyncGitHubGateway.await(this.asyncAdapter.getClosedTicketsAsync(REPOSITORY_NAME, List.of(1, 2))),
+                containsInAnyOrder(1, 2));
+        verify(this.githubGatewayMock, never()).isClosedTicket(REPOSITORY_NAME, 1);
+        assertThat(this.closedTicketCache.getClosedTickets(REPOSITORY_NAME), containsInAnyOrder(1, 2));
+    }
+
+    @Test
+    void testAwaitRethrowsGitHubException() throws GitHubException {
+        when(this.githubGatewayMock.getLatestTag(REPOSITORY_NAME)).thenThrow(new GitHubException("Not found."));
+        final var future = this.asyncAdapter.getLatestTagAsync(REPOSITORY_NAME);
+        final GitHubException exception = assertThrows(GitHubException.class, () -> AsyncGitHubGateway.await(future));
+        assertThat(exception.getMessage(), equalTo("Not found."));
+    }
+
+    @Test
+    void testExecuteWorkflowAsync() throws GitHubException {
+        final Map<String, Object> dispatches = Map.of("version", "1.0.0");
+        AsyncGitHubGateway.await(this.asyncAdapter.executeWorkflowAsync(REPOSITORY_NAME, "release.yml", dispatches));
+        verify(this.githubGatewayMock).executeWorkflow(REPOSITORY_NAME, "release.yml", dispatches);
+    }
+
+    @Test
+    void testBlockingCallDelegates() throws GitHubException {
+        when(this.githubGatewayMock.getDefaultBranch(REPOSITORY_NAME)).thenReturn("main");
+        assertThat(this.asyncAdapter.getDefaultBranch(REPOSITORY_NAME), equalTo("main"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.exasol.releasedroid.adapter.github;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+class ChecksumArchiveReaderTest {
+    private static InputStream zip(final String... entries) throws IOException {
+        final var output = new ByteArrayOutputStream();
+        try (final var zipOutputStream = new ZipOutputStream(output)) {
+            for (int index = 0; index < entries.length; index++) {
+                zipOutputStream.putNextEntry(new ZipEntry("entry_" + index + ".txt"));
+                zipOutputStream.write(entries[index].getBytes(StandardCharsets.UTF_8));
+                zipOutputStream.closeEntry();
+            }
+        }
+        return new ByteArrayInputStream(output.toByteArray());
+    }
+
+    @Test
+    void testReadArtifactChecksums() throws IOException {
+        final InputStream archive = zip("abc  target/first.jar\ndef  target/second.jar\n", "123 target/third.jar");
+        assertThat(ChecksumArchiveReader.readArtifactChecksums(archive), equalTo(Map.of("target/first.jar", "abc",
+                "target/second.jar", "def", "target/third.jar", "123")));
+    }
+
+    @Test
+    void testReadLogChecksumsUsesLastSection() throws IOException {
+        final String jobLog = "2021-05-03T10:15:30.1234567Z ##[group]Run echo 'checksum_start==';"
+                + "find target -name *.jar -exec sha256sum \"{}\" + | xargs;echo '==checksum_end'\n"
+                + "2021-05-03T10:15:31.1234567Z checksum_start==\n"
+                + "2021-05-03T10:15:31.2234567Z old target/first.jar\n" //
+                + "2021-05-03T10:15:31.3234567Z ==checksum_end\n";
+        final String stepLog = "2021-05-03T10:15:32.1234567Z checksum_start==\n"
+                + "2021-05-03T10:15:32.2234567Z abc target/first.jar def target/second.jar\n"
+                + "2021-05-03T10:15:32.3234567Z ==checksum_end\n" //
+                + "2021-05-03T10:15:33.1234567Z Cleaning up orphan processes\n";
+        assertThat(ChecksumArchiveReader.readLogChecksums(zip(jobLog, stepLog)),
+                equalTo(Map.of("target/first.jar", "abc", "target/second.jar", "def")));
+    }
+
+    @Test
+    void testReadLogChecksumsIgnoresUnfinishedSection() throws IOException {
+        final String log = "2021-05-03T10:15:32.1234567Z checksum_start==\n"
+                + "2021-05-03T10:15:32.2234567Z abc target/first.jar\n";
+        assertThat(ChecksumArchiveReader.readLogChecksums(zip(log)), anEmptyMap());
+    }
+}
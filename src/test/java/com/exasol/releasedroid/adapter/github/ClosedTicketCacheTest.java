@@ -0,0 +1,44 @@
+package com.exasol.releasedroid.adapter.github;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ClosedTicketCacheTest {
+    private static final String REPOSITORY_NAME = "exasol/test-repository";
+    @TempDir
+    Path tempDirectory;
+    private ClosedTicketCache closedTicketCache;
+
+    @BeforeEach
+    void beforeEach() {
+        this.closedTicketCache = new ClosedTicketCache(this.tempDirectory.toString());
+    }
+
+    @Test
+    void testGetClosedTicketsWithoutCacheFile() {
+        assertThat(this.closedTicketCache.getClosedTickets(REPOSITORY_NAME), empty());
+    }
+
+    @Test
+    void testAddClosedTicketsIsPersistent() {
+        this.closedTicketCache.addClosedTickets(REPOSITORY_NAME, Set.of(1, 2));
+        this.closedTicketCache.addClosedTickets(REPOSITORY_NAME, Set.of(5));
+        final var otherCache = new ClosedTicketCache(this.tempDirectory.toString());
+        assertThat(otherCache.getClosedTickets(REPOSITORY_NAME), containsInAnyOrder(1, 2, 5));
+    }
+
+    @Test
+    void testGetClosedTicketsIgnoresUnreadableFile() throws IOException {
+        Files.writeString(this.tempDirectory.resolve("exasol%2Ftest-repository.json"), "{ broken");
+        assertThat(this.closedTicketCache.getClosedTickets(REPOSITORY_NAME), empty());
+    }
+}
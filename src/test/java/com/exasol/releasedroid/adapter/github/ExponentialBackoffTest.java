@@ -0,0 +1,26 @@
+package com.exasol.releasedroid.adapter.github;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ExponentialBackoffTest {
+    @Test
+    void testNextDelayGrowsUpToMaximum() {
+        final var backoff = new ExponentialBackoff(Duration.ofSeconds(5), 2, Duration.ofSeconds(30));
+        final List<Duration> delays = List.of(backoff.nextDelay(), backoff.nextDelay(), backoff.nextDelay(),
+                backoff.nextDelay(), backoff.nextDelay());
+        assertThat(delays, contains(Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(20),
+                Duration.ofSeconds(30), Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void testInitialDelayIsLimitedByMaximum() {
+        final var backoff = new ExponentialBackoff(Duration.ofMinutes(10), 2, Duration.ofMinutes(1));
+        assertThat(List.of(backoff.nextDelay()), contains(Duration.ofMinutes(1)));
+    }
+}
@@ -1,13 +1,18 @@
 package com.exasol.releasedroid.adapter.github;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +22,8 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.exasol.releasedroid.usecases.release.ReleaseCheckpoints;
+
 @ExtendWith(MockitoExtension.class)
 class GitHubAPIAdapterTest {
     private static final String REPOSITORY_NAME = "test/my-repo";
@@ -49,6 +56,212 @@ class GitHubAPIAdapterTest {
                 () -> verify(workflowMock, times(1)).dispatch(defaultBranch, Map.of()));
     }
 
+    @Test
+    void testExecuteWorkflowKeepsDispatchAfterFailure() throws IOException {
+        final String workflowName = "some_workflow.yml";
+        final GHWorkflow workflowMock = Mockito.mock(GHWorkflow.class);
+        when(this.repositoryMock.getWorkflow(workflowName)).thenReturn(workflowMock);
+        when(this.repositoryMock.getDefaultBranch()).thenReturn("main");
+        final var checkpoints = new MapCheckpoints();
+        final WorkflowWatcher watcher = (dispatch, probe) -> {
+            throw new GitHubException("connection lost");
+        };
+        final var adapter = new GitHubAPIAdapter(this.gitHubConnectorMock, watcher);
+        assertAll(
+                () -> assertThrows(GitHubException.class,
+                        () -> adapter.executeWorkflow(REPOSITORY_NAME, workflowName, checkpoints)),
+                () -> verify(workflowMock).dispatch("main", Map.of()),
+                () -> assertThat(checkpoints.values,
+                        allOf(hasEntry("workflow/some_workflow.yml/branch", "main"),
+                                hasKey("workflow/some_workflow.yml/dispatched-at"))));
+    }
+
+    @Test
+    void testExecuteWorkflowKeepsDispatchWhenInterruptedBeforeRunIsFound() throws IOException {
+        final String workflowName = "some_workflow.yml";
+        final GHWorkflow workflowMock = Mockito.mock(GHWorkflow.class);
+        when(this.repositoryMock.getWorkflow(workflowName)).thenReturn(workflowMock);
+        when(this.repositoryMock.getDefaultBranch()).thenReturn("main");
+        final var checkpoints = new MapCheckpoints();
+        final var pollingWatcher = new PollingWorkflowWatcher(Duration.ofMillis(1), Duration.ofMillis(10));
+        final WorkflowWatcher watcher = (dispatch, probe) -> {
+            Thread.currentThread().interrupt();
+            return pollingWatcher.waitForConclusion(dispatch, probe);
+        };
+        final var adapter = new GitHubAPIAdapter(this.gitHubConnectorMock, watcher);
+        try {
+            final GitHubException exception = assertThrows(GitHubException.class,
+                    () -> adapter.executeWorkflow(REPOSITORY_NAME, workflowName, checkpoints));
+            assertAll(() -> assertThat(exception.getMessage(), containsString("E-RD-GH-29")),
+                    () -> assertThat(checkpoints.values,
+                            allOf(hasEntry("workflow/some_workflow.yml/branch", "main"),
+                                    hasKey("workflow/some_workflow.yml/dispatched-at"))));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExecuteWorkflowRemovesDispatchIfNoRunAppeared() throws IOException {
+        final String workflowName = "some_workflow.yml";
+        final GHWorkflow workflowMock = Mockito.mock(GHWorkflow.class);
+        final GHWorkflowRunQueryBuilder queryMock = Mockito.mock(GHWorkflowRunQueryBuilder.class);
+        final PagedIterable<GHWorkflowRun> runsMock = Mockito.mock(PagedIterable.class);
+        when(this.repositoryMock.getWorkflow(workflowName)).thenReturn(workflowMock);
+        when(this.repositoryMock.queryWorkflowRuns()).thenReturn(queryMock);
+        when(queryMock.branch("main")).thenReturn(queryMock);
+        when(queryMock.event(GHEvent.WORKFLOW_DISPATCH)).thenReturn(queryMock);
+        when(queryMock.list()).thenReturn(runsMock);
+        when(runsMock.withPageSize(anyInt())).thenReturn(runsMock);
+        when(runsMock._iterator(anyInt())).thenReturn(Mockito.mock(PagedIterator.class));
+        final var checkpoints = new MapCheckpoints();
+        checkpoints.save("workflow/" + workflowName + "/branch", "main");
+        checkpoints.save("workflow/" + workflowName + "/dispatched-at",
+                Instant.now().minus(Duration.ofMinutes(10)).toString());
+        final WorkflowWatcher watcher = (dispatch, probe) -> probe.getConclusion().orElseThrow();
+        final var adapter = new GitHubAPIAdapter(this.gitHubConnectorMock, watcher);
+        final GitHubException exception = assertThrows(GitHubException.class,
+                () -> adapter.executeWorkflow(REPOSITORY_NAME, workflowName, checkpoints));
+        assertAll(() -> assertThat(exception.getMessage(), containsString("E-RD-GH-31")),
+                () -> verify(workflowMock, never()).dispatch(any(), any()),
+                () -> assertThat(checkpoints.values, anEmptyMap()));
+    }
+
+    @Test
+    void testExecuteWorkflowReattachesToRecordedRun() throws IOException, GitHubException {
+        final String workflowName = "some_workflow.yml";
+        final GHWorkflow workflowMock = Mockito.mock(GHWorkflow.class);
+        final GHWorkflowRun runMock = Mockito.mock(GHWorkflowRun.class);
+        when(this.repositoryMock.getWorkflow(workflowName)).thenReturn(workflowMock);
+        when(this.repositoryMock.getWorkflowRun(77L)).thenReturn(runMock);
+        when(runMock.getConclusion()).thenReturn(GHWorkflowRun.Conclusion.SUCCESS);
+        final var checkpoints = recordedRun(workflowName);
+        final WorkflowWatcher watcher = (dispatch, probe) -> probe.getConclusion().orElseThrow();
+        new GitHubAPIAdapter(this.gitHubConnectorMock, watcher).executeWorkflow(REPOSITORY_NAME, workflowName,
+                checkpoints);
+        assertAll(() -> verify(workflowMock, never()).dispatch(any(), any()),
+                () -> assertThat(checkpoints.values, anEmptyMap()));
+    }
+
+    @Test
+    void testExecuteWorkflowReattachesToRunOlderThanTimeout() throws IOException, GitHubException {
+        final String workflowName = "some_workflow.yml";
+        final GHWorkflow workflowMock = Mockito.mock(GHWorkflow.class);
+        final GHWorkflowRun runMock = Mockito.mock(GHWorkflowRun.class);
+        when(this.repositoryMock.getWorkflow(workflowName)).thenReturn(workflowMock);
+        when(this.repositoryMock.getWorkflowRun(77L)).thenReturn(runMock);
+        when(runMock.getConclusion()).thenReturn(GHWorkflowRun.Conclusion.SUCCESS);
+        final var checkpoints = recordedRun(workflowName, Instant.now().minus(Duration.ofMinutes(151)));
+        final var watcher = new PollingWorkflowWatcher(Duration.ofMillis(1), Duration.ofMillis(10));
+        new GitHubAPIAdapter(this.gitHubConnectorMock, watcher).executeWorkflow(REPOSITORY_NAME, workflowName,
+                checkpoints);
+        assertAll(() -> verify(runMock).getConclusion(), //
+                () -> verify(workflowMock, never()).dispatch(any(), any()),
+                () -> assertThat(checkpoints.values, anEmptyMap()));
+    }
+
+    @Test
+    void testExecuteWorkflowRemovesDispatchOlderThanTimeoutAfterFailure() throws IOException {
+        final String workflowName = "some_workflow.yml";
+        final GHWorkflow workflowMock = Mockito.mock(GHWorkflow.class);
+        when(this.repositoryMock.getWorkflow(workflowName)).thenReturn(workflowMock);
+        final var checkpoints = recordedRun(workflowName, Instant.now().minus(Duration.ofMinutes(151)));
+        final WorkflowWatcher watcher = (dispatch, probe) -> {
+            throw new GitHubException("connection lost");
+        };
+        final var adapter = new GitHubAPIAdapter(this.gitHubConnectorMock, watcher);
+        assertAll(
+                () -> assertThrows(GitHubException.class,
+                        () -> adapter.executeWorkflow(REPOSITORY_NAME, workflowName, checkpoints)),
+                () -> assertThat(checkpoints.values, anEmptyMap()));
+    }
+
+    @Test
+    void testCreateGithubReleaseContinuesWithRecordedDraft() throws IOException, GitHubException {
+        final GHWorkflow workflowMock = Mockito.mock(GHWorkflow.class);
+        final GHWorkflowRun runMock = Mockito.mock(GHWorkflowRun.class);
+        when(this.repositoryMock.getWorkflow("release_droid_upload_github_release_assets.yml"))
+                .thenReturn(workflowMock);
+        when(this.repositoryMock.getWorkflowRun(77L)).thenReturn(runMock);
+        when(runMock.getConclusion()).thenReturn(GHWorkflowRun.Conclusion.SUCCESS);
+        final var checkpoints = recordedRun("release_droid_upload_github_release_assets.yml");
+        checkpoints.save("github-release/upload-url", "https://uploads.github.com/1");
+        final WorkflowWatcher watcher = (dispatch, probe) -> probe.getConclusion().orElseThrow();
+        final GitHubRelease release = GitHubRelease.builder().repositoryName(REPOSITORY_NAME).version("1.0.0")
+                .header("header").releaseLetter("").build();
+        new GitHubAPIAdapter(this.gitHubConnectorMock, watcher).createGithubRelease(release, checkpoints);
+        assertAll(() -> verify(this.repositoryMock, never()).createRelease(any()),
+                () -> verify(workflowMock, never()).dispatch(any(), any()));
+    }
+
+    private MapCheckpoints recordedRun(final String workflowName) {
+        return recordedRun(workflowName, Instant.now());
+    }
+
+    private MapCheckpoints recordedRun(final String workflowName, final Instant dispatchedAt) {
+        final var checkpoints = new MapCheckpoints();
+        checkpoints.save("workflow/" + workflowName + "/branch", "main");
+        checkpoints.save("workflow/" + workflowName + "/dispatched-at", dispatchedAt.toString());
+        checkpoints.save("workflow/" + workflowName + "/run-id", "77");
+        return checkpoints;
+    }
+
+    private static class MapCheckpoints implements ReleaseCheckpoints {
+        private final Map<String, String> values = new HashMap<>();
+
+        @Override
+        public Optional<String> get(final String name) {
+            return Optional.ofNullable(this.values.get(name));
+        }
+
+        @Override
+        public void save(final String name, final String value) {
+            this.values.put(name, value);
+        }
+
+        @Override
+        public void remove(final String name) {
+            this.values.remove(name);
+        }
+    }
+
+    @Test
+    void testIsClosedTicket() throws IOException, GitHubException {
+        final GHIssue issueMock = Mockito.mock(GHIssue.class);
+        when(issueMock.getState()).thenReturn(GHIssueState.CLOSED);
+        when(this.repositoryMock.getIssue(3)).thenReturn(issueMock);
+        assertThat(this.apiAdapter.isClosedTicket(REPOSITORY_NAME, 3), equalTo(true));
+    }
+
+    @Test
+    void testIsClosedTicketForClosedPullRequest() throws IOException, GitHubException {
+        final GHIssue issueMock = Mockito.mock(GHIssue.class);
+        when(issueMock.getState()).thenReturn(GHIssueState.CLOSED);
+        when(issueMock.isPullRequest()).thenReturn(true);
+        when(this.repositoryMock.getIssue(3)).thenReturn(issueMock);
+        assertThat(this.apiAdapter.isClosedTicket(REPOSITORY_NAME, 3), equalTo(false));
+    }
+
+    @Test
+    void testIsClosedTicketForMissingTicket() throws IOException, GitHubException {
+        when(this.repositoryMock.getIssue(42)).thenThrow(GHFileNotFoundException.class);
+        assertThat(this.apiAdapter.isClosedTicket(REPOSITORY_NAME, 42), equalTo(false));
+    }
+
+    @Test
+    void testGetRepositoryMetadata() throws GitHubException, IOException {
+        final GHRelease releaseMock = mock(GHRelease.class);
+        when(releaseMock.getTagName()).thenReturn("1.2.0");
+        when(this.repositoryMock.getDefaultBranch()).thenReturn("main");
+        when(this.repositoryMock.getLanguage()).thenReturn("Java");
+        when(this.repositoryMock.getLatestRelease()).thenReturn(releaseMock);
+        final GitHubRepositoryMetadata metadata = this.apiAdapter.getRepositoryMetadata(REPOSITORY_NAME);
+        assertAll(() -> assertThat(metadata.getDefaultBranch(), equalTo("main")),
+                () -> assertThat(metadata.getPrimaryLanguage(), equalTo("Java")),
+                () -> assertThat(metadata.getLatestTag(), equalTo(Optional.of("1.2.0"))));
+    }
+
     @Test
     void testGetLanguage() throws GitHubException {
         final String language = "Java";
@@ -63,8 +276,45 @@ class GitHubAPIAdapterTest {
         final GHRepository repositoryMock = Mockito.mock(GHRepository.class);
         when(this.gitHubMock.getRepository(REPOSITORY_NAME)).thenReturn(repositoryMock);
         when(repositoryMock.getArtifact(artifactId)).thenReturn(artifactMock);
-        when(artifactMock.download(any())).thenReturn("hashsum file.jar");
+        when(artifactMock.download(any())).thenReturn(Map.of("file.jar", "hashsum"));
         assertThat(this.apiAdapter.downloadChecksumFromArtifactory(REPOSITORY_NAME, artifactId),
                 equalTo(Map.of("file.jar", "hashsum")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetFileHashes() throws IOException, GitHubException {
+        final GHTree tree = mockTree(false, mockEntry("blob", "pom.xml", "a1"), mockEntry("tree", "doc", "t1"),
+                mockEntry("blob", "doc/changes.md", "b1"));
+        when(this.repositoryMock.getTreeRecursive("main", 1)).thenReturn(tree);
+        assertThat(this.apiAdapter.getFileHashes(REPOSITORY_NAME, "main"),
+                equalTo(Map.of("pom.xml", "a1", "doc/changes.md", "b1")));
+    }
+
+    @Test
+    void testGetFileHashesOfTruncatedTree() throws IOException, GitHubException {
+        final GHTreeEntry docEntry = mockEntry("tree", "doc", "t1");
+        final GHTree truncatedTree = mockTree(true);
+        final GHTree rootTree = mockTree(false, mockEntry("blob", "pom.xml", "a1"), docEntry);
+        final GHTree docTree = mockTree(false, mockEntry("blob", "changes.md", "b1"));
+        when(this.repositoryMock.getTreeRecursive("main", 1)).thenReturn(truncatedTree);
+        when(this.repositoryMock.getTree("main")).thenReturn(rootTree);
+        when(this.repositoryMock.getTreeRecursive("t1", 1)).thenReturn(docTree);
+        assertThat(this.apiAdapter.getFileHashes(REPOSITORY_NAME, "main"),
+                equalTo(Map.of("pom.xml", "a1", "doc/changes.md", "b1")));
+    }
+
+    private GHTree mockTree(final boolean truncated, final GHTreeEntry... entries) {
+        final GHTree tree = Mockito.mock(GHTree.class);
+        lenient().when(tree.isTruncated()).thenReturn(truncated);
+        lenient().when(tree.getTree()).thenReturn(List.of(entries));
+        return tree;
+    }
+
+    private GHTreeEntry mockEntry(final String type, final String path, final String sha) {
+        final GHTreeEntry entry = Mockito.mock(GHTreeEntry.class);
+        lenient().when(entry.getType()).thenReturn(type);
+        lenient().when(entry.getPath()).thenReturn(path);
+        lenient().when(entry.getSha()).thenReturn(sha);
+        return entry;
+    }
+}
@@ -0,0 +1,71 @@
+package com.exasol.releasedroid.adapter.github;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.*;
+import java.net.*;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.kohsuke.github.HttpConnector;
+
+import com.sun.net.httpserver.HttpServer;
+
+class GitHubConnectorImplTest {
+    private static final String ETAG = "\"abc\"";
+    private final List<String> receivedETags = Collections.synchronizedList(new ArrayList<>());
+    private HttpServer server;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/repos/exasol/release-droid", exchange -> {
+            try (exchange) {
+                final String eTag = exchange.getRequestHeaders().getFirst("If-None-Match");
+                this.receivedETags.add(String.valueOf(eTag));
+                exchange.getResponseHeaders().set("ETag", ETAG);
+                if (ETAG.equals(eTag)) {
+                    exchange.sendResponseHeaders(304, -1);
+                } else {
+                    final byte[] body = "{\"default_branch\": \"main\"}".getBytes(UTF_8);
+                    exchange.getResponseHeaders().set("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(200, body.length);
+                    exchange.getResponseBody().write(body);
+                }
+            }
+        });
+        this.server.start();
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.server.stop(0);
+    }
+
+    @Test
+    void testRepeatedReadIsConditionalRequest(@TempDir final Path cacheDirectory) throws IOException {
+        final HttpConnector connector = GitHubConnectorImpl.createCachingConnector(cacheDirectory, 1024 * 1024);
+        final URL url = new URL(
+                "http://localhost:" + this.server.getAddress().getPort() + "/repos/exasol/release-droid");
+        final String firstBody = read(connector.connect(url));
+        final HttpURLConnection secondConnection = connector.connect(url);
+        final String secondBody = read(secondConnection);
+        assertAll(() -> assertThat(this.receivedETags, contains("null", ETAG)),
+                () -> assertThat(secondConnection.getResponseCode(), equalTo(200)),
+                () -> assertThat(secondBody, equalTo(firstBody)),
+                () -> assertThat(secondBody, containsString("main")));
+    }
+
+    private String read(final HttpURLConnection connection) throws IOException {
+        try (final InputStream stream = connection.getInputStream()) {
+            return new String(stream.readAllBytes(), UTF_8);
+        }
+    }
+}
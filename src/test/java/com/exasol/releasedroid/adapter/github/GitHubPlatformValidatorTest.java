@@ -5,11 +5,13 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,13 +32,15 @@ class GitHubPlatformValidatorTest {
     @Mock
     private ReleaseLetter releaseLetterMock;
     @Mock
-    private GitHubGateway githubGatewayMock;
+    private AsyncGitHubGateway githubGatewayMock;
     private GitHubPlatformValidator validator;
 
     @BeforeEach
     void beforeEach() {
         when(this.repositoryMock.getVersion()).thenReturn(VERSION);
         when(this.repositoryMock.getReleaseLetter(VERSION)).thenReturn(this.releaseLetterMock);
+        lenient().when(this.githubGatewayMock.getClosedTicketsAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(Set.of()));
         this.validator = new GitHubPlatformValidator(this.repositoryMock, this.githubGatewayMock);
     }
 
@@ -44,14 +48,18 @@ class GitHubPlatformValidatorTest {
     // [utest->dsn~validate-github-issues-exists~1]
     // [utest->dsn~validate-github-issues-are-closed~1]
     void testValidationSuccessful() throws GitHubException {
-        when(this.repositoryMock.getRepositoryValidators()).thenReturn(List.of());
         when(this.repositoryMock.getSingleFileContentAsString(GITHUB_RELEASE_WORKFLOW_PATH)).thenReturn("");
         when(this.releaseLetterMock.getHeader()).thenReturn(Optional.of("header"));
-        when(this.githubGatewayMock.getClosedTickets(any())).thenReturn(Set.of(1, 2, 3, 4));
+        mockClosedTickets(Set.of(1, 2, 3, 4));
         when(this.releaseLetterMock.getTicketNumbers()).thenReturn(List.of(1, 2));
         assertFalse(this.validator.validate().hasFailures());
     }
 
+    private void mockClosedTickets(final Set<Integer> closedTickets) {
+        when(this.githubGatewayMock.getClosedTicketsAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(closedTickets));
+    }
+
     @Test
     // [utest->dsn~validate-release-letter~1]
     void testValidateContainCodeNameEmptyOptional() {
@@ -75,7 +83,7 @@ class GitHubPlatformValidatorTest {
     // [utest->dsn~validate-github-issues-are-closed~1]
     void testValidateGitHubTicketsInvalidTicketsOnDefaultBranch() throws GitHubException {
         when(this.repositoryMock.isOnDefaultBranch()).thenReturn(true);
-        when(this.githubGatewayMock.getClosedTickets(any())).thenReturn(Set.of(1, 2, 3, 4));
+        mockClosedTickets(Set.of(1, 2, 3, 4));
         when(this.releaseLetterMock.getTicketNumbers()).thenReturn(List.of(1, 2, 5, 6));
         final Report report = this.validator.validate();
         assertAll(() -> assertTrue(report.hasFailures()), //
@@ -89,7 +97,7 @@ class GitHubPlatformValidatorTest {
     void testValidateGitHubTicketsOnUserSpecifiedBranch() throws GitHubException {
         when(this.releaseLetterMock.getHeader()).thenReturn(Optional.of("header"));
         when(this.repositoryMock.isOnDefaultBranch()).thenReturn(false);
-        when(this.githubGatewayMock.getClosedTickets(any())).thenReturn(Set.of(1, 2, 3, 4));
+        mockClosedTickets(Set.of(1, 2, 3, 4));
         when(this.releaseLetterMock.getTicketNumbers()).thenReturn(List.of(1, 2, 5, 6));
         final Report report = this.validator.validate();
         assertFalse(report.hasFailures());
@@ -98,9 +106,9 @@ class GitHubPlatformValidatorTest {
     @Test
     // [utest->dsn~validate-github-issues-exists~1]
     void testValidateGitHubTicketsCannotRetrieveTickets() throws GitHubException {
-        when(this.githubGatewayMock.getClosedTickets(any())).thenThrow(GitHubException.class);
+        when(this.githubGatewayMock.getClosedTicketsAsync(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new GitHubException("Connection refused.")));
         final Report report = this.validator.validate();
-        System.out.println(report.toString());
 
         assertAll(() -> assertTrue(report.hasFailures()), //
                 () -> assertThat(report.toString(), containsString("E-RD-GH-22")));
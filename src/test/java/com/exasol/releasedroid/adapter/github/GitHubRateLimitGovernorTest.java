@@ -0,0 +1,140 @@
+package com.exasol.releasedroid.adapter.github;
+
+import static com.exasol.releasedroid.adapter.github.GitHubRateLimitGovernor.Traffic.RELEASE;
+import static com.exasol.releasedroid.adapter.github.GitHubRateLimitGovernor.Traffic.VALIDATION;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.releasedroid.adapter.github.GitHubRateLimitGovernor.Traffic;
+import com.exasol.releasedroid.usecases.ExecutionContext;
+import com.exasol.releasedroid.usecases.request.Goal;
+
+class GitHubRateLimitGovernorTest {
+    private static final Instant NOW = Instant.parse("2021-06-01T10:00:00Z");
+    private static final Instant RESET = NOW.plus(Duration.ofMinutes(20));
+    private final List<Duration> pauses = new ArrayList<>();
+    private final GitHubRateLimitGovernor governor = new GitHubRateLimitGovernor(Clock.fixed(NOW, ZoneOffset.UTC),
+            this.pauses::add);
+
+    @Test
+    void testValidationTrafficWaitsForResetWhenItsShareIsUsedUp() throws GitHubException {
+        final boolean waited = this.governor.call(VALIDATION, () -> checkBudget(1000, 5000, RESET));
+        assertAll(() -> assertThat(waited, equalTo(true)),
+                () -> assertThat(this.pauses, contains(Duration.ofMinutes(20))));
+    }
+
+    @Test
+    void testReleaseTrafficUsesTheReserve() throws GitHubException {
+        final boolean waited = this.governor.call(RELEASE, () -> checkBudget(1000, 5000, RESET));
+        assertAll(() -> assertThat(waited, equalTo(false)), () -> assertThat(this.pauses, empty()));
+    }
+
+    @Test
+    void testReleaseTrafficWaitsForResetWhenBudgetIsExhausted() throws GitHubException {
+        final boolean waited = this.governor.call(RELEASE, () -> checkBudget(10, 5000, RESET));
+        assertAll(() -> assertThat(waited, equalTo(true)),
+                () -> assertThat(this.pauses, contains(Duration.ofMinutes(20))));
+    }
+
+    @Test
+    void testNoWaitingAfterReset() throws GitHubException {
+        final boolean waited = this.governor.call(VALIDATION, () -> checkBudget(0, 5000, NOW.minusSeconds(1)));
+        assertAll(() -> assertThat(waited, equalTo(false)), () -> assertThat(this.pauses, empty()));
+    }
+
+    @Test
+    void testRequestsOutsideCallsAreReleaseTraffic() throws InterruptedException {
+        assertThat(this.governor.checkBudget(100, 5000, RESET), equalTo(false));
+    }
+
+    @Test
+    void testCallKeepsTrafficClassOfEnclosingCall() throws GitHubException {
+        assertThat(this.governor.call(VALIDATION, () -> this.governor.call(RELEASE, this.governor::getTraffic)),
+                equalTo(VALIDATION));
+    }
+
+    @Test
+    void testGoalOfExecutionContextDecidesTrafficClass() {
+        final Traffic traffic = ExecutionContext.current().withGoal(Goal.VALIDATE).call(() -> {
+            try {
+                return this.governor.call(RELEASE, this.governor::getTraffic);
+            } catch (final GitHubException exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+        assertThat(traffic, equalTo(VALIDATION));
+    }
+
+    @Test
+    void testMetrics() throws GitHubException {
+        this.governor.call(VALIDATION, () -> checkBudget(42, 5000, RESET));
+        assertThat(this.governor.getMetrics(),
+                allOf(hasEntry("github_rate_limit_remaining", (Object) 42),
+                        hasEntry("github_rate_limit_limit", (Object) 5000),
+                        hasEntry("github_rate_limit_reset", (Object) "2021-06-01T10:20:00Z"),
+                        hasEntry("github_throttled_requests", (Object) 1L),
+                        hasEntry("github_secondary_rate_limit_hits", (Object) 0L)));
+    }
+
+    @Test
+    void testRateLimitExceededWaitsForReset() throws IOException {
+        this.governor.onRateLimitExceeded(new IOException("API rate limit exceeded"),
+                String.valueOf(RESET.getEpochSecond()));
+        assertThat(this.pauses, contains(Duration.ofMinutes(20)));
+    }
+
+    @Test
+    void testSecondaryLimitUsesRetryAfterHeader() throws IOException {
+        this.governor.onSecondaryLimitExceeded(new IOException("abuse"), "30");
+        assertAll(() -> assertThat(this.pauses, contains(Duration.ofSeconds(30))),
+                () -> assertThat(this.governor.getMetrics(), hasEntry("github_secondary_rate_limit_hits", 1L)));
+    }
+
+    @Test
+    void testSecondaryLimitBacksOffAndGivesUp() {
+        final IOException exception = assertThrows(IOException.class, () -> hitSecondaryLimit(6));
+        assertAll(() -> assertThat(exception.getMessage(), startsWith("E-RD-GH-37")),
+                () -> assertThat(this.pauses, contains(Duration.ofMinutes(1), Duration.ofMinutes(2),
+                        Duration.ofMinutes(4), Duration.ofMinutes(8), Duration.ofMinutes(15))));
+    }
+
+    @Test
+    void testSecondaryLimitRetriesAreCountedPerCall() throws GitHubException, IOException {
+        hitSecondaryLimit(5);
+        this.governor.call(VALIDATION, () -> hitSecondaryLimitInCall(1));
+        assertThat(this.pauses, hasSize(6));
+    }
+
+    private boolean checkBudget(final int remaining, final int limit, final Instant reset) {
+        try {
+            return this.governor.checkBudget(remaining, limit, reset);
+        } catch (final InterruptedException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private void hitSecondaryLimit(final int times) throws IOException {
+        for (int i = 0; i < times; ++i) {
+            this.governor.onSecondaryLimitExceeded(new IOException("abuse"), null);
+        }
+    }
+
+    private Void hitSecondaryLimitInCall(final int times) {
+        try {
+            hitSecondaryLimit(times);
+            return null;
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
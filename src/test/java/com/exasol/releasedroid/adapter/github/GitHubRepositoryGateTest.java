@@ -1,16 +1,19 @@
 package com.exasol.releasedroid.adapter.github;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.util.*;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -23,20 +26,96 @@ class GitHubRepositoryGateTest {
     private static final String NAME = "test-repository";
     @Mock
     private GitHubGateway githubGatewayMock;
+    @TempDir
+    Path tempDir;
+    private TagIndexCache tagIndexCache;
     private GitHubRepositoryGate gitHubRepositoryGate;
 
     @BeforeEach
     void beforeEach() {
-        this.gitHubRepositoryGate = new GitHubRepositoryGate(this.githubGatewayMock, BRANCH_NAME, NAME);
+        this.tagIndexCache = new TagIndexCache(this.tempDir.toString());
+        this.gitHubRepositoryGate = new GitHubRepositoryGate(this.githubGatewayMock, BRANCH_NAME, NAME,
+                this.tagIndexCache);
     }
 
     @Test
     void testGetLatestTag() throws GitHubException {
-        when(this.githubGatewayMock.getLatestTag(NAME)).thenReturn(LATEST_TAG);
+        when(this.githubGatewayMock.getRepositoryMetadata(NAME))
+                .thenReturn(GitHubRepositoryMetadata.builder().latestTag(LATEST_TAG).build());
+        when(this.githubGatewayMock.getTags(NAME)).thenReturn(List.of("0.1.0", LATEST_TAG));
         assertAll(() -> assertThat(this.gitHubRepositoryGate.getLatestTag().isPresent(), equalTo(true)),
                 () -> assertThat(this.gitHubRepositoryGate.getLatestTag().get(), equalTo(LATEST_TAG)));
     }
 
+    @Test
+    void testGetLatestTagIsHighestTagIfLatestReleaseIsLower() throws GitHubException {
+        when(this.githubGatewayMock.getRepositoryMetadata(NAME))
+                .thenReturn(GitHubRepositoryMetadata.builder().latestTag("1.0.1").build());
+        when(this.githubGatewayMock.getTags(NAME)).thenReturn(List.of("latest", "1.1.0", "1.0.1", LATEST_TAG));
+        assertThat(this.gitHubRepositoryGate.getLatestTag(), equalTo(Optional.of("1.1.0")));
+    }
+
+    @Test
+    void testTagsAreNotListedIfCachedIndexContainsLatestRelease() throws GitHubException {
+        this.tagIndexCache.replaceTags(NAME, List.of("0.1.0", LATEST_TAG));
+        when(this.githubGatewayMock.getRepositoryMetadata(NAME))
+                .thenReturn(GitHubRepositoryMetadata.builder().latestTag(LATEST_TAG).build());
+        assertAll(() -> assertThat(this.gitHubRepositoryGate.getLatestTag(), equalTo(Optional.of(LATEST_TAG))),
+                () -> verify(this.githubGatewayMock, never()).getTags(NAME));
+    }
+
+    @Test
+    void testNewTagsAreAddedToCache() throws GitHubException {
+        this.tagIndexCache.replaceTags(NAME, List.of("0.1.0"));
+        when(this.githubGatewayMock.getRepositoryMetadata(NAME))
+                .thenReturn(GitHubRepositoryMetadata.builder().latestTag(LATEST_TAG).build());
+        when(this.githubGatewayMock.getTags(NAME)).thenReturn(List.of("0.1.0", LATEST_TAG));
+        this.gitHubRepositoryGate.getTagIndex();
+        assertThat(this.tagIndexCache.getTagIndex(NAME).getTags(), contains("0.1.0", LATEST_TAG));
+    }
+
+    @Test
+    void testDeletedTagsAreRemovedFromCache() throws GitHubException {
+        this.tagIndexCache.replaceTags(NAME, List.of("0.1.0", "0.2.0"));
+        when(this.githubGatewayMock.getRepositoryMetadata(NAME))
+                .thenReturn(GitHubRepositoryMetadata.builder().latestTag(LATEST_TAG).build());
+        when(this.githubGatewayMock.getTags(NAME)).thenReturn(List.of("0.1.0", LATEST_TAG));
+        assertAll(() -> assertThat(this.gitHubRepositoryGate.getTagIndex().getTags(), contains("0.1.0", LATEST_TAG)),
+                () -> assertThat(this.tagIndexCache.getTagIndex(NAME).getTags(), contains("0.1.0", LATEST_TAG)));
+    }
+
+    @Test
+    void testMetadataIsFetchedOnce() throws GitHubException {
+        when(this.githubGatewayMock.getRepositoryMetadata(NAME)).thenReturn(
+                GitHubRepositoryMetadata.builder().defaultBranch(BRANCH_NAME).latestTag(LATEST_TAG).build());
+        this.gitHubRepositoryGate.getLatestTag();
+        this.gitHubRepositoryGate.isOnDefaultBranch();
+        this.gitHubRepositoryGate.isOnDefaultBranch();
+        verify(this.githubGatewayMock, times(1)).getRepositoryMetadata(NAME);
+    }
+
+    @Test
+    void testDefaultBranchIsResolvedWhenNeeded() throws GitHubException {
+        final var gate = new GitHubRepositoryGate(this.githubGatewayMock, null, NAME, this.tagIndexCache);
+        verifyNoInteractions(this.githubGatewayMock);
+        when(this.githubGatewayMock.getRepositoryMetadata(NAME))
+                .thenReturn(GitHubRepositoryMetadata.builder().defaultBranch("main").build());
+        assertAll(() -> assertThat(gate.getBranchName(), equalTo("main")),
+                () -> assertThat(gate.isOnDefaultBranch(), equalTo(true)));
+    }
+
+    @Test
+    void testGetFileHashesListsFilesOnlyOnce() throws GitHubException {
+        when(this.githubGatewayMock.getFileHashes(NAME, BRANCH_NAME))
+                .thenReturn(Map.of("pom.xml", "abc", "README.md", "def"));
+        assertAll(
+                () -> assertThat(this.gitHubRepositoryGate.getFileHashes(Set.of("pom.xml", "missing.md")),
+                        equalTo(Map.of("pom.xml", "abc"))),
+                () -> assertThat(this.gitHubRepositoryGate.getFileHashes(Set.of("README.md")),
+                        equalTo(Map.of("README.md", "def"))),
+                () -> verify(this.githubGatewayMock, times(1)).getFileHashes(NAME, BRANCH_NAME));
+    }
+
     @Test
     void testGetBranchName() {
         assertThat(this.gitHubRepositoryGate.getBranchName(), equalTo(BRANCH_NAME));
@@ -44,19 +123,21 @@ class GitHubRepositoryGateTest {
 
     @Test
     void testIsOnDefaultBranchTrue() throws GitHubException {
-        when(this.githubGatewayMock.getDefaultBranch(NAME)).thenReturn(BRANCH_NAME);
+        when(this.githubGatewayMock.getRepositoryMetadata(NAME))
+                .thenReturn(GitHubRepositoryMetadata.builder().defaultBranch(BRANCH_NAME).build());
         assertThat(this.gitHubRepositoryGate.isOnDefaultBranch(), equalTo(true));
     }
 
     @Test
     void testIsOnDefaultBranchFalse() throws GitHubException {
-        when(this.githubGatewayMock.getDefaultBranch(NAME)).thenReturn("some_branch");
+        when(this.githubGatewayMock.getRepositoryMetadata(NAME))
+                .thenReturn(GitHubRepositoryMetadata.builder().defaultBranch("some_branch").build());
         assertThat(this.gitHubRepositoryGate.isOnDefaultBranch(), equalTo(false));
     }
 
     @Test
     void testIsOnDefaultBranchThrowsException() throws GitHubException {
-        when(this.githubGatewayMock.getDefaultBranch(NAME)).thenThrow(GitHubException.class);
+        when(this.githubGatewayMock.getRepositoryMetadata(NAME)).thenThrow(GitHubException.class);
         assertThrows(RepositoryException.class, () -> this.gitHubRepositoryGate.isOnDefaultBranch());
     }
 
@@ -85,15 +166,43 @@ class GitHubRepositoryGateTest {
     void testGetSingleFileContentAsString() throws GitHubException {
         final String filePath = "/path/to";
         final String fileContent = "some content";
-        when(this.githubGatewayMock.getFileContent(NAME, BRANCH_NAME, filePath))
+        when(this.githubGatewayMock.getFileHashes(NAME, BRANCH_NAME)).thenReturn(Map.of(filePath, "abc"));
+        when(this.githubGatewayMock.getBlobContent(NAME, "abc"))
                 .thenReturn(new ByteArrayInputStream(fileContent.getBytes()));
-        assertThat(this.gitHubRepositoryGate.getSingleFileContentAsString(filePath), equalTo(fileContent));
+        assertAll(() -> assertThat(this.gitHubRepositoryGate.getSingleFileContentAsString(filePath),
+                equalTo(fileContent)),
+                () -> assertThat(this.gitHubRepositoryGate.getSingleFileContentAsString(filePath),
+                        equalTo(fileContent)),
+                () -> verify(this.githubGatewayMock, times(1)).getBlobContent(NAME, "abc"));
+    }
+
+    @Test
+    void testGetSingleFileContentAsStringReadsNewSnapshotAfterUpdate() throws GitHubException {
+        final String filePath = "/path/to";
+        when(this.githubGatewayMock.getFileHashes(NAME, BRANCH_NAME)).thenReturn(Map.of(filePath, "abc"),
+                Map.of(filePath, "def"));
+        when(this.githubGatewayMock.getBlobContent(NAME, "abc"))
+                .thenReturn(new ByteArrayInputStream("old content".getBytes()));
+        when(this.githubGatewayMock.getBlobContent(NAME, "def"))
+                .thenReturn(new ByteArrayInputStream("new content".getBytes()));
+        this.gitHubRepositoryGate.getSingleFileContentAsString(filePath);
+        this.gitHubRepositoryGate.updateFileContent(filePath, "new content", "update");
+        assertThat(this.gitHubRepositoryGate.getSingleFileContentAsString(filePath), equalTo("new content"));
+    }
+
+    @Test
+    void testGetSingleFileContentAsStringMissingFile() throws GitHubException {
+        when(this.githubGatewayMock.getFileHashes(NAME, BRANCH_NAME)).thenReturn(Map.of());
+        final RepositoryException exception = assertThrows(RepositoryException.class,
+                () -> this.gitHubRepositoryGate.getSingleFileContentAsString("/path/to"));
+        assertThat(exception.getMessage(), containsString("E-RD-GH-36"));
     }
 
     @Test
     void testGetSingleFileContentAsStringThrowsException1() throws GitHubException {
         final String filePath = "/path/to";
-        when(this.githubGatewayMock.getFileContent(NAME, BRANCH_NAME, filePath)).thenThrow(GitHubException.class);
+        when(this.githubGatewayMock.getFileHashes(NAME, BRANCH_NAME)).thenReturn(Map.of(filePath, "abc"));
+        when(this.githubGatewayMock.getBlobContent(NAME, "abc")).thenThrow(GitHubException.class);
         assertThrows(RepositoryException.class, () -> this.gitHubRepositoryGate.getSingleFileContentAsString(filePath));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package com.exasol.releasedroid.adapter.github;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PollingWorkflowWatcherTest {
+    @Mock
+    private WorkflowRunProbe probeMock;
+
+    @Test
+    void testWaitForConclusionPollsUntilRunIsCompleted() throws GitHubException {
+        when(this.probeMock.getConclusion()).thenReturn(Optional.empty(), Optional.empty(), Optional.of("success"));
+        final var watcher = new PollingWorkflowWatcher(Duration.ofMillis(1), Duration.ofMillis(10));
+        final var dispatch = new WorkflowDispatch("test/my-repo", "main", 42, Instant.now());
+        assertThat(watcher.waitForConclusion(dispatch, this.probeMock), equalTo("success"));
+        verify(this.probeMock, times(3)).getConclusion();
+    }
+}
@@ -0,0 +1,48 @@
+package com.exasol.releasedroid.adapter.github;
+
+import static com.exasol.releasedroid.adapter.github.GitHubRateLimitGovernor.Traffic.RELEASE;
+import static com.exasol.releasedroid.adapter.github.GitHubRateLimitGovernor.Traffic.VALIDATION;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitedGitHubGatewayTest {
+    private static final String REPOSITORY_NAME = "exasol/release-droid";
+    @Mock
+    private GitHubGateway githubGatewayMock;
+    @Mock
+    private GitHubRateLimitGovernor governorMock;
+    private RateLimitedGitHubGateway gateway;
+
+    @BeforeEach
+    void beforeEach() throws GitHubException {
+        when(this.governorMock.call(any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1, GitHubCall.class).call());
+        this.gateway = new RateLimitedGitHubGateway(this.githubGatewayMock, this.governorMock);
+    }
+
+    @Test
+    void testReadingIsValidationTraffic() throws GitHubException {
+        when(this.githubGatewayMock.getLatestTag(REPOSITORY_NAME)).thenReturn("1.0.0");
+        final String latestTag = this.gateway.getLatestTag(REPOSITORY_NAME);
+        assertAll(() -> assertThat(latestTag, equalTo("1.0.0")),
+                () -> verify(this.governorMock).call(eq(VALIDATION), any()));
+    }
+
+    @Test
+    void testRunningWorkflowsIsReleaseTraffic() throws GitHubException {
+        this.gateway.executeWorkflow(REPOSITORY_NAME, "release.yml");
+        assertAll(() -> verify(this.githubGatewayMock).executeWorkflow(REPOSITORY_NAME, "release.yml"),
+                () -> verify(this.governorMock).call(eq(RELEASE), any()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.exasol.releasedroid.adapter.github;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TagIndexCacheTest {
+    private static final String REPOSITORY_NAME = "exasol/test-repository";
+    @TempDir
+    Path tempDirectory;
+    private TagIndexCache tagIndexCache;
+
+    @BeforeEach
+    void beforeEach() {
+        this.tagIndexCache = new TagIndexCache(this.tempDirectory.toString());
+    }
+
+    @Test
+    void testGetTagIndexWithoutCacheFile() {
+        assertThat(this.tagIndexCache.getTagIndex(REPOSITORY_NAME).getTags(), empty());
+    }
+
+    @Test
+    void testReplaceTagsIsPersistent() {
+        this.tagIndexCache.replaceTags(REPOSITORY_NAME, List.of("1.0.0", "0.1.0", "latest"));
+        final var otherCache = new TagIndexCache(this.tempDirectory.toString());
+        assertThat(otherCache.getTagIndex(REPOSITORY_NAME).getTags(), contains("0.1.0", "1.0.0"));
+    }
+
+    @Test
+    void testReplaceTagsRemovesDeletedTags() {
+        this.tagIndexCache.replaceTags(REPOSITORY_NAME, List.of("0.1.0", "1.0.0"));
+        this.tagIndexCache.replaceTags(REPOSITORY_NAME, List.of("0.1.0", "1.1.0"));
+        assertThat(this.tagIndexCache.getTagIndex(REPOSITORY_NAME).getTags(), contains("0.1.0", "1.1.0"));
+    }
+
+    @Test
+    void testGetTagIndexIgnoresUnreadableFile() throws IOException {
+        Files.writeString(this.tempDirectory.resolve("exasol%2Ftest-repository.json"), "{ broken");
+        assertThat(this.tagIndexCache.getTagIndex(REPOSITORY_NAME).getTags(), empty());
+    }
+}
@@ -0,0 +1,171 @@
+package com.exasol.releasedroid.adapter.github;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookWorkflowWatcherTest {
+    private static final String REPOSITORY_NAME = "test/my-repo";
+    private static final long WORKFLOW_ID = 42;
+    private static final long RUN_ID = 1;
+    private static final String SECRET = "webhook-secret";
+    @Mock
+    private WorkflowRunProbe probeMock;
+
+    @Test
+    void testWaitForConclusionWakesUpOnCompletedEvent() throws Exception {
+        when(this.probeMock.getConclusion()).thenReturn(Optional.of("success"));
+        when(this.probeMock.getKnownRunId()).thenReturn(Optional.of(RUN_ID));
+        final var dispatch = new WorkflowDispatch(REPOSITORY_NAME, "main", WORKFLOW_ID, Instant.now());
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (final var watcher = new WebhookWorkflowWatcher(0, SECRET)) {
+            final Future<String> conclusion = executor
+                    .submit(() -> watcher.waitForConclusion(dispatch, this.probeMock));
+            Thread.sleep(200);
+            final String event = createEvent(RUN_ID, Instant.now());
+            assertThat(sendEvent(watcher.getPort(), event, sign(event, SECRET)), equalTo(204));
+            assertThat(conclusion.get(10, TimeUnit.SECONDS), equalTo("success"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testWaitForConclusionKeepsCompletedEventReceivedBeforeRunIsKnown() throws Exception {
+        // The first check finds the run, but the GitHub API does not report the conclusion yet.
+        final var runFound = new AtomicBoolean();
+        final WorkflowRunProbe probe = new WorkflowRunProbe() {
+            @Override
+            public Optional<String> getConclusion() {
+                return runFound.getAndSet(true) ? Optional.of("success") : Optional.empty();
+            }
+
+            @Override
+            public Optional<Long> getKnownRunId() {
+                return runFound.get() ? Optional.of(RUN_ID) : Optional.empty();
+            }
+        };
+        final var dispatch = new WorkflowDispatch(REPOSITORY_NAME, "main", WORKFLOW_ID, Instant.now());
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (final var watcher = new WebhookWorkflowWatcher(0, SECRET)) {
+            final Future<String> conclusion = executor.submit(() -> watcher.waitForConclusion(dispatch, probe));
+            Thread.sleep(200);
+            watcher.onWorkflowRunEvent(createEvent(RUN_ID, Instant.now()));
+            assertThat(conclusion.get(20, TimeUnit.SECONDS), equalTo("success"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testOnWorkflowRunEventIgnoresRunsCreatedBeforeDispatch() throws Exception {
+        final var dispatch = new WorkflowDispatch(REPOSITORY_NAME, "main", WORKFLOW_ID, Instant.now());
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (final var watcher = new WebhookWorkflowWatcher(0, SECRET)) {
+            final Future<String> conclusion = executor
+                    .submit(() -> watcher.waitForConclusion(dispatch, this.probeMock));
+            Thread.sleep(200);
+            watcher.onWorkflowRunEvent(createEvent(RUN_ID, Instant.now().minusSeconds(3600)));
+            Thread.sleep(200);
+            verify(this.probeMock, never()).getConclusion();
+            conclusion.cancel(true);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testOnWorkflowRunEventIgnoresOtherRuns() throws Exception {
+        when(this.probeMock.getKnownRunId()).thenReturn(Optional.of(RUN_ID));
+        final var dispatch = new WorkflowDispatch(REPOSITORY_NAME, "main", WORKFLOW_ID, Instant.now());
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (final var watcher = new WebhookWorkflowWatcher(0, SECRET)) {
+            final Future<String> conclusion = executor
+                    .submit(() -> watcher.waitForConclusion(dispatch, this.probeMock));
+            Thread.sleep(200);
+            watcher.onWorkflowRunEvent(createEvent(RUN_ID + 1, Instant.now()));
+            Thread.sleep(200);
+            verify(this.probeMock, never()).getConclusion();
+            conclusion.cancel(true);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testEventsWithoutValidSignatureAreRejected() throws Exception {
+        final String event = createEvent(RUN_ID, Instant.now());
+        try (final var watcher = new WebhookWorkflowWatcher(0, SECRET)) {
+            assertAll(() -> assertThat(sendEvent(watcher.getPort(), event, null), equalTo(401)),
+                    () -> assertThat(sendEvent(watcher.getPort(), event, sign(event, "other")), equalTo(401)));
+        }
+    }
+
+    @Test
+    void testHasValidSignature() {
+        final String event = createEvent(RUN_ID, Instant.now());
+        try (final var watcher = new WebhookWorkflowWatcher(0, SECRET)) {
+            assertAll(() -> assertThat(watcher.hasValidSignature(event.getBytes(UTF_8), sign(event, SECRET)),
+                    equalTo(true)),
+                    () -> assertThat(watcher.hasValidSignature(event.getBytes(UTF_8), "sha256=00"), equalTo(false)),
+                    () -> assertThat(watcher.hasValidSignature(event.getBytes(UTF_8), null), equalTo(false)));
+        }
+    }
+
+    @Test
+    void testWebhookSecretIsRequired() {
+        assertThrows(IllegalArgumentException.class, () -> new WebhookWorkflowWatcher(0, ""));
+    }
+
+    private String createEvent(final long runId, final Instant createdAt) {
+        return "{\"action\": \"completed\", \"repository\": {\"full_name\": \"" + REPOSITORY_NAME + "\"}, "
+                + "\"workflow_run\": {\"id\": " + runId + ", \"workflow_id\": " + WORKFLOW_ID
+                + ", \"conclusion\": \"success\", \"created_at\": \"" + createdAt + "\"}}";
+    }
+
+    private String sign(final String payload, final String secret) throws GeneralSecurityException {
+        final Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(UTF_8), "HmacSHA256"));
+        final var signature = new StringBuilder("sha256=");
+        for (final byte value : mac.doFinal(payload.getBytes(UTF_8))) {
+            signature.append(String.format("%02x", value));
+        }
+        return signature.toString();
+    }
+
+    private int sendEvent(final int port, final String payload, final String signature)
+            throws IOException, InterruptedException {
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder() //
+                .uri(URI.create("http://localhost:" + port + "/")) //
+                .header("X-GitHub-Event", "workflow_run") //
+                .POST(HttpRequest.BodyPublishers.ofString(payload));
+        if (signature != null) {
+            requestBuilder.header("X-Hub-Signature-256", signature);
+        }
+        final HttpRequest request = requestBuilder.build();
+        return HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
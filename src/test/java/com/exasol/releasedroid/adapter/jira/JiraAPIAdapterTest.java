@@ -0,0 +1,119 @@
+package com.exasol.releasedroid.adapter.jira;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.atlassian.jira.rest.client.api.*;
+import com.atlassian.jira.rest.client.api.domain.*;
+
+import io.atlassian.util.concurrent.Promise;
+
+@ExtendWith(MockitoExtension.class)
+class JiraAPIAdapterTest {
+    private static final String PROJECT = "MARCOMMS";
+    private static final String ISSUE_TYPE = "New Content";
+    @Mock
+    private JiraRestClient clientMock;
+    @Mock
+    private ProjectRestClient projectClientMock;
+    @Mock
+    private IssueRestClient issueClientMock;
+    private int createdClients = 0;
+
+    @BeforeEach
+    void beforeEach() {
+        when(this.clientMock.getProjectClient()).thenReturn(this.projectClientMock);
+        when(this.clientMock.getIssueClient()).thenReturn(this.issueClientMock);
+        final Project project = mock(Project.class);
+        final IssueType issueType = mock(IssueType.class);
+        when(issueType.getName()).thenReturn(ISSUE_TYPE);
+        when(issueType.getId()).thenReturn(3L);
+        @SuppressWarnings("unchecked")
+        final OptionalIterable<IssueType> issueTypes = mock(OptionalIterable.class);
+        when(issueTypes.iterator()).thenAnswer(invocation -> List.of(issueType).iterator());
+        when(project.getIssueTypes()).thenReturn(issueTypes);
+        final Promise<Project> projectPromise = promise(project);
+        when(this.projectClientMock.getProject(PROJECT)).thenReturn(projectPromise);
+    }
+
+    private JiraAPIAdapter createAdapter(final Duration batchWindow) {
+        return new JiraAPIAdapter(() -> {
+            this.createdClients++;
+            return this.clientMock;
+        }, batchWindow);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Promise<T> promise(final T value) {
+        final Promise<T> promise = mock(Promise.class);
+        when(promise.claim()).thenReturn(value);
+        return promise;
+    }
+
+    private static BasicIssue issue(final String key) {
+        final BasicIssue issue = mock(BasicIssue.class);
+        when(issue.getKey()).thenReturn(key);
+        return issue;
+    }
+
+    @Test
+    void testCreateTicketReusesClientAndProjectMetadata() throws JiraException {
+        final Promise<BasicIssue> first = promise(issue("MARCOMMS-1"));
+        final Promise<BasicIssue> second = promise(issue("MARCOMMS-2"));
+        when(this.issueClientMock.createIssue(any())).thenReturn(first, second);
+        final JiraAPIAdapter adapter = createAdapter(Duration.ZERO);
+        adapter.createTicket(PROJECT, ISSUE_TYPE, "first released", "description");
+        final String link = adapter.createTicket(PROJECT, ISSUE_TYPE, "second released", "description");
+        assertAll(() -> assertThat(link, equalTo("https://www.exasol.com/support/browse/MARCOMMS-2")),
+                () -> assertThat(this.createdClients, equalTo(1)),
+                () -> verify(this.projectClientMock, times(1)).getProject(PROJECT));
+    }
+
+    @Test
+    void testCreateTicketsWithinBatchWindowInOneRequest() throws Exception {
+        final BulkOperationErrorResult error = mock(BulkOperationErrorResult.class);
+        final ErrorCollection errorCollection = mock(ErrorCollection.class);
+        when(errorCollection.getErrorMessages()).thenReturn(List.of("Summary is too long"));
+        when(error.getElementErrors()).thenReturn(errorCollection);
+        @SuppressWarnings("unchecked")
+        final BulkOperationResult<BasicIssue> result = mock(BulkOperationResult.class);
+        final BasicIssue createdIssue = issue("MARCOMMS-7");
+        when(error.getFailedElementNumber()).thenReturn(1);
+        when(result.getErrors()).thenReturn(List.of(error));
+        when(result.getIssues()).thenReturn(List.of(createdIssue));
+        final Promise<BulkOperationResult<BasicIssue>> resultPromise = promise(result);
+        when(this.issueClientMock.createIssues(anyCollection())).thenReturn(resultPromise);
+        final JiraAPIAdapter adapter = createAdapter(Duration.ofMillis(500));
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<String> first = executor
+                    .submit(() -> adapter.createTicket(PROJECT, ISSUE_TYPE, "first", "description"));
+            Thread.sleep(100);
+            final Future<String> second = executor
+                    .submit(() -> adapter.createTicket(PROJECT, ISSUE_TYPE, "second", "description"));
+            final ExecutionException exception = assertThrows(ExecutionException.class, second::get);
+            assertAll(() -> assertThat(first.get(), equalTo("https://www.exasol.com/support/browse/MARCOMMS-7")),
+                    () -> assertThat(exception.getCause().getMessage(),
+                            allOf(containsString("E-RD-JIRA-5"), containsString("Summary is too long"))),
+                    () -> verify(this.issueClientMock, times(1)).createIssues(anyCollection()),
+                    () -> verify(this.issueClientMock, never()).createIssue(any()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -14,21 +14,21 @@ import com.exasol.releasedroid.usecases.request.PlatformName;
 class JiraPlatformValidatorTest {
     @Test
     void validationSucceeded() {
-        final JiraPlatformValidator validator = new JiraPlatformValidator(null);
+        final JiraPlatformValidator validator = new JiraPlatformValidator(null, null);
         final Report report = validator.validateCommunityRelease(Map.of(PlatformName.COMMUNITY, "link"));
         assertFalse(report.hasFailures());
     }
 
     @Test
     void validationFailed() {
-        final JiraPlatformValidator validator = new JiraPlatformValidator(null);
+        final JiraPlatformValidator validator = new JiraPlatformValidator(null, null);
         final Report report = validator.validateCommunityRelease(Map.of());
         assertThat(report.toString(), containsString("E-RD-JIRA-1"));
     }
 
     @Test
     void validationFailedNoLink() {
-        final JiraPlatformValidator validator = new JiraPlatformValidator(null);
+        final JiraPlatformValidator validator = new JiraPlatformValidator(null, null);
         final Report report = validator.validateCommunityRelease(Map.of(PlatformName.COMMUNITY, ""));
         assertThat(report.toString(), containsString("E-RD-JIRA-2"));
     }
@@ -12,8 +12,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.exasol.releasedroid.adapter.github.GitHubException;
 import com.exasol.releasedroid.adapter.github.GitHubGateway;
 import com.exasol.releasedroid.usecases.exception.ReleaseException;
-import com.exasol.releasedroid.usecases.release.ReleaseMaker;
+import com.exasol.releasedroid.usecases.release.*;
 import com.exasol.releasedroid.usecases.repository.Repository;
+import com.exasol.releasedroid.usecases.request.PlatformName;
 
 @ExtendWith(MockitoExtension.class)
 class MavenReleaseMakerTest {
@@ -21,12 +22,19 @@ class MavenReleaseMakerTest {
     private GitHubGateway githubGatewayMock;
     @Mock
     private Repository repositoryMock;
+    @Mock
+    private ReleaseState releaseStateMock;
+    @Mock
+    private ReleaseCheckpoints checkpointsMock;
     private ReleaseMaker releaseMaker;
 
     @BeforeEach
     void beforeEach() {
         when(this.repositoryMock.getName()).thenReturn("name");
-        this.releaseMaker = new MavenReleaseMaker(this.githubGatewayMock);
+        when(this.repositoryMock.getVersion()).thenReturn("1.2.3");
+        when(this.releaseStateMock.getCheckpoints("name", "1.2.3", PlatformName.MAVEN))
+                .thenReturn(this.checkpointsMock);
+        this.releaseMaker = new MavenReleaseMaker(this.githubGatewayMock, this.releaseStateMock);
     }
 
     @Test
@@ -34,16 +42,16 @@ class MavenReleaseMakerTest {
     void testMakeRelease() {
         assertAll(() -> assertDoesNotThrow(() -> this.releaseMaker.makeRelease(this.repositoryMock)),
                 () -> verify(this.githubGatewayMock, times(1)).executeWorkflow("name",
-                        "release_droid_release_on_maven_central.yml"));
+                        "release_droid_release_on_maven_central.yml", this.checkpointsMock));
     }
 
     @Test
     // [utest->dsn~create-new-maven-release~1]
     void testMakeReleaseFails() throws GitHubException {
         doThrow(GitHubException.class).when(this.githubGatewayMock).executeWorkflow("name",
-                "release_droid_release_on_maven_central.yml");
+                "release_droid_release_on_maven_central.yml", this.checkpointsMock);
         assertAll(() -> assertThrows(ReleaseException.class, () -> this.releaseMaker.makeRelease(this.repositoryMock)),
                 () -> verify(this.githubGatewayMock, times(1)).executeWorkflow("name",
-                        "release_droid_release_on_maven_central.yml"));
+                        "release_droid_release_on_maven_central.yml", this.checkpointsMock));
     }
 }
\ No newline at end of file
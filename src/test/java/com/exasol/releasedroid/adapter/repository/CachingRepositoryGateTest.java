@@ -0,0 +1,54 @@
+package com.exasol.releasedroid.adapter.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.exasol.releasedroid.usecases.repository.RepositoryGate;
+
+@ExtendWith(MockitoExtension.class)
+class CachingRepositoryGateTest {
+    private static final String FILE_PATH = "doc/changes/changelog.md";
+    @Mock
+    private RepositoryGate repositoryGateMock;
+    private CachingRepositoryGate cachingRepositoryGate;
+
+    @BeforeEach
+    void beforeEach() {
+        this.cachingRepositoryGate = new CachingRepositoryGate(this.repositoryGateMock);
+    }
+
+    @Test
+    void testGetSingleFileContentAsStringReadsFileOnce() {
+        when(this.repositoryGateMock.getSingleFileContentAsString(FILE_PATH)).thenReturn("content");
+        this.cachingRepositoryGate.getSingleFileContentAsString(FILE_PATH);
+        assertAll(() -> assertThat(this.cachingRepositoryGate.getSingleFileContentAsString(FILE_PATH),
+                equalTo("content")),
+                () -> verify(this.repositoryGateMock, times(1)).getSingleFileContentAsString(FILE_PATH));
+    }
+
+    @Test
+    void testUpdateFileContentDropsCachedContent() {
+        when(this.repositoryGateMock.getSingleFileContentAsString(FILE_PATH)).thenReturn("old", "new");
+        this.cachingRepositoryGate.getSingleFileContentAsString(FILE_PATH);
+        this.cachingRepositoryGate.updateFileContent(FILE_PATH, "new", "update");
+        assertAll(() -> assertThat(this.cachingRepositoryGate.getSingleFileContentAsString(FILE_PATH),
+                equalTo("new")),
+                () -> verify(this.repositoryGateMock).updateFileContent(FILE_PATH, "new", "update"));
+    }
+
+    @Test
+    void testGetBranchNameReadsBranchOnce() {
+        when(this.repositoryGateMock.getBranchName()).thenReturn("main");
+        this.cachingRepositoryGate.getBranchName();
+        assertAll(() -> assertThat(this.cachingRepositoryGate.getBranchName(), equalTo("main")),
+                () -> verify(this.repositoryGateMock, times(1)).getBranchName());
+    }
+}
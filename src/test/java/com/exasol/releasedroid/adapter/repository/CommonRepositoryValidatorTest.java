@@ -7,9 +7,11 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +26,7 @@ import com.exasol.releasedroid.usecases.exception.RepositoryException;
 import com.exasol.releasedroid.usecases.report.Report;
 import com.exasol.releasedroid.usecases.repository.ReleaseLetter;
 import com.exasol.releasedroid.usecases.repository.Repository;
+import com.exasol.releasedroid.usecases.repository.TagIndex;
 
 @ExtendWith(MockitoExtension.class)
 class CommonRepositoryValidatorTest {
@@ -37,6 +40,7 @@ class CommonRepositoryValidatorTest {
     @BeforeEach
     void beforeEach() {
         this.validator = new CommonRepositoryValidator(this.repositoryMock);
+        lenient().when(this.repositoryMock.getTagIndex()).thenReturn(new TagIndex(List.of()));
     }
 
     @Test
@@ -136,7 +140,6 @@ class CommonRepositoryValidatorTest {
     // [utest->dsn~validate-release-version-format~1]
     void testValidateVersionWithoutPreviousTag(final String version) {
         when(this.repositoryMock.getVersion()).thenReturn(version);
-        when(this.repositoryMock.getLatestTag()).thenReturn(Optional.empty());
         final Report report = this.validator.validate();
         assertThat(report.toString(), containsString("Version format is correct"));
     }
@@ -146,17 +149,26 @@ class CommonRepositoryValidatorTest {
     // [utest->dsn~validate-release-version-increased-correctly~1]
     void testValidateVersionWithPreviousTag(final String version) {
         when(this.repositoryMock.getVersion()).thenReturn(version);
-        when(this.repositoryMock.getLatestTag()).thenReturn(Optional.of("1.36.12"));
+        when(this.repositoryMock.getTagIndex()).thenReturn(new TagIndex(List.of("1.36.11", "1.36.12")));
         final Report report = this.validator.validate();
         assertThat(report.toString(), containsString("Version format is correct"));
     }
 
+    @Test
+    // [utest->dsn~validate-release-version-increased-correctly~1]
+    void testValidateVersionFollowsHighestTag() {
+        when(this.repositoryMock.getVersion()).thenReturn("1.10.1");
+        when(this.repositoryMock.getTagIndex()).thenReturn(new TagIndex(List.of("1.10.0", "1.9.0")));
+        final Report report = this.validator.validate();
+        assertThat(report.toString(), containsString("A new tag."));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = { "1.3.7", "1.3.4", "1.4.3", "1.2.0", "3.0.0", "2.0.1", "2.1.0" })
     // [utest->dsn~validate-release-version-increased-correctly~1]
     void testValidateVersionWithPreviousTagInvalid(final String version) {
         when(this.repositoryMock.getVersion()).thenReturn(version);
-        when(this.repositoryMock.getLatestTag()).thenReturn(Optional.of("1.3.5"));
+        when(this.repositoryMock.getTagIndex()).thenReturn(new TagIndex(List.of("1.3.5", "1.4.0-rc.1")));
         final Report report = this.validator.validate();
         assertAll(() -> assertTrue(report.hasFailures()),
                 () -> assertThat(report.toString(),
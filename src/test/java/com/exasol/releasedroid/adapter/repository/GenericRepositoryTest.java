@@ -30,7 +30,7 @@ class GenericRepositoryTest {
                         + "* [0.3.0](changes_0.3.0.md)\n" //
                         + "* [0.2.0](changes_0.2.0.md)\n" //
                         + "* [0.1.0](changes_0.1.0.md)");
-        final GenericRepository genericRepository = new GenericRepository(this.repositoryGateMock, null);
+        final GenericRepository genericRepository = new GenericRepository(this.repositoryGateMock, null, null);
         assertThat(genericRepository.getVersion(), equalTo("0.3.0"));
     }
 
@@ -41,14 +41,14 @@ class GenericRepositoryTest {
     })
     void testGetVersionInvalidChangelog(final String changelog) {
         when(this.repositoryGateMock.getSingleFileContentAsString(CHANGELOG_FILE_PATH)).thenReturn(changelog);
-        final GenericRepository genericRepository = new GenericRepository(this.repositoryGateMock, null);
+        final GenericRepository genericRepository = new GenericRepository(this.repositoryGateMock, null, null);
         final RepositoryException exception = assertThrows(RepositoryException.class, genericRepository::getVersion);
         assertThat(exception.getMessage(), containsString("E-RD-REP-21"));
     }
 
     @Test
     void testGetRepositoryValidators() {
-        final GenericRepository genericRepository = new GenericRepository(this.repositoryGateMock, null);
+        final GenericRepository genericRepository = new GenericRepository(this.repositoryGateMock, null, null);
         assertAll(() -> assertThat(genericRepository.getRepositoryValidators().size(), equalTo(1)), //
                 () -> assertTrue(
                         genericRepository.getRepositoryValidators().get(0) instanceof CommonRepositoryValidator));
@@ -56,7 +56,7 @@ class GenericRepositoryTest {
 
     @Test
     void testGetPlatformValidators() {
-        final GenericRepository genericRepository = new GenericRepository(this.repositoryGateMock, null);
+        final GenericRepository genericRepository = new GenericRepository(this.repositoryGateMock, null, null);
         assertAll(() -> assertThat(genericRepository.getPlatformValidators().size(), equalTo(3)),
                 () -> assertTrue(genericRepository.getPlatformValidators().containsKey(GITHUB)),
                 () -> assertTrue(genericRepository.getPlatformValidators().containsKey(COMMUNITY)),
@@ -30,6 +30,6 @@ class JavaRepositoryTest {
     }
 
     private JavaRepository createRepository() {
-        return new JavaRepository(this.repositoryGateMock, null);
+        return new JavaRepository(this.repositoryGateMock, null, null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.exasol.releasedroid.adapter.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.exasol.releasedroid.usecases.exception.RepositoryException;
+
+class LocalRepositoryGateTest {
+    private static final String NAME = "exasol/test-repository";
+    @TempDir
+    Path repositoryPath;
+
+    @BeforeEach
+    void beforeEach() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.repositoryPath.toFile()).setInitialBranch("main").call()) {
+            commit(git, "pom.xml", "<version>1.9.0</version>");
+            git.tag().setName("1.9.0").call();
+            git.tag().setName("1.10.0").call();
+            git.tag().setName("latest").call();
+            git.branchCreate().setName("feature").call();
+            git.checkout().setName("feature").call();
+            commit(git, "pom.xml", "<version>1.11.0</version>");
+            git.checkout().setName("main").call();
+        }
+    }
+
+    private void commit(final Git git, final String filePath, final String content)
+            throws IOException, GitAPIException {
+        Files.writeString(this.repositoryPath.resolve(filePath), content);
+        git.add().addFilepattern(filePath).call();
+        git.commit().setMessage("Update " + filePath).setSign(false).call();
+    }
+
+    @Test
+    void testReadFromWorkingTree() {
+        final var gate = new LocalRepositoryGate(this.repositoryPath.toString(), NAME);
+        assertAll(() -> assertThat(gate.getSingleFileContentAsString("pom.xml"), equalTo("<version>1.9.0</version>")),
+                () -> assertThat(gate.getBranchName(), equalTo("main")));
+    }
+
+    @Test
+    void testReadFromBranchWithoutCheckout() {
+        final var gate = new LocalRepositoryGate(this.repositoryPath.toString(), "feature", NAME);
+        final var workingTreeGate = new LocalRepositoryGate(this.repositoryPath.toString(), NAME);
+        assertAll(
+                () -> assertThat(gate.getSingleFileContentAsString("pom.xml"),
+                        equalTo("<version>1.11.0</version>")),
+                () -> assertThat(gate.getBranchName(), equalTo("feature")),
+                () -> assertThat(gate.getFileHashes(Set.of("pom.xml", "missing.md")).keySet(), contains("pom.xml")),
+                () -> assertThat(gate.getFileHashes(Set.of("pom.xml")),
+                        not(equalTo(workingTreeGate.getFileHashes(Set.of("pom.xml"))))));
+    }
+
+    @Test
+    void testFileHashesOfRevisionMatchWorkingTree() {
+        final var gate = new LocalRepositoryGate(this.repositoryPath.toString(), "main", NAME);
+        final var workingTreeGate = new LocalRepositoryGate(this.repositoryPath.toString(), NAME);
+        final Map<String, String> fileHashes = gate.getFileHashes(Set.of("pom.xml"));
+        assertThat(fileHashes, equalTo(workingTreeGate.getFileHashes(Set.of("pom.xml"))));
+    }
+
+    @Test
+    void testMissingFileInRevision() {
+        final var gate = new LocalRepositoryGate(this.repositoryPath.toString(), "feature", NAME);
+        final RepositoryException exception = assertThrows(RepositoryException.class,
+                () -> gate.getSingleFileContentAsString("missing.md"));
+        assertThat(exception.getMessage(), containsString("E-RD-REP-30"));
+    }
+
+    @Test
+    void testMissingRevision() {
+        final var gate = new LocalRepositoryGate(this.repositoryPath.toString(), "unknown", NAME);
+        final RepositoryException exception = assertThrows(RepositoryException.class,
+                () -> gate.getSingleFileContentAsString("pom.xml"));
+        assertThat(exception.getMessage(), containsString("E-RD-REP-32"));
+    }
+
+    @Test
+    void testLatestTagIsHighestVersion() {
+        final var gate = new LocalRepositoryGate(this.repositoryPath.toString(), NAME);
+        assertThat(gate.getLatestTag(), equalTo(Optional.of("1.10.0")));
+    }
+}
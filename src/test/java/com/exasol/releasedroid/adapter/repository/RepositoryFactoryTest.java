@@ -5,6 +5,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -13,20 +14,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.exasol.releasedroid.adapter.github.GitHubException;
-import com.exasol.releasedroid.adapter.github.GitHubGateway;
+import com.exasol.releasedroid.adapter.github.*;
 import com.exasol.releasedroid.usecases.repository.RepositoryGateway;
 import com.exasol.releasedroid.usecases.request.UserInput;
 
 @ExtendWith(MockitoExtension.class)
 class RepositoryFactoryTest {
     @Mock
-    private GitHubGateway githubGateway;
+    private AsyncGitHubGateway githubGateway;
     private RepositoryGateway repositoryGateway;
 
     @BeforeEach
     void beforeEach() {
-        this.repositoryGateway = new RepositoryFactory(this.githubGateway);
+        this.repositoryGateway = new RepositoryFactory(this.githubGateway, null, null);
     }
 
     @Test
@@ -34,11 +34,13 @@ class RepositoryFactoryTest {
         final UserInput userInput = builder().repositoryName("my-repo").platforms("GitHub").goal("validate")
                 .language("java").build();
         assertThat(this.repositoryGateway.getRepository(userInput), instanceOf(JavaRepository.class));
+        verifyNoInteractions(this.githubGateway);
     }
 
     @Test
     void getJavaRepositoryWithAutoDetectedLanguage() throws GitHubException {
-        when(this.githubGateway.getRepositoryPrimaryLanguage("exasol/my-repo")).thenReturn("java");
+        when(this.githubGateway.getRepositoryMetadata("exasol/my-repo"))
+                .thenReturn(GitHubRepositoryMetadata.builder().primaryLanguage("java").build());
         final UserInput userInput = builder().owner("exasol").repositoryName("my-repo").platforms("GitHub")
                 .goal("validate").build();
         assertThat(this.repositoryGateway.getRepository(userInput), instanceOf(JavaRepository.class));
@@ -53,7 +55,8 @@ class RepositoryFactoryTest {
 
     @Test
     void getScalaRepositoryWithAutoDetectedLanguage() throws GitHubException {
-        when(this.githubGateway.getRepositoryPrimaryLanguage("exasol/my-repo")).thenReturn("scala");
+        when(this.githubGateway.getRepositoryMetadata("exasol/my-repo"))
+                .thenReturn(GitHubRepositoryMetadata.builder().primaryLanguage("scala").build());
         final UserInput userInput = builder().owner("exasol").repositoryName("my-repo").platforms("GitHub")
                 .goal("validate").build();
         assertThat(this.repositoryGateway.getRepository(userInput), instanceOf(ScalaRepository.class));
@@ -61,7 +64,8 @@ class RepositoryFactoryTest {
 
     @Test
     void tryCreatingUnsupportedRepository() throws GitHubException {
-        when(this.githubGateway.getRepositoryPrimaryLanguage("exasol/my-repo")).thenReturn("python");
+        when(this.githubGateway.getRepositoryMetadata("exasol/my-repo"))
+                .thenReturn(GitHubRepositoryMetadata.builder().primaryLanguage("python").build());
         final UserInput userInput = builder().owner("exasol").repositoryName("my-repo").platforms("GitHub")
                 .goal("validate").build();
         final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -41,6 +41,6 @@ class ScalaRepositoryTest {
     }
 
     private Repository getRepository() {
-        return new ScalaRepository(this.repositoryGateMock, null);
+        return new ScalaRepository(this.repositoryGateMock, null, null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.exasol.releasedroid.main;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.exasol.releasedroid.usecases.report.Report;
+import com.exasol.releasedroid.usecases.report.ValidationReport;
+import com.exasol.releasedroid.usecases.request.*;
+import com.exasol.releasedroid.usecases.response.ReleaseDroidResponse;
+
+@ExtendWith(MockitoExtension.class)
+class BatchReleaseDroidTest {
+    @Mock
+    private ReleaseDroid releaseDroidMock;
+    private final List<ReleaseDroidResponse> responses = new ArrayList<>();
+    private BatchReleaseDroid batchReleaseDroid;
+
+    @BeforeEach
+    void beforeEach() {
+        this.batchReleaseDroid = new BatchReleaseDroid(this.releaseDroidMock, List.of(this.responses::add));
+    }
+
+    @Test
+    void testRunCreatesAggregatedResponse() {
+        when(this.releaseDroidMock.execute(any())).thenAnswer(invocation -> createResponse(invocation.getArgument(0),
+                true));
+        this.batchReleaseDroid.run(ReleaseManifestParser.parse("repositories: [first, second]"),
+                UserInput.builder().platforms("github").build());
+        final ReleaseDroidResponse response = this.responses.get(0);
+        assertAll(() -> assertThat(this.responses, hasSize(1)),
+                () -> assertThat(response.getFullRepositoryName(), equalTo("exasol/first, exasol/second")),
+                () -> assertThat(response.getGoal(), equalTo(Goal.VALIDATE)),
+                () -> assertThat(response.getPlatformNames(), contains(PlatformName.GITHUB)),
+                () -> assertThat(getReportNames(response),
+                        contains("exasol/first Validation", "exasol/second Validation")));
+    }
+
+    @Test
+    void testRunSkipsRepositoryIfPredecessorFails() {
+        when(this.releaseDroidMock.execute(argThat(input -> input.getRepositoryName().equals("first"))))
+                .thenAnswer(invocation -> createResponse(invocation.getArgument(0), false));
+        this.batchReleaseDroid.run(
+                ReleaseManifestParser.parse("repositories:\n  - name: second\n    after: [first]\n  - first\n"),
+                UserInput.builder().build());
+        final Report secondReport = this.responses.get(0).getReports().get(0);
+        assertAll(() -> verify(this.releaseDroidMock, times(1)).execute(any()),
+                () -> assertThat(secondReport.getReportName(), equalTo("exasol/second Validation")),
+                () -> assertThat(secondReport.getResults().get(0).getMessage(),
+                        containsString("preceding repository exasol/first failed")));
+    }
+
+    @Test
+    void testRunReportsExceptionAndContinues() {
+        when(this.releaseDroidMock.execute(any())).thenThrow(new IllegalStateException("broken")) //
+                .thenAnswer(invocation -> createResponse(invocation.getArgument(0), true));
+        this.batchReleaseDroid.run(ReleaseManifestParser.parse("max-parallel-releases: 1\nrepositories: [a, b]"),
+                UserInput.builder().build());
+        final List<Report> reports = this.responses.get(0).getReports();
+        assertAll(() -> assertThat(reports.get(0).hasFailures(), equalTo(true)),
+                () -> assertThat(reports.get(0).getResults().get(0).getMessage(), containsString("broken")),
+                () -> assertThat(reports.get(1).hasFailures(), equalTo(false)));
+    }
+
+    @Test
+    void testRunWithRepositoryName() {
+        final ReleaseManifest manifest = ReleaseManifestParser.parse("repositories: [first]");
+        final UserInput userInput = UserInput.builder().repositoryName("other").build();
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> this.batchReleaseDroid.run(manifest, userInput));
+        assertThat(exception.getMessage(), containsString("E-RD-24"));
+    }
+
+    private ReleaseDroidResponse createResponse(final UserInput userInput, final boolean successful) {
+        final var report = ValidationReport.create();
+        if (successful) {
+            report.addSuccessfulResult("Everything is fine.");
+        } else {
+            report.addFailedResult("Something is wrong.");
+        }
+        return ReleaseDroidResponse.builder() //
+                .fullRepositoryName(userInput.getOwner() + "/" + userInput.getRepositoryName()) //
+                .goal(userInput.getGoal()) //
+                .platformNames(userInput.hasPlatforms() ? userInput.getPlatformNames() : List.of()) //
+                .reports(List.of(report)) //
+                .build();
+    }
+
+    private List<String> getReportNames(final ReleaseDroidResponse response) {
+        return response.getReports().stream().map(Report::getReportName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,108 @@
+package com.exasol.releasedroid.main;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.releasedroid.main.JobQueue.Priority;
+
+class JobQueueTest {
+    @Test
+    void testLimitsParallelJobs() throws Exception {
+        final AtomicInteger runningJobs = new AtomicInteger();
+        final AtomicInteger maxRunningJobs = new AtomicInteger();
+        final List<CompletableFuture<Integer>> results = new ArrayList<>();
+        try (final JobQueue queue = new JobQueue(2)) {
+            for (int i = 0; i < 6; i++) {
+                final int job = i;
+                results.add(queue.submit("exasol/repository-" + i, Priority.VALIDATION, () -> {
+                    maxRunningJobs.accumulateAndGet(runningJobs.incrementAndGet(), Math::max);
+                    sleep(20);
+                    runningJobs.decrementAndGet();
+                    return job;
+                }));
+            }
+        }
+        assertThat(maxRunningJobs.get(), equalTo(2));
+        assertThat(results.get(5).get(), equalTo(5));
+    }
+
+    @Test
+    void testNeverRunsTwoJobsOfTheSameRepository() {
+        final AtomicInteger runningJobs = new AtomicInteger();
+        final AtomicInteger maxRunningJobs = new AtomicInteger();
+        try (final JobQueue queue = new JobQueue(4)) {
+            for (int i = 0; i < 4; i++) {
+                queue.submit("exasol/release-droid", Priority.VALIDATION, () -> {
+                    maxRunningJobs.accumulateAndGet(runningJobs.incrementAndGet(), Math::max);
+                    sleep(20);
+                    return runningJobs.decrementAndGet();
+                });
+            }
+        }
+        assertThat(maxRunningJobs.get(), equalTo(1));
+    }
+
+    @Test
+    void testStartsReleasesBeforeValidationsAndSharesSlotsBetweenRepositories() {
+        final List<String> startedJobs = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch blocker = new CountDownLatch(1);
+        try (final JobQueue queue = new JobQueue(1)) {
+            queue.submit("exasol/blocker", Priority.VALIDATION, () -> await(blocker));
+            queue.submit("exasol/a", Priority.VALIDATION, () -> startedJobs.add("validate a1"));
+            queue.submit("exasol/a", Priority.VALIDATION, () -> startedJobs.add("validate a2"));
+            queue.submit("exasol/b", Priority.VALIDATION, () -> startedJobs.add("validate b1"));
+            queue.submit("exasol/c", Priority.RELEASE, () -> startedJobs.add("release c1"));
+            blocker.countDown();
+        }
+        assertThat(startedJobs, contains("release c1", "validate a1", "validate b1", "validate a2"));
+    }
+
+    @Test
+    void testFailedJobCompletesFutureExceptionally() {
+        final CompletableFuture<Object> result;
+        try (final JobQueue queue = new JobQueue(1)) {
+            result = queue.submit("exasol/a", Priority.RELEASE, () -> {
+                throw new IllegalStateException("failed");
+            });
+        }
+        assertThat(result.isCompletedExceptionally(), equalTo(true));
+    }
+
+    @Test
+    void testJobFailingWithErrorCompletesFutureExceptionally() {
+        final CompletableFuture<Object> failedResult;
+        final CompletableFuture<String> nextResult;
+        try (final JobQueue queue = new JobQueue(1)) {
+            failedResult = queue.submit("exasol/a", Priority.RELEASE, () -> {
+                throw new AssertionError("failed");
+            });
+            nextResult = queue.submit("exasol/a", Priority.RELEASE, () -> "next");
+        }
+        assertAll(() -> assertThat(failedResult.isCompletedExceptionally(), equalTo(true)),
+                () -> assertThat(nextResult.join(), equalTo("next")));
+    }
+
+    private static boolean await(final CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
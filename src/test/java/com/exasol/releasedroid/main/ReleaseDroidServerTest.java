@@ -0,0 +1,150 @@
+package com.exasol.releasedroid.main;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.logging.Logger;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.exasol.releasedroid.usecases.ExecutionContext;
+import com.exasol.releasedroid.usecases.report.ValidationReport;
+import com.exasol.releasedroid.usecases.request.*;
+import com.exasol.releasedroid.usecases.response.ReleaseDroidResponse;
+
+@ExtendWith(MockitoExtension.class)
+class ReleaseDroidServerTest {
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<ReleaseDroidResponse> responses = new ArrayList<>();
+    @Mock
+    private ReleaseDroid releaseDroidMock;
+    private ReleaseDroidServer server;
+
+    @BeforeEach
+    void beforeEach() {
+        this.server = new ReleaseDroidServer(this.releaseDroidMock, List.of(this.responses::add), 2,
+                () -> Map.of("github_rate_limit_remaining", 4999));
+        this.server.start(0);
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.server.close();
+    }
+
+    @Test
+    void testRunJob() throws IOException, InterruptedException {
+        when(this.releaseDroidMock.execute(any())).thenAnswer(invocation -> createResponse(invocation.getArgument(0)));
+        final HttpResponse<String> submitted = send(HttpRequest.newBuilder(uri("/jobs"))
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"name\": \"exasol/release-droid\", \"goal\": \"validate\", \"platforms\": [\"github\"]}"))
+                .build());
+        final long jobId = new JSONObject(submitted.body()).getLong("id");
+        final String log = send(HttpRequest.newBuilder(uri("/jobs/" + jobId + "/log")).build()).body();
+        final JSONObject status = new JSONObject(send(HttpRequest.newBuilder(uri("/jobs/" + jobId)).build()).body());
+        assertAll(() -> assertThat(submitted.statusCode(), equalTo(202)),
+                () -> assertThat(status.getString("status"), equalTo("SUCCEEDED")),
+                () -> assertThat(status.getString("report"), containsString("Everything is fine.")),
+                () -> assertThat(log, containsString("Starting job " + jobId)),
+                () -> assertThat(this.responses, hasSize(1)),
+                () -> verify(this.releaseDroidMock).execute(UserInput.builder().owner("exasol")
+                        .repositoryName("release-droid").goal("validate").platforms("github").build()));
+    }
+
+    @Test
+    void testJobLogContainsLinesOfWorkerThreads() throws IOException, InterruptedException {
+        final ExecutorService workerPool = Executors.newSingleThreadExecutor();
+        try {
+            when(this.releaseDroidMock.execute(any())).thenAnswer(invocation -> {
+                final ExecutionContext context = ExecutionContext.current();
+                CompletableFuture.runAsync(() -> context.call(() -> {
+                    Logger.getLogger(ReleaseDroidServerTest.class.getName()).info("Releasing on GitHub platform.");
+                    return null;
+                }), workerPool).join();
+                return createResponse(invocation.getArgument(0));
+            });
+            final HttpResponse<String> submitted = send(HttpRequest.newBuilder(uri("/jobs"))
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"name\": \"release-droid\", \"goal\": \"release\", \"platforms\": [\"github\"]}"))
+                    .build());
+            final long jobId = new JSONObject(submitted.body()).getLong("id");
+            final String log = send(HttpRequest.newBuilder(uri("/jobs/" + jobId + "/log")).build()).body();
+            assertThat(log, containsString("Releasing on GitHub platform."));
+        } finally {
+            workerPool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testRunFailingJob() throws IOException, InterruptedException {
+        when(this.releaseDroidMock.execute(any())).thenThrow(new IllegalArgumentException("E-RD-2: missing"));
+        final HttpResponse<String> submitted = send(HttpRequest.newBuilder(uri("/jobs"))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"name\": \"release-droid\"}")).build());
+        final long jobId = new JSONObject(submitted.body()).getLong("id");
+        send(HttpRequest.newBuilder(uri("/jobs/" + jobId + "/log")).build());
+        final JSONObject status = new JSONObject(send(HttpRequest.newBuilder(uri("/jobs/" + jobId)).build()).body());
+        assertAll(() -> assertThat(status.getString("status"), equalTo("FAILED")),
+                () -> assertThat(status.getString("error"), containsString("E-RD-2: missing")));
+    }
+
+    @Test
+    void testInvalidJobRequest() throws IOException, InterruptedException {
+        final HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/jobs"))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"goal\": \"release\"}")).build());
+        assertAll(() -> assertThat(response.statusCode(), equalTo(400)),
+                () -> assertThat(response.body(), containsString("E-RD-29")));
+    }
+
+    @Test
+    void testUnknownJob() throws IOException, InterruptedException {
+        assertThat(send(HttpRequest.newBuilder(uri("/jobs/42")).build()).statusCode(), equalTo(404));
+    }
+
+    @Test
+    void testMetrics() throws IOException, InterruptedException {
+        final JSONObject metrics = new JSONObject(send(HttpRequest.newBuilder(uri("/metrics")).build()).body());
+        assertThat(metrics.getInt("github_rate_limit_remaining"), equalTo(4999));
+    }
+
+    @Test
+    void testServerCannotBeUsedWithRepositoryName() {
+        final UserInput userInput = UserInput.builder().repositoryName("release-droid").serverPort("0").build();
+        final ReleaseDroidServer anotherServer = new ReleaseDroidServer(this.releaseDroidMock, List.of(), 1);
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> anotherServer.run(userInput));
+        assertThat(exception.getMessage(), containsString("E-RD-27"));
+    }
+
+    private URI uri(final String path) {
+        return URI.create("http://localhost:" + this.server.getPort() + path);
+    }
+
+    private HttpResponse<String> send(final HttpRequest request) throws IOException, InterruptedException {
+        return this.httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private ReleaseDroidResponse createResponse(final UserInput userInput) {
+        final var report = ValidationReport.create();
+        report.addSuccessfulResult("Everything is fine.");
+        return ReleaseDroidResponse.builder() //
+                .fullRepositoryName(userInput.getOwner() + "/" + userInput.getRepositoryName()) //
+                .goal(Goal.VALIDATE) //
+                .platformNames(List.of(PlatformName.GITHUB)) //
+                .reports(List.of(report)) //
+                .build();
+    }
+}
@@ -57,12 +57,13 @@ class ReleaseDroidTest {
     }
 
     @Test
-    void testUserInputWithLocalPathAndBranch() {
+    void testUserInputWithLocalPathAndBranchIsValid() {
+        when(this.repositoryGatewayMock.getRepository(any())).thenThrow(new IllegalStateException("local branch"));
         final UserInput userInput = builder().platforms(PLATFORM).repositoryName(REPOSITORY_NAME).branch(BRANCH)
                 .localPath(LOCAL_PATH).build();
-        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
                 () -> this.releaseDroid.run(userInput));
-        assertThat(exception.getMessage(), containsString("E-RD-6"));
+        assertThat(exception.getMessage(), containsString("local branch"));
     }
 
     @Test
@@ -112,4 +113,13 @@ class ReleaseDroidTest {
                 () -> this.releaseDroid.run(userInput));
         assertThat(exception.getMessage(), containsString("E-RD-15"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testUserInputWithLocalBuildAndGoalValidate() {
+        final UserInput userInput = builder().repositoryName("name").platforms("github").localBuildPath(LOCAL_PATH)
+                .goal("validate").build();
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> this.releaseDroid.run(userInput));
+        assertThat(exception.getMessage(), containsString("E-RD-25"));
+    }
+}
@@ -55,6 +55,46 @@ class UserInputParserTest {
         assertThat(this.userInputParser.parseUserInput(args), equalTo(expected));
     }
 
+    @Test
+    void testParseUserInputWithWebhookPort() {
+        final UserInput expected = UserInput.builder().repositoryName("testing-release-droid").goal("release")
+                .webhookPort("8123").build();
+        final String[] args = new String[] { "-name", "testing-release-droid", "-goal", "release", "-webhook",
+                "8123" };
+        assertThat(this.userInputParser.parseUserInput(args), equalTo(expected));
+    }
+
+    @Test
+    void testParseUserInputWithServerPort() {
+        final UserInput expected = UserInput.builder().serverPort("8124").build();
+        final String[] args = new String[] { "-server", "8124" };
+        assertThat(this.userInputParser.parseUserInput(args), equalTo(expected));
+    }
+
+    @Test
+    void testParseUserInputWithInvalidWebhookPort() {
+        final String[] args = new String[] { "-name", "testing-release-droid", "-webhook", "port" };
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> this.userInputParser.parseUserInput(args));
+        assertThat(exception.getMessage(), containsString("E-RD-16"));
+    }
+
+    @Test
+    void testParseUserInputWithManifest() {
+        final UserInput expected = UserInput.builder().goal("release").manifestPath("release_train.yml").build();
+        final String[] args = new String[] { "-goal", "release", "--manifest", "release_train.yml" };
+        assertThat(this.userInputParser.parseUserInput(args), equalTo(expected));
+    }
+
+    @Test
+    void testParseUserInputWithLocalBuild() {
+        final UserInput expected = UserInput.builder().repositoryName("testing-release-robot").goal("release")
+                .localBuildPath("/home/user/testing-release-robot").build();
+        final String[] args = new String[] { "-name", "testing-release-robot", "-goal", "release", "--localbuild",
+                "/home/user/testing-release-robot" };
+        assertThat(this.userInputParser.parseUserInput(args), equalTo(expected));
+    }
+
     @Test
     void testParseUserInputMissingRepositoryNameArgument() {
         final String[] args = new String[] { "-name", "-goal", "validate", "-platforms", "github,maven", "-branch",
@@ -0,0 +1,145 @@
+package com.exasol.releasedroid.usecases.release;
+
+import static com.exasol.releasedroid.usecases.request.PlatformName.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.releasedroid.usecases.report.ReleaseReport;
+import com.exasol.releasedroid.usecases.report.ValidationReport;
+import com.exasol.releasedroid.usecases.request.PlatformName;
+
+// [utest->dsn~rd-releases-independent-platforms-in-parallel~1]
+class ReleaseSchedulerTest {
+    private final List<PlatformName> releaseOrder = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void testReleasesIndependentPlatformsInParallel() {
+        final var bothStarted = new CountDownLatch(2);
+        final Map<PlatformName, PlatformReleaseResult> results = new ReleaseScheduler(
+                ReleaseScheduler.PLATFORM_DEPENDENCIES, List.of(MAVEN, GITHUB), platform -> {
+                    bothStarted.countDown();
+                    return awaitLatch(bothStarted) ? succeed(platform) : fail(platform);
+                }).release();
+        assertAll(() -> assertThat(results.get(MAVEN).isReleased(), equalTo(true)),
+                () -> assertThat(results.get(GITHUB).isReleased(), equalTo(true)));
+    }
+
+    @Test
+    void testReleasesDependentPlatformsAfterTheirDependencies() {
+        final Map<PlatformName, PlatformReleaseResult> results = new ReleaseScheduler(
+                ReleaseScheduler.PLATFORM_DEPENDENCIES, List.of(JIRA, COMMUNITY, GITHUB), this::succeed).release();
+        assertAll(() -> assertThat(this.releaseOrder, contains(GITHUB, COMMUNITY, JIRA)),
+                () -> assertThat(results.keySet(), contains(JIRA, COMMUNITY, GITHUB)));
+    }
+
+    @Test
+    void testSkipsPlatformIfDependencyIsNotReleased() {
+        final Map<PlatformName, PlatformReleaseResult> results = new ReleaseScheduler(
+                ReleaseScheduler.PLATFORM_DEPENDENCIES, List.of(GITHUB, COMMUNITY),
+                platform -> platform == GITHUB ? notValid(platform) : succeed(platform)).release();
+        assertAll(() -> assertThat(this.releaseOrder, empty()),
+                () -> assertThat(results.get(COMMUNITY).isReleased(), equalTo(false)),
+                () -> assertThat(results.get(COMMUNITY).getReleaseReport().orElseThrow().getResults().get(0)
+                        .getMessage(), containsString("release on GITHUB platform was not performed")));
+    }
+
+    @Test
+    void testDoesNotSkipIndependentPlatformIfOtherPlatformIsNotValid() {
+        final Map<PlatformName, PlatformReleaseResult> results = new ReleaseScheduler(
+                ReleaseScheduler.PLATFORM_DEPENDENCIES, List.of(MAVEN, GITHUB),
+                platform -> platform == GITHUB ? notValid(platform) : succeed(platform)).release();
+        assertThat(results.get(MAVEN).isReleased(), equalTo(true));
+    }
+
+    @Test
+    void testCancelsReleasesNotStartedYetOnFailure() {
+        final var githubStarted = new CountDownLatch(1);
+        final var mavenFailed = new CountDownLatch(1);
+        final Map<PlatformName, PlatformReleaseResult> results = new ReleaseScheduler(
+                ReleaseScheduler.PLATFORM_DEPENDENCIES, List.of(MAVEN, GITHUB, COMMUNITY), platform -> {
+                    if (platform == MAVEN) {
+                        return failWhileRunning(platform, githubStarted, mavenFailed);
+                    } else {
+                        githubStarted.countDown();
+                        return finishAfterFailure(platform, mavenFailed);
+                    }
+                }).release();
+        assertAll(() -> assertThat(results.get(MAVEN).isReleaseFailed(), equalTo(true)),
+                () -> assertThat(results.get(COMMUNITY).getReleaseReport().orElseThrow().getResults().get(0)
+                        .getMessage(), containsString("release on MAVEN platform failed")),
+                () -> assertThat(this.releaseOrder, containsInAnyOrder(MAVEN, GITHUB)));
+    }
+
+    @Test
+    void testDoesNotInterruptRunningReleasesOnFailure() {
+        final var githubStarted = new CountDownLatch(1);
+        final var mavenFailed = new CountDownLatch(1);
+        final Map<PlatformName, PlatformReleaseResult> results = new ReleaseScheduler(
+                ReleaseScheduler.PLATFORM_DEPENDENCIES, List.of(MAVEN, GITHUB), platform -> {
+                    if (platform == MAVEN) {
+                        return failWhileRunning(platform, githubStarted, mavenFailed);
+                    } else {
+                        githubStarted.countDown();
+                        return finishAfterFailure(platform, mavenFailed);
+                    }
+                }).release();
+        assertAll(() -> assertThat(results.get(MAVEN).isReleaseFailed(), equalTo(true)),
+                () -> assertThat(results.get(GITHUB).isReleased(), equalTo(true)));
+    }
+
+    private PlatformReleaseResult succeed(final PlatformName platform) {
+        this.releaseOrder.add(platform);
+        final var releaseReport = ReleaseReport.create(platform);
+        releaseReport.addSuccessfulResult("Release finished.");
+        return PlatformReleaseResult.of(ValidationReport.create(platform), releaseReport);
+    }
+
+    private PlatformReleaseResult fail(final PlatformName platform) {
+        this.releaseOrder.add(platform);
+        final var releaseReport = ReleaseReport.create(platform);
+        releaseReport.addFailedResult("Release failed.");
+        return PlatformReleaseResult.of(ValidationReport.create(platform), releaseReport);
+    }
+
+    private PlatformReleaseResult notValid(final PlatformName platform) {
+        final var validationReport = ValidationReport.create(platform);
+        validationReport.addFailedResult("Validation failed.");
+        return PlatformReleaseResult.of(validationReport);
+    }
+
+    // Fails once the other release is running.
+    private PlatformReleaseResult failWhileRunning(final PlatformName platform, final CountDownLatch otherStarted,
+            final CountDownLatch failure) {
+        awaitLatch(otherStarted);
+        failure.countDown();
+        return fail(platform);
+    }
+
+    // Waits until the failed release is recorded by the scheduler and fails if the thread was interrupted meanwhile.
+    private PlatformReleaseResult finishAfterFailure(final PlatformName platform, final CountDownLatch failure) {
+        try {
+            if (failure.await(10, TimeUnit.SECONDS)) {
+                Thread.sleep(200);
+                return succeed(platform);
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return fail(platform);
+    }
+
+    private boolean awaitLatch(final CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -2,14 +2,20 @@ package com.exasol.releasedroid.usecases.release;
 
 import static com.exasol.releasedroid.usecases.request.PlatformName.*;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.hamcrest.Matchers.*;
 
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
 
 import org.junit.jupiter.api.Test;
 
@@ -51,4 +57,132 @@ class ReleaseStateTest {
         assertThat(state.getProgress("exasol/release-droid", "0.5.0"), equalTo(Map.of( //
                 GITHUB, "", MAVEN, "", COMMUNITY, "some text here")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testProgressIsVisibleToOtherInstances() throws IOException {
+        final Path tempDirectory = Files.createTempDirectory("temp-release-droid");
+        final ReleaseState reader = new ReleaseState(tempDirectory.toString());
+        final ReleaseState writer = new ReleaseState(tempDirectory.toString());
+        writer.saveProgress("exasol/release-droid", "0.5.0", GITHUB, "link");
+        assertThat(reader.getProgress("exasol/release-droid", "0.5.0"), equalTo(Map.of(GITHUB, "link")));
+        writer.saveProgress("exasol/release-droid", "0.5.0", JIRA, "ticket");
+        assertThat(reader.getProgress("exasol/release-droid", "0.5.0"),
+                equalTo(Map.of(GITHUB, "link", JIRA, "ticket")));
+    }
+
+    @Test
+    void testGetReleases() throws IOException {
+        final ReleaseState state = getReleaseState();
+        state.saveProgress("exasol/release-droid", "0.5.0", GITHUB, "0.5.0");
+        state.saveProgress("exasol/release-droid", "0.6.0", GITHUB, "0.6.0");
+        state.saveProgress("exasol/other", "1.0.0", GITHUB, "1.0.0");
+        assertThat(state.getReleases("exasol/release-droid"), equalTo(Map.of( //
+                "0.5.0", Map.of(GITHUB, "0.5.0"), //
+                "0.6.0", Map.of(GITHUB, "0.6.0"))));
+    }
+
+    @Test
+    void testGetPendingPlatforms() throws IOException {
+        final ReleaseState state = getReleaseState();
+        state.saveProgress("exasol/release-droid", "0.5.0", MAVEN, "");
+        assertThat(state.getPendingPlatforms("exasol/release-droid", "0.5.0", List.of(GITHUB, MAVEN, JIRA)),
+                equalTo(List.of(GITHUB, JIRA)));
+    }
+
+    @Test
+    void testIncompleteRecordIsIgnored() throws IOException {
+        final Path tempDirectory = Files.createTempDirectory("temp-release-droid");
+        final ReleaseState state = new ReleaseState(tempDirectory.toString());
+        state.saveProgress("exasol/release-droid", "0.5.0", GITHUB, "link");
+        Files.writeString(tempDirectory.resolve("release_state.log"), "{\"repository\":\"exasol/rel",
+                StandardOpenOption.APPEND);
+        assertThat(state.getProgress("exasol/release-droid", "0.5.0"), equalTo(Map.of(GITHUB, "link")));
+    }
+
+    @Test
+    void testRecordWithWrongChecksumIsIgnored() throws IOException {
+        final Path tempDirectory = Files.createTempDirectory("temp-release-droid");
+        final ReleaseState state = new ReleaseState(tempDirectory.toString());
+        state.saveProgress("exasol/release-droid", "0.5.0", GITHUB, "link");
+        Files.writeString(tempDirectory.resolve("release_state.log"),
+                "00000000 {\"repository\":\"exasol/release-droid\",\"version\":\"0.5.0\",\"platform\":\"JIRA\","
+                        + "\"output\":\"\"}\n",
+                StandardOpenOption.APPEND);
+        assertThat(state.getProgress("exasol/release-droid", "0.5.0"), equalTo(Map.of(GITHUB, "link")));
+    }
+
+    @Test
+    void testTornRecordIsRemovedBeforeNextWrite() throws IOException {
+        final Path tempDirectory = Files.createTempDirectory("temp-release-droid");
+        final ReleaseState state = new ReleaseState(tempDirectory.toString());
+        state.saveProgress("exasol/release-droid", "0.5.0", GITHUB, "link");
+        Files.writeString(tempDirectory.resolve("release_state.log"), "1234abcd {\"repos", StandardOpenOption.APPEND);
+        state.saveProgress("exasol/release-droid", "0.5.0", MAVEN, "");
+        assertThat(new ReleaseState(tempDirectory.toString()).getProgress("exasol/release-droid", "0.5.0"),
+                equalTo(Map.of(GITHUB, "link", MAVEN, "")));
+    }
+
+    @Test
+    void testCompaction() throws IOException {
+        final Path tempDirectory = Files.createTempDirectory("temp-release-droid");
+        final ReleaseState reader = new ReleaseState(tempDirectory.toString());
+        final ReleaseState writer = new ReleaseState(tempDirectory.toString());
+        writer.saveProgress("exasol/release-droid", "0.5.0", MAVEN, "");
+        assertThat(reader.getProgress("exasol/release-droid", "0.5.0"), equalTo(Map.of(MAVEN, "")));
+        for (int i = 0; i <= 100; i++) {
+            writer.saveProgress("exasol/release-droid", "0.5.0", GITHUB, "link " + i);
+        }
+        assertThat(Files.readAllLines(tempDirectory.resolve("release_state.log")), hasSize(2));
+        assertThat(reader.getProgress("exasol/release-droid", "0.5.0"),
+                equalTo(Map.of(MAVEN, "", GITHUB, "link 100")));
+    }
+
+    @Test
+    void testParallelWritersDoNotInterleaveRecords() throws Exception {
+        final Path tempDirectory = Files.createTempDirectory("temp-release-droid");
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int writer = 0; writer < 4; writer++) {
+                final String version = "0." + writer + ".0";
+                futures.add(executor.submit(() -> {
+                    final ReleaseState state = new ReleaseState(tempDirectory.toString());
+                    for (final var platform : List.of(GITHUB, MAVEN, COMMUNITY, JIRA)) {
+                        state.saveProgress("exasol/release-droid", version, platform, "x".repeat(1000));
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(new ReleaseState(tempDirectory.toString()).getReleases("exasol/release-droid").values(),
+                everyItem(aMapWithSize(4)));
+    }
+
+    @Test
+    void testCheckpoints() throws IOException {
+        final Path tempDirectory = Files.createTempDirectory("temp-release-droid");
+        final ReleaseCheckpoints checkpoints = new ReleaseState(tempDirectory.toString())
+                .getCheckpoints("exasol/release-droid", "0.5.0", MAVEN);
+        checkpoints.save("run-id", "1");
+        checkpoints.save("run-id", "2");
+        checkpoints.save("branch", "main");
+        checkpoints.remove("branch");
+        final ReleaseCheckpoints restartedCheckpoints = new ReleaseState(tempDirectory.toString())
+                .getCheckpoints("exasol/release-droid", "0.5.0", MAVEN);
+        assertAll(() -> assertThat(restartedCheckpoints.get("run-id"), equalTo(Optional.of("2"))),
+                () -> assertThat(restartedCheckpoints.get("branch"), equalTo(Optional.empty())));
+    }
+
+    @Test
+    void testCheckpointsAreDroppedAfterSuccessfulRelease() throws IOException {
+        final ReleaseState state = getReleaseState();
+        final ReleaseCheckpoints checkpoints = state.getCheckpoints("exasol/release-droid", "0.5.0", MAVEN);
+        checkpoints.save("run-id", "1");
+        state.saveProgress("exasol/release-droid", "0.5.0", MAVEN, "");
+        assertThat(checkpoints.get("run-id"), equalTo(Optional.empty()));
+    }
+}
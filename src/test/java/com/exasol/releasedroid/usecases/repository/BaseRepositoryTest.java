@@ -3,12 +3,15 @@ package com.exasol.releasedroid.usecases.repository;
 import static com.exasol.releasedroid.usecases.ReleaseDroidConstants.LINE_SEPARATOR;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -78,6 +81,19 @@ class BaseRepositoryTest {
         assertThat(repository.getReleaseConfig(), equalTo(Optional.of(ReleaseConfig.builder().build())));
     }
 
+    @Test
+    void testGetParsedFileContentParsesFileUntilUpdate() {
+        final Repository repository = createRepository("content");
+        final AtomicInteger parsedFiles = new AtomicInteger();
+        final Function<String, String> parser = content -> content + parsedFiles.incrementAndGet();
+        repository.getParsedFileContent("file.txt", String.class, parser);
+        final String parsedContent = repository.getParsedFileContent("file.txt", String.class, parser);
+        repository.updateFileContent("file.txt", "new content", "update");
+        assertAll(() -> assertThat(parsedContent, equalTo("content1")),
+                () -> assertThat(repository.getParsedFileContent("file.txt", String.class, parser),
+                        equalTo("content2")));
+    }
+
     private Repository createRepository(final String fileContent) {
         return new DummyRepository(this.repositoryGateMock, fileContent);
     }
@@ -96,7 +112,7 @@ class BaseRepositoryTest {
         }
 
         @Override
-        public String getVersion() {
+        protected String readVersion() {
             return null;
         }
 
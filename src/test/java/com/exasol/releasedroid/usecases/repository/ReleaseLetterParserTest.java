@@ -46,4 +46,52 @@ class ReleaseLetterParserTest {
         final ReleaseLetter letter = new ReleaseLetterParser("name", content).parse();
         assertThat(letter.getHeader().isEmpty(), equalTo(true));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParsingTicketNumbers() {
+        final String content = "# Exasol Release Droid 0.1.0" + LINE_SEPARATOR //
+                + "## Bugfixes" + LINE_SEPARATOR //
+                + "* #7. Fixed" + LINE_SEPARATOR //
+                + "* #0: Zero" + LINE_SEPARATOR //
+                + "* #012: Leading zero" + LINE_SEPARATOR //
+                + "* #12a: Not a number" + LINE_SEPARATOR //
+                + "* #13_: Not a number" + LINE_SEPARATOR //
+                + "* #: No number" + LINE_SEPARATOR //
+                + "* #42";
+        final ReleaseLetter letter = new ReleaseLetterParser("name", content).parse();
+        assertThat(letter.getTicketNumbers(), contains(7, 42));
+    }
+
+    @Test
+    void testParsingVersionAndDateOnlyFromFirstLine() {
+        final String content = "# Exasol Release Droid" + LINE_SEPARATOR //
+                + "1.2.3 released 2020-08-20" + LINE_SEPARATOR //
+                + "CODE NAME: Upper case" + LINE_SEPARATOR //
+                + "## Features ";
+        final ReleaseLetter letter = new ReleaseLetterParser("name", content).parse();
+        assertAll(() -> assertThat(letter.getVersionNumber().isEmpty(), equalTo(true)),
+                () -> assertThat(letter.getReleaseDate().isEmpty(), equalTo(true)),
+                () -> assertThat(letter.getHeader().get(), equalTo("Upper case")));
+    }
+
+    @Test
+    void testParsingWithoutLineSeparatorInHeaders() {
+        final String content = "# Release 2.0.0, released 2021-06-01 ## Features" + LINE_SEPARATOR + "* #1: Added";
+        final ReleaseLetter letter = new ReleaseLetterParser("name", content).parse();
+        assertAll(() -> assertThat(letter.getVersionNumber().get(), equalTo("2.0.0")),
+                () -> assertThat(letter.getReleaseDate().get(), equalTo(LocalDate.parse("2021-06-01"))),
+                () -> assertThat(letter.getTicketNumbers(), contains(1)));
+    }
+
+    @Test
+    void testParsingLargeReleaseLetter() {
+        final StringBuilder content = new StringBuilder("# Exasol Release Droid 1.2.3, released 2021-06-01")
+                .append(LINE_SEPARATOR).append("## Features").append(LINE_SEPARATOR);
+        for (int ticket = 1; ticket <= 5000; ++ticket) {
+            content.append("* #").append(ticket).append(": Fixed issue ").append(ticket).append(LINE_SEPARATOR);
+        }
+        final ReleaseLetter letter = new ReleaseLetterParser("name", content.toString()).parse();
+        assertAll(() -> assertThat(letter.getTicketNumbers(), hasSize(5000)),
+                () -> assertThat(letter.getTicketNumbers().get(4999), equalTo(5000)));
+    }
+}
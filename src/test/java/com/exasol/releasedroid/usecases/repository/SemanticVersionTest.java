@@ -0,0 +1,72 @@
+package com.exasol.releasedroid.usecases.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemanticVersionTest {
+    @ParameterizedTest
+    @ValueSource(strings = { "1.2.3", "0.0.0", "1.2.3-rc.1", "1.2.3-alpha-2.x", "1.2.3+build.5",
+            "1.2.3-beta+20210601" })
+    void testParse(final String tag) {
+        assertThat(SemanticVersion.parse(tag).map(SemanticVersion::toString), equalTo(Optional.of(tag)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "latest", "v1.2.3", "1.2", "1.2.3.4", "1.2.3-", "1.2.3-rc..1", "99999999999.0.0" })
+    void testParseInvalid(final String tag) {
+        assertThat(SemanticVersion.parse(tag), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testOrder() {
+        final List<String> tags = List.of("1.0.0", "1.10.0", "1.0.0-rc.1", "1.9.0", "1.0.0-alpha", "1.0.0-alpha.1",
+                "1.0.0-alpha.beta", "1.0.0-beta.11", "1.0.0-beta.2", "0.9.12");
+        assertThat(sort(tags), contains("0.9.12", "1.0.0-alpha", "1.0.0-alpha.1", "1.0.0-alpha.beta",
+                "1.0.0-beta.2", "1.0.0-beta.11", "1.0.0-rc.1", "1.0.0", "1.9.0", "1.10.0"));
+    }
+
+    @Test
+    void testBuildMetadataDoesNotChangePrecedence() {
+        assertThat(sort(List.of("1.0.1", "1.0.0+build.2", "1.0.0-rc.1")),
+                contains("1.0.0-rc.1", "1.0.0+build.2", "1.0.1"));
+    }
+
+    @Test
+    void testIsPreRelease() {
+        assertThat(version("1.0.0-rc.1").isPreRelease(), equalTo(true));
+    }
+
+    @Test
+    void testGetSuccessors() {
+        assertThat(version("1.3.5").getSuccessors(), contains("2.0.0", "1.4.0", "1.3.6"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "2.0.0", "1.4.0", "1.3.6", "1.3.6+build.1" })
+    void testIsSuccessorOf(final String tag) {
+        assertThat(version(tag).isSuccessorOf(version("1.3.5")), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "1.3.5", "1.3.7", "1.4.1", "2.1.0", "1.4.0-rc.1" })
+    void testIsNotSuccessorOf(final String tag) {
+        assertThat(version(tag).isSuccessorOf(version("1.3.5")), equalTo(false));
+    }
+
+    private static SemanticVersion version(final String tag) {
+        return SemanticVersion.parse(tag).orElseThrow();
+    }
+
+    private static List<String> sort(final List<String> tags) {
+        return tags.stream().map(SemanticVersionTest::version).sorted().map(SemanticVersion::toString)
+                .collect(Collectors.toList());
+    }
+}
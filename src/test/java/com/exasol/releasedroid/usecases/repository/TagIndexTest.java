@@ -0,0 +1,78 @@
+package com.exasol.releasedroid.usecases.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TagIndexTest {
+    private final TagIndex tagIndex = new TagIndex(List.of("1.9.0", "latest", "1.10.0", "1.10.1-rc.1", "1.2.0"));
+
+    @Test
+    void testGetLatestIgnoresPreReleases() {
+        assertThat(this.tagIndex.getLatest(), equalTo(Optional.of("1.10.0")));
+    }
+
+    @Test
+    void testGetLatestOfEmptyIndex() {
+        assertThat(new TagIndex(List.of("latest")).getLatest(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testGetPrevious() {
+        assertThat(this.tagIndex.getPrevious("1.10.0"), equalTo(Optional.of("1.9.0")));
+    }
+
+    @Test
+    void testGetPreviousOfFirstVersion() {
+        assertThat(this.tagIndex.getPrevious("1.2.0"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testGetTagsIgnoresNonVersionTags() {
+        assertThat(this.tagIndex.getTags(), contains("1.2.0", "1.9.0", "1.10.0", "1.10.1-rc.1"));
+    }
+
+    @Test
+    void testAddTagsReturnsOnlyNewTags() {
+        assertThat(this.tagIndex.addTags(List.of("1.10.0", "1.11.0", "other")), contains("1.11.0"));
+    }
+
+    @Test
+    void testAddTagsUpdatesLatest() {
+        this.tagIndex.addTags(List.of("2.0.0"));
+        assertThat(this.tagIndex.getLatest(), equalTo(Optional.of("2.0.0")));
+    }
+
+    @Test
+    void testContains() {
+        assertThat(this.tagIndex.contains("1.9.0") && !this.tagIndex.contains("1.9.1"), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "1.10.1", "1.11.0", "2.0.0" })
+    void testIsValidSuccessor(final String version) {
+        assertThat(this.tagIndex.isValidSuccessor(version), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "1.10.0", "1.9.1", "1.10.2", "1.10.1-rc.1", "1.10.1-rc.2", "latest" })
+    void testIsNotValidSuccessor(final String version) {
+        assertThat(this.tagIndex.isValidSuccessor(version), equalTo(false));
+    }
+
+    @Test
+    void testAnyVersionIsValidWithoutRelease() {
+        assertThat(new TagIndex(List.of()).isValidSuccessor("0.1.0"), equalTo(true));
+    }
+
+    @Test
+    void testGetPossibleSuccessors() {
+        assertThat(this.tagIndex.getPossibleSuccessors(), contains("2.0.0", "1.11.0", "1.10.1"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.exasol.releasedroid.usecases.request;
+
+import static com.exasol.releasedroid.usecases.request.PlatformName.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ReleaseManifestParserTest {
+    @Test
+    void testParseManifest() {
+        final ReleaseManifest manifest = ReleaseManifestParser.parse("max-parallel-releases: 2\n" //
+                + "repositories:\n" //
+                + "  - name: exasol/error-reporting-java\n" //
+                + "    platforms: [github, maven]\n" //
+                + "  - name: virtual-schema-common-jdbc\n" //
+                + "    after: [error-reporting-java]\n" //
+                + "  - other/some-repository\n");
+        final List<ReleaseManifestEntry> entries = manifest.getEntries();
+        assertAll(() -> assertThat(manifest.getMaxParallelReleases(), equalTo(2)),
+                () -> assertThat(entries.get(0).getFullRepositoryName(), equalTo("exasol/error-reporting-java")),
+                () -> assertThat(entries.get(0).getPlatforms(), contains(MAVEN, GITHUB)),
+                () -> assertThat(entries.get(1).getRepositoryName(), equalTo("virtual-schema-common-jdbc")),
+                () -> assertThat(entries.get(1).getOwner(), equalTo("exasol")),
+                () -> assertThat(entries.get(1).getPredecessors(), equalTo(Set.of("exasol/error-reporting-java"))),
+                () -> assertThat(entries.get(2).getFullRepositoryName(), equalTo("other/some-repository")),
+                () -> assertThat(entries.get(2).getPlatforms(), empty()));
+    }
+
+    @Test
+    void testParseManifestWithDefaultParallelism() {
+        final ReleaseManifest manifest = ReleaseManifestParser.parse("repositories: [repository]");
+        assertThat(manifest.getMaxParallelReleases(), equalTo(4));
+    }
+
+    @Test
+    void testParseEmptyManifest() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ReleaseManifestParser.parse(""));
+        assertThat(exception.getMessage(), containsString("E-RD-17"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "- exasol/release-droid\n- exasol/error-reporting-java", "exasol/release-droid" })
+    void testParseManifestWithoutTopLevelMap(final String manifest) {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ReleaseManifestParser.parse(manifest));
+        assertThat(exception.getMessage(), containsString("E-RD-17"));
+    }
+
+    @Test
+    void testParseManifestWithEntryWithoutName() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ReleaseManifestParser.parse("repositories:\n  - platforms: [github]\n"));
+        assertThat(exception.getMessage(), containsString("E-RD-18"));
+    }
+
+    @Test
+    void testParseManifestWithDuplicateRepository() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ReleaseManifestParser.parse("repositories: [repository, exasol/repository]"));
+        assertThat(exception.getMessage(), containsString("E-RD-19"));
+    }
+
+    @Test
+    void testParseManifestWithUnknownPredecessor() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ReleaseManifestParser.parse("repositories:\n  - name: first\n    after: [second]\n"));
+        assertThat(exception.getMessage(), containsString("E-RD-20"));
+    }
+
+    @Test
+    void testParseManifestWithCycle() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ReleaseManifestParser.parse("repositories:\n" //
+                        + "  - name: first\n" //
+                        + "    after: [second]\n" //
+                        + "  - name: second\n" //
+                        + "    after: [first]\n"));
+        assertThat(exception.getMessage(),
+                containsString("E-RD-21: The release manifest contains a cyclic order: exasol/first -> exasol/second"
+                        + " -> exasol/first."));
+    }
+
+    @Test
+    void testParseManifestWithInvalidParallelism() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ReleaseManifestParser.parse("max-parallel-releases: 0\nrepositories: [repository]"));
+        assertThat(exception.getMessage(), containsString("E-RD-22"));
+    }
+}
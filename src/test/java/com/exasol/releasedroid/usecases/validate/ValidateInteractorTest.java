@@ -0,0 +1,140 @@
+package com.exasol.releasedroid.usecases.validate;
+
+import static com.exasol.releasedroid.usecases.request.PlatformName.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.exasol.releasedroid.usecases.ExecutionContext;
+import com.exasol.releasedroid.usecases.report.*;
+import com.exasol.releasedroid.usecases.repository.Repository;
+import com.exasol.releasedroid.usecases.request.Goal;
+
+@ExtendWith(MockitoExtension.class)
+class ValidateInteractorTest {
+    @Mock
+    private Repository repositoryMock;
+    @Mock
+    private RepositoryValidator repositoryValidatorMock;
+    private final ValidateInteractor validateInteractor = new ValidateInteractor();
+
+    @BeforeEach
+    void beforeEach() {
+        when(this.repositoryMock.getPlatformValidators()).thenReturn(Map.of( //
+                GITHUB, createPlatformValidator(true, "GitHub workflow."), //
+                MAVEN, createPlatformValidator(true, "Maven workflow."), //
+                COMMUNITY, createPlatformValidator(false, "Community config.")));
+    }
+
+    private ReleasePlatformValidator createPlatformValidator(final boolean requiresRepositoryValidation,
+            final String message) {
+        return new ReleasePlatformValidator() {
+            @Override
+            public Report validate() {
+                final var report = ValidationReport.create();
+                report.addSuccessfulResult(message);
+                return report;
+            }
+
+            @Override
+            public boolean requiresRepositoryValidation() {
+                return requiresRepositoryValidation;
+            }
+        };
+    }
+
+    private void mockRepositoryValidation() {
+        final var repositoryReport = ValidationReport.create();
+        repositoryReport.addSuccessfulResult("Changelog.");
+        when(this.repositoryValidatorMock.validate()).thenReturn(repositoryReport);
+        when(this.repositoryMock.getRepositoryValidators()).thenReturn(List.of(this.repositoryValidatorMock));
+    }
+
+    @Test
+    void testValidateRunsRepositoryValidationOnce() {
+        mockRepositoryValidation();
+        final Report report = this.validateInteractor.validate(this.repositoryMock, List.of(GITHUB, MAVEN, COMMUNITY),
+                Set.of());
+        final Result repositoryResult = report.getResults().get(0);
+        assertAll(() -> verify(this.repositoryValidatorMock, times(1)).validate(),
+                () -> assertThat(report.getResults(), hasSize(4)),
+                () -> assertThat(repositoryResult.getMessage(), equalTo("Changelog.")),
+                () -> assertThat(repositoryResult.getPlatformNames(), contains(GITHUB, MAVEN)));
+    }
+
+    @Test
+    void testValidateReusesRepositoryValidationForSeparatePlatforms() {
+        mockRepositoryValidation();
+        final Report gitHubReport = this.validateInteractor.validate(this.repositoryMock, List.of(GITHUB), Set.of());
+        final Report mavenReport = this.validateInteractor.validate(this.repositoryMock, List.of(MAVEN), Set.of());
+        assertAll(() -> verify(this.repositoryValidatorMock, times(1)).validate(),
+                () -> assertThat(gitHubReport.getResults().get(0).getPlatformNames(), contains(GITHUB)),
+                () -> assertThat(mavenReport.getResults().get(0).getPlatformNames(), contains(MAVEN)));
+    }
+
+    @Test
+    void testValidateSkipsRepositoryValidation() {
+        final Report report = this.validateInteractor.validate(this.repositoryMock, List.of(GITHUB, COMMUNITY),
+                Set.of(GITHUB));
+        assertAll(() -> verify(this.repositoryMock, never()).getRepositoryValidators(),
+                () -> assertThat(report.getResults(), hasSize(1)));
+    }
+
+    @Test
+    void testValidateCachesOnlyValidationsOfRepositoryContent(@TempDir final Path tempDirectory) {
+        final var platformValidator = new ReleasePlatformValidator() {
+            @Override
+            public Report validate() {
+                return ValidationReport.create();
+            }
+
+            @Override
+            public boolean readsExternalState() {
+                return true;
+            }
+        };
+        when(this.repositoryMock.getPlatformValidators())
+                .thenReturn(Map.of(GITHUB, platformValidator, COMMUNITY, createPlatformValidator(false, "Config.")));
+        when(this.repositoryMock.getName()).thenReturn("exasol/test-repository");
+        final var validationCache = new ValidationCache(tempDirectory.toString(), "1.0.0");
+        new ValidateInteractor(validationCache).validate(this.repositoryMock, List.of(GITHUB, COMMUNITY), Set.of());
+        assertThat(validationCache.getValidReports(this.repositoryMock, List.of(GITHUB, COMMUNITY)).keySet(),
+                contains(COMMUNITY));
+    }
+
+    @Test
+    void testValidateRunsWithValidateGoal() {
+        final List<Optional<Goal>> goals = mockGoalRecordingValidation();
+        this.validateInteractor.validate(this.repositoryMock, List.of(GITHUB), Set.of());
+        assertThat(goals, contains(Optional.of(Goal.VALIDATE)));
+    }
+
+    @Test
+    void testValidateKeepsGoalOfRelease() {
+        final List<Optional<Goal>> goals = mockGoalRecordingValidation();
+        ExecutionContext.current().withGoal(Goal.RELEASE)
+                .call(() -> this.validateInteractor.validate(this.repositoryMock, List.of(GITHUB), Set.of()));
+        assertThat(goals, contains(Optional.of(Goal.RELEASE)));
+    }
+
+    private List<Optional<Goal>> mockGoalRecordingValidation() {
+        final List<Optional<Goal>> goals = new ArrayList<>();
+        when(this.repositoryValidatorMock.validate()).thenAnswer(invocation -> {
+            goals.add(ExecutionContext.current().getGoal());
+            return ValidationReport.create();
+        });
+        when(this.repositoryMock.getRepositoryValidators()).thenReturn(List.of(this.repositoryValidatorMock));
+        return goals;
+    }
+}
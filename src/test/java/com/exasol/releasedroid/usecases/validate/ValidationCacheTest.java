@@ -0,0 +1,128 @@
+package com.exasol.releasedroid.usecases.validate;
+
+import static com.exasol.releasedroid.usecases.request.PlatformName.GITHUB;
+import static com.exasol.releasedroid.usecases.request.PlatformName.MAVEN;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.exasol.releasedroid.usecases.report.Report;
+import com.exasol.releasedroid.usecases.report.ValidationReport;
+import com.exasol.releasedroid.usecases.repository.Repository;
+import com.exasol.releasedroid.usecases.request.PlatformName;
+
+@ExtendWith(MockitoExtension.class)
+class ValidationCacheTest {
+    @TempDir
+    Path tempDirectory;
+    @Mock
+    private Repository repositoryMock;
+    private final Map<String, String> fileHashes = new HashMap<>(Map.of("pom.xml", "abc", "README.md", "def"));
+    private ValidationCache validationCache;
+
+    @BeforeEach
+    void beforeEach() {
+        this.validationCache = new ValidationCache(this.tempDirectory.toString(), "1.0.0");
+        when(this.repositoryMock.getName()).thenReturn("exasol/test-repository");
+        when(this.repositoryMock.getBranchName()).thenReturn("feature/cache");
+    }
+
+    private void mockRepositoryContent(final String latestTag) {
+        when(this.repositoryMock.getLatestTag()).thenReturn(Optional.of(latestTag));
+        when(this.repositoryMock.getFileHashes(any())).thenAnswer(invocation -> {
+            final Set<String> filePaths = invocation.getArgument(0);
+            final Map<String, String> result = new HashMap<>(this.fileHashes);
+            result.keySet().retainAll(filePaths);
+            return result;
+        });
+    }
+
+    private Report createReport(final PlatformName platform, final boolean successful) {
+        final var report = ValidationReport.create(platform);
+        report.addSuccessfulResult("Everything is fine.");
+        if (!successful) {
+            report.addFailedResult("Something is wrong.");
+        }
+        return report;
+    }
+
+    @Test
+    void testGetValidReportsForUnchangedRepository() {
+        mockRepositoryContent("1.0.0");
+        when(this.repositoryMock.getReadFilePaths()).thenReturn(Set.of("pom.xml", "release_config.yml"));
+        final Report report = createReport(GITHUB, true);
+        this.validationCache.update(this.repositoryMock, GITHUB, report);
+        final Map<PlatformName, Report> reports = this.validationCache.getValidReports(this.repositoryMock,
+                List.of(GITHUB, MAVEN));
+        assertAll(() -> assertThat(reports.keySet(), contains(GITHUB)),
+                () -> assertThat(reports.get(GITHUB).getResults(), equalTo(report.getResults())),
+                () -> assertThat(reports.get(GITHUB).getResults().get(0).getPlatformNames(), contains(GITHUB)));
+    }
+
+    @Test
+    void testGetValidReportsIgnoresUnreadFiles() {
+        mockRepositoryContent("1.0.0");
+        when(this.repositoryMock.getReadFilePaths()).thenReturn(Set.of("pom.xml"));
+        this.validationCache.update(this.repositoryMock, GITHUB, createReport(GITHUB, true));
+        this.fileHashes.put("README.md", "changed");
+        assertThat(this.validationCache.getValidReports(this.repositoryMock, List.of(GITHUB)).keySet(),
+                contains(GITHUB));
+    }
+
+    @Test
+    void testGetValidReportsAfterReadFileChanged() {
+        mockRepositoryContent("1.0.0");
+        when(this.repositoryMock.getReadFilePaths()).thenReturn(Set.of("pom.xml"));
+        this.validationCache.update(this.repositoryMock, GITHUB, createReport(GITHUB, true));
+        this.fileHashes.put("pom.xml", "changed");
+        assertThat(this.validationCache.getValidReports(this.repositoryMock, List.of(GITHUB)), anEmptyMap());
+    }
+
+    @Test
+    void testGetValidReportsAfterMissingFileAppeared() {
+        mockRepositoryContent("1.0.0");
+        when(this.repositoryMock.getReadFilePaths()).thenReturn(Set.of("release_config.yml"));
+        this.validationCache.update(this.repositoryMock, GITHUB, createReport(GITHUB, true));
+        this.fileHashes.put("release_config.yml", "new");
+        assertThat(this.validationCache.getValidReports(this.repositoryMock, List.of(GITHUB)), anEmptyMap());
+    }
+
+    @Test
+    void testGetValidReportsAfterNewTag() {
+        mockRepositoryContent("1.0.0");
+        when(this.repositoryMock.getReadFilePaths()).thenReturn(Set.of("pom.xml"));
+        this.validationCache.update(this.repositoryMock, GITHUB, createReport(GITHUB, true));
+        when(this.repositoryMock.getLatestTag()).thenReturn(Optional.of("1.1.0"));
+        assertThat(this.validationCache.getValidReports(this.repositoryMock, List.of(GITHUB)), anEmptyMap());
+    }
+
+    @Test
+    void testGetValidReportsAfterToolUpdate() {
+        mockRepositoryContent("1.0.0");
+        when(this.repositoryMock.getReadFilePaths()).thenReturn(Set.of("pom.xml"));
+        this.validationCache.update(this.repositoryMock, GITHUB, createReport(GITHUB, true));
+        final var updatedToolCache = new ValidationCache(this.tempDirectory.toString(), "1.1.0");
+        assertThat(updatedToolCache.getValidReports(this.repositoryMock, List.of(GITHUB)), anEmptyMap());
+    }
+
+    @Test
+    void testUpdateWithFailedValidationRemovesEntry() {
+        mockRepositoryContent("1.0.0");
+        when(this.repositoryMock.getReadFilePaths()).thenReturn(Set.of("pom.xml"));
+        this.validationCache.update(this.repositoryMock, GITHUB, createReport(GITHUB, true));
+        this.validationCache.update(this.repositoryMock, GITHUB, createReport(GITHUB, false));
+        assertThat(this.validationCache.getValidReports(this.repositoryMock, List.of(GITHUB)), anEmptyMap());
+    }
+}